@@ -0,0 +1,163 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import com.google.android.gms.maps.model.BitmapDescriptorFactory;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of the marker icons of all the maps, so that markers that share an icon only decode it
+ * once.
+ *
+ * <p>Icons that are given as image bytes are keyed by a hash of the bytes, and are kept up to a
+ * maximum number of decoded bytes, least recently used first out. Icons can also be registered
+ * ahead of time under an ID, in which case they are kept until they are unregistered, and markers
+ * refer to them by ID instead of sending their bytes.
+ *
+ * <p>All methods can be called from any thread.
+ */
+final class BitmapDescriptorCache {
+  private static final int DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+  private static BitmapDescriptorCache instance;
+
+  /** A decoded icon. */
+  @VisibleForTesting
+  static final class Icon {
+    final BitmapDescriptor descriptor;
+    final int byteCount;
+
+    Icon(BitmapDescriptor descriptor, int byteCount) {
+      this.descriptor = descriptor;
+      this.byteCount = byteCount;
+    }
+  }
+
+  @VisibleForTesting
+  interface Decoder {
+    /** Decodes {@code bytes}, throwing an {@link IllegalArgumentException} if they aren't valid. */
+    @NonNull
+    Icon decode(@NonNull byte[] bytes);
+  }
+
+  private final Decoder decoder;
+  private final LruCache<String, Icon> icons;
+  // Asset icons are decoded by the Maps SDK, so they only cost the lookup of the asset.
+  private final Map<String, BitmapDescriptor> assetIcons = new HashMap<>();
+  private final Map<String, byte[]> registeredIconBytes = new HashMap<>();
+  private final Map<String, Icon> registeredIcons = new HashMap<>();
+
+  /** Returns the cache shared by all the maps, creating it the first time. */
+  static synchronized BitmapDescriptorCache getInstance() {
+    if (instance == null) {
+      instance = new BitmapDescriptorCache(DEFAULT_MAX_BYTES, BitmapDescriptorCache::decodeBitmap);
+    }
+    return instance;
+  }
+
+  @VisibleForTesting
+  BitmapDescriptorCache(int maxBytes, @NonNull Decoder decoder) {
+    this.decoder = decoder;
+    this.icons =
+        new LruCache<String, Icon>(maxBytes) {
+          @Override
+          protected int sizeOf(String key, Icon icon) {
+            return icon.byteCount;
+          }
+        };
+  }
+
+  /** Returns the icon for the image in {@code bytes}, decoding it if it isn't cached. */
+  @NonNull
+  BitmapDescriptor fromBytes(@NonNull byte[] bytes) {
+    final String key = contentHash(bytes);
+    Icon icon = icons.get(key);
+    if (icon == null) {
+      // Two threads may decode the same icon at the same time, in which case one of the two wins.
+      icon = decoder.decode(bytes);
+      icons.put(key, icon);
+    }
+    return icon.descriptor;
+  }
+
+  /** Returns the icon for the asset with the given lookup key. */
+  @NonNull
+  BitmapDescriptor fromAsset(@NonNull String assetLookupKey) {
+    synchronized (assetIcons) {
+      BitmapDescriptor descriptor = assetIcons.get(assetLookupKey);
+      if (descriptor == null) {
+        descriptor = BitmapDescriptorFactory.fromAsset(assetLookupKey);
+        assetIcons.put(assetLookupKey, descriptor);
+      }
+      return descriptor;
+    }
+  }
+
+  /**
+   * Registers the image in {@code bytes} as the icon {@code iconId}, replacing any icon that was
+   * registered under the same ID.
+   *
+   * <p>The image is decoded the first time a marker uses it, because the Maps SDK may not be
+   * initialized yet when icons are registered.
+   */
+  synchronized void register(@NonNull String iconId, @NonNull byte[] bytes) {
+    registeredIcons.remove(iconId);
+    registeredIconBytes.put(iconId, bytes);
+  }
+
+  /** Forgets the icon {@code iconId}. Markers that already use it keep it. */
+  synchronized void unregister(@NonNull String iconId) {
+    registeredIcons.remove(iconId);
+    registeredIconBytes.remove(iconId);
+  }
+
+  /** Returns the registered icon {@code iconId}. */
+  @NonNull
+  synchronized BitmapDescriptor getRegistered(@NonNull String iconId) {
+    Icon icon = registeredIcons.get(iconId);
+    if (icon == null) {
+      final byte[] bytes = registeredIconBytes.get(iconId);
+      if (bytes == null) {
+        throw new IllegalArgumentException("No marker icon is registered as " + iconId);
+      }
+      icon = decoder.decode(bytes);
+      registeredIcons.put(iconId, icon);
+      registeredIconBytes.remove(iconId);
+    }
+    return icon.descriptor;
+  }
+
+  @VisibleForTesting
+  int size() {
+    return icons.size();
+  }
+
+  private static Icon decodeBitmap(byte[] bytes) {
+    final Bitmap bitmap = BitmapFactory.decodeByteArray(bytes, 0, bytes.length);
+    if (bitmap == null) {
+      throw new IllegalArgumentException("Unable to decode bytes as a valid bitmap.");
+    }
+    return new Icon(BitmapDescriptorFactory.fromBitmap(bitmap), bitmap.getAllocationByteCount());
+  }
+
+  private static String contentHash(byte[] bytes) {
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-1").digest(bytes);
+      return String.format("%040x", new BigInteger(1, digest));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,46 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/** Provides Dart with the cached snapshots of lite mode maps. */
+final class CachedSnapshotProvider implements MethodChannel.MethodCallHandler {
+  private final MapSnapshotCache mapSnapshotCache;
+
+  CachedSnapshotProvider(BinaryMessenger binaryMessenger, MapSnapshotCache mapSnapshotCache) {
+    this.mapSnapshotCache = mapSnapshotCache;
+    new MethodChannel(binaryMessenger, "plugins.flutter.dev/google_maps_android_snapshots")
+        .setMethodCallHandler(this);
+  }
+
+  @Override
+  public void onMethodCall(MethodCall call, MethodChannel.Result result) {
+    switch (call.method) {
+      case "snapshots#get":
+        {
+          String key =
+              MapSnapshotCache.key(
+                  Convert.toCameraPosition(call.argument("cameraPosition")),
+                  call.<Integer>argument("mapType"),
+                  (int) Math.round(call.<Double>argument("width")),
+                  (int) Math.round(call.<Double>argument("height")),
+                  call.<String>argument("contentKey"));
+          result.success(mapSnapshotCache.get(key));
+          break;
+        }
+      case "snapshots#clear":
+        {
+          mapSnapshotCache.clear();
+          result.success(null);
+          break;
+        }
+      default:
+        result.notImplemented();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.CameraPosition;
+
+/**
+ * Decides which of the camera positions of a camera move are sent to Dart.
+ *
+ * <p>A position is sent when the minimum interval has passed since the last position that was
+ * sent, and its target, zoom, bearing or tilt has changed since then by at least the minimum delta
+ * for it. A minimum delta of 0 lets any change through. The last position that was skipped is kept
+ * pending, so that it can be flushed when the camera stops moving.
+ */
+final class CameraMoveSampler {
+  // The size of the world at zoom level 0, in density-independent pixels.
+  private static final double WORLD_SIZE = 256;
+
+  private final long minIntervalMs;
+  private final double minTargetDelta;
+  private final double minZoomDelta;
+  private final double minBearingDelta;
+  private final double minTiltDelta;
+
+  @Nullable private CameraPosition lastSentPosition;
+  private long lastSentTimeMs;
+  @Nullable private CameraPosition pendingPosition;
+
+  /**
+   * Creates a sampler. {@code minTargetDelta} is in density-independent pixels at the zoom level of
+   * the last position that was sent, and {@code minBearingDelta} and {@code minTiltDelta} are in
+   * degrees.
+   */
+  CameraMoveSampler(
+      long minIntervalMs,
+      double minTargetDelta,
+      double minZoomDelta,
+      double minBearingDelta,
+      double minTiltDelta) {
+    this.minIntervalMs = minIntervalMs;
+    this.minTargetDelta = minTargetDelta;
+    this.minZoomDelta = minZoomDelta;
+    this.minBearingDelta = minBearingDelta;
+    this.minTiltDelta = minTiltDelta;
+  }
+
+  /**
+   * Returns whether {@code position}, observed at {@code timeMs}, should be sent. If it shouldn't,
+   * it becomes the pending position.
+   */
+  boolean sample(@NonNull CameraPosition position, long timeMs) {
+    if (lastSentPosition != null
+        && (timeMs - lastSentTimeMs < minIntervalMs || !hasChangedEnough(position))) {
+      pendingPosition = position;
+      return false;
+    }
+    lastSentPosition = position;
+    lastSentTimeMs = timeMs;
+    pendingPosition = null;
+    return true;
+  }
+
+  /** The position that was skipped last, if none was sent since. */
+  @Nullable
+  CameraPosition getPendingPosition() {
+    return pendingPosition;
+  }
+
+  /** The time from which the pending position can be sent, if it changed enough. */
+  long getNextSampleTimeMs() {
+    return lastSentTimeMs + minIntervalMs;
+  }
+
+  /**
+   * Returns the pending position, which must be sent before the camera stops moving, and starts
+   * over for the next camera move.
+   */
+  @Nullable
+  CameraPosition flush() {
+    final CameraPosition position = pendingPosition;
+    lastSentPosition = null;
+    pendingPosition = null;
+    return position;
+  }
+
+  private boolean hasChangedEnough(CameraPosition position) {
+    final CameraPosition last = lastSentPosition;
+    final double scale = WORLD_SIZE * Math.pow(2, last.zoom);
+    final double dx =
+        (MarkerClusterer.longitudeToX(position.target.longitude)
+                - MarkerClusterer.longitudeToX(last.target.longitude))
+            * scale;
+    final double dy =
+        (MarkerClusterer.latitudeToY(position.target.latitude)
+                - MarkerClusterer.latitudeToY(last.target.latitude))
+            * scale;
+    final double bearingDelta = Math.abs(position.bearing - last.bearing) % 360;
+    return hasChangedEnough(Math.hypot(dx, dy), minTargetDelta)
+        || hasChangedEnough(Math.abs(position.zoom - last.zoom), minZoomDelta)
+        || hasChangedEnough(Math.min(bearingDelta, 360 - bearingDelta), minBearingDelta)
+        || hasChangedEnough(Math.abs(position.tilt - last.tilt), minTiltDelta);
+  }
+
+  private static boolean hasChangedEnough(double delta, double minDelta) {
+    return delta > 0 && delta >= minDelta;
+  }
+}
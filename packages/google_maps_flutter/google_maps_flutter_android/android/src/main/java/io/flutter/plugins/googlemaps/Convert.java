@@ -5,8 +5,8 @@
 package io.flutter.plugins.googlemaps;
 
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.graphics.Point;
+import android.os.Build;
 import androidx.annotation.VisibleForTesting;
 import com.google.android.gms.maps.CameraUpdate;
 import com.google.android.gms.maps.CameraUpdateFactory;
@@ -35,10 +35,17 @@ import java.util.Map;
 /** Conversions between JSON-like values and GoogleMaps data types. */
 class Convert {
 
+  // The default of `TileOverlay.tileSize` in the platform interface.
+  private static final int DEFAULT_TILE_SIZE = 256;
+
   // TODO(hamdikahloun): FlutterMain has been deprecated and should be replaced with FlutterLoader
   //  when it's available in Stable channel: https://github.com/flutter/flutter/issues/70923.
   @SuppressWarnings("deprecation")
   private static BitmapDescriptor toBitmapDescriptor(Object o) {
+    if (o instanceof BitmapDescriptor) {
+      // Already decoded by decodeMapObjects.
+      return (BitmapDescriptor) o;
+    }
     final List<?> data = toList(o);
     switch (toString(data.get(0))) {
       case "defaultMarker":
@@ -49,22 +56,25 @@ class Convert {
         }
       case "fromAsset":
         if (data.size() == 2) {
-          return BitmapDescriptorFactory.fromAsset(
-              FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
+          return BitmapDescriptorCache.getInstance()
+              .fromAsset(FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
         } else {
-          return BitmapDescriptorFactory.fromAsset(
-              FlutterMain.getLookupKeyForAsset(toString(data.get(1)), toString(data.get(2))));
+          return BitmapDescriptorCache.getInstance()
+              .fromAsset(
+                  FlutterMain.getLookupKeyForAsset(toString(data.get(1)), toString(data.get(2))));
         }
       case "fromAssetImage":
         if (data.size() == 3) {
-          return BitmapDescriptorFactory.fromAsset(
-              FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
+          return BitmapDescriptorCache.getInstance()
+              .fromAsset(FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
         } else {
           throw new IllegalArgumentException(
               "'fromAssetImage' Expected exactly 3 arguments, got: " + data.size());
         }
       case "fromBytes":
         return getBitmapFromBytes(data);
+      case "registeredIcon":
+        return BitmapDescriptorCache.getInstance().getRegistered(toString(data.get(1)));
       default:
         throw new IllegalArgumentException("Cannot interpret " + o + " as BitmapDescriptor");
     }
@@ -73,8 +83,7 @@ class Convert {
   private static BitmapDescriptor getBitmapFromBytes(List<?> data) {
     if (data.size() == 2) {
       try {
-        Bitmap bitmap = toBitmap(data.get(1));
-        return BitmapDescriptorFactory.fromBitmap(bitmap);
+        return BitmapDescriptorCache.getInstance().fromBytes((byte[]) data.get(1));
       } catch (Exception e) {
         throw new IllegalArgumentException("Unable to interpret bytes as a valid image.", e);
       }
@@ -148,6 +157,10 @@ class Convert {
     return ((Number) o).intValue();
   }
 
+  private static long toLong(Object o) {
+    return ((Number) o).longValue();
+  }
+
   static Object cameraPositionToJson(CameraPosition position) {
     if (position == null) {
       return null;
@@ -203,6 +216,15 @@ class Convert {
     return data;
   }
 
+  static Map<String, Object> clusterToJson(
+      LatLng position, LatLngBounds bounds, List<String> markerIds) {
+    final Map<String, Object> data = new HashMap<>(3);
+    data.put("position", latLngToJson(position));
+    data.put("bounds", latlngBoundsToJson(bounds));
+    data.put("markerIds", markerIds);
+    return data;
+  }
+
   static Map<String, Object> tileOverlayArgumentsToJson(
       String tileOverlayId, int x, int y, int zoom) {
 
@@ -267,6 +289,18 @@ class Convert {
     return hashMap;
   }
 
+  private static Map<String, String> toStringMap(Object o) {
+    if (o == null) {
+      return null;
+    }
+    Map<String, String> hashMap = new HashMap<>();
+    Map<?, ?> map = (Map<?, ?>) o;
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      hashMap.put((String) entry.getKey(), (String) entry.getValue());
+    }
+    return hashMap;
+  }
+
   private static float toFractionalPixels(Object o, float density) {
     return toFloat(o) * density;
   }
@@ -275,16 +309,6 @@ class Convert {
     return (int) toFractionalPixels(o, density);
   }
 
-  private static Bitmap toBitmap(Object o) {
-    byte[] bmpData = (byte[]) o;
-    Bitmap bitmap = BitmapFactory.decodeByteArray(bmpData, 0, bmpData.length);
-    if (bitmap == null) {
-      throw new IllegalArgumentException("Unable to decode bytes as a valid bitmap.");
-    } else {
-      return bitmap;
-    }
-  }
-
   private static Point toPoint(Object o, float density) {
     final List<?> data = toList(o);
     return new Point(toPixels(data.get(0), density), toPixels(data.get(1), density));
@@ -593,19 +617,70 @@ class Convert {
     }
   }
 
+  /**
+   * Decodes the points, holes and icons of the serialized map objects in {@code o}, so that
+   * interpreting the objects afterwards only has to copy them.
+   *
+   * <p>Decoding is the expensive part of interpreting map objects, and it doesn't touch the map, so
+   * it can be done off the platform thread.
+   */
+  static List<Object> decodeMapObjects(List<Object> o) {
+    if (o == null) {
+      return null;
+    }
+    final List<Object> decoded = new ArrayList<>(o.size());
+    for (Object rawObject : o) {
+      if (rawObject == null) {
+        continue;
+      }
+      final Map<String, Object> data = toObjectMap(rawObject);
+      final Object points = data.get("points");
+      if (points != null) {
+        data.put("points", toPoints(points));
+      }
+      final Object holes = data.get("holes");
+      if (holes != null) {
+        data.put("holes", toHoles(holes));
+      }
+      final Object icon = data.get("icon");
+      if (icon != null) {
+        data.put("icon", toBitmapDescriptor(icon));
+      }
+      decoded.add(data);
+    }
+    return decoded;
+  }
+
+  /**
+   * Returns the points in {@code o}, which is either packed as alternating latitudes and
+   * longitudes, or a list of [latitude, longitude] lists.
+   */
   @VisibleForTesting
   static List<LatLng> toPoints(Object o) {
+    if (o instanceof double[]) {
+      final double[] data = (double[]) o;
+      final List<LatLng> points = new ArrayList<>(data.length / 2);
+      for (int i = 0; i + 1 < data.length; i += 2) {
+        points.add(new LatLng(data[i], data[i + 1]));
+      }
+      return points;
+    }
     final List<?> data = toList(o);
     final List<LatLng> points = new ArrayList<>(data.size());
 
     for (Object rawPoint : data) {
+      if (rawPoint instanceof LatLng) {
+        // Already decoded by decodeMapObjects.
+        points.add((LatLng) rawPoint);
+        continue;
+      }
       final List<?> point = toList(rawPoint);
       points.add(new LatLng(toDouble(point.get(0)), toDouble(point.get(1))));
     }
     return points;
   }
 
-  private static List<List<LatLng>> toHoles(Object o) {
+  static List<List<LatLng>> toHoles(Object o) {
     final List<?> data = toList(o);
     final List<List<LatLng>> holes = new ArrayList<>(data.size());
 
@@ -681,6 +756,14 @@ class Convert {
     if (visible != null) {
       sink.setVisible(toBoolean(visible));
     }
+    final Object urlTemplate = data.get("urlTemplate");
+    if (urlTemplate != null) {
+      final Object tileSize = data.get("tileSize");
+      sink.setUrlTemplate(
+          toString(urlTemplate),
+          tileSize != null ? toInt(tileSize) : DEFAULT_TILE_SIZE,
+          toStringMap(data.get("urlTemplateHeaders")));
+    }
     final String tileOverlayId = (String) data.get("tileOverlayId");
     if (tileOverlayId == null) {
       throw new IllegalArgumentException("tileOverlayId was null");
@@ -689,6 +772,86 @@ class Convert {
     }
   }
 
+  static void interpretMarkerClusteringOptions(Object o, GoogleMapBuilder builder) {
+    final Map<?, ?> data = toMap(o);
+    builder.setMarkerClustering(toInt(data.get("gridSize")), toInt(data.get("minClusterSize")));
+  }
+
+  static void interpretMarkerVirtualizationOptions(Object o, GoogleMapBuilder builder) {
+    final Map<?, ?> data = toMap(o);
+    builder.setMarkerVirtualization(toDouble(data.get("margin")));
+  }
+
+  static void interpretShapeSimplificationOptions(Object o, GoogleMapBuilder builder) {
+    final Map<?, ?> data = toMap(o);
+    builder.setShapeSimplification(toDouble(data.get("tolerance")), toInt(data.get("minPoints")));
+  }
+
+  static void interpretCameraMoveSamplingOptions(Object o, GoogleMapBuilder builder) {
+    final Map<?, ?> data = toMap(o);
+    builder.setCameraMoveSampler(
+        new CameraMoveSampler(
+            toLong(data.get("minIntervalMs")),
+            toDouble(data.get("minTargetDelta")),
+            toDouble(data.get("minZoomDelta")),
+            toDouble(data.get("minBearingDelta")),
+            toDouble(data.get("minTiltDelta"))));
+  }
+
+  static void interpretLiteModeCachingOptions(Object o, GoogleMapBuilder builder) {
+    final Map<?, ?> data = toMap(o);
+    final Object snapshotContentKey = data.get("snapshotContentKey");
+    builder.setLiteModeCaching(
+        toInt(data.get("maxPooledViews")),
+        toBoolean(data.get("cacheSnapshots")),
+        snapshotContentKey != null ? toString(snapshotContentKey) : null);
+  }
+
+  static SnapshotEncoder toSnapshotEncoder(Object o) {
+    if (o == null) {
+      return new SnapshotEncoder(Bitmap.CompressFormat.PNG, 100, 0, 0);
+    }
+    final Map<?, ?> data = toMap(o);
+    return new SnapshotEncoder(
+        toCompressFormat(data.get("format")),
+        toInt(data.get("quality")),
+        toInt(data.get("maxWidth")),
+        toInt(data.get("maxHeight")));
+  }
+
+  @SuppressWarnings("deprecation")
+  private static Bitmap.CompressFormat toCompressFormat(Object o) {
+    final String format = toString(o);
+    switch (format) {
+      case "png":
+        return Bitmap.CompressFormat.PNG;
+      case "jpeg":
+        return Bitmap.CompressFormat.JPEG;
+      case "webp":
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.R
+            ? Bitmap.CompressFormat.WEBP_LOSSY
+            : Bitmap.CompressFormat.WEBP;
+      default:
+        throw new IllegalArgumentException("Cannot interpret " + o + " as a snapshot format");
+    }
+  }
+
+  static void interpretTileCacheOptions(Object o, GoogleMapBuilder builder) {
+    final Map<?, ?> data = toMap(o);
+    final Object memoryCacheSize = data.get("memoryCacheSize");
+    if (memoryCacheSize != null) {
+      builder.setTileMemoryCacheSize(toInt(memoryCacheSize));
+    }
+    final Object diskCacheSize = data.get("diskCacheSize");
+    if (diskCacheSize != null) {
+      builder.setTileDiskCacheSize(toLong(diskCacheSize));
+    }
+    final Object requestTimeoutMs = data.get("requestTimeoutMs");
+    if (requestTimeoutMs != null) {
+      builder.setTileRequestTimeoutMs(toLong(requestTimeoutMs));
+    }
+  }
+
   static Tile interpretTile(Map<String, ?> data) {
     int width = toInt(data.get("width"));
     int height = toInt(data.get("height"));
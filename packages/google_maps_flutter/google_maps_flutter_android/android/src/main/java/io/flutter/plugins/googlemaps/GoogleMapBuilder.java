@@ -7,9 +7,11 @@ package io.flutter.plugins.googlemaps;
 import android.content.Context;
 import android.graphics.Rect;
 import com.google.android.gms.maps.GoogleMapOptions;
+import com.google.android.gms.maps.MapView;
 import com.google.android.gms.maps.model.CameraPosition;
 import com.google.android.gms.maps.model.LatLngBounds;
 import io.flutter.plugin.common.BinaryMessenger;
+import java.io.File;
 import java.util.List;
 import java.util.Map;
 
@@ -27,14 +29,43 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
   private Object initialCircles;
   private List<Map<String, ?>> initialTileOverlays;
   private Rect padding = new Rect(0, 0, 0, 0);
+  private int tileMemoryCacheSize = TileOverlaysController.DEFAULT_MEMORY_CACHE_SIZE;
+  private long tileDiskCacheSize = 0;
+  private long tileRequestTimeoutMs = TileOverlaysController.DEFAULT_REQUEST_TIMEOUT_MS;
+  private boolean markerClusteringEnabled = false;
+  private int markerClusterGridSize;
+  private int minMarkerClusterSize;
+  private boolean markerVirtualizationEnabled = false;
+  private double markerVirtualizationMargin;
+  private CameraMoveSampler cameraMoveSampler;
+  private boolean shapeSimplificationEnabled = false;
+  private double shapeSimplificationTolerance;
+  private int minSimplifiedShapePoints;
+  private LiteMapViewPool liteMapViewPool;
+  private int maxPooledLiteMapViews;
+  private boolean liteMapSnapshotsCached = false;
+  private String liteMapSnapshotContentKey;
 
   GoogleMapController build(
       int id,
       Context context,
       BinaryMessenger binaryMessenger,
       LifecycleProvider lifecycleProvider) {
+    final boolean liteMode = Boolean.TRUE.equals(options.getLiteMode());
+    MapView recycledMapView = null;
+    if (liteMode && liteMapViewPool != null) {
+      liteMapViewPool.setMaxSize(maxPooledLiteMapViews);
+      recycledMapView = liteMapViewPool.acquire(context);
+    }
     final GoogleMapController controller =
-        new GoogleMapController(id, context, binaryMessenger, lifecycleProvider, options);
+        new GoogleMapController(
+            id, context, binaryMessenger, lifecycleProvider, options, recycledMapView);
+    if (liteMode) {
+      controller.setLiteMapViewPool(liteMapViewPool);
+      if (liteMapSnapshotsCached) {
+        controller.setMapSnapshotCache(MapSnapshotCache.getInstance(), liteMapSnapshotContentKey);
+      }
+    }
     controller.init();
     controller.setMyLocationEnabled(myLocationEnabled);
     controller.setMyLocationButtonEnabled(myLocationButtonEnabled);
@@ -42,11 +73,26 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
     controller.setTrafficEnabled(trafficEnabled);
     controller.setBuildingsEnabled(buildingsEnabled);
     controller.setTrackCameraPosition(trackCameraPosition);
+    controller.setCameraMoveSampler(cameraMoveSampler);
+    if (markerClusteringEnabled) {
+      controller.setMarkerClustering(markerClusterGridSize, minMarkerClusterSize);
+    } else if (markerVirtualizationEnabled) {
+      controller.setMarkerVirtualization(markerVirtualizationMargin);
+    }
+    if (shapeSimplificationEnabled) {
+      controller.setShapeSimplification(shapeSimplificationTolerance, minSimplifiedShapePoints);
+    }
     controller.setInitialMarkers(initialMarkers);
     controller.setInitialPolygons(initialPolygons);
     controller.setInitialPolylines(initialPolylines);
     controller.setInitialCircles(initialCircles);
     controller.setPadding(padding.top, padding.left, padding.bottom, padding.right);
+    controller.setTileCache(
+        new TileCache(
+            tileMemoryCacheSize,
+            new File(context.getCacheDir(), TileCache.DISK_CACHE_DIRECTORY),
+            tileDiskCacheSize),
+        tileRequestTimeoutMs);
     controller.setInitialTileOverlays(initialTileOverlays);
     return controller;
   }
@@ -55,6 +101,49 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
     options.camera(position);
   }
 
+  void setMarkerClustering(int gridSize, int minClusterSize) {
+    this.markerClusteringEnabled = true;
+    this.markerClusterGridSize = gridSize;
+    this.minMarkerClusterSize = minClusterSize;
+  }
+
+  void setCameraMoveSampler(CameraMoveSampler cameraMoveSampler) {
+    this.cameraMoveSampler = cameraMoveSampler;
+  }
+
+  void setLiteMapViewPool(LiteMapViewPool liteMapViewPool) {
+    this.liteMapViewPool = liteMapViewPool;
+  }
+
+  void setLiteModeCaching(int maxPooledViews, boolean cacheSnapshots, String snapshotContentKey) {
+    this.maxPooledLiteMapViews = maxPooledViews;
+    this.liteMapSnapshotsCached = cacheSnapshots;
+    this.liteMapSnapshotContentKey = snapshotContentKey;
+  }
+
+  void setShapeSimplification(double tolerance, int minPoints) {
+    this.shapeSimplificationEnabled = true;
+    this.shapeSimplificationTolerance = tolerance;
+    this.minSimplifiedShapePoints = minPoints;
+  }
+
+  void setMarkerVirtualization(double margin) {
+    this.markerVirtualizationEnabled = true;
+    this.markerVirtualizationMargin = margin;
+  }
+
+  void setTileMemoryCacheSize(int tileMemoryCacheSize) {
+    this.tileMemoryCacheSize = tileMemoryCacheSize;
+  }
+
+  void setTileDiskCacheSize(long tileDiskCacheSize) {
+    this.tileDiskCacheSize = tileDiskCacheSize;
+  }
+
+  void setTileRequestTimeoutMs(long tileRequestTimeoutMs) {
+    this.tileRequestTimeoutMs = tileRequestTimeoutMs;
+  }
+
   @Override
   public void setCompassEnabled(boolean compassEnabled) {
     options.compassEnabled(compassEnabled);
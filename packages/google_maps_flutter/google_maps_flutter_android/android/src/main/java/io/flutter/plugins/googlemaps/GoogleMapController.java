@@ -11,6 +11,9 @@ import android.content.pm.PackageManager;
 import android.graphics.Bitmap;
 import android.graphics.Point;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
 import android.view.Choreographer;
 import android.view.View;
@@ -21,11 +24,13 @@ import androidx.lifecycle.DefaultLifecycleObserver;
 import androidx.lifecycle.Lifecycle;
 import androidx.lifecycle.LifecycleOwner;
 import com.google.android.gms.maps.CameraUpdate;
+import com.google.android.gms.maps.CameraUpdateFactory;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.GoogleMap.SnapshotReadyCallback;
 import com.google.android.gms.maps.GoogleMapOptions;
 import com.google.android.gms.maps.MapView;
 import com.google.android.gms.maps.OnMapReadyCallback;
+import com.google.android.gms.maps.UiSettings;
 import com.google.android.gms.maps.model.CameraPosition;
 import com.google.android.gms.maps.model.Circle;
 import com.google.android.gms.maps.model.LatLng;
@@ -39,12 +44,14 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.platform.PlatformView;
-import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /** Controller of a single GoogleMaps MapView instance. */
 final class GoogleMapController
@@ -85,6 +92,25 @@ final class GoogleMapController
   private List<Object> initialCircles;
   private List<Map<String, ?>> initialTileOverlays;
   @VisibleForTesting List<Float> initialPadding;
+  // Decodes the objects of marker, polygon and polyline updates off the platform thread.
+  @VisibleForTesting @Nullable ExecutorService mapObjectsDecodingExecutor;
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  // The map objects updates, and the calls queued behind them, that haven't been handled yet.
+  private int pendingMapObjectsUpdates = 0;
+  // Set to only send some of the positions of camera moves.
+  @Nullable private CameraMoveSampler cameraMoveSampler;
+  private final Runnable sendPendingCameraMove = this::sendPendingCameraMove;
+  private boolean pendingCameraMoveScheduled = false;
+  // Set to simplify large polylines and polygons to the level of detail of the zoom level.
+  @Nullable private ShapeSimplifier polylineSimplifier;
+  @Nullable private ShapeSimplifier polygonSimplifier;
+  // Set for lite mode maps, to recycle their view and cache their snapshot.
+  @Nullable private LiteMapViewPool liteMapViewPool;
+  @Nullable private MapSnapshotCache mapSnapshotCache;
+  // Identifies the content of the map in the keys of its snapshots.
+  @Nullable private String snapshotContentKey;
+  // Whether the view comes from a disposed map, in which case it is already created.
+  private final boolean mapViewRecycled;
 
   GoogleMapController(
       int id,
@@ -92,10 +118,21 @@ final class GoogleMapController
       BinaryMessenger binaryMessenger,
       LifecycleProvider lifecycleProvider,
       GoogleMapOptions options) {
+    this(id, context, binaryMessenger, lifecycleProvider, options, null);
+  }
+
+  GoogleMapController(
+      int id,
+      Context context,
+      BinaryMessenger binaryMessenger,
+      LifecycleProvider lifecycleProvider,
+      GoogleMapOptions options,
+      @Nullable MapView recycledMapView) {
     this.id = id;
     this.context = context;
     this.options = options;
-    this.mapView = new MapView(context, options);
+    this.mapViewRecycled = recycledMapView != null;
+    this.mapView = mapViewRecycled ? recycledMapView : new MapView(context, options);
     this.density = context.getResources().getDisplayMetrics().density;
     methodChannel =
         new MethodChannel(binaryMessenger, "plugins.flutter.dev/google_maps_android_" + id);
@@ -105,7 +142,8 @@ final class GoogleMapController
     this.polygonsController = new PolygonsController(methodChannel, density);
     this.polylinesController = new PolylinesController(methodChannel, density);
     this.circlesController = new CirclesController(methodChannel, density);
-    this.tileOverlaysController = new TileOverlaysController(methodChannel);
+    this.tileOverlaysController =
+        new TileOverlaysController(methodChannel, UrlTileLoader.getInstance(context));
   }
 
   @Override
@@ -163,6 +201,7 @@ final class GoogleMapController
           @Override
           public void onMapLoaded() {
             loadedCallbackPending = false;
+            cacheSnapshotIfNeeded();
             postFrameCallback(
                 () -> {
                   postFrameCallback(
@@ -176,6 +215,143 @@ final class GoogleMapController
         });
   }
 
+  private void cacheSnapshotIfNeeded() {
+    if (mapSnapshotCache == null || mapView == null || mapView.getWidth() == 0) {
+      return;
+    }
+    final String key =
+        MapSnapshotCache.key(
+            googleMap.getCameraPosition(),
+            googleMap.getMapType(),
+            Math.round(mapView.getWidth() / density),
+            Math.round(mapView.getHeight() / density),
+            snapshotContentKey);
+    final MapSnapshotCache cache = mapSnapshotCache;
+    googleMap.snapshot(
+        bitmap -> {
+          if (bitmap != null) {
+            cache.put(key, bitmap);
+          }
+        });
+  }
+
+  private interface MapObjectsUpdate {
+    void apply(List<Object> objectsToAdd, List<Object> objectsToChange, List<Object> idsToRemove);
+  }
+
+  /**
+   * Applies a `markers#update`, `polygons#update` or `polylines#update` call to the map.
+   *
+   * <p>The objects to add and change are decoded on a background thread first, along with the
+   * shapes that {@code shapeSimplifier} simplifies if it isn't null, and only the map mutations
+   * happen on the platform thread. Updates are applied in the order in which they are
+   * received, and the call only completes once its update is on the map. The other calls received
+   * while updates are pending are queued behind them, see {@link #onMethodCall}.
+   */
+  private void updateMapObjects(
+      MethodCall call,
+      String objectName,
+      @Nullable ShapeSimplifier shapeSimplifier,
+      MapObjectsUpdate update,
+      MethodChannel.Result result) {
+    final List<Object> objectsToAdd = call.argument(objectName + "sToAdd");
+    final List<Object> objectsToChange = call.argument(objectName + "sToChange");
+    final List<Object> idsToRemove = call.argument(objectName + "IdsToRemove");
+    if (pendingMapObjectsUpdates == 0 && isEmpty(objectsToAdd) && isEmpty(objectsToChange)) {
+      // Nothing to decode, and no earlier update to wait for.
+      applyMapObjectsUpdate(update, objectsToAdd, objectsToChange, idsToRemove, result);
+      return;
+    }
+    pendingMapObjectsUpdates++;
+    getMapObjectsDecodingExecutor().execute(
+        () -> {
+          List<Object> decodedObjectsToAdd = null;
+          List<Object> decodedObjectsToChange = null;
+          RuntimeException error = null;
+          try {
+            decodedObjectsToAdd = Convert.decodeMapObjects(objectsToAdd);
+            decodedObjectsToChange = Convert.decodeMapObjects(objectsToChange);
+            if (shapeSimplifier != null) {
+              shapeSimplifier.prepareAll(decodedObjectsToAdd);
+              shapeSimplifier.prepareAll(decodedObjectsToChange);
+            }
+          } catch (RuntimeException e) {
+            error = e;
+          }
+          final List<Object> finalObjectsToAdd = decodedObjectsToAdd;
+          final List<Object> finalObjectsToChange = decodedObjectsToChange;
+          final RuntimeException finalError = error;
+          handler.post(
+              () -> {
+                pendingMapObjectsUpdates--;
+                if (finalError != null) {
+                  result.error("error", finalError.getMessage(), null);
+                } else if (disposed) {
+                  result.success(null);
+                } else {
+                  applyMapObjectsUpdate(
+                      update, finalObjectsToAdd, finalObjectsToChange, idsToRemove, result);
+                }
+              });
+        });
+  }
+
+  private ExecutorService getMapObjectsDecodingExecutor() {
+    if (mapObjectsDecodingExecutor == null) {
+      mapObjectsDecodingExecutor = Executors.newSingleThreadExecutor();
+    }
+    return mapObjectsDecodingExecutor;
+  }
+
+  /**
+   * Handles {@code call} once the map objects updates received before it are on the map.
+   *
+   * <p>The call goes through the same queue as the updates, so it is also handled before the
+   * updates received after it.
+   */
+  private void handleAfterMapObjectsUpdates(MethodCall call, MethodChannel.Result result) {
+    pendingMapObjectsUpdates++;
+    getMapObjectsDecodingExecutor()
+        .execute(
+            () ->
+                handler.post(
+                    () -> {
+                      pendingMapObjectsUpdates--;
+                      if (disposed) {
+                        result.error("GoogleMap disposed", call.method, null);
+                      } else {
+                        handleMethodCall(call, result);
+                      }
+                    }));
+  }
+
+  private static boolean isMapObjectsUpdate(String method) {
+    return method.equals("markers#update")
+        || method.equals("polygons#update")
+        || method.equals("polylines#update");
+  }
+
+  private void applyMapObjectsUpdate(
+      MapObjectsUpdate update,
+      List<Object> objectsToAdd,
+      List<Object> objectsToChange,
+      List<Object> idsToRemove,
+      MethodChannel.Result result) {
+    invalidateMapIfNeeded();
+    try {
+      update.apply(objectsToAdd, objectsToChange, idsToRemove);
+    } catch (RuntimeException e) {
+      // The method channel reports the exceptions of synchronous calls the same way.
+      result.error("error", e.getMessage(), null);
+      return;
+    }
+    result.success(null);
+  }
+
+  private static boolean isEmpty(@Nullable List<Object> list) {
+    return list == null || list.isEmpty();
+  }
+
   private static void postFrameCallback(Runnable f) {
     Choreographer.getInstance()
         .postFrameCallback(
@@ -190,6 +366,9 @@ final class GoogleMapController
   @Override
   public void onMapReady(GoogleMap googleMap) {
     this.googleMap = googleMap;
+    if (mapViewRecycled) {
+      applyOptionsToRecycledMap();
+    }
     this.googleMap.setIndoorEnabled(this.indoorEnabled);
     this.googleMap.setTrafficEnabled(this.trafficEnabled);
     this.googleMap.setBuildingsEnabled(this.buildingsEnabled);
@@ -217,10 +396,50 @@ final class GoogleMapController
           initialPadding.get(2),
           initialPadding.get(3));
     }
+    if (mapSnapshotCache != null) {
+      // Makes sure the snapshot is cached once the map is loaded, even if nothing updates it.
+      invalidateMapIfNeeded();
+    }
+  }
+
+  /**
+   * Applies the options that a new view would have been created with to the map of a recycled
+   * view. The map was cleared and its style reset when its previous controller was disposed.
+   */
+  private void applyOptionsToRecycledMap() {
+    if (options.getCamera() != null) {
+      googleMap.moveCamera(CameraUpdateFactory.newCameraPosition(options.getCamera()));
+    }
+    googleMap.setMapType(options.getMapType());
+    googleMap.resetMinMaxZoomPreference();
+    if (options.getMinZoomPreference() != null) {
+      googleMap.setMinZoomPreference(options.getMinZoomPreference());
+    }
+    if (options.getMaxZoomPreference() != null) {
+      googleMap.setMaxZoomPreference(options.getMaxZoomPreference());
+    }
+    googleMap.setLatLngBoundsForCameraTarget(options.getLatLngBoundsForCameraTarget());
+    final UiSettings uiSettings = googleMap.getUiSettings();
+    uiSettings.setMapToolbarEnabled(!Boolean.FALSE.equals(options.getMapToolbarEnabled()));
+    uiSettings.setCompassEnabled(!Boolean.FALSE.equals(options.getCompassEnabled()));
+    uiSettings.setRotateGesturesEnabled(!Boolean.FALSE.equals(options.getRotateGesturesEnabled()));
+    uiSettings.setScrollGesturesEnabled(!Boolean.FALSE.equals(options.getScrollGesturesEnabled()));
+    uiSettings.setTiltGesturesEnabled(!Boolean.FALSE.equals(options.getTiltGesturesEnabled()));
+    uiSettings.setZoomGesturesEnabled(!Boolean.FALSE.equals(options.getZoomGesturesEnabled()));
+    uiSettings.setZoomControlsEnabled(!Boolean.FALSE.equals(options.getZoomControlsEnabled()));
   }
 
   @Override
   public void onMethodCall(MethodCall call, MethodChannel.Result result) {
+    if (pendingMapObjectsUpdates > 0 && !isMapObjectsUpdate(call.method)) {
+      // Calls such as markers#showInfoWindow must see the objects of the updates sent before them.
+      handleAfterMapObjectsUpdates(call, result);
+      return;
+    }
+    handleMethodCall(call, result);
+  }
+
+  private void handleMethodCall(MethodCall call, MethodChannel.Result result) {
     switch (call.method) {
       case "map#waitForMap":
         if (googleMap != null) {
@@ -278,15 +497,30 @@ final class GoogleMapController
         {
           if (googleMap != null) {
             final MethodChannel.Result _result = result;
+            final SnapshotEncoder encoder = Convert.toSnapshotEncoder(call.arguments);
+            final String filePath = call.argument("filePath");
             googleMap.snapshot(
                 new SnapshotReadyCallback() {
                   @Override
                   public void onSnapshotReady(Bitmap bitmap) {
-                    ByteArrayOutputStream stream = new ByteArrayOutputStream();
-                    bitmap.compress(Bitmap.CompressFormat.PNG, 100, stream);
-                    byte[] byteArray = stream.toByteArray();
-                    bitmap.recycle();
-                    _result.success(byteArray);
+                    if (bitmap == null) {
+                      _result.error("Snapshot failed", "The map could not be captured", null);
+                      return;
+                    }
+                    encoder.encodeAsync(
+                        bitmap,
+                        filePath != null ? new File(filePath) : null,
+                        new SnapshotEncoder.Callback() {
+                          @Override
+                          public void onEncoded(@Nullable byte[] bytes) {
+                            _result.success(bytes);
+                          }
+
+                          @Override
+                          public void onError(@NonNull Throwable error) {
+                            _result.error("Snapshot failed", error.getMessage(), null);
+                          }
+                        });
                   }
                 });
           } else {
@@ -312,14 +546,16 @@ final class GoogleMapController
         }
       case "markers#update":
         {
-          invalidateMapIfNeeded();
-          List<Object> markersToAdd = call.argument("markersToAdd");
-          markersController.addMarkers(markersToAdd);
-          List<Object> markersToChange = call.argument("markersToChange");
-          markersController.changeMarkers(markersToChange);
-          List<Object> markerIdsToRemove = call.argument("markerIdsToRemove");
-          markersController.removeMarkers(markerIdsToRemove);
-          result.success(null);
+          updateMapObjects(
+              call,
+              "marker",
+              null,
+              (markersToAdd, markersToChange, markerIdsToRemove) -> {
+                markersController.addMarkers(markersToAdd);
+                markersController.changeMarkers(markersToChange);
+                markersController.removeMarkers(markerIdsToRemove);
+              },
+              result);
           break;
         }
       case "markers#showInfoWindow":
@@ -342,26 +578,30 @@ final class GoogleMapController
         }
       case "polygons#update":
         {
-          invalidateMapIfNeeded();
-          List<Object> polygonsToAdd = call.argument("polygonsToAdd");
-          polygonsController.addPolygons(polygonsToAdd);
-          List<Object> polygonsToChange = call.argument("polygonsToChange");
-          polygonsController.changePolygons(polygonsToChange);
-          List<Object> polygonIdsToRemove = call.argument("polygonIdsToRemove");
-          polygonsController.removePolygons(polygonIdsToRemove);
-          result.success(null);
+          updateMapObjects(
+              call,
+              "polygon",
+              polygonSimplifier,
+              (polygonsToAdd, polygonsToChange, polygonIdsToRemove) -> {
+                polygonsController.addPolygons(polygonsToAdd);
+                polygonsController.changePolygons(polygonsToChange);
+                polygonsController.removePolygons(polygonIdsToRemove);
+              },
+              result);
           break;
         }
       case "polylines#update":
         {
-          invalidateMapIfNeeded();
-          List<Object> polylinesToAdd = call.argument("polylinesToAdd");
-          polylinesController.addPolylines(polylinesToAdd);
-          List<Object> polylinesToChange = call.argument("polylinesToChange");
-          polylinesController.changePolylines(polylinesToChange);
-          List<Object> polylineIdsToRemove = call.argument("polylineIdsToRemove");
-          polylinesController.removePolylines(polylineIdsToRemove);
-          result.success(null);
+          updateMapObjects(
+              call,
+              "polyline",
+              polylineSimplifier,
+              (polylinesToAdd, polylinesToChange, polylineIdsToRemove) -> {
+                polylinesController.addPolylines(polylinesToAdd);
+                polylinesController.changePolylines(polylinesToChange);
+                polylinesController.removePolylines(polylineIdsToRemove);
+              },
+              result);
           break;
         }
       case "circles#update":
@@ -527,19 +767,68 @@ final class GoogleMapController
 
   @Override
   public void onCameraMove() {
+    updateTileOverlaysVisibleRegion();
     if (!trackCameraPosition) {
       return;
     }
+    final CameraPosition position = googleMap.getCameraPosition();
+    if (cameraMoveSampler != null
+        && !cameraMoveSampler.sample(position, SystemClock.uptimeMillis())) {
+      // Sends the position later if it is only skipped because of the minimum interval, so that a
+      // gesture that pauses still reports where it paused.
+      if (!pendingCameraMoveScheduled) {
+        pendingCameraMoveScheduled = true;
+        handler.postAtTime(sendPendingCameraMove, cameraMoveSampler.getNextSampleTimeMs());
+      }
+      return;
+    }
+    sendCameraMove(position);
+  }
+
+  private void sendPendingCameraMove() {
+    pendingCameraMoveScheduled = false;
+    final CameraPosition position = cameraMoveSampler.getPendingPosition();
+    if (position != null && cameraMoveSampler.sample(position, SystemClock.uptimeMillis())) {
+      sendCameraMove(position);
+    }
+  }
+
+  private void sendCameraMove(CameraPosition position) {
     final Map<String, Object> arguments = new HashMap<>(2);
-    arguments.put("position", Convert.cameraPositionToJson(googleMap.getCameraPosition()));
+    arguments.put("position", Convert.cameraPositionToJson(position));
     methodChannel.invokeMethod("camera#onMove", arguments);
   }
 
   @Override
   public void onCameraIdle() {
+    if (cameraMoveSampler != null) {
+      handler.removeCallbacks(sendPendingCameraMove);
+      pendingCameraMoveScheduled = false;
+      // The last position of the move is always sent before the move ends.
+      final CameraPosition position = cameraMoveSampler.flush();
+      if (trackCameraPosition && position != null) {
+        sendCameraMove(position);
+      }
+    }
+    updateTileOverlaysVisibleRegion();
+    markersController.onCameraIdle();
+    if (polylineSimplifier != null) {
+      final float zoom = googleMap.getCameraPosition().zoom;
+      polylinesController.onCameraIdle(zoom);
+      polygonsController.onCameraIdle(zoom);
+    }
     methodChannel.invokeMethod("camera#onIdle", Collections.singletonMap("map", id));
   }
 
+  private void updateTileOverlaysVisibleRegion() {
+    if (!tileOverlaysController.hasTileOverlays()) {
+      return;
+    }
+    tileOverlaysController.onVisibleRegionChanged(
+        googleMap.getProjection().getVisibleRegion().latLngBounds,
+        googleMap.getCameraPosition().zoom);
+  }
+
   @Override
   public boolean onMarkerClick(Marker marker) {
     return markersController.onMarkerTap(marker.getId());
@@ -582,7 +871,13 @@ final class GoogleMapController
     }
     disposed = true;
     methodChannel.setMethodCallHandler(null);
+    markersController.dispose();
+    handler.removeCallbacks(sendPendingCameraMove);
+    if (mapObjectsDecodingExecutor != null) {
+      mapObjectsDecodingExecutor.shutdown();
+    }
     setGoogleMapListener(null);
+    recycleMapViewIfPossible();
     destroyMapViewIfNecessary();
     Lifecycle lifecycle = lifecycleProvider.getLifecycle();
     if (lifecycle != null) {
@@ -625,7 +920,7 @@ final class GoogleMapController
 
   @Override
   public void onCreate(@NonNull LifecycleOwner owner) {
-    if (disposed) {
+    if (disposed || mapViewRecycled) {
       return;
     }
     mapView.onCreate(null);
@@ -674,7 +969,7 @@ final class GoogleMapController
 
   @Override
   public void onRestoreInstanceState(Bundle bundle) {
-    if (disposed) {
+    if (disposed || mapViewRecycled) {
       return;
     }
     mapView.onCreate(bundle);
@@ -863,6 +1158,29 @@ final class GoogleMapController
     circlesController.addCircles(initialCircles);
   }
 
+  void setMarkerClustering(int gridSize, int minClusterSize) {
+    markersController.setClustering(gridSize, minClusterSize, density);
+  }
+
+  void setCameraMoveSampler(@Nullable CameraMoveSampler cameraMoveSampler) {
+    this.cameraMoveSampler = cameraMoveSampler;
+  }
+
+  void setMarkerVirtualization(double margin) {
+    markersController.setVirtualization(margin);
+  }
+
+  void setShapeSimplification(double tolerance, int minPoints) {
+    polylineSimplifier = new ShapeSimplifier(tolerance, minPoints, false);
+    polygonSimplifier = new ShapeSimplifier(tolerance, minPoints, true);
+    polylinesController.setShapeSimplifier(polylineSimplifier);
+    polygonsController.setShapeSimplifier(polygonSimplifier);
+  }
+
+  void setTileCache(TileCache tileCache, long tileRequestTimeoutMs) {
+    tileOverlaysController.setTileCache(tileCache, tileRequestTimeoutMs);
+  }
+
   @Override
   public void setInitialTileOverlays(List<Map<String, ?>> initialTileOverlays) {
     this.initialTileOverlays = initialTileOverlays;
@@ -907,6 +1225,26 @@ final class GoogleMapController
         permission, android.os.Process.myPid(), android.os.Process.myUid());
   }
 
+  private void recycleMapViewIfPossible() {
+    if (liteMapViewPool == null || googleMap == null || mapView == null) {
+      return;
+    }
+    // clear() only removes the map objects, so the rest of the state this map set is reset too,
+    // since the next map shouldn't draw with it.
+    googleMap.clear();
+    googleMap.setMapStyle(null);
+    googleMap.setPadding(0, 0, 0, 0);
+    if (hasLocationPermission()) {
+      //noinspection ResourceType
+      googleMap.setMyLocationEnabled(false);
+    }
+    googleMap.setOnInfoWindowClickListener(null);
+    googleMap.setOnMapLoadedCallback(null);
+    if (liteMapViewPool.release(mapView)) {
+      mapView = null;
+    }
+  }
+
   private void destroyMapViewIfNecessary() {
     if (mapView == null) {
       return;
@@ -915,6 +1253,16 @@ final class GoogleMapController
     mapView = null;
   }
 
+  void setLiteMapViewPool(@Nullable LiteMapViewPool liteMapViewPool) {
+    this.liteMapViewPool = liteMapViewPool;
+  }
+
+  void setMapSnapshotCache(
+      @Nullable MapSnapshotCache mapSnapshotCache, @Nullable String snapshotContentKey) {
+    this.mapSnapshotCache = mapSnapshotCache;
+    this.snapshotContentKey = snapshotContentKey;
+  }
+
   public void setIndoorEnabled(boolean indoorEnabled) {
     this.indoorEnabled = indoorEnabled;
   }
@@ -18,6 +18,9 @@ public class GoogleMapFactory extends PlatformViewFactory {
   private final BinaryMessenger binaryMessenger;
   private final LifecycleProvider lifecycleProvider;
   private final GoogleMapInitializer googleMapInitializer;
+  private final MarkerIconRegistrar markerIconRegistrar;
+  private final CachedSnapshotProvider cachedSnapshotProvider;
+  private final LiteMapViewPool liteMapViewPool;
 
   GoogleMapFactory(
       BinaryMessenger binaryMessenger, Context context, LifecycleProvider lifecycleProvider) {
@@ -26,6 +29,11 @@ public class GoogleMapFactory extends PlatformViewFactory {
     this.binaryMessenger = binaryMessenger;
     this.lifecycleProvider = lifecycleProvider;
     this.googleMapInitializer = new GoogleMapInitializer(context, binaryMessenger);
+    this.markerIconRegistrar =
+        new MarkerIconRegistrar(binaryMessenger, BitmapDescriptorCache.getInstance());
+    this.cachedSnapshotProvider =
+        new CachedSnapshotProvider(binaryMessenger, MapSnapshotCache.getInstance());
+    this.liteMapViewPool = new LiteMapViewPool(lifecycleProvider, 0);
   }
 
   @SuppressWarnings("unchecked")
@@ -54,6 +62,25 @@ public class GoogleMapFactory extends PlatformViewFactory {
     if (params.containsKey("tileOverlaysToAdd")) {
       builder.setInitialTileOverlays((List<Map<String, ?>>) params.get("tileOverlaysToAdd"));
     }
+    if (params.containsKey("markerClustering")) {
+      Convert.interpretMarkerClusteringOptions(params.get("markerClustering"), builder);
+    }
+    if (params.containsKey("markerVirtualization")) {
+      Convert.interpretMarkerVirtualizationOptions(params.get("markerVirtualization"), builder);
+    }
+    if (params.containsKey("shapeSimplification")) {
+      Convert.interpretShapeSimplificationOptions(params.get("shapeSimplification"), builder);
+    }
+    if (params.containsKey("cameraMoveSampling")) {
+      Convert.interpretCameraMoveSamplingOptions(params.get("cameraMoveSampling"), builder);
+    }
+    if (params.containsKey("tileCache")) {
+      Convert.interpretTileCacheOptions(params.get("tileCache"), builder);
+    }
+    if (params.containsKey("liteModeCaching")) {
+      builder.setLiteMapViewPool(liteMapViewPool);
+      Convert.interpretLiteModeCachingOptions(params.get("liteModeCaching"), builder);
+    }
     return builder.build(id, context, binaryMessenger, lifecycleProvider);
   }
 }
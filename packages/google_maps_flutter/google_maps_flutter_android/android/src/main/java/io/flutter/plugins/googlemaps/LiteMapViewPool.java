@@ -0,0 +1,110 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+import com.google.android.gms.maps.MapView;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Pool of the map views of disposed lite mode maps, so that lite mode maps that are created and
+ * disposed as a list scrolls reuse views instead of creating and initializing new ones.
+ *
+ * <p>Pooled views stay created but are stopped, and are destroyed with the lifecycle they were
+ * released under. A view is only reused for a map in the same activity as the map it was created
+ * for.
+ */
+final class LiteMapViewPool implements DefaultLifecycleObserver {
+  private final LifecycleProvider lifecycleProvider;
+  private final ArrayDeque<MapView> views = new ArrayDeque<>();
+  private int maxSize;
+
+  LiteMapViewPool(@NonNull LifecycleProvider lifecycleProvider, int maxSize) {
+    this.lifecycleProvider = lifecycleProvider;
+    this.maxSize = maxSize;
+  }
+
+  /** Sets the maximum number of pooled views, destroying the views over it. */
+  void setMaxSize(int maxSize) {
+    this.maxSize = maxSize;
+    while (views.size() > maxSize) {
+      views.removeFirst().onDestroy();
+    }
+  }
+
+  /** Returns a pooled view for a map in {@code context}, or null if there isn't any. */
+  @Nullable
+  MapView acquire(@NonNull Context context) {
+    final Context owner = owner(context);
+    final Iterator<MapView> iterator = views.descendingIterator();
+    while (iterator.hasNext()) {
+      final MapView view = iterator.next();
+      if (owner(view.getContext()) == owner) {
+        iterator.remove();
+        return view;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Stops {@code view} and adds it to the pool. Returns false if the pool is full, in which case
+   * the caller keeps the view.
+   */
+  boolean release(@NonNull MapView view) {
+    final Lifecycle lifecycle = lifecycleProvider.getLifecycle();
+    if (views.size() >= maxSize
+        || lifecycle == null
+        || !lifecycle.getCurrentState().isAtLeast(Lifecycle.State.CREATED)) {
+      return false;
+    }
+    final ViewParent parent = view.getParent();
+    if (parent instanceof ViewGroup) {
+      ((ViewGroup) parent).removeView(view);
+    }
+    view.onPause();
+    view.onStop();
+    lifecycle.addObserver(this);
+    views.addLast(view);
+    return true;
+  }
+
+  @VisibleForTesting
+  int size() {
+    return views.size();
+  }
+
+  @Override
+  public void onDestroy(@NonNull LifecycleOwner owner) {
+    owner.getLifecycle().removeObserver(this);
+    for (MapView view : views) {
+      view.onDestroy();
+    }
+    views.clear();
+  }
+
+  // Flutter may wrap the context of each platform view, so views are matched by activity.
+  private static Context owner(Context context) {
+    while (!(context instanceof Activity) && context instanceof ContextWrapper) {
+      final Context baseContext = ((ContextWrapper) context).getBaseContext();
+      if (baseContext == null) {
+        break;
+      }
+      context = baseContext;
+    }
+    return context;
+  }
+}
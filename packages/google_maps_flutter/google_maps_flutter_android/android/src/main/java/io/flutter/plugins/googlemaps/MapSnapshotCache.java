@@ -0,0 +1,115 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.util.Log;
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.CameraPosition;
+import java.util.Locale;
+
+/**
+ * Cache of the snapshots of lite mode maps, so that Dart can show a map that was already rendered
+ * as an image instead of creating a map.
+ *
+ * <p>Snapshots are PNG encoded, keyed by camera position, map type, size and an optional content
+ * key given by Dart, and kept up to a maximum number of bytes, least recently used first out. Maps
+ * that show different content must be given different content keys, or they overwrite each
+ * other's snapshots.
+ *
+ * <p>All methods can be called from any thread.
+ */
+final class MapSnapshotCache {
+  private static final String TAG = "MapSnapshotCache";
+  private static final int DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+  private static MapSnapshotCache instance;
+
+  private final LruCache<String, byte[]> snapshots;
+  private final SnapshotEncoder encoder =
+      new SnapshotEncoder(Bitmap.CompressFormat.PNG, 100, 0, 0);
+
+  /** Returns the cache shared by all the maps, creating it the first time. */
+  static synchronized MapSnapshotCache getInstance() {
+    if (instance == null) {
+      instance = new MapSnapshotCache(DEFAULT_MAX_BYTES);
+    }
+    return instance;
+  }
+
+  @VisibleForTesting
+  MapSnapshotCache(int maxBytes) {
+    this.snapshots =
+        new LruCache<String, byte[]>(maxBytes) {
+          @Override
+          protected int sizeOf(String key, byte[] snapshot) {
+            return snapshot.length;
+          }
+        };
+  }
+
+  /**
+   * Returns the key of the snapshot of a map with the given camera position, map type and content
+   * key, whose size is {@code width} by {@code height} density-independent pixels.
+   */
+  @NonNull
+  static String key(
+      @NonNull CameraPosition position,
+      int mapType,
+      int width,
+      int height,
+      @Nullable String contentKey) {
+    final String key =
+        String.format(
+            Locale.US,
+            "%.6f,%.6f,%.2f,%.1f,%.1f,%d,%dx%d",
+            position.target.latitude,
+            position.target.longitude,
+            position.zoom,
+            position.bearing,
+            position.tilt,
+            mapType,
+            width,
+            height);
+    // The content key comes last, so that it can't be confused with the other parts of the key.
+    return contentKey == null ? key : key + "," + contentKey;
+  }
+
+  /** Returns the snapshot with the given key, or null if it isn't cached. */
+  @Nullable
+  byte[] get(@NonNull String key) {
+    return snapshots.get(key);
+  }
+
+  /** Encodes {@code snapshot} in the background, caches it under {@code key}, and recycles it. */
+  void put(@NonNull String key, @NonNull Bitmap snapshot) {
+    encoder.encodeAsync(
+        snapshot,
+        null,
+        new SnapshotEncoder.Callback() {
+          @Override
+          public void onEncoded(@Nullable byte[] bytes) {
+            put(key, bytes);
+          }
+
+          @Override
+          public void onError(@NonNull Throwable error) {
+            Log.w(TAG, "Unable to cache the snapshot of a map.", error);
+          }
+        });
+  }
+
+  @VisibleForTesting
+  void put(@NonNull String key, @NonNull byte[] snapshot) {
+    snapshots.put(key, snapshot);
+  }
+
+  void clear() {
+    snapshots.evictAll();
+  }
+}
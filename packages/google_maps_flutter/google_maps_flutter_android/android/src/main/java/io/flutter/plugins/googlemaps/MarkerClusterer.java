@@ -0,0 +1,127 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.NonNull;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups the markers that are close to each other on screen into clusters.
+ *
+ * <p>The world is divided into a grid of square cells, whose size is given in density-independent
+ * pixels at the current zoom level. Cells that contain at least the minimum cluster size of
+ * markers become a single cluster, placed at the centroid of its markers. Only the markers in the
+ * visible region are clustered.
+ *
+ * <p>Clustering doesn't touch the map, so it can run on a background thread.
+ */
+final class MarkerClusterer {
+
+  /** A marker to cluster. Immutable, so it can be handed to a background thread. */
+  static final class Item {
+    final String markerId;
+    final LatLng position;
+
+    Item(@NonNull String markerId, @NonNull LatLng position) {
+      this.markerId = markerId;
+      this.position = position;
+    }
+  }
+
+  static final class Cluster {
+    final LatLng position;
+    final LatLngBounds bounds;
+    final List<String> markerIds;
+
+    Cluster(LatLng position, LatLngBounds bounds, List<String> markerIds) {
+      this.position = position;
+      this.bounds = bounds;
+      this.markerIds = markerIds;
+    }
+  }
+
+  static final class Result {
+    /** The markers that are visible and not part of a cluster. */
+    final List<String> markerIds;
+
+    final List<Cluster> clusters;
+
+    Result(List<String> markerIds, List<Cluster> clusters) {
+      this.markerIds = markerIds;
+      this.clusters = clusters;
+    }
+  }
+
+  // The size of the world at zoom level 0, in density-independent pixels.
+  private static final double WORLD_SIZE = 256;
+
+  private final int gridSize;
+  private final int minClusterSize;
+
+  MarkerClusterer(int gridSize, int minClusterSize) {
+    this.gridSize = gridSize;
+    this.minClusterSize = minClusterSize;
+  }
+
+  @NonNull
+  Result cluster(@NonNull List<Item> items, @NonNull LatLngBounds visibleBounds, float zoom) {
+    final double scale = WORLD_SIZE * Math.pow(2, zoom) / gridSize;
+    final Map<Long, List<Item>> cells = new HashMap<>();
+    for (Item item : items) {
+      if (!visibleBounds.contains(item.position)) {
+        continue;
+      }
+      final long column = (long) Math.floor(longitudeToX(item.position.longitude) * scale);
+      final long row = (long) Math.floor(latitudeToY(item.position.latitude) * scale);
+      final long cell = (row << 32) | (column & 0xffffffffL);
+      List<Item> cellItems = cells.get(cell);
+      if (cellItems == null) {
+        cellItems = new ArrayList<>();
+        cells.put(cell, cellItems);
+      }
+      cellItems.add(item);
+    }
+
+    final List<String> markerIds = new ArrayList<>();
+    final List<Cluster> clusters = new ArrayList<>();
+    for (List<Item> cellItems : cells.values()) {
+      if (cellItems.size() < minClusterSize) {
+        for (Item item : cellItems) {
+          markerIds.add(item.markerId);
+        }
+        continue;
+      }
+      final LatLngBounds.Builder bounds = LatLngBounds.builder();
+      final List<String> clusterMarkerIds = new ArrayList<>(cellItems.size());
+      double latitude = 0;
+      double longitude = 0;
+      for (Item item : cellItems) {
+        bounds.include(item.position);
+        clusterMarkerIds.add(item.markerId);
+        latitude += item.position.latitude;
+        longitude += item.position.longitude;
+      }
+      final LatLng position =
+          new LatLng(latitude / cellItems.size(), longitude / cellItems.size());
+      clusters.add(new Cluster(position, bounds.build(), clusterMarkerIds));
+    }
+    return new Result(markerIds, clusters);
+  }
+
+  // Web Mercator projection of the world onto [0, 1] x [0, 1].
+  static double longitudeToX(double longitude) {
+    return (longitude + 180) / 360;
+  }
+
+  static double latitudeToY(double latitude) {
+    final double sin = Math.min(Math.max(Math.sin(Math.toRadians(latitude)), -0.9999), 0.9999);
+    return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+  }
+}
@@ -25,6 +25,12 @@ class MarkerController implements MarkerOptionsSink {
     marker.remove();
   }
 
+  /** Hides the marker, and returns it so that it can be reused for another marker. */
+  Marker hide() {
+    marker.setVisible(false);
+    return marker;
+  }
+
   @Override
   public void setAlpha(float alpha) {
     marker.setAlpha(alpha);
@@ -0,0 +1,44 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/** Registers the marker icons that markers of any map can refer to by ID. */
+final class MarkerIconRegistrar implements MethodChannel.MethodCallHandler {
+  private final BitmapDescriptorCache bitmapDescriptorCache;
+
+  MarkerIconRegistrar(
+      BinaryMessenger binaryMessenger, BitmapDescriptorCache bitmapDescriptorCache) {
+    this.bitmapDescriptorCache = bitmapDescriptorCache;
+    new MethodChannel(binaryMessenger, "plugins.flutter.dev/google_maps_android_marker_icons")
+        .setMethodCallHandler(this);
+  }
+
+  @Override
+  public void onMethodCall(MethodCall call, MethodChannel.Result result) {
+    switch (call.method) {
+      case "markerIcons#register":
+        {
+          String iconId = call.argument("iconId");
+          byte[] bytes = call.argument("bytes");
+          bitmapDescriptorCache.register(iconId, bytes);
+          result.success(null);
+          break;
+        }
+      case "markerIcons#unregister":
+        {
+          String iconId = call.argument("iconId");
+          bitmapDescriptorCache.unregister(iconId);
+          result.success(null);
+          break;
+        }
+      default:
+        result.notImplemented();
+    }
+  }
+}
@@ -0,0 +1,116 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.NonNull;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of marker positions, to find the markers in a region without looking at all of them.
+ *
+ * <p>Markers are bucketed by the Web Mercator tile that contains them at a fixed zoom level. A
+ * query looks at the buckets that intersect the region, or at every bucket if there are fewer of
+ * them.
+ */
+final class MarkerSpatialIndex {
+  // The tiles of zoom level 10 are about 40 km wide at the equator.
+  private static final int CELLS_PER_SIDE = 1 << 10;
+
+  private final Map<Long, Map<String, MarkerClusterer.Item>> cells = new HashMap<>();
+  private final Map<String, Long> markerIdToCell = new HashMap<>();
+
+  /** Adds {@code item}, replacing the item that has the same marker ID. */
+  void put(@NonNull MarkerClusterer.Item item) {
+    remove(item.markerId);
+    final long cell =
+        cell(
+            column(MarkerClusterer.longitudeToX(item.position.longitude)),
+            row(MarkerClusterer.latitudeToY(item.position.latitude)));
+    Map<String, MarkerClusterer.Item> cellItems = cells.get(cell);
+    if (cellItems == null) {
+      cellItems = new HashMap<>();
+      cells.put(cell, cellItems);
+    }
+    cellItems.put(item.markerId, item);
+    markerIdToCell.put(item.markerId, cell);
+  }
+
+  void remove(@NonNull String markerId) {
+    final Long cell = markerIdToCell.remove(markerId);
+    if (cell == null) {
+      return;
+    }
+    final Map<String, MarkerClusterer.Item> cellItems = cells.get(cell);
+    cellItems.remove(markerId);
+    if (cellItems.isEmpty()) {
+      cells.remove(cell);
+    }
+  }
+
+  int size() {
+    return markerIdToCell.size();
+  }
+
+  /** Returns the items whose position is in {@code bounds}. */
+  @NonNull
+  List<MarkerClusterer.Item> query(@NonNull LatLngBounds bounds) {
+    final int west = column(MarkerClusterer.longitudeToX(bounds.southwest.longitude));
+    final int east = column(MarkerClusterer.longitudeToX(bounds.northeast.longitude));
+    // Rows grow southwards.
+    final int north = row(MarkerClusterer.latitudeToY(bounds.northeast.latitude));
+    final int south = row(MarkerClusterer.latitudeToY(bounds.southwest.latitude));
+    // A region whose west edge is east of its east edge crosses the antimeridian.
+    final int columnCount =
+        bounds.southwest.longitude <= bounds.northeast.longitude
+            ? east - west + 1
+            : Math.min(CELLS_PER_SIDE - west + east + 1, CELLS_PER_SIDE);
+    final long cellCount = (long) columnCount * (south - north + 1);
+
+    final List<MarkerClusterer.Item> items = new ArrayList<>();
+    if (cellCount >= cells.size()) {
+      for (Map<String, MarkerClusterer.Item> cellItems : cells.values()) {
+        addContainedItems(cellItems, bounds, items);
+      }
+      return items;
+    }
+    for (int i = 0; i < columnCount; i++) {
+      final int column = (west + i) % CELLS_PER_SIDE;
+      for (int row = north; row <= south; row++) {
+        final Map<String, MarkerClusterer.Item> cellItems = cells.get(cell(column, row));
+        if (cellItems != null) {
+          addContainedItems(cellItems, bounds, items);
+        }
+      }
+    }
+    return items;
+  }
+
+  private static void addContainedItems(
+      Map<String, MarkerClusterer.Item> cellItems,
+      LatLngBounds bounds,
+      List<MarkerClusterer.Item> items) {
+    for (MarkerClusterer.Item item : cellItems.values()) {
+      if (bounds.contains(item.position)) {
+        items.add(item);
+      }
+    }
+  }
+
+  private static int column(double x) {
+    return Math.min(Math.max((int) Math.floor(x * CELLS_PER_SIDE), 0), CELLS_PER_SIDE - 1);
+  }
+
+  private static int row(double y) {
+    return Math.min(Math.max((int) Math.floor(y * CELLS_PER_SIDE), 0), CELLS_PER_SIDE - 1);
+  }
+
+  private static long cell(int column, int row) {
+    return ((long) row << 32) | column;
+  }
+}
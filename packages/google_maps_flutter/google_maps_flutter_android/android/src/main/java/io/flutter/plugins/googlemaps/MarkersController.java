@@ -4,22 +4,67 @@
 
 package io.flutter.plugins.googlemaps;
 
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.VisibleForTesting;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import com.google.android.gms.maps.model.BitmapDescriptorFactory;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 class MarkersController {
 
+  private static final int CLUSTER_ICON_SIZE = 40;
+  private static final float CLUSTER_TEXT_SIZE = 14;
+  private static final int CLUSTER_COLOR = 0xFF1A73E8;
+  private static final int MAX_POOLED_MARKERS = 64;
+  private static final int[] CLUSTER_LABEL_BUCKETS = {
+    10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 20000, 50000, 100000
+  };
+
   private final Map<String, MarkerController> markerIdToController;
   private final Map<String, String> googleMapsMarkerIdToDartMarkerId;
   private final MethodChannel methodChannel;
   private GoogleMap googleMap;
 
+  // Set when markers are clustered or virtualized. All the markers are then kept in
+  // markerIdToOptions and markerIndex, and only the visible ones that aren't part of a cluster are
+  // on the map and have a MarkerController.
+  private boolean virtualized = false;
+  private double virtualizationMargin;
+  private MarkerClusterer clusterer;
+  private float density = 1;
+  private ExecutorService clusteringExecutor;
+  private Handler handler;
+  private volatile int clusteringGeneration;
+  private final Map<String, MarkerBuilder> markerIdToOptions = new HashMap<>();
+  private final MarkerSpatialIndex markerIndex = new MarkerSpatialIndex();
+  // Markers that left the visible region, hidden to be reused for the ones that enter it.
+  private final List<Marker> markerPool = new ArrayList<>();
+  private final List<Marker> clusterMarkers = new ArrayList<>();
+  private final Map<String, MarkerClusterer.Cluster> googleMapsMarkerIdToCluster =
+      new HashMap<>();
+  private final Map<String, BitmapDescriptor> clusterIcons = new HashMap<>();
+
   MarkersController(MethodChannel methodChannel) {
     this.markerIdToController = new HashMap<>();
     this.googleMapsMarkerIdToDartMarkerId = new HashMap<>();
@@ -30,11 +75,50 @@ class MarkersController {
     this.googleMap = googleMap;
   }
 
+  /**
+   * Clusters the markers that are added from now on, grouping the ones that are less than {@code
+   * gridSize} density-independent pixels apart into clusters of at least {@code minClusterSize}
+   * markers.
+   */
+  void setClustering(int gridSize, int minClusterSize, float density) {
+    this.virtualized = true;
+    this.clusterer = new MarkerClusterer(gridSize, minClusterSize);
+    this.density = density;
+    if (clusteringExecutor == null) {
+      clusteringExecutor = Executors.newSingleThreadExecutor();
+      handler = new Handler(Looper.getMainLooper());
+    }
+  }
+
+  /**
+   * Only adds the markers that are in the visible region, grown by {@code margin} times its size on
+   * every side, to the map from now on.
+   */
+  void setVirtualization(double margin) {
+    this.virtualized = true;
+    this.virtualizationMargin = margin;
+  }
+
+  void onCameraIdle() {
+    updateVisibleMarkers();
+  }
+
+  void dispose() {
+    if (clusteringExecutor != null) {
+      clusteringExecutor.shutdownNow();
+    }
+    // A clustering run that is already in progress still posts its result, which mustn't reach the
+    // map once it has been handed to another controller.
+    clusteringGeneration++;
+    googleMap = null;
+  }
+
   void addMarkers(List<Object> markersToAdd) {
     if (markersToAdd != null) {
       for (Object markerToAdd : markersToAdd) {
         addMarker(markerToAdd);
       }
+      updateVisibleMarkers();
     }
   }
 
@@ -43,6 +127,7 @@ class MarkersController {
       for (Object markerToChange : markersToChange) {
         changeMarker(markerToChange);
       }
+      updateVisibleMarkers();
     }
   }
 
@@ -60,7 +145,10 @@ class MarkersController {
         markerController.remove();
         googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
       }
+      markerIdToOptions.remove(markerId);
+      markerIndex.remove(markerId);
     }
+    updateVisibleMarkers();
   }
 
   void showMarkerInfoWindow(String markerId, MethodChannel.Result result) {
@@ -93,6 +181,13 @@ class MarkersController {
   }
 
   boolean onMarkerTap(String googleMarkerId) {
+    MarkerClusterer.Cluster cluster = googleMapsMarkerIdToCluster.get(googleMarkerId);
+    if (cluster != null) {
+      methodChannel.invokeMethod(
+          "cluster#onTap",
+          Convert.clusterToJson(cluster.position, cluster.bounds, cluster.markerIds));
+      return true;
+    }
     String markerId = googleMapsMarkerIdToDartMarkerId.get(googleMarkerId);
     if (markerId == null) {
       return false;
@@ -152,12 +247,23 @@ class MarkersController {
     }
     MarkerBuilder markerBuilder = new MarkerBuilder();
     String markerId = Convert.interpretMarkerOptions(marker, markerBuilder);
+    if (virtualized) {
+      markerIdToOptions.put(markerId, markerBuilder);
+      updateIndexedMarker(markerId, markerBuilder);
+      return;
+    }
     MarkerOptions options = markerBuilder.build();
     addMarker(markerId, options, markerBuilder.consumeTapEvents());
   }
 
   private void addMarker(String markerId, MarkerOptions markerOptions, boolean consumeTapEvents) {
-    final Marker marker = googleMap.addMarker(markerOptions);
+    final Marker marker;
+    if (markerPool.isEmpty()) {
+      marker = googleMap.addMarker(markerOptions);
+    } else {
+      marker = markerPool.remove(markerPool.size() - 1);
+      reuseMarker(marker, markerOptions);
+    }
     MarkerController controller = new MarkerController(marker, consumeTapEvents);
     markerIdToController.put(markerId, controller);
     googleMapsMarkerIdToDartMarkerId.put(marker.getId(), markerId);
@@ -168,12 +274,188 @@ class MarkersController {
       return;
     }
     String markerId = getMarkerId(marker);
+    MarkerBuilder markerBuilder = markerIdToOptions.get(markerId);
+    if (markerBuilder != null) {
+      Convert.interpretMarkerOptions(marker, markerBuilder);
+      updateIndexedMarker(markerId, markerBuilder);
+    }
     MarkerController markerController = markerIdToController.get(markerId);
     if (markerController != null) {
       Convert.interpretMarkerOptions(marker, markerController);
     }
   }
 
+  private void updateIndexedMarker(String markerId, MarkerBuilder markerBuilder) {
+    LatLng position = markerBuilder.build().getPosition();
+    if (position != null) {
+      markerIndex.put(new MarkerClusterer.Item(markerId, position));
+    }
+  }
+
+  // Shows the markers that are in the visible region, after clustering them on the clustering
+  // thread when markers are clustered.
+  private void updateVisibleMarkers() {
+    if (!virtualized || googleMap == null) {
+      return;
+    }
+    final LatLngBounds visibleBounds = googleMap.getProjection().getVisibleRegion().latLngBounds;
+    if (clusterer == null) {
+      final List<MarkerClusterer.Item> items =
+          markerIndex.query(growBounds(visibleBounds, virtualizationMargin));
+      final List<String> markerIds = new ArrayList<>(items.size());
+      for (MarkerClusterer.Item item : items) {
+        markerIds.add(item.markerId);
+      }
+      showMarkers(
+          new MarkerClusterer.Result(markerIds, Collections.<MarkerClusterer.Cluster>emptyList()));
+      return;
+    }
+    final MarkerClusterer clusterer = this.clusterer;
+    final float zoom = googleMap.getCameraPosition().zoom;
+    final List<MarkerClusterer.Item> items = markerIndex.query(visibleBounds);
+    final int generation = ++clusteringGeneration;
+    clusteringExecutor.execute(
+        () -> {
+          // Skips the requests that a newer one has replaced while they were waiting.
+          if (generation != clusteringGeneration) {
+            return;
+          }
+          final MarkerClusterer.Result result = clusterer.cluster(items, visibleBounds, zoom);
+          handler.post(
+              () -> {
+                if (generation == clusteringGeneration && googleMap != null) {
+                  showMarkers(result);
+                }
+              });
+        });
+  }
+
+  private void showMarkers(MarkerClusterer.Result result) {
+    final Set<String> visibleMarkerIds = new HashSet<>(result.markerIds);
+    final Iterator<Map.Entry<String, MarkerController>> iterator =
+        markerIdToController.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<String, MarkerController> entry = iterator.next();
+      if (!visibleMarkerIds.contains(entry.getKey())) {
+        googleMapsMarkerIdToDartMarkerId.remove(entry.getValue().getGoogleMapsMarkerId());
+        if (markerPool.size() < MAX_POOLED_MARKERS) {
+          markerPool.add(entry.getValue().hide());
+        } else {
+          entry.getValue().remove();
+        }
+        iterator.remove();
+      }
+    }
+    for (String markerId : result.markerIds) {
+      final MarkerBuilder markerBuilder = markerIdToOptions.get(markerId);
+      if (markerBuilder != null && !markerIdToController.containsKey(markerId)) {
+        addMarker(markerId, markerBuilder.build(), markerBuilder.consumeTapEvents());
+      }
+    }
+
+    // Cluster markers are reused, so that panning only moves them.
+    googleMapsMarkerIdToCluster.clear();
+    for (int i = 0; i < result.clusters.size(); i++) {
+      final MarkerClusterer.Cluster cluster = result.clusters.get(i);
+      final String label = clusterLabel(cluster.markerIds.size());
+      final Marker marker;
+      if (i < clusterMarkers.size()) {
+        marker = clusterMarkers.get(i);
+        marker.setPosition(cluster.position);
+        if (!label.equals(marker.getTag())) {
+          marker.setIcon(clusterIcon(label));
+        }
+      } else {
+        marker =
+            googleMap.addMarker(
+                new MarkerOptions()
+                    .position(cluster.position)
+                    .anchor(0.5f, 0.5f)
+                    .icon(clusterIcon(label)));
+        clusterMarkers.add(marker);
+      }
+      marker.setTag(label);
+      googleMapsMarkerIdToCluster.put(marker.getId(), cluster);
+    }
+    while (clusterMarkers.size() > result.clusters.size()) {
+      clusterMarkers.remove(clusterMarkers.size() - 1).remove();
+    }
+  }
+
+  // Gives a pooled marker the options of the marker that it is reused for.
+  private static void reuseMarker(Marker marker, MarkerOptions options) {
+    marker.setPosition(options.getPosition());
+    marker.setIcon(options.getIcon());
+    marker.setAlpha(options.getAlpha());
+    marker.setAnchor(options.getAnchorU(), options.getAnchorV());
+    marker.setDraggable(options.isDraggable());
+    marker.setFlat(options.isFlat());
+    marker.setInfoWindowAnchor(options.getInfoWindowAnchorU(), options.getInfoWindowAnchorV());
+    marker.setTitle(options.getTitle());
+    marker.setSnippet(options.getSnippet());
+    marker.setRotation(options.getRotation());
+    marker.setZIndex(options.getZIndex());
+    marker.setVisible(options.isVisible());
+  }
+
+  // Grows bounds by margin times its size on every side.
+  private static LatLngBounds growBounds(LatLngBounds bounds, double margin) {
+    final double latitudeSpan = bounds.northeast.latitude - bounds.southwest.latitude;
+    double longitudeSpan = bounds.northeast.longitude - bounds.southwest.longitude;
+    if (longitudeSpan < 0) {
+      // The bounds cross the antimeridian.
+      longitudeSpan += 360;
+    }
+    final double south = Math.max(bounds.southwest.latitude - latitudeSpan * margin, -90);
+    final double north = Math.min(bounds.northeast.latitude + latitudeSpan * margin, 90);
+    if (longitudeSpan * (1 + 2 * margin) >= 360) {
+      // LatLng wraps 180 to -180, so the largest longitude below 180 covers the whole world.
+      return new LatLngBounds(
+          new LatLng(south, -180), new LatLng(north, Math.nextAfter(180.0, 0)));
+    }
+    return new LatLngBounds(
+        new LatLng(south, bounds.southwest.longitude - longitudeSpan * margin),
+        new LatLng(north, bounds.northeast.longitude + longitudeSpan * margin));
+  }
+
+  // Sizes of 10 and more are rounded down to a bucket, so that there are few distinct labels, and
+  // therefore few cluster icons to draw and keep.
+  @VisibleForTesting
+  static String clusterLabel(int size) {
+    if (size < CLUSTER_LABEL_BUCKETS[0]) {
+      return Integer.toString(size);
+    }
+    int bucket = CLUSTER_LABEL_BUCKETS[0];
+    for (int candidate : CLUSTER_LABEL_BUCKETS) {
+      if (candidate > size) {
+        break;
+      }
+      bucket = candidate;
+    }
+    return bucket < 1000 ? bucket + "+" : (bucket / 1000) + "k+";
+  }
+
+  private BitmapDescriptor clusterIcon(String label) {
+    BitmapDescriptor icon = clusterIcons.get(label);
+    if (icon == null) {
+      final int diameter = (int) (CLUSTER_ICON_SIZE * density);
+      final Bitmap bitmap = Bitmap.createBitmap(diameter, diameter, Bitmap.Config.ARGB_8888);
+      final Canvas canvas = new Canvas(bitmap);
+      final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+      paint.setColor(CLUSTER_COLOR);
+      canvas.drawCircle(diameter / 2f, diameter / 2f, diameter / 2f, paint);
+      paint.setColor(Color.WHITE);
+      paint.setTextSize(CLUSTER_TEXT_SIZE * density);
+      paint.setTextAlign(Paint.Align.CENTER);
+      paint.setTypeface(Typeface.DEFAULT_BOLD);
+      final float baseline = diameter / 2f - (paint.descent() + paint.ascent()) / 2;
+      canvas.drawText(label, diameter / 2f, baseline, paint);
+      icon = BitmapDescriptorFactory.fromBitmap(bitmap);
+      clusterIcons.put(label, icon);
+    }
+    return icon;
+  }
+
   @SuppressWarnings("unchecked")
   private static String getMarkerId(Object marker) {
     Map<String, Object> markerMap = (Map<String, Object>) marker;
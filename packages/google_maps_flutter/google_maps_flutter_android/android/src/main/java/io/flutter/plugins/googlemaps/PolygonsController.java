@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.PolygonOptions;
@@ -18,6 +19,7 @@ class PolygonsController {
   private final Map<String, String> googleMapsPolygonIdToDartPolygonId;
   private final MethodChannel methodChannel;
   private final float density;
+  @Nullable private ShapeSimplifier shapeSimplifier;
   private GoogleMap googleMap;
 
   PolygonsController(MethodChannel methodChannel, float density) {
@@ -29,6 +31,28 @@ class PolygonsController {
 
   void setGoogleMap(GoogleMap googleMap) {
     this.googleMap = googleMap;
+    if (shapeSimplifier != null) {
+      shapeSimplifier.setZoom(googleMap.getCameraPosition().zoom);
+    }
+  }
+
+  void setShapeSimplifier(@Nullable ShapeSimplifier shapeSimplifier) {
+    this.shapeSimplifier = shapeSimplifier;
+  }
+
+  void onCameraIdle(float zoom) {
+    if (shapeSimplifier == null) {
+      return;
+    }
+    shapeSimplifier.onCameraIdle(
+        zoom,
+        (polygonId, points, holes) -> {
+          final PolygonController polygonController = polygonIdToController.get(polygonId);
+          if (polygonController != null) {
+            polygonController.setPoints(points);
+            polygonController.setHoles(holes);
+          }
+        });
   }
 
   void addPolygons(List<Object> polygonsToAdd) {
@@ -57,6 +81,9 @@ class PolygonsController {
       }
       String polygonId = (String) rawPolygonId;
       final PolygonController polygonController = polygonIdToController.remove(polygonId);
+      if (shapeSimplifier != null) {
+        shapeSimplifier.remove(polygonId);
+      }
       if (polygonController != null) {
         polygonController.remove();
         googleMapsPolygonIdToDartPolygonId.remove(polygonController.getGoogleMapsPolygonId());
@@ -82,7 +109,18 @@ class PolygonsController {
       return;
     }
     PolygonBuilder polygonBuilder = new PolygonBuilder(density);
-    String polygonId = Convert.interpretPolygonOptions(polygon, polygonBuilder);
+    final ShapeSimplifier.Shape shape =
+        shapeSimplifier != null ? shapeSimplifier.prepare(polygon) : null;
+    String polygonId;
+    if (shape != null) {
+      polygonId =
+          Convert.interpretPolygonOptions(ShapeSimplifier.withoutPaths(polygon), polygonBuilder);
+      polygonBuilder.setPoints(shapeSimplifier.pointsOf(shape));
+      polygonBuilder.setHoles(shapeSimplifier.holesOf(shape));
+      shapeSimplifier.add(polygonId, shape);
+    } else {
+      polygonId = Convert.interpretPolygonOptions(polygon, polygonBuilder);
+    }
     PolygonOptions options = polygonBuilder.build();
     addPolygon(polygonId, options, polygonBuilder.consumeTapEvents());
   }
@@ -101,8 +139,22 @@ class PolygonsController {
     }
     String polygonId = getPolygonId(polygon);
     PolygonController polygonController = polygonIdToController.get(polygonId);
-    if (polygonController != null) {
+    if (polygonController == null) {
+      return;
+    }
+    final ShapeSimplifier.Shape shape =
+        shapeSimplifier != null ? shapeSimplifier.prepare(polygon) : null;
+    if (shape != null) {
+      Convert.interpretPolygonOptions(ShapeSimplifier.withoutPaths(polygon), polygonController);
+      polygonController.setPoints(shapeSimplifier.pointsOf(shape));
+      polygonController.setHoles(shapeSimplifier.holesOf(shape));
+      shapeSimplifier.add(polygonId, shape);
+    } else {
       Convert.interpretPolygonOptions(polygon, polygonController);
+      if (shapeSimplifier != null && ShapeSimplifier.hasPoints(polygon)) {
+        // The polygon has too few points now to be simplified.
+        shapeSimplifier.remove(polygonId);
+      }
     }
   }
 
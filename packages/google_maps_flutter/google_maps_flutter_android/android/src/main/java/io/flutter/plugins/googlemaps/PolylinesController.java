@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.Polyline;
 import com.google.android.gms.maps.model.PolylineOptions;
@@ -19,6 +20,7 @@ class PolylinesController {
   private final MethodChannel methodChannel;
   private GoogleMap googleMap;
   private final float density;
+  @Nullable private ShapeSimplifier shapeSimplifier;
 
   PolylinesController(MethodChannel methodChannel, float density) {
     this.polylineIdToController = new HashMap<>();
@@ -29,6 +31,27 @@ class PolylinesController {
 
   void setGoogleMap(GoogleMap googleMap) {
     this.googleMap = googleMap;
+    if (shapeSimplifier != null) {
+      shapeSimplifier.setZoom(googleMap.getCameraPosition().zoom);
+    }
+  }
+
+  void setShapeSimplifier(@Nullable ShapeSimplifier shapeSimplifier) {
+    this.shapeSimplifier = shapeSimplifier;
+  }
+
+  void onCameraIdle(float zoom) {
+    if (shapeSimplifier == null) {
+      return;
+    }
+    shapeSimplifier.onCameraIdle(
+        zoom,
+        (polylineId, points, holes) -> {
+          final PolylineController polylineController = polylineIdToController.get(polylineId);
+          if (polylineController != null) {
+            polylineController.setPoints(points);
+          }
+        });
   }
 
   void addPolylines(List<Object> polylinesToAdd) {
@@ -57,6 +80,9 @@ class PolylinesController {
       }
       String polylineId = (String) rawPolylineId;
       final PolylineController polylineController = polylineIdToController.remove(polylineId);
+      if (shapeSimplifier != null) {
+        shapeSimplifier.remove(polylineId);
+      }
       if (polylineController != null) {
         polylineController.remove();
         googleMapsPolylineIdToDartPolylineId.remove(polylineController.getGoogleMapsPolylineId());
@@ -82,7 +108,17 @@ class PolylinesController {
       return;
     }
     PolylineBuilder polylineBuilder = new PolylineBuilder(density);
-    String polylineId = Convert.interpretPolylineOptions(polyline, polylineBuilder);
+    final ShapeSimplifier.Shape shape =
+        shapeSimplifier != null ? shapeSimplifier.prepare(polyline) : null;
+    String polylineId;
+    if (shape != null) {
+      polylineId =
+          Convert.interpretPolylineOptions(ShapeSimplifier.withoutPaths(polyline), polylineBuilder);
+      polylineBuilder.setPoints(shapeSimplifier.pointsOf(shape));
+      shapeSimplifier.add(polylineId, shape);
+    } else {
+      polylineId = Convert.interpretPolylineOptions(polyline, polylineBuilder);
+    }
     PolylineOptions options = polylineBuilder.build();
     addPolyline(polylineId, options, polylineBuilder.consumeTapEvents());
   }
@@ -101,8 +137,21 @@ class PolylinesController {
     }
     String polylineId = getPolylineId(polyline);
     PolylineController polylineController = polylineIdToController.get(polylineId);
-    if (polylineController != null) {
+    if (polylineController == null) {
+      return;
+    }
+    final ShapeSimplifier.Shape shape =
+        shapeSimplifier != null ? shapeSimplifier.prepare(polyline) : null;
+    if (shape != null) {
+      Convert.interpretPolylineOptions(ShapeSimplifier.withoutPaths(polyline), polylineController);
+      polylineController.setPoints(shapeSimplifier.pointsOf(shape));
+      shapeSimplifier.add(polylineId, shape);
+    } else {
       Convert.interpretPolylineOptions(polyline, polylineController);
+      if (shapeSimplifier != null && ShapeSimplifier.hasPoints(polyline)) {
+        // The polyline has too few points now to be simplified.
+        shapeSimplifier.remove(polylineId);
+      }
     }
   }
 
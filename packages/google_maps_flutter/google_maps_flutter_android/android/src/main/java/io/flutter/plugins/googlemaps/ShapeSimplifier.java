@@ -0,0 +1,226 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Simplifies the polylines or the polygons of a map to the level of detail of its zoom level.
+ *
+ * <p>Shapes with at least a minimum number of points are prepared once, by ranking their points
+ * with {@link SimplifiedPath}, and are then shown with the points that are needed at the current
+ * zoom level, rounded up to an integer. The full precision paths are kept, so that the points are
+ * swapped without preparing the shapes again when the camera stops at another zoom level.
+ *
+ * <p>Shapes are prepared on the thread that decodes map object updates, and the points for a new
+ * zoom level are chosen on a background thread. Other methods must be called on the platform
+ * thread.
+ */
+final class ShapeSimplifier {
+  // The size of the world at zoom level 0, in density-independent pixels.
+  private static final double WORLD_SIZE = 256;
+  // The key under which prepared shapes are cached in the decoded object of the shape.
+  private static final String SHAPE_KEY = "simplifiedShape";
+  private static final Executor executor = Executors.newSingleThreadExecutor();
+
+  /** The paths of a prepared polyline or polygon. */
+  static final class Shape {
+    final SimplifiedPath points;
+    final List<SimplifiedPath> holes;
+
+    Shape(SimplifiedPath points, List<SimplifiedPath> holes) {
+      this.points = points;
+      this.holes = holes;
+    }
+
+    List<LatLng> pointsAt(double tolerance) {
+      return points.pointsAt(tolerance);
+    }
+
+    List<List<LatLng>> holesAt(double tolerance) {
+      final List<List<LatLng>> simplifiedHoles = new ArrayList<>(holes.size());
+      for (SimplifiedPath hole : holes) {
+        simplifiedHoles.add(hole.pointsAt(tolerance));
+      }
+      return simplifiedHoles;
+    }
+  }
+
+  interface Listener {
+    /** Called with the points of the shape {@code id} at the new level of detail. */
+    void onSimplified(String id, List<LatLng> points, List<List<LatLng>> holes);
+  }
+
+  private final double tolerance;
+  private final int minPoints;
+  private final boolean rings;
+  private final Map<String, Shape> shapes = new HashMap<>();
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private int level;
+  private volatile int generation;
+
+  /**
+   * Creates a simplifier for polylines, or for polygons if {@code rings} is true. {@code tolerance}
+   * is the largest distance between a simplified shape and the shape, in density-independent
+   * pixels.
+   */
+  ShapeSimplifier(double tolerance, int minPoints, boolean rings) {
+    this.tolerance = tolerance;
+    this.minPoints = minPoints;
+    this.rings = rings;
+  }
+
+  /** Prepares the shapes of the decoded polylines or polygons in {@code objects}. */
+  void prepareAll(@Nullable List<Object> objects) {
+    if (objects == null) {
+      return;
+    }
+    for (Object object : objects) {
+      prepare(object);
+    }
+  }
+
+  /**
+   * Returns the prepared shape of the polyline or polygon {@code o}, preparing it if it wasn't, or
+   * null if it has too few points to be simplified.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  Shape prepare(Object o) {
+    final Map<String, Object> data = (Map<String, Object>) o;
+    final Object preparedShape = data.get(SHAPE_KEY);
+    if (preparedShape instanceof Shape) {
+      return (Shape) preparedShape;
+    }
+    final Object rawPoints = data.get("points");
+    if (rawPoints == null) {
+      return null;
+    }
+    final List<LatLng> points = Convert.toPoints(rawPoints);
+    final Object rawHoles = data.get("holes");
+    final List<List<LatLng>> holes =
+        rawHoles != null ? Convert.toHoles(rawHoles) : Collections.emptyList();
+    int pointCount = points.size();
+    for (List<LatLng> hole : holes) {
+      pointCount += hole.size();
+    }
+    if (pointCount < minPoints) {
+      return null;
+    }
+    final List<SimplifiedPath> simplifiedHoles = new ArrayList<>(holes.size());
+    for (List<LatLng> hole : holes) {
+      simplifiedHoles.add(new SimplifiedPath(hole, true));
+    }
+    final Shape shape = new Shape(new SimplifiedPath(points, rings), simplifiedHoles);
+    data.put(SHAPE_KEY, shape);
+    return shape;
+  }
+
+  /** Returns whether the polyline or polygon {@code o} sets its points. */
+  @SuppressWarnings("unchecked")
+  static boolean hasPoints(Object o) {
+    return ((Map<String, Object>) o).get("points") != null;
+  }
+
+  /** Returns a copy of the polyline or polygon {@code o} without its points and holes. */
+  @NonNull
+  static Map<String, Object> withoutPaths(Object o) {
+    @SuppressWarnings("unchecked")
+    final Map<String, Object> data = new HashMap<>((Map<String, Object>) o);
+    data.remove("points");
+    data.remove("holes");
+    data.remove(SHAPE_KEY);
+    return data;
+  }
+
+  /** Sets the zoom level that the shapes that are added from now on are simplified for. */
+  void setZoom(float zoom) {
+    level = levelAt(zoom);
+  }
+
+  /** Starts simplifying the shape {@code id} to the level of detail of the zoom level. */
+  void add(String id, Shape shape) {
+    shapes.put(id, shape);
+  }
+
+  /** Stops simplifying the shape {@code id}. */
+  void remove(String id) {
+    shapes.remove(id);
+  }
+
+  List<LatLng> pointsOf(Shape shape) {
+    return shape.pointsAt(toleranceAt(level));
+  }
+
+  List<List<LatLng>> holesOf(Shape shape) {
+    return shape.holesAt(toleranceAt(level));
+  }
+
+  /**
+   * Simplifies the shapes again if the camera stopped at another level of detail, and reports
+   * their new points to {@code listener}.
+   */
+  void onCameraIdle(float zoom, @NonNull Listener listener) {
+    final int newLevel = levelAt(zoom);
+    if (newLevel == level) {
+      return;
+    }
+    level = newLevel;
+    if (shapes.isEmpty()) {
+      return;
+    }
+    final Map<String, Shape> shapesToSimplify = new HashMap<>(shapes);
+    final double newTolerance = toleranceAt(newLevel);
+    final int currentGeneration = ++generation;
+    executor.execute(
+        () -> {
+          final Map<String, List<LatLng>> points = new HashMap<>();
+          final Map<String, List<List<LatLng>>> holes = new HashMap<>();
+          for (Map.Entry<String, Shape> entry : shapesToSimplify.entrySet()) {
+            // Skips the work that a newer level of detail has replaced.
+            if (currentGeneration != generation) {
+              return;
+            }
+            points.put(entry.getKey(), entry.getValue().pointsAt(newTolerance));
+            holes.put(entry.getKey(), entry.getValue().holesAt(newTolerance));
+          }
+          handler.post(
+              () -> {
+                if (currentGeneration != generation) {
+                  return;
+                }
+                for (Map.Entry<String, Shape> entry : shapesToSimplify.entrySet()) {
+                  final String id = entry.getKey();
+                  // Shapes that were removed or replaced since have their own points.
+                  if (shapes.get(id) == entry.getValue()) {
+                    listener.onSimplified(id, points.get(id), holes.get(id));
+                  }
+                }
+              });
+        });
+  }
+
+  @VisibleForTesting
+  static int levelAt(float zoom) {
+    return (int) Math.ceil(zoom);
+  }
+
+  @VisibleForTesting
+  double toleranceAt(int level) {
+    return tolerance / (WORLD_SIZE * Math.pow(2, level));
+  }
+}
@@ -0,0 +1,111 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.NonNull;
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A path whose points are ranked by the Douglas-Peucker algorithm, so that it can be simplified to
+ * any tolerance without running the algorithm again.
+ *
+ * <p>The rank of a point is the largest tolerance at which the algorithm keeps it, measured on the
+ * Mercator projection of the world, scaled to a square of size 1. The end points are always kept,
+ * and so is the point farthest from them if the path is the ring of a polygon, so that a ring never
+ * collapses to a line.
+ */
+final class SimplifiedPath {
+  private final List<LatLng> points;
+  private final double[] ranks;
+
+  private static final class Segment {
+    final int start;
+    final int end;
+    // The rank of the point that split the segment off, which caps the ranks of the points in it.
+    final double maxRank;
+
+    Segment(int start, int end, double maxRank) {
+      this.start = start;
+      this.end = end;
+      this.maxRank = maxRank;
+    }
+  }
+
+  SimplifiedPath(@NonNull List<LatLng> points, boolean ring) {
+    this.points = points;
+    final int size = points.size();
+    final double[] x = new double[size];
+    final double[] y = new double[size];
+    for (int i = 0; i < size; i++) {
+      final LatLng point = points.get(i);
+      x[i] = MarkerClusterer.longitudeToX(point.longitude);
+      y[i] = MarkerClusterer.latitudeToY(point.latitude);
+    }
+    ranks = new double[size];
+    if (size == 0) {
+      return;
+    }
+    ranks[0] = Double.POSITIVE_INFINITY;
+    ranks[size - 1] = Double.POSITIVE_INFINITY;
+    // The segments are processed from a stack, because recursion could overflow on long paths.
+    final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    segments.push(new Segment(0, size - 1, Double.POSITIVE_INFINITY));
+    boolean firstSplit = true;
+    while (!segments.isEmpty()) {
+      final Segment segment = segments.pop();
+      if (segment.end - segment.start < 2) {
+        continue;
+      }
+      int farthest = segment.start + 1;
+      double maxDistance = -1;
+      for (int i = segment.start + 1; i < segment.end; i++) {
+        final double distance =
+            distanceToSegment(
+                x[i], y[i], x[segment.start], y[segment.start], x[segment.end], y[segment.end]);
+        if (distance > maxDistance) {
+          maxDistance = distance;
+          farthest = i;
+        }
+      }
+      final double rank =
+          ring && firstSplit ? Double.POSITIVE_INFINITY : Math.min(maxDistance, segment.maxRank);
+      firstSplit = false;
+      ranks[farthest] = rank;
+      segments.push(new Segment(segment.start, farthest, rank));
+      segments.push(new Segment(farthest, segment.end, rank));
+    }
+  }
+
+  /** Returns the points that the Douglas-Peucker algorithm keeps at {@code tolerance}. */
+  @NonNull
+  List<LatLng> pointsAt(double tolerance) {
+    final List<LatLng> simplified = new ArrayList<>();
+    for (int i = 0; i < ranks.length; i++) {
+      if (ranks[i] >= tolerance) {
+        simplified.add(points.get(i));
+      }
+    }
+    return simplified;
+  }
+
+  int size() {
+    return points.size();
+  }
+
+  private static double distanceToSegment(
+      double x, double y, double startX, double startY, double endX, double endY) {
+    final double dx = endX - startX;
+    final double dy = endY - startY;
+    final double squaredLength = dx * dx + dy * dy;
+    double t = 0;
+    if (squaredLength > 0) {
+      t = Math.max(0, Math.min(1, ((x - startX) * dx + (y - startY) * dy) / squaredLength));
+    }
+    return Math.hypot(x - (startX + t * dx), y - (startY + t * dy));
+  }
+}
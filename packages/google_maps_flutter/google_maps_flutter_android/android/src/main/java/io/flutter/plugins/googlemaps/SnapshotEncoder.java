@@ -0,0 +1,138 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Encodes map snapshots, optionally downscaled, into image bytes or into a file.
+ *
+ * <p>Encoding a full screen snapshot takes long enough to drop frames, so it happens on a
+ * background thread that is shared by all the maps.
+ */
+class SnapshotEncoder {
+  private static final Executor sharedExecutor = Executors.newSingleThreadExecutor();
+
+  private final Bitmap.CompressFormat format;
+  private final int quality;
+  private final int maxWidth;
+  private final int maxHeight;
+  private final Executor executor;
+  private final Executor resultExecutor;
+
+  /** Receives the result of an encoding, on the platform thread. */
+  interface Callback {
+    /** Called with the encoded bytes, or with null once they are written to the file. */
+    void onEncoded(@Nullable byte[] bytes);
+
+    /** Called when the snapshot can't be encoded, including when there isn't enough memory. */
+    void onError(@NonNull Throwable error);
+  }
+
+  /**
+   * Creates an encoder. Snapshots that are larger than {@code maxWidth} by {@code maxHeight} pixels
+   * are scaled down to fit, keeping their aspect ratio. A maximum of 0 means no maximum.
+   */
+  SnapshotEncoder(@NonNull Bitmap.CompressFormat format, int quality, int maxWidth, int maxHeight) {
+    this(
+        format,
+        quality,
+        maxWidth,
+        maxHeight,
+        sharedExecutor,
+        new Handler(Looper.getMainLooper())::post);
+  }
+
+  @VisibleForTesting
+  SnapshotEncoder(
+      @NonNull Bitmap.CompressFormat format,
+      int quality,
+      int maxWidth,
+      int maxHeight,
+      @NonNull Executor executor,
+      @NonNull Executor resultExecutor) {
+    this.format = format;
+    this.quality = quality;
+    this.maxWidth = maxWidth;
+    this.maxHeight = maxHeight;
+    this.executor = executor;
+    this.resultExecutor = resultExecutor;
+  }
+
+  /**
+   * Encodes {@code bitmap} on the encoding thread, writing it to {@code file} if it isn't null, and
+   * recycles it.
+   */
+  void encodeAsync(@NonNull Bitmap bitmap, @Nullable File file, @NonNull Callback callback) {
+    executor.execute(
+        () -> {
+          try {
+            final byte[] bytes;
+            if (file == null) {
+              final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+              encode(bitmap, stream);
+              bytes = stream.toByteArray();
+            } else {
+              try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(file))) {
+                encode(bitmap, stream);
+              }
+              bytes = null;
+            }
+            resultExecutor.execute(() -> callback.onEncoded(bytes));
+          } catch (IOException | RuntimeException | OutOfMemoryError e) {
+            // Full screen snapshots can be too large to scale or encode, and the callback must
+            // still be called.
+            resultExecutor.execute(() -> callback.onError(e));
+          } finally {
+            bitmap.recycle();
+          }
+        });
+  }
+
+  @VisibleForTesting
+  void encode(@NonNull Bitmap bitmap, @NonNull OutputStream stream) throws IOException {
+    final Bitmap scaledBitmap = scale(bitmap);
+    final boolean compressed = scaledBitmap.compress(format, quality, stream);
+    if (scaledBitmap != bitmap) {
+      scaledBitmap.recycle();
+    }
+    if (!compressed) {
+      throw new IOException("Unable to encode the snapshot as " + format);
+    }
+  }
+
+  @VisibleForTesting
+  @NonNull
+  Bitmap scale(@NonNull Bitmap bitmap) {
+    double scale = 1;
+    if (maxWidth > 0 && bitmap.getWidth() > maxWidth) {
+      scale = (double) maxWidth / bitmap.getWidth();
+    }
+    if (maxHeight > 0 && bitmap.getHeight() * scale > maxHeight) {
+      scale = (double) maxHeight / bitmap.getHeight();
+    }
+    if (scale == 1) {
+      return bitmap;
+    }
+    return Bitmap.createScaledBitmap(
+        bitmap,
+        Math.max(1, (int) Math.round(bitmap.getWidth() * scale)),
+        Math.max(1, (int) Math.round(bitmap.getHeight() * scale)),
+        true);
+  }
+}
@@ -0,0 +1,502 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.util.Log;
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.Tile;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Cache of the tiles that Dart provided for the tile overlays of a map, so that panning back to an
+ * area doesn't request its tiles from Dart again.
+ *
+ * <p>Tiles are kept in memory up to a maximum number of bytes, least recently used first out. If a
+ * disk cache size is set, tiles are also written to disk, where they outlive the map. Tiles on disk
+ * are only keyed by tile overlay ID, so overlays that show different content must use different
+ * IDs, and overlays whose content changes must clear their cache.
+ *
+ * <p>Tiles can be cached as {@link Entry entries} that expire, along with the validators used to
+ * revalidate them once they do. Tiles cached without an entry never expire.
+ *
+ * <p>Tiles on disk are evicted least recently used first, in the order of an index kept in memory
+ * and shared by the caches of the same directory. The index is built from the modification times
+ * of the files the first time the directory is used.
+ *
+ * <p>All methods can be called from any thread. Disk reads and writes happen on the calling thread,
+ * so they must not be made on the platform thread, except for those of {@link #clear}, which are
+ * made in the background.
+ */
+class TileCache {
+  static final String DISK_CACHE_DIRECTORY = "flutter_google_maps_tiles";
+
+  private static final String TAG = "TileCache";
+  private static final String TILE_FILE_SUFFIX = ".tile";
+  private static final String TRASH_SUFFIX = ".trash";
+  // Starts every tile file, so that files that weren't written by this class are ignored.
+  private static final int ENTRY_FILE_MAGIC = 0x54494c45;
+  private static final Executor sharedDiskExecutor = Executors.newSingleThreadExecutor();
+  private static final Map<File, DiskIndex> diskIndexes = new HashMap<>();
+
+  /** The tiles on disk in a cache directory, least recently used first. */
+  private static final class DiskIndex {
+    // The length of each tile file, or null until the directory has been read.
+    @Nullable LinkedHashMap<File, Long> lengths;
+    long bytes = 0;
+    // The number of clears that haven't reached the disk yet per overlay directory. The tiles of
+    // these directories are stale, so they aren't read.
+    final Map<String, Integer> pendingClears = new HashMap<>();
+  }
+
+  /** A cached tile, with when it expires and how to revalidate it once it has. */
+  static final class Entry {
+    @NonNull final Tile tile;
+    // In milliseconds since the epoch, or Long.MAX_VALUE if the tile never expires.
+    final long expiresAtMs;
+    @Nullable final String etag;
+    @Nullable final String lastModified;
+
+    Entry(
+        @NonNull Tile tile,
+        long expiresAtMs,
+        @Nullable String etag,
+        @Nullable String lastModified) {
+      this.tile = tile;
+      this.expiresAtMs = expiresAtMs;
+      this.etag = etag;
+      this.lastModified = lastModified;
+    }
+
+    boolean isExpired(long nowMs) {
+      return nowMs >= expiresAtMs;
+    }
+
+    private static Entry forever(Tile tile) {
+      return new Entry(tile, Long.MAX_VALUE, null, null);
+    }
+  }
+
+  /** Identifies a tile in the memory cache. */
+  private static final class TileKey {
+    final String tileOverlayId;
+    final int x;
+    final int y;
+    final int zoom;
+
+    TileKey(String tileOverlayId, int x, int y, int zoom) {
+      this.tileOverlayId = tileOverlayId;
+      this.x = x;
+      this.y = y;
+      this.zoom = zoom;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof TileKey)) {
+        return false;
+      }
+      final TileKey other = (TileKey) o;
+      return x == other.x
+          && y == other.y
+          && zoom == other.zoom
+          && tileOverlayId.equals(other.tileOverlayId);
+    }
+
+    @Override
+    public int hashCode() {
+      return ((tileOverlayId.hashCode() * 31 + zoom) * 31 + x) * 31 + y;
+    }
+  }
+
+  /** Thrown when a tile file holds values that putOnDisk can't have written. */
+  private static final class CorruptTileFileException extends IOException {
+    CorruptTileFileException(String message) {
+      super(message);
+    }
+  }
+
+  @Nullable private final LruCache<TileKey, Entry> memoryCache;
+  @Nullable private final File diskCacheDirectory;
+  private final long diskCacheSize;
+  // Runs the disk work of clear, and deletes the cleared directories.
+  private final Executor diskExecutor;
+  // Also used as the lock of all disk reads and writes in the directory.
+  @Nullable private final DiskIndex diskIndex;
+
+  TileCache(int memoryCacheSize, @Nullable File diskCacheDirectory, long diskCacheSize) {
+    this(memoryCacheSize, diskCacheDirectory, diskCacheSize, sharedDiskExecutor);
+  }
+
+  @VisibleForTesting
+  TileCache(
+      int memoryCacheSize,
+      @Nullable File diskCacheDirectory,
+      long diskCacheSize,
+      @NonNull Executor diskExecutor) {
+    this.memoryCache =
+        memoryCacheSize > 0
+            ? new LruCache<TileKey, Entry>(memoryCacheSize) {
+              @Override
+              protected int sizeOf(TileKey key, Entry entry) {
+                return entry.tile.data == null ? 1 : entry.tile.data.length;
+              }
+            }
+            : null;
+    // The files are keyed by their absolute path in the index shared with the other caches.
+    this.diskCacheDirectory =
+        diskCacheSize > 0 && diskCacheDirectory != null
+            ? diskCacheDirectory.getAbsoluteFile()
+            : null;
+    this.diskCacheSize = diskCacheSize;
+    this.diskExecutor = diskExecutor;
+    this.diskIndex = this.diskCacheDirectory != null ? diskIndex(this.diskCacheDirectory) : null;
+  }
+
+  private static DiskIndex diskIndex(File directory) {
+    synchronized (diskIndexes) {
+      DiskIndex diskIndex = diskIndexes.get(directory);
+      if (diskIndex == null) {
+        diskIndex = new DiskIndex();
+        diskIndexes.put(directory, diskIndex);
+      }
+      return diskIndex;
+    }
+  }
+
+  /** Returns the cached tile, looking in memory first and on disk second, or null. */
+  @Nullable
+  Tile get(@NonNull String tileOverlayId, int x, int y, int zoom) {
+    final Entry entry = getEntry(tileOverlayId, x, y, zoom);
+    return entry == null ? null : entry.tile;
+  }
+
+  /**
+   * Returns the cached entry of a tile, expired or not, looking in memory first and on disk second,
+   * or null.
+   */
+  @Nullable
+  Entry getEntry(@NonNull String tileOverlayId, int x, int y, int zoom) {
+    final TileKey key = new TileKey(tileOverlayId, x, y, zoom);
+    if (memoryCache != null) {
+      final Entry entry = memoryCache.get(key);
+      if (entry != null) {
+        return entry;
+      }
+    }
+    final Entry entry = readFromDisk(tileOverlayId, x, y, zoom);
+    if (entry != null && memoryCache != null) {
+      memoryCache.put(key, entry);
+    }
+    return entry;
+  }
+
+  /** Caches {@code tile} in memory. Cheap enough to be called from the platform thread. */
+  void putInMemory(@NonNull String tileOverlayId, int x, int y, int zoom, @NonNull Tile tile) {
+    putInMemory(tileOverlayId, x, y, zoom, Entry.forever(tile));
+  }
+
+  /** Caches {@code entry} in memory. Cheap enough to be called from the platform thread. */
+  void putInMemory(@NonNull String tileOverlayId, int x, int y, int zoom, @NonNull Entry entry) {
+    if (memoryCache != null) {
+      memoryCache.put(new TileKey(tileOverlayId, x, y, zoom), entry);
+    }
+  }
+
+  /** Writes {@code tile} to disk, if the disk cache is enabled and the tile has data. */
+  void putOnDisk(@NonNull String tileOverlayId, int x, int y, int zoom, @NonNull Tile tile) {
+    putOnDisk(tileOverlayId, x, y, zoom, Entry.forever(tile));
+  }
+
+  /** Writes {@code entry} to disk, if the disk cache is enabled and its tile has data. */
+  void putOnDisk(@NonNull String tileOverlayId, int x, int y, int zoom, @NonNull Entry entry) {
+    final Tile tile = entry.tile;
+    if (diskCacheDirectory == null || tile.data == null) {
+      return;
+    }
+    final File directory = overlayDirectory(tileOverlayId);
+    final File file = new File(directory, tileFileName(x, y, zoom));
+    final File tempFile = new File(directory, tileFileName(x, y, zoom) + ".tmp");
+    synchronized (diskIndex) {
+      ensureDiskIndexLoaded();
+      if (!directory.isDirectory() && !directory.mkdirs()) {
+        return;
+      }
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+        out.writeInt(ENTRY_FILE_MAGIC);
+        out.writeInt(tile.width);
+        out.writeInt(tile.height);
+        out.writeLong(entry.expiresAtMs);
+        out.writeUTF(entry.etag == null ? "" : entry.etag);
+        out.writeUTF(entry.lastModified == null ? "" : entry.lastModified);
+        out.writeInt(tile.data.length);
+        out.write(tile.data);
+      } catch (IOException e) {
+        Log.w(TAG, "Can't write tile to disk", e);
+        tempFile.delete();
+        return;
+      }
+      if (!tempFile.renameTo(file)) {
+        tempFile.delete();
+        return;
+      }
+      final Long previousLength = diskIndex.lengths.remove(file);
+      final long length = file.length();
+      diskIndex.lengths.put(file, length);
+      diskIndex.bytes += length - (previousLength == null ? 0 : previousLength);
+      trimDisk();
+    }
+  }
+
+  /**
+   * Removes the tiles of {@code tileOverlayId} from memory and from disk.
+   *
+   * <p>Only the memory cache is cleared on the calling thread, so it can be called from the
+   * platform thread. The tiles on disk are no longer read from then on, and are removed in the
+   * background.
+   */
+  void clear(@NonNull String tileOverlayId) {
+    clearMemory(tileOverlayId);
+    if (diskCacheDirectory == null) {
+      return;
+    }
+    final String directoryName = overlayDirectory(tileOverlayId).getName();
+    synchronized (diskIndex.pendingClears) {
+      final Integer count = diskIndex.pendingClears.get(directoryName);
+      diskIndex.pendingClears.put(directoryName, count == null ? 1 : count + 1);
+    }
+    diskExecutor.execute(
+        () -> {
+          try {
+            clearDisk(tileOverlayId);
+          } finally {
+            synchronized (diskIndex.pendingClears) {
+              final int count = diskIndex.pendingClears.get(directoryName);
+              if (count == 1) {
+                diskIndex.pendingClears.remove(directoryName);
+              } else {
+                diskIndex.pendingClears.put(directoryName, count - 1);
+              }
+            }
+          }
+        });
+  }
+
+  /** Removes the tiles of {@code tileOverlayId} from memory. */
+  void clearMemory(@NonNull String tileOverlayId) {
+    if (memoryCache == null) {
+      return;
+    }
+    for (TileKey key : memoryCache.snapshot().keySet()) {
+      if (key.tileOverlayId.equals(tileOverlayId)) {
+        memoryCache.remove(key);
+      }
+    }
+  }
+
+  private void clearDisk(String tileOverlayId) {
+    synchronized (diskIndex) {
+      final File directory = overlayDirectory(tileOverlayId);
+      if (!directory.isDirectory()) {
+        return;
+      }
+      // Renaming is cheap, so the tiles are gone for readers right away while the files are
+      // deleted afterwards.
+      final File trash =
+          new File(
+              diskCacheDirectory, directory.getName() + "." + System.nanoTime() + TRASH_SUFFIX);
+      if (!directory.renameTo(trash)) {
+        return;
+      }
+      if (diskIndex.lengths != null) {
+        final Iterator<Map.Entry<File, Long>> entries = diskIndex.lengths.entrySet().iterator();
+        while (entries.hasNext()) {
+          final Map.Entry<File, Long> entry = entries.next();
+          if (entry.getKey().getParentFile().equals(directory)) {
+            diskIndex.bytes -= entry.getValue();
+            entries.remove();
+          }
+        }
+      }
+      diskExecutor.execute(() -> deleteDirectory(trash));
+    }
+  }
+
+  @Nullable
+  private Entry readFromDisk(String tileOverlayId, int x, int y, int zoom) {
+    if (diskCacheDirectory == null) {
+      return null;
+    }
+    final File directory = overlayDirectory(tileOverlayId);
+    final File file = new File(directory, tileFileName(x, y, zoom));
+    synchronized (diskIndex) {
+      if (isClearPending(directory.getName())) {
+        return null;
+      }
+      ensureDiskIndexLoaded();
+      if (!file.isFile()) {
+        return null;
+      }
+      final Entry entry;
+      try (DataInputStream in =
+          new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+        entry = readEntry(in, file.length());
+      } catch (EOFException | CorruptTileFileException e) {
+        // Files are renamed into place once written, so a truncated or corrupt file can't become a
+        // valid tile.
+        deleteFromDisk(file);
+        return null;
+      } catch (IOException e) {
+        Log.w(TAG, "Can't read tile from disk", e);
+        return null;
+      }
+      if (entry == null) {
+        // The file wasn't written by putOnDisk, so it is treated as a miss and won't be read again.
+        deleteFromDisk(file);
+        return null;
+      }
+      // Keeps the least recently used tiles first in line for trimDisk.
+      diskIndex.lengths.get(file);
+      return entry;
+    }
+  }
+
+  @Nullable
+  private static Entry readEntry(DataInputStream in, long fileLength) throws IOException {
+    if (in.readInt() != ENTRY_FILE_MAGIC) {
+      return null;
+    }
+    final int width = in.readInt();
+    final int height = in.readInt();
+    final long expiresAtMs = in.readLong();
+    final String etag = in.readUTF();
+    final String lastModified = in.readUTF();
+    final int dataLength = in.readInt();
+    if (dataLength < 0 || dataLength > fileLength) {
+      throw new CorruptTileFileException("Invalid tile data length: " + dataLength);
+    }
+    final byte[] data = new byte[dataLength];
+    in.readFully(data);
+    return new Entry(
+        new Tile(width, height, data),
+        expiresAtMs,
+        etag.isEmpty() ? null : etag,
+        lastModified.isEmpty() ? null : lastModified);
+  }
+
+  private boolean isClearPending(String directoryName) {
+    synchronized (diskIndex.pendingClears) {
+      return diskIndex.pendingClears.containsKey(directoryName);
+    }
+  }
+
+  // Must be called with the disk index locked.
+  private void ensureDiskIndexLoaded() {
+    if (diskIndex.lengths != null) {
+      return;
+    }
+    diskIndex.lengths = new LinkedHashMap<>(16, 0.75f, true);
+    final List<File> files = new ArrayList<>();
+    for (File directory : listOverlayDirectories()) {
+      if (directory.getName().endsWith(TRASH_SUFFIX)) {
+        // Left over from a clear that didn't finish before the app was stopped.
+        diskExecutor.execute(() -> deleteDirectory(directory));
+        continue;
+      }
+      final File[] tiles = directory.listFiles();
+      if (tiles != null) {
+        files.addAll(Arrays.asList(tiles));
+      }
+    }
+    // The files are only sorted here, when the directory is first used.
+    Collections.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+    for (File file : files) {
+      final long length = file.length();
+      diskIndex.lengths.put(file, length);
+      diskIndex.bytes += length;
+    }
+  }
+
+  // Must be called with the disk index locked, after ensureDiskIndexLoaded.
+  private void deleteFromDisk(File file) {
+    if (file.delete() || !file.exists()) {
+      final Long length = diskIndex.lengths.remove(file);
+      if (length != null) {
+        diskIndex.bytes -= length;
+      }
+    }
+  }
+
+  // Must be called with the disk index locked, after ensureDiskIndexLoaded.
+  private void trimDisk() {
+    final Iterator<Map.Entry<File, Long>> entries = diskIndex.lengths.entrySet().iterator();
+    while (diskIndex.bytes > diskCacheSize && entries.hasNext()) {
+      final Map.Entry<File, Long> entry = entries.next();
+      final File file = entry.getKey();
+      if (file.delete() || !file.exists()) {
+        diskIndex.bytes -= entry.getValue();
+        entries.remove();
+      }
+    }
+  }
+
+  private List<File> listOverlayDirectories() {
+    final File[] directories = diskCacheDirectory.listFiles();
+    return directories == null ? Collections.emptyList() : Arrays.asList(directories);
+  }
+
+  private File overlayDirectory(String tileOverlayId) {
+    return new File(diskCacheDirectory, toHex(tileOverlayId));
+  }
+
+  private static String tileFileName(int x, int y, int zoom) {
+    return zoom + "_" + x + "_" + y + TILE_FILE_SUFFIX;
+  }
+
+  // Tile overlay IDs can contain any character, so they are hex encoded to be used as file names.
+  private static String toHex(String tileOverlayId) {
+    final byte[] bytes = tileOverlayId.getBytes(StandardCharsets.UTF_8);
+    final StringBuilder builder = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      builder.append(String.format("%02x", b));
+    }
+    return builder.toString();
+  }
+
+  private static void deleteDirectory(File directory) {
+    final File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    directory.delete();
+  }
+}
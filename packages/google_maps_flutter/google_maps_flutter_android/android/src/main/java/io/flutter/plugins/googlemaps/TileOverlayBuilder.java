@@ -6,10 +6,14 @@ package io.flutter.plugins.googlemaps;
 
 import com.google.android.gms.maps.model.TileOverlayOptions;
 import com.google.android.gms.maps.model.TileProvider;
+import java.util.Map;
 
 class TileOverlayBuilder implements TileOverlaySink {
 
   private final TileOverlayOptions tileOverlayOptions;
+  private String urlTemplate;
+  private int tileSize;
+  private Map<String, String> urlTemplateHeaders;
 
   TileOverlayBuilder() {
     this.tileOverlayOptions = new TileOverlayOptions();
@@ -19,6 +23,18 @@ class TileOverlayBuilder implements TileOverlaySink {
     return tileOverlayOptions;
   }
 
+  String getUrlTemplate() {
+    return urlTemplate;
+  }
+
+  int getTileSize() {
+    return tileSize;
+  }
+
+  Map<String, String> getUrlTemplateHeaders() {
+    return urlTemplateHeaders;
+  }
+
   @Override
   public void setFadeIn(boolean fadeIn) {
     tileOverlayOptions.fadeIn(fadeIn);
@@ -43,4 +59,11 @@ class TileOverlayBuilder implements TileOverlaySink {
   public void setTileProvider(TileProvider tileProvider) {
     tileOverlayOptions.tileProvider(tileProvider);
   }
+
+  @Override
+  public void setUrlTemplate(String urlTemplate, int tileSize, Map<String, String> headers) {
+    this.urlTemplate = urlTemplate;
+    this.tileSize = tileSize;
+    this.urlTemplateHeaders = headers;
+  }
 }
@@ -12,16 +12,28 @@ import java.util.Map;
 class TileOverlayController implements TileOverlaySink {
 
   private final TileOverlay tileOverlay;
+  private final TileProvider tileProvider;
 
-  TileOverlayController(TileOverlay tileOverlay) {
+  TileOverlayController(TileOverlay tileOverlay, TileProvider tileProvider) {
     this.tileOverlay = tileOverlay;
+    this.tileProvider = tileProvider;
   }
 
   void remove() {
+    if (tileProvider instanceof TileProviderController) {
+      ((TileProviderController) tileProvider).cancelPendingTiles();
+    }
     tileOverlay.remove();
   }
 
+  TileProvider getTileProvider() {
+    return tileProvider;
+  }
+
   void clearTileCache() {
+    if (tileProvider instanceof UrlTemplateTileProvider) {
+      ((UrlTemplateTileProvider) tileProvider).clearTileCache();
+    }
     tileOverlay.clearTileCache();
   }
 
@@ -59,4 +71,9 @@ class TileOverlayController implements TileOverlaySink {
   public void setTileProvider(TileProvider tileProvider) {
     // You can not change tile provider after creation
   }
+
+  @Override
+  public void setUrlTemplate(String urlTemplate, int tileSize, Map<String, String> headers) {
+    // You can not change tile provider after creation
+  }
 }
@@ -5,6 +5,7 @@
 package io.flutter.plugins.googlemaps;
 
 import com.google.android.gms.maps.model.TileProvider;
+import java.util.Map;
 
 /** Receiver of TileOverlayOptions configuration. */
 interface TileOverlaySink {
@@ -17,4 +18,6 @@ interface TileOverlaySink {
   void setVisible(boolean visible);
 
   void setTileProvider(TileProvider tileProvider);
+
+  void setUrlTemplate(String urlTemplate, int tileSize, Map<String, String> headers);
 }
@@ -5,8 +5,10 @@
 package io.flutter.plugins.googlemaps;
 
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.android.gms.maps.model.TileOverlayOptions;
+import com.google.android.gms.maps.model.TileProvider;
 import io.flutter.plugin.common.MethodChannel;
 import java.util.HashMap;
 import java.util.List;
@@ -14,19 +16,47 @@ import java.util.Map;
 
 class TileOverlaysController {
 
+  // The memory cache and the request timeout are off unless they are configured.
+  static final int DEFAULT_MEMORY_CACHE_SIZE = 0;
+  static final long DEFAULT_REQUEST_TIMEOUT_MS = 0;
+
   private final Map<String, TileOverlayController> tileOverlayIdToController;
   private final MethodChannel methodChannel;
+  private final UrlTileLoader urlTileLoader;
   private GoogleMap googleMap;
+  private TileCache tileCache = new TileCache(DEFAULT_MEMORY_CACHE_SIZE, null, 0);
+  private long tileRequestTimeoutMs = DEFAULT_REQUEST_TIMEOUT_MS;
 
-  TileOverlaysController(MethodChannel methodChannel) {
+  TileOverlaysController(MethodChannel methodChannel, UrlTileLoader urlTileLoader) {
     this.tileOverlayIdToController = new HashMap<>();
     this.methodChannel = methodChannel;
+    this.urlTileLoader = urlTileLoader;
   }
 
   void setGoogleMap(GoogleMap googleMap) {
     this.googleMap = googleMap;
   }
 
+  /** Sets the cache and the request timeout of the tile overlays that are added from now on. */
+  void setTileCache(TileCache tileCache, long tileRequestTimeoutMs) {
+    this.tileCache = tileCache;
+    this.tileRequestTimeoutMs = tileRequestTimeoutMs;
+  }
+
+  boolean hasTileOverlays() {
+    return !tileOverlayIdToController.isEmpty();
+  }
+
+  /** Cancels the pending tile requests that are no longer near the visible region. */
+  void onVisibleRegionChanged(LatLngBounds bounds, float zoom) {
+    for (TileOverlayController tileOverlayController : tileOverlayIdToController.values()) {
+      TileProvider tileProvider = tileOverlayController.getTileProvider();
+      if (tileProvider instanceof TileProviderController) {
+        ((TileProviderController) tileProvider).setVisibleRegion(bounds, zoom);
+      }
+    }
+  }
+
   void addTileOverlays(List<Map<String, ?>> tileOverlaysToAdd) {
     if (tileOverlaysToAdd == null) {
       return;
@@ -63,6 +93,7 @@ class TileOverlaysController {
     }
     TileOverlayController tileOverlayController = tileOverlayIdToController.get(tileOverlayId);
     if (tileOverlayController != null) {
+      tileCache.clear(tileOverlayId);
       tileOverlayController.clearTileCache();
     }
   }
@@ -85,12 +116,24 @@ class TileOverlaysController {
     TileOverlayBuilder tileOverlayOptionsBuilder = new TileOverlayBuilder();
     String tileOverlayId =
         Convert.interpretTileOverlayOptions(tileOverlayOptions, tileOverlayOptionsBuilder);
-    TileProviderController tileProviderController =
-        new TileProviderController(methodChannel, tileOverlayId);
-    tileOverlayOptionsBuilder.setTileProvider(tileProviderController);
+    String urlTemplate = tileOverlayOptionsBuilder.getUrlTemplate();
+    TileProvider tileProvider;
+    if (urlTemplate != null) {
+      tileProvider =
+          new UrlTemplateTileProvider(
+              urlTemplate,
+              tileOverlayOptionsBuilder.getTileSize(),
+              tileOverlayOptionsBuilder.getUrlTemplateHeaders(),
+              urlTileLoader);
+    } else {
+      tileProvider =
+          new TileProviderController(methodChannel, tileOverlayId, tileCache, tileRequestTimeoutMs);
+    }
+    tileOverlayOptionsBuilder.setTileProvider(tileProvider);
     TileOverlayOptions options = tileOverlayOptionsBuilder.build();
     TileOverlay tileOverlay = googleMap.addTileOverlay(options);
-    TileOverlayController tileOverlayController = new TileOverlayController(tileOverlay);
+    TileOverlayController tileOverlayController =
+        new TileOverlayController(tileOverlay, tileProvider);
     tileOverlayIdToController.put(tileOverlayId, tileOverlayController);
   }
 
@@ -109,6 +152,7 @@ class TileOverlaysController {
     TileOverlayController tileOverlayController = tileOverlayIdToController.get(tileOverlayId);
     if (tileOverlayController != null) {
       tileOverlayController.remove();
+      tileCache.clearMemory(tileOverlayId);
       tileOverlayIdToController.remove(tileOverlayId);
     }
   }
@@ -8,56 +8,200 @@ import android.os.Handler;
 import android.os.Looper;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Tile;
 import com.google.android.gms.maps.model.TileProvider;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Provides the tiles of a tile overlay by requesting them from Dart.
+ *
+ * <p>Tiles are looked up in a {@link TileCache} first. Concurrent requests for the same tile share
+ * a single call to Dart, and a request that Dart doesn't answer within the request timeout returns
+ * no tile for now, so the Maps SDK tries again later instead of blocking one of its threads.
+ *
+ * <p>Requests for tiles that are no longer near the visible region of the map are cancelled, and
+ * aren't sent to Dart if they haven't been yet.
+ */
 class TileProviderController implements TileProvider {
 
   private static final String TAG = "TileProviderController";
 
   private final String tileOverlayId;
   private final MethodChannel methodChannel;
+  private final TileCache tileCache;
+  private final long requestTimeoutMs;
   private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Map<String, Worker> pendingWorkers = new HashMap<>();
 
-  TileProviderController(MethodChannel methodChannel, String tileOverlayId) {
+  @Nullable private volatile LatLngBounds visibleBounds;
+  private volatile float visibleZoom;
+
+  TileProviderController(
+      MethodChannel methodChannel,
+      String tileOverlayId,
+      TileCache tileCache,
+      long requestTimeoutMs) {
     this.tileOverlayId = tileOverlayId;
     this.methodChannel = methodChannel;
+    this.tileCache = tileCache;
+    this.requestTimeoutMs = requestTimeoutMs;
   }
 
   @Override
   public Tile getTile(final int x, final int y, final int zoom) {
-    Worker worker = new Worker(x, y, zoom);
-    return worker.getTile();
+    final Tile cachedTile = tileCache.get(tileOverlayId, x, y, zoom);
+    if (cachedTile != null) {
+      return cachedTile;
+    }
+    final String key = zoom + "/" + x + "/" + y;
+    final Worker worker;
+    final boolean isNewWorker;
+    synchronized (pendingWorkers) {
+      final Worker pendingWorker = pendingWorkers.get(key);
+      isNewWorker = pendingWorker == null;
+      worker = isNewWorker ? new Worker(key, x, y, zoom) : pendingWorker;
+      if (isNewWorker) {
+        pendingWorkers.put(key, worker);
+      }
+    }
+    if (isNewWorker) {
+      handler.post(worker::send);
+    }
+    final Tile tile = worker.getTile();
+    if (isNewWorker && tile != null) {
+      tileCache.putOnDisk(tileOverlayId, x, y, zoom, tile);
+    }
+    return tile;
+  }
+
+  /**
+   * Records the region of the map that is on screen, and cancels the pending requests for tiles
+   * that are outside of it.
+   */
+  void setVisibleRegion(@NonNull LatLngBounds bounds, float zoom) {
+    visibleBounds = bounds;
+    visibleZoom = zoom;
+    final List<Worker> workers;
+    synchronized (pendingWorkers) {
+      workers = new ArrayList<>(pendingWorkers.values());
+    }
+    for (Worker worker : workers) {
+      if (!isTileVisible(worker.x, worker.y, worker.zoom)) {
+        worker.cancel();
+      }
+    }
+  }
+
+  /** Cancels all the pending requests. */
+  void cancelPendingTiles() {
+    final List<Worker> workers;
+    synchronized (pendingWorkers) {
+      workers = new ArrayList<>(pendingWorkers.values());
+    }
+    for (Worker worker : workers) {
+      worker.cancel();
+    }
+  }
+
+  // Whether the tile, or one of the tiles around it, intersects the visible region at a nearby
+  // zoom level. Every tile is visible until the visible region is known.
+  private boolean isTileVisible(int x, int y, int zoom) {
+    final LatLngBounds bounds = visibleBounds;
+    if (bounds == null) {
+      return true;
+    }
+    if (Math.abs(zoom - visibleZoom) > 1) {
+      return false;
+    }
+    final double tileCount = 1 << zoom;
+    final double west = (x - 1) / tileCount * 360 - 180;
+    final double east = (x + 2) / tileCount * 360 - 180;
+    final double north = tileLatitude(y - 1, tileCount);
+    final double south = tileLatitude(y + 2, tileCount);
+    if (south > bounds.northeast.latitude || north < bounds.southwest.latitude) {
+      return false;
+    }
+    final double visibleWest = bounds.southwest.longitude;
+    final double visibleEast = bounds.northeast.longitude;
+    if (visibleWest <= visibleEast) {
+      return west <= visibleEast && east >= visibleWest;
+    }
+    // The visible region crosses the antimeridian.
+    return east >= visibleWest || west <= visibleEast;
+  }
+
+  private static double tileLatitude(int y, double tileCount) {
+    return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / tileCount))));
+  }
+
+  private void removeWorker(Worker worker) {
+    synchronized (pendingWorkers) {
+      if (pendingWorkers.get(worker.key) == worker) {
+        pendingWorkers.remove(worker.key);
+      }
+    }
   }
 
   private final class Worker implements MethodChannel.Result {
 
     private final CountDownLatch countDownLatch = new CountDownLatch(1);
+    private final String key;
     private final int x;
     private final int y;
     private final int zoom;
-    private Map<String, ?> result;
+    private volatile boolean isCancelled;
+    @Nullable private volatile Tile tile;
 
-    Worker(int x, int y, int zoom) {
+    Worker(String key, int x, int y, int zoom) {
+      this.key = key;
       this.x = x;
       this.y = y;
       this.zoom = zoom;
     }
 
-    @NonNull
+    // Called on the platform thread.
+    void send() {
+      if (isCancelled) {
+        return;
+      }
+      if (!isTileVisible(x, y, zoom)) {
+        cancel();
+        return;
+      }
+      methodChannel.invokeMethod(
+          "tileOverlay#getTile",
+          Convert.tileOverlayArgumentsToJson(tileOverlayId, x, y, zoom),
+          this);
+    }
+
+    void cancel() {
+      isCancelled = true;
+      removeWorker(this);
+      countDownLatch.countDown();
+    }
+
+    @Nullable
     Tile getTile() {
-      handler.post(
-          () ->
-              methodChannel.invokeMethod(
-                  "tileOverlay#getTile",
-                  Convert.tileOverlayArgumentsToJson(tileOverlayId, x, y, zoom),
-                  this));
       try {
         // Because `methodChannel.invokeMethod` is async, we use a `countDownLatch` make it synchronized.
-        countDownLatch.await();
+        if (requestTimeoutMs <= 0) {
+          countDownLatch.await();
+        } else if (!countDownLatch.await(requestTimeoutMs, TimeUnit.MILLISECONDS)) {
+          Log.w(
+              TAG,
+              String.format("Timed out getting tile: x = %d, y= %d, zoom = %d", x, y, zoom));
+          removeWorker(this);
+          // Returning null makes the Maps SDK request the tile again later.
+          return null;
+        }
       } catch (InterruptedException e) {
         Log.e(
             TAG,
@@ -65,19 +209,32 @@ class TileProviderController implements TileProvider {
             e);
         return TileProvider.NO_TILE;
       }
-      try {
-        return Convert.interpretTile(result);
-      } catch (Exception e) {
-        Log.e(TAG, "Can't parse tile data", e);
-        return TileProvider.NO_TILE;
+      // A cancelled tile is null, so that it is requested again if it comes back on screen.
+      return tile;
+    }
+
+    private void complete(@NonNull Tile tile) {
+      if (!isCancelled) {
+        this.tile = tile;
       }
+      removeWorker(this);
+      countDownLatch.countDown();
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void success(Object data) {
-      result = (Map<String, ?>) data;
-      countDownLatch.countDown();
+      final Tile tile;
+      try {
+        tile = Convert.interpretTile((Map<String, ?>) data);
+      } catch (Exception e) {
+        Log.e(TAG, "Can't parse tile data", e);
+        complete(TileProvider.NO_TILE);
+        return;
+      }
+      // Tiles that arrive after a timeout or a cancellation are still worth caching.
+      tileCache.putInMemory(tileOverlayId, x, y, zoom, tile);
+      complete(tile);
     }
 
     @Override
@@ -87,15 +244,13 @@ class TileProviderController implements TileProvider {
           String.format(
               "Can't get tile: errorCode = %s, errorMessage = %s, date = %s",
               errorCode, errorCode, data));
-      result = null;
-      countDownLatch.countDown();
+      complete(TileProvider.NO_TILE);
     }
 
     @Override
     public void notImplemented() {
       Log.e(TAG, "Can't get tile: notImplemented");
-      result = null;
-      countDownLatch.countDown();
+      complete(TileProvider.NO_TILE);
     }
   }
 }
@@ -0,0 +1,70 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+
+/**
+ * Provides the tiles of a tile overlay by downloading them from a URL template such as {@code
+ * https://example.com/{z}/{x}/{y}.png}, without going through Dart or the platform thread.
+ */
+class UrlTemplateTileProvider implements TileProvider {
+
+  private final String urlTemplate;
+  private final int tileSize;
+  @Nullable private final Map<String, String> headers;
+  private final UrlTileLoader urlTileLoader;
+  private final String cacheId;
+
+  UrlTemplateTileProvider(
+      @NonNull String urlTemplate,
+      int tileSize,
+      @Nullable Map<String, String> headers,
+      @NonNull UrlTileLoader urlTileLoader) {
+    this.urlTemplate = urlTemplate;
+    this.tileSize = tileSize;
+    this.headers = headers;
+    this.urlTileLoader = urlTileLoader;
+    this.cacheId = cacheId(urlTemplate);
+  }
+
+  @Override
+  public Tile getTile(int x, int y, int zoom) {
+    return urlTileLoader.load(cacheId, getTileUrl(x, y, zoom), x, y, zoom, tileSize, headers);
+  }
+
+  /** Removes the tiles of this URL template from the cache. */
+  void clearTileCache() {
+    urlTileLoader.clear(cacheId);
+  }
+
+  @NonNull
+  String getTileUrl(int x, int y, int zoom) {
+    return urlTemplate
+        .replace("{x}", Integer.toString(x))
+        .replace("{y}", Integer.toString(y))
+        .replace("{z}", Integer.toString(zoom));
+  }
+
+  // Tiles are cached by URL template rather than by overlay, so that maps showing the same tiles
+  // share them. Templates can be long, so they are hashed.
+  private static String cacheId(String urlTemplate) {
+    try {
+      final byte[] digest =
+          MessageDigest.getInstance("SHA-1").digest(urlTemplate.getBytes(StandardCharsets.UTF_8));
+      return String.format("%040x", new BigInteger(1, digest));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
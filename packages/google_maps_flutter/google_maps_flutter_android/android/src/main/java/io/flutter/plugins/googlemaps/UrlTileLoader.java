@@ -0,0 +1,277 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.content.Context;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Downloads the tiles of {@link UrlTemplateTileProvider}s, without going through Dart.
+ *
+ * <p>A single loader is shared by all the maps of the app. It bounds the number of concurrent
+ * downloads, reuses HTTP connections through the keep-alive pool of {@link HttpURLConnection}, and
+ * keeps the downloaded tiles in a {@link TileCache} that is shared by all the maps and persisted on
+ * disk.
+ *
+ * <p>Cached tiles expire as the {@code Cache-Control: max-age} or {@code Expires} header of their
+ * response says, and never expire if it has neither. Expired tiles are downloaded again, with a
+ * conditional request if the server sent an {@code ETag} or a {@code Last-Modified} header, and
+ * are still returned if the server can't be reached.
+ */
+class UrlTileLoader {
+  static final int MAX_CONCURRENT_DOWNLOADS = 6;
+  static final int MEMORY_CACHE_SIZE = 8 * 1024 * 1024;
+  static final long DISK_CACHE_SIZE = 64 * 1024 * 1024;
+
+  private static final String TAG = "UrlTileLoader";
+  private static final String DISK_CACHE_DIRECTORY = "flutter_google_maps_url_tiles";
+  private static final int TIMEOUT_MS = 10000;
+  // How long a missing tile is cached when the response doesn't say, so that it is checked again.
+  private static final long MISSING_TILE_TTL_MS = 10 * 60 * 1000;
+  private static final Pattern MAX_AGE = Pattern.compile("max-age\\s*=\\s*\"?(\\d+)");
+
+  @Nullable private static UrlTileLoader instance;
+
+  interface Connector {
+    @NonNull
+    HttpURLConnection open(@NonNull String url) throws IOException;
+  }
+
+  private final TileCache tileCache;
+  private final Connector connector;
+  private final Semaphore downloads = new Semaphore(MAX_CONCURRENT_DOWNLOADS, true);
+
+  /** Returns the loader shared by all the maps, creating it the first time. */
+  static synchronized UrlTileLoader getInstance(@NonNull Context context) {
+    if (instance == null) {
+      instance =
+          new UrlTileLoader(
+              new TileCache(
+                  MEMORY_CACHE_SIZE,
+                  new File(context.getCacheDir(), DISK_CACHE_DIRECTORY),
+                  DISK_CACHE_SIZE),
+              url -> (HttpURLConnection) new URL(url).openConnection());
+    }
+    return instance;
+  }
+
+  @VisibleForTesting
+  UrlTileLoader(@NonNull TileCache tileCache, @NonNull Connector connector) {
+    this.tileCache = tileCache;
+    this.connector = connector;
+  }
+
+  /**
+   * Returns the tile at {@code url}, from the cache if possible.
+   *
+   * <p>Returns {@link TileProvider#NO_TILE} if the server has no tile for these coordinates, and
+   * null if the tile couldn't be downloaded for now. Blocks, so it must not be called on the
+   * platform thread.
+   *
+   * @param cacheId identifies the tiles of a URL template in the cache.
+   */
+  @Nullable
+  Tile load(
+      @NonNull String cacheId,
+      @NonNull String url,
+      int x,
+      int y,
+      int zoom,
+      int tileSize,
+      @Nullable Map<String, String> headers) {
+    final TileCache.Entry cachedEntry = tileCache.getEntry(cacheId, x, y, zoom);
+    if (cachedEntry != null && !cachedEntry.isExpired(System.currentTimeMillis())) {
+      return cachedEntry.tile;
+    }
+    try {
+      downloads.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return cachedEntry != null ? cachedEntry.tile : null;
+    }
+    try {
+      final Tile tile = download(cacheId, url, x, y, zoom, tileSize, headers, cachedEntry);
+      // An expired tile is better than none while the server can't be reached.
+      return tile == null && cachedEntry != null ? cachedEntry.tile : tile;
+    } finally {
+      downloads.release();
+    }
+  }
+
+  /** Removes the tiles of {@code cacheId} from the cache. */
+  void clear(@NonNull String cacheId) {
+    tileCache.clear(cacheId);
+  }
+
+  @Nullable
+  private Tile download(
+      String cacheId,
+      String url,
+      int x,
+      int y,
+      int zoom,
+      int tileSize,
+      @Nullable Map<String, String> headers,
+      @Nullable TileCache.Entry cachedEntry) {
+    HttpURLConnection connection = null;
+    try {
+      connection = connector.open(url);
+      connection.setConnectTimeout(TIMEOUT_MS);
+      connection.setReadTimeout(TIMEOUT_MS);
+      if (headers != null) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+          connection.setRequestProperty(header.getKey(), header.getValue());
+        }
+      }
+      if (cachedEntry != null) {
+        if (cachedEntry.etag != null) {
+          connection.setRequestProperty("If-None-Match", cachedEntry.etag);
+        }
+        if (cachedEntry.lastModified != null) {
+          connection.setRequestProperty("If-Modified-Since", cachedEntry.lastModified);
+        }
+      }
+      final int responseCode = connection.getResponseCode();
+      if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && cachedEntry != null) {
+        drain(connection.getInputStream());
+        // The server may send new validators along with the new expiry.
+        final String etag = connection.getHeaderField("ETag");
+        final String lastModified = connection.getHeaderField("Last-Modified");
+        cache(
+            cacheId,
+            x,
+            y,
+            zoom,
+            connection,
+            new TileCache.Entry(
+                cachedEntry.tile,
+                expiresAtMs(connection, Long.MAX_VALUE),
+                etag != null ? etag : cachedEntry.etag,
+                lastModified != null ? lastModified : cachedEntry.lastModified));
+        return cachedEntry.tile;
+      }
+      if (responseCode == HttpURLConnection.HTTP_NOT_FOUND
+          || responseCode == HttpURLConnection.HTTP_NO_CONTENT) {
+        drain(connection.getErrorStream());
+        tileCache.putInMemory(
+            cacheId,
+            x,
+            y,
+            zoom,
+            new TileCache.Entry(
+                TileProvider.NO_TILE,
+                expiresAtMs(connection, MISSING_TILE_TTL_MS),
+                null,
+                null));
+        return TileProvider.NO_TILE;
+      }
+      if (responseCode != HttpURLConnection.HTTP_OK) {
+        Log.w(TAG, "Can't download tile " + url + ": HTTP " + responseCode);
+        drain(connection.getErrorStream());
+        return null;
+      }
+      final Tile tile = new Tile(tileSize, tileSize, readFully(connection.getInputStream()));
+      cache(
+          cacheId,
+          x,
+          y,
+          zoom,
+          connection,
+          new TileCache.Entry(
+              tile,
+              expiresAtMs(connection, Long.MAX_VALUE),
+              connection.getHeaderField("ETag"),
+              connection.getHeaderField("Last-Modified")));
+      return tile;
+    } catch (IOException e) {
+      Log.w(TAG, "Can't download tile " + url, e);
+      // Only drop the connection when it failed, so that it can be reused otherwise.
+      if (connection != null) {
+        connection.disconnect();
+      }
+      return null;
+    }
+  }
+
+  private void cache(
+      String cacheId, int x, int y, int zoom, HttpURLConnection connection, TileCache.Entry entry) {
+    tileCache.putInMemory(cacheId, x, y, zoom, entry);
+    if (isStorable(connection.getHeaderField("Cache-Control"))) {
+      tileCache.putOnDisk(cacheId, x, y, zoom, entry);
+    }
+  }
+
+  private static boolean isStorable(@Nullable String cacheControl) {
+    return cacheControl == null || !cacheControl.toLowerCase(Locale.ROOT).contains("no-store");
+  }
+
+  // Returns when the response expires, in milliseconds since the epoch, from its Cache-Control
+  // header first, its Expires header second, and defaultTtlMs from now if it has neither.
+  private static long expiresAtMs(HttpURLConnection connection, long defaultTtlMs) {
+    final long nowMs = System.currentTimeMillis();
+    final String cacheControl = connection.getHeaderField("Cache-Control");
+    if (cacheControl != null) {
+      final String directives = cacheControl.toLowerCase(Locale.ROOT);
+      if (directives.contains("no-cache") || directives.contains("no-store")) {
+        return nowMs;
+      }
+      final Matcher maxAge = MAX_AGE.matcher(directives);
+      if (maxAge.find()) {
+        try {
+          final long maxAgeSeconds = Long.parseLong(maxAge.group(1));
+          return nowMs + Math.min(maxAgeSeconds, (Long.MAX_VALUE - nowMs) / 1000) * 1000;
+        } catch (NumberFormatException e) {
+          return Long.MAX_VALUE;
+        }
+      }
+    }
+    final long expiration = connection.getExpiration();
+    if (connection.getHeaderField("Expires") != null) {
+      if (expiration == 0) {
+        // An invalid date, such as "0", means that the response has already expired.
+        return nowMs;
+      }
+      // Relative to the date of the server, in case its clock differs from the device's.
+      final long date = connection.getDate();
+      return date > 0 ? nowMs + (expiration - date) : expiration;
+    }
+    return defaultTtlMs == Long.MAX_VALUE ? Long.MAX_VALUE : nowMs + defaultTtlMs;
+  }
+
+  private static byte[] readFully(InputStream inputStream) throws IOException {
+    try (InputStream in = inputStream) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+      return out.toByteArray();
+    }
+  }
+
+  // Reads the rest of the response, so that its connection goes back to the keep-alive pool.
+  private static void drain(@Nullable InputStream inputStream) throws IOException {
+    if (inputStream != null) {
+      readFully(inputStream);
+    }
+  }
+}
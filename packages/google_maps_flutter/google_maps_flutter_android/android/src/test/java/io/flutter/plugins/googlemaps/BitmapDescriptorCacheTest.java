@@ -0,0 +1,77 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+
+import android.os.Build;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class BitmapDescriptorCacheTest {
+  private List<byte[]> decodedBytes;
+  private BitmapDescriptorCache cache;
+
+  @Before
+  public void before() {
+    decodedBytes = new ArrayList<>();
+    cache =
+        new BitmapDescriptorCache(
+            250,
+            bytes -> {
+              decodedBytes.add(bytes);
+              return new BitmapDescriptorCache.Icon(null, 100);
+            });
+  }
+
+  @Test
+  public void fromBytesDecodesTheSameImageOnce() {
+    cache.fromBytes(new byte[] {1, 2, 3});
+    cache.fromBytes(new byte[] {1, 2, 3});
+    cache.fromBytes(new byte[] {4, 5, 6});
+
+    assertEquals(2, decodedBytes.size());
+  }
+
+  @Test
+  public void fromBytesEvictsTheLeastRecentlyUsedImages() {
+    cache.fromBytes(new byte[] {1});
+    cache.fromBytes(new byte[] {2});
+    cache.fromBytes(new byte[] {1});
+    cache.fromBytes(new byte[] {3});
+
+    assertEquals(200, cache.size());
+    cache.fromBytes(new byte[] {1});
+    assertEquals(3, decodedBytes.size());
+    cache.fromBytes(new byte[] {2});
+    assertEquals(4, decodedBytes.size());
+  }
+
+  @Test
+  public void getRegisteredDecodesTheIconOnFirstUse() {
+    cache.register("pin", new byte[] {1, 2, 3});
+    assertEquals(0, decodedBytes.size());
+
+    cache.getRegistered("pin");
+    cache.getRegistered("pin");
+
+    assertEquals(1, decodedBytes.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getRegisteredThrowsForUnregisteredIcon() {
+    cache.register("pin", new byte[] {1, 2, 3});
+    cache.unregister("pin");
+
+    cache.getRegistered("pin");
+  }
+}
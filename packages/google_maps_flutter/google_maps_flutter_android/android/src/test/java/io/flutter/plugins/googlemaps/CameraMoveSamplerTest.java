@@ -0,0 +1,56 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
+import org.junit.Test;
+
+public class CameraMoveSamplerTest {
+
+  private static CameraPosition position(double longitude, float zoom, float bearing) {
+    return new CameraPosition(new LatLng(0, longitude), zoom, 0, bearing);
+  }
+
+  @Test
+  public void sampleSendsFirstPositionAndThenAtMostOncePerInterval() {
+    final CameraMoveSampler sampler = new CameraMoveSampler(100, 0, 0, 0, 0);
+
+    assertTrue(sampler.sample(position(0, 10, 0), 1000));
+    assertFalse(sampler.sample(position(1, 10, 0), 1050));
+    assertEquals(position(1, 10, 0), sampler.getPendingPosition());
+    assertEquals(1100, sampler.getNextSampleTimeMs());
+    assertTrue(sampler.sample(position(2, 10, 0), 1100));
+    assertNull(sampler.getPendingPosition());
+  }
+
+  @Test
+  public void sampleSkipsPositionsThatDidNotChangeEnough() {
+    final CameraMoveSampler sampler = new CameraMoveSampler(0, 10, 0.5, 5, 5);
+    assertTrue(sampler.sample(position(0, 0, 0), 0));
+
+    // At zoom level 0 the world is 256 pixels wide, so one degree is less than a pixel.
+    assertFalse(sampler.sample(position(1, 0.2f, 359), 10));
+    assertTrue(sampler.sample(position(0, 0, 10), 20));
+    assertTrue(sampler.sample(position(20, 0, 10), 30));
+    assertTrue(sampler.sample(position(20, 1, 10), 40));
+  }
+
+  @Test
+  public void flushReturnsPendingPositionAndStartsOver() {
+    final CameraMoveSampler sampler = new CameraMoveSampler(1000, 0, 0, 0, 0);
+    sampler.sample(position(0, 10, 0), 0);
+    sampler.sample(position(1, 10, 0), 10);
+
+    assertEquals(position(1, 10, 0), sampler.flush());
+    assertNull(sampler.flush());
+    assertTrue(sampler.sample(position(2, 10, 0), 20));
+  }
+}
@@ -6,7 +6,10 @@ package io.flutter.plugins.googlemaps;
 
 import com.google.android.gms.maps.model.LatLng;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -26,4 +29,32 @@ public class ConvertTest {
     Assert.assertEquals(latitude, latLng.latitude, 1e-15);
     Assert.assertEquals(longitude, latLng.longitude, 1e-15);
   }
+
+  @Test
+  public void ConvertToPointsConvertsPackedPoints() {
+    double[] packedPoints = {43.03725568057, -87.90466904649, -33.8688, 151.2093};
+    List<LatLng> latLngs = Convert.toPoints(packedPoints);
+    Assert.assertEquals(2, latLngs.size());
+    Assert.assertEquals(43.03725568057, latLngs.get(0).latitude, 1e-15);
+    Assert.assertEquals(-87.90466904649, latLngs.get(0).longitude, 1e-15);
+    Assert.assertEquals(-33.8688, latLngs.get(1).latitude, 1e-15);
+    Assert.assertEquals(151.2093, latLngs.get(1).longitude, 1e-15);
+  }
+
+  @Test
+  public void DecodeMapObjectsDecodesPointsAndHoles() {
+    Map<String, Object> polygon = new HashMap<>();
+    polygon.put("polygonId", "polygon");
+    polygon.put("points", new double[] {1, 2, 3, 4, 5, 6});
+    polygon.put("holes", Collections.singletonList(new double[] {1.5, 2.5}));
+
+    List<Object> decoded = Convert.decodeMapObjects(Collections.<Object>singletonList(polygon));
+
+    PolygonBuilder builder = new PolygonBuilder(1);
+    Assert.assertEquals("polygon", Convert.interpretPolygonOptions(decoded.get(0), builder));
+    Assert.assertEquals(3, builder.build().getPoints().size());
+    Assert.assertEquals(new LatLng(5, 6), builder.build().getPoints().get(2));
+    Assert.assertEquals(
+        Collections.singletonList(new LatLng(1.5, 2.5)), builder.build().getHoles().get(0));
+  }
 }
@@ -6,22 +6,39 @@ package io.flutter.plugins.googlemaps;
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
 
 import android.content.Context;
 import android.os.Build;
+import android.os.Looper;
 import androidx.activity.ComponentActivity;
 import androidx.test.core.app.ApplicationProvider;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.GoogleMapOptions;
 import com.google.android.gms.maps.MapView;
+import com.google.android.gms.maps.model.MapStyleOptions;
+import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.MarkerOptions;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -149,6 +166,80 @@ public class GoogleMapControllerTest {
     verify(mapView, never()).invalidate();
   }
 
+  @Test
+  public void ShowInfoWindowWaitsForPendingMarkersUpdate() {
+    final List<Runnable> decodingTasks = new ArrayList<>();
+    final ExecutorService decodingExecutor = mock(ExecutorService.class);
+    doAnswer(invocation -> decodingTasks.add(invocation.getArgument(0)))
+        .when(decodingExecutor)
+        .execute(any(Runnable.class));
+    googleMapController.mapObjectsDecodingExecutor = decodingExecutor;
+    googleMapController.onMapReady(mockGoogleMap);
+    final Marker marker = mock(Marker.class);
+    when(marker.getId()).thenReturn("googleMarkerId");
+    when(mockGoogleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+    final Map<String, Object> markerOptions = new HashMap<>();
+    markerOptions.put("markerId", "markerId");
+    final Map<String, Object> updateArguments = new HashMap<>();
+    updateArguments.put("markersToAdd", Collections.<Object>singletonList(markerOptions));
+    final MethodChannel.Result updateResult = mock(MethodChannel.Result.class);
+    final MethodChannel.Result showResult = mock(MethodChannel.Result.class);
+
+    googleMapController.onMethodCall(
+        new MethodCall("markers#update", updateArguments), updateResult);
+    googleMapController.onMethodCall(
+        new MethodCall(
+            "markers#showInfoWindow", Collections.singletonMap("markerId", "markerId")),
+        showResult);
+
+    verifyNoInteractions(showResult);
+    for (Runnable task : decodingTasks) {
+      task.run();
+    }
+    shadowOf(Looper.getMainLooper()).idle();
+    verify(updateResult).success(null);
+    verify(marker).showInfoWindow();
+    verify(showResult).success(null);
+  }
+
+  @Test
+  public void RecycledLiteMapComesBackWithTheDefaultStyle() {
+    final AtomicReference<MapStyleOptions> mapStyle = new AtomicReference<>();
+    doAnswer(
+            invocation -> {
+              mapStyle.set(invocation.getArgument(0));
+              return true;
+            })
+        .when(mockGoogleMap)
+        .setMapStyle(any());
+    final LiteMapViewPool pool = new LiteMapViewPool(activity::getLifecycle, 1);
+    final MapView mapView = mock(MapView.class);
+    when(mapView.getContext()).thenReturn(activity);
+    googleMapController.setLiteMapViewPool(pool);
+    googleMapController.setView(mapView);
+    googleMapController.onMapReady(mockGoogleMap);
+    googleMapController.onMethodCall(
+        new MethodCall("map#setStyle", "[]"), mock(MethodChannel.Result.class));
+    assertNotNull(mapStyle.get());
+
+    googleMapController.dispose();
+    final MapView recycledMapView = pool.acquire(activity);
+    assertSame(mapView, recycledMapView);
+    final GoogleMapController recycledMapController =
+        new GoogleMapController(
+            1,
+            context,
+            mockMessenger,
+            activity::getLifecycle,
+            new GoogleMapOptions().liteMode(true),
+            recycledMapView);
+    recycledMapController.init();
+    recycledMapController.onMapReady(mockGoogleMap);
+
+    assertNull(mapStyle.get());
+    verify(mockGoogleMap).clear();
+  }
+
   @Test
   public void OnMapReadySetsPaddingIfInitialPaddingIsThere() {
     float padding = 10f;
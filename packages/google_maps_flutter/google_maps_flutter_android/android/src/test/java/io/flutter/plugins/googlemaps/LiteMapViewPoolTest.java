@@ -0,0 +1,109 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.os.Build;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+import com.google.android.gms.maps.MapView;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class LiteMapViewPoolTest {
+  private Lifecycle lifecycle;
+  private Activity activity;
+  private LiteMapViewPool pool;
+
+  @Before
+  public void before() {
+    lifecycle = mock(Lifecycle.class);
+    when(lifecycle.getCurrentState()).thenReturn(Lifecycle.State.RESUMED);
+    activity = Robolectric.setupActivity(Activity.class);
+    pool = new LiteMapViewPool(() -> lifecycle, 2);
+  }
+
+  private MapView mockMapView(Context context) {
+    final MapView view = mock(MapView.class);
+    when(view.getContext()).thenReturn(context);
+    return view;
+  }
+
+  @Test
+  public void releasedViewsAreStoppedAndReused() {
+    final MapView view = mockMapView(activity);
+
+    assertTrue(pool.release(view));
+    verify(view).onStop();
+    verify(lifecycle).addObserver(pool);
+
+    assertSame(view, pool.acquire(new ContextWrapper(activity)));
+    assertNull(pool.acquire(activity));
+  }
+
+  @Test
+  public void viewsAreOnlyReusedInTheSameActivity() {
+    pool.release(mockMapView(activity));
+
+    assertNull(pool.acquire(Robolectric.setupActivity(Activity.class)));
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  public void releaseFailsWhenThePoolIsFull() {
+    pool.release(mockMapView(activity));
+    pool.release(mockMapView(activity));
+
+    assertFalse(pool.release(mockMapView(activity)));
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  public void releaseFailsWhenTheLifecycleIsDestroyed() {
+    when(lifecycle.getCurrentState()).thenReturn(Lifecycle.State.DESTROYED);
+
+    assertFalse(pool.release(mockMapView(activity)));
+  }
+
+  @Test
+  public void pooledViewsAreDestroyedWithTheLifecycle() {
+    final MapView view = mockMapView(activity);
+    pool.release(view);
+    final LifecycleOwner owner = () -> lifecycle;
+
+    pool.onDestroy(owner);
+
+    verify(view).onDestroy();
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  public void setMaxSizeDestroysTheViewsOverIt() {
+    final MapView view = mockMapView(activity);
+    pool.release(view);
+
+    pool.setMaxSize(0);
+
+    verify(view).onDestroy();
+    assertEquals(0, pool.size());
+  }
+}
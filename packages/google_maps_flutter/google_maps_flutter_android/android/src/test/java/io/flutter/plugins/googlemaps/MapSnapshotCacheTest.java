@@ -0,0 +1,53 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import android.os.Build;
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class MapSnapshotCacheTest {
+  private static final CameraPosition POSITION = new CameraPosition(new LatLng(1, 2), 10, 0, 0);
+
+  @Test
+  public void keyDependsOnCameraPositionMapTypeSizeAndContentKey() {
+    final String key = MapSnapshotCache.key(POSITION, 1, 300, 150, null);
+
+    final CameraPosition samePosition = new CameraPosition(new LatLng(1, 2), 10, 0, 0);
+    final CameraPosition otherPosition = new CameraPosition(new LatLng(1, 2), 11, 0, 0);
+    assertEquals(key, MapSnapshotCache.key(samePosition, 1, 300, 150, null));
+    assertNotEquals(key, MapSnapshotCache.key(otherPosition, 1, 300, 150, null));
+    assertNotEquals(key, MapSnapshotCache.key(POSITION, 2, 300, 150, null));
+    assertNotEquals(key, MapSnapshotCache.key(POSITION, 1, 300, 151, null));
+    assertNotEquals(key, MapSnapshotCache.key(POSITION, 1, 300, 150, "a"));
+    assertNotEquals(
+        MapSnapshotCache.key(POSITION, 1, 300, 150, "a"),
+        MapSnapshotCache.key(POSITION, 1, 300, 150, "b"));
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedSnapshots() {
+    final MapSnapshotCache cache = new MapSnapshotCache(250);
+    cache.put("a", new byte[100]);
+    cache.put("b", new byte[100]);
+    cache.get("a");
+    cache.put("c", new byte[100]);
+
+    assertArrayEquals(new byte[100], cache.get("a"));
+    assertNull(cache.get("b"));
+    assertArrayEquals(new byte[100], cache.get("c"));
+  }
+}
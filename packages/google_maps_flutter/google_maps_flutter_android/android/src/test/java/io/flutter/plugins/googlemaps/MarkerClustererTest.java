@@ -0,0 +1,69 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+public class MarkerClustererTest {
+
+  private static final LatLngBounds WORLD =
+      new LatLngBounds(new LatLng(-80, -179), new LatLng(80, 179));
+
+  @Test
+  public void clusterGroupsNearbyMarkers() {
+    final MarkerClusterer clusterer = new MarkerClusterer(100, 2);
+    final List<MarkerClusterer.Item> items =
+        Arrays.asList(
+            new MarkerClusterer.Item("a", new LatLng(10.0, 10.0)),
+            new MarkerClusterer.Item("b", new LatLng(10.01, 10.01)),
+            new MarkerClusterer.Item("c", new LatLng(-40.0, -60.0)));
+
+    final MarkerClusterer.Result result = clusterer.cluster(items, WORLD, 3);
+
+    assertEquals(Collections.singletonList("c"), result.markerIds);
+    assertEquals(1, result.clusters.size());
+    final MarkerClusterer.Cluster cluster = result.clusters.get(0);
+    assertTrue(cluster.markerIds.containsAll(Arrays.asList("a", "b")));
+    assertEquals(10.005, cluster.position.latitude, 1e-9);
+    assertEquals(10.005, cluster.position.longitude, 1e-9);
+  }
+
+  @Test
+  public void clusterSeparatesMarkersWhenZoomedIn() {
+    final MarkerClusterer clusterer = new MarkerClusterer(100, 2);
+    final List<MarkerClusterer.Item> items =
+        Arrays.asList(
+            new MarkerClusterer.Item("a", new LatLng(10.0, 10.0)),
+            new MarkerClusterer.Item("b", new LatLng(10.01, 10.01)));
+
+    final MarkerClusterer.Result result = clusterer.cluster(items, WORLD, 18);
+
+    assertEquals(2, result.markerIds.size());
+    assertTrue(result.clusters.isEmpty());
+  }
+
+  @Test
+  public void clusterIgnoresMarkersOutsideOfVisibleRegion() {
+    final MarkerClusterer clusterer = new MarkerClusterer(100, 2);
+    final List<MarkerClusterer.Item> items =
+        Arrays.asList(
+            new MarkerClusterer.Item("a", new LatLng(10.0, 10.0)),
+            new MarkerClusterer.Item("b", new LatLng(50.0, 50.0)));
+
+    final MarkerClusterer.Result result =
+        clusterer.cluster(items, new LatLngBounds(new LatLng(0, 0), new LatLng(20, 20)), 3);
+
+    assertEquals(Collections.singletonList("a"), result.markerIds);
+    assertTrue(result.clusters.isEmpty());
+  }
+}
@@ -0,0 +1,86 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MarkerSpatialIndexTest {
+  private MarkerSpatialIndex index;
+
+  @Before
+  public void before() {
+    index = new MarkerSpatialIndex();
+    index.put(new MarkerClusterer.Item("paris", new LatLng(48.8566, 2.3522)));
+    index.put(new MarkerClusterer.Item("london", new LatLng(51.5072, -0.1276)));
+    index.put(new MarkerClusterer.Item("fiji", new LatLng(-17.7134, 178.065)));
+    index.put(new MarkerClusterer.Item("samoa", new LatLng(-13.759, -172.1046)));
+  }
+
+  @Test
+  public void queryReturnsTheMarkersInTheRegion() {
+    final List<MarkerClusterer.Item> items =
+        index.query(new LatLngBounds(new LatLng(48, 2), new LatLng(49, 3)));
+
+    assertEquals(1, items.size());
+    assertEquals("paris", items.get(0).markerId);
+  }
+
+  @Test
+  public void queryHandlesRegionsThatCrossTheAntimeridian() {
+    final List<MarkerClusterer.Item> items =
+        index.query(new LatLngBounds(new LatLng(-20, 170), new LatLng(-10, -170)));
+
+    assertEquals(ids("fiji", "samoa"), ids(items));
+  }
+
+  @Test
+  public void queryReturnsAllTheMarkersForTheWholeWorld() {
+    final List<MarkerClusterer.Item> items =
+        index.query(new LatLngBounds(new LatLng(-85, -180), new LatLng(85, 179.9)));
+
+    assertEquals(4, items.size());
+  }
+
+  @Test
+  public void putMovesMarkerThatIsAlreadyIndexed() {
+    index.put(new MarkerClusterer.Item("paris", new LatLng(-17.7, 178)));
+
+    assertEquals(4, index.size());
+    assertTrue(index.query(new LatLngBounds(new LatLng(48, 2), new LatLng(49, 3))).isEmpty());
+  }
+
+  @Test
+  public void removeRemovesTheMarker() {
+    index.remove("london");
+
+    assertEquals(3, index.size());
+    assertTrue(index.query(new LatLngBounds(new LatLng(51, -1), new LatLng(52, 0))).isEmpty());
+  }
+
+  private static Set<String> ids(String... markerIds) {
+    final Set<String> ids = new HashSet<>();
+    for (String markerId : markerIds) {
+      ids.add(markerId);
+    }
+    return ids;
+  }
+
+  private static Set<String> ids(List<MarkerClusterer.Item> items) {
+    final Set<String> ids = new HashSet<>();
+    for (MarkerClusterer.Item item : items) {
+      ids.add(item.markerId);
+    }
+    return ids;
+  }
+}
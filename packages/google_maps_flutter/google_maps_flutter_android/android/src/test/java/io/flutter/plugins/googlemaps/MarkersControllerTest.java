@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.googlemaps;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -124,4 +125,16 @@ public class MarkersControllerTest {
     data.put("position", points);
     Mockito.verify(methodChannel).invokeMethod("marker#onDrag", data);
   }
+
+  @Test
+  public void clusterLabel_RoundsLargeSizesDownToBuckets() {
+    assertEquals("2", MarkersController.clusterLabel(2));
+    assertEquals("9", MarkersController.clusterLabel(9));
+    assertEquals("10+", MarkersController.clusterLabel(10));
+    assertEquals("20+", MarkersController.clusterLabel(49));
+    assertEquals("500+", MarkersController.clusterLabel(999));
+    assertEquals("1k+", MarkersController.clusterLabel(1999));
+    assertEquals("20k+", MarkersController.clusterLabel(20000));
+    assertEquals("100k+", MarkersController.clusterLabel(5000000));
+  }
 }
@@ -0,0 +1,82 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class SimplifiedPathTest {
+  // About 3e-6 of the size of the world, so about 1 pixel at zoom level 10.
+  private static final double SMALL_DELTA = 0.001;
+
+  private static List<LatLng> zigzag(int size, double amplitude) {
+    final List<LatLng> points = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      points.add(new LatLng(i % 2 == 0 ? 0 : amplitude, i * 0.01));
+    }
+    return points;
+  }
+
+  @Test
+  public void keepsAllPointsAtZeroTolerance() {
+    final SimplifiedPath path = new SimplifiedPath(zigzag(100, SMALL_DELTA), false);
+
+    assertEquals(100, path.pointsAt(0).size());
+  }
+
+  @Test
+  public void dropsDetailsSmallerThanTheTolerance() {
+    final List<LatLng> points = zigzag(100, SMALL_DELTA);
+    final SimplifiedPath path = new SimplifiedPath(points, false);
+
+    final List<LatLng> simplified = path.pointsAt(1e-3);
+
+    assertEquals(Arrays.asList(points.get(0), points.get(99)), simplified);
+  }
+
+  @Test
+  public void keepsDetailsLargerThanTheTolerance() {
+    final List<LatLng> points =
+        Arrays.asList(
+            new LatLng(0, 0),
+            new LatLng(SMALL_DELTA, 1),
+            new LatLng(0, 2),
+            new LatLng(5, 3),
+            new LatLng(0, 4));
+    final SimplifiedPath path = new SimplifiedPath(points, false);
+
+    final List<LatLng> simplified = path.pointsAt(1e-2);
+
+    assertEquals(Arrays.asList(points.get(0), points.get(3), points.get(4)), simplified);
+  }
+
+  @Test
+  public void pointsAreNestedAcrossTolerances() {
+    final List<LatLng> points = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      points.add(new LatLng(Math.sin(i * 0.1) * (1 + i % 7), i * 0.01));
+    }
+    final SimplifiedPath path = new SimplifiedPath(points, false);
+
+    final List<LatLng> coarse = path.pointsAt(1e-3);
+    final List<LatLng> fine = path.pointsAt(1e-5);
+
+    assertTrue(fine.containsAll(coarse));
+    assertTrue(fine.size() > coarse.size());
+  }
+
+  @Test
+  public void ringsKeepAtLeastThreePoints() {
+    final SimplifiedPath path = new SimplifiedPath(zigzag(100, SMALL_DELTA), true);
+
+    assertEquals(3, path.pointsAt(1).size());
+  }
+}
@@ -0,0 +1,93 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import android.graphics.Bitmap;
+import android.os.Build;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.OutputStream;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class SnapshotEncoderTest {
+  private static Bitmap createBitmap(int width, int height) {
+    return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+  }
+
+  @Test
+  public void scaleKeepsSnapshotsThatFit() {
+    final Bitmap bitmap = createBitmap(400, 200);
+    final SnapshotEncoder encoder = new SnapshotEncoder(Bitmap.CompressFormat.PNG, 100, 400, 200);
+
+    assertSame(bitmap, encoder.scale(bitmap));
+  }
+
+  @Test
+  public void scaleKeepsSnapshotsWithoutMaximum() {
+    final Bitmap bitmap = createBitmap(4000, 2000);
+    final SnapshotEncoder encoder = new SnapshotEncoder(Bitmap.CompressFormat.PNG, 100, 0, 0);
+
+    assertSame(bitmap, encoder.scale(bitmap));
+  }
+
+  @Test
+  public void scaleFitsTheMaximumWidth() {
+    final SnapshotEncoder encoder = new SnapshotEncoder(Bitmap.CompressFormat.JPEG, 80, 200, 0);
+
+    final Bitmap scaled = encoder.scale(createBitmap(400, 300));
+
+    assertEquals(200, scaled.getWidth());
+    assertEquals(150, scaled.getHeight());
+  }
+
+  @Test
+  public void scaleFitsBothMaximums() {
+    final SnapshotEncoder encoder = new SnapshotEncoder(Bitmap.CompressFormat.JPEG, 80, 200, 100);
+
+    final Bitmap scaled = encoder.scale(createBitmap(400, 300));
+
+    assertEquals(133, scaled.getWidth());
+    assertEquals(100, scaled.getHeight());
+  }
+
+  @Test
+  public void encodeAsyncReportsErrorsThatAreNotIOExceptions() {
+    final OutOfMemoryError error = new OutOfMemoryError();
+    final SnapshotEncoder encoder =
+        new SnapshotEncoder(Bitmap.CompressFormat.PNG, 100, 0, 0, Runnable::run, Runnable::run) {
+          @Override
+          void encode(@NonNull Bitmap bitmap, @NonNull OutputStream stream) {
+            throw error;
+          }
+        };
+    final Throwable[] reportedError = new Throwable[1];
+
+    encoder.encodeAsync(
+        createBitmap(400, 200),
+        null,
+        new SnapshotEncoder.Callback() {
+          @Override
+          public void onEncoded(@Nullable byte[] bytes) {
+            fail("The snapshot should not be encoded");
+          }
+
+          @Override
+          public void onError(@NonNull Throwable e) {
+            reportedError[0] = e;
+          }
+        });
+
+    assertSame(error, reportedError[0]);
+  }
+}
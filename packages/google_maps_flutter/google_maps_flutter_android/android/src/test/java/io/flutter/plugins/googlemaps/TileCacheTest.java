@@ -0,0 +1,178 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Build;
+import com.google.android.gms.maps.model.Tile;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class TileCacheTest {
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File directory;
+
+  @Before
+  public void before() throws IOException {
+    directory = temporaryFolder.newFolder();
+  }
+
+  @Test
+  public void tilesOnDiskOutliveTheCache() {
+    new TileCache(1024, directory, 1024)
+        .putOnDisk("overlay", 1, 2, 3, new Tile(256, 256, new byte[] {1, 2, 3}));
+
+    final Tile tile = new TileCache(1024, directory, 1024).get("overlay", 1, 2, 3);
+
+    assertNotNull(tile);
+    assertEquals(256, tile.width);
+    assertEquals(256, tile.height);
+    assertArrayEquals(new byte[] {1, 2, 3}, tile.data);
+  }
+
+  @Test
+  public void entriesOnDiskKeepTheirExpiryAndValidators() {
+    final Tile tile = new Tile(256, 256, new byte[] {1, 2, 3});
+    new TileCache(1024, directory, 1024)
+        .putOnDisk(
+            "overlay", 1, 2, 3, new TileCache.Entry(tile, 1000L, "\"v1\"", "yesterday"));
+
+    final TileCache.Entry entry = new TileCache(1024, directory, 1024).getEntry("overlay", 1, 2, 3);
+
+    assertNotNull(entry);
+    assertArrayEquals(new byte[] {1, 2, 3}, entry.tile.data);
+    assertEquals(1000L, entry.expiresAtMs);
+    assertEquals("\"v1\"", entry.etag);
+    assertEquals("yesterday", entry.lastModified);
+    assertTrue(entry.isExpired(1000L));
+  }
+
+  @Test
+  public void filesThatAreNotTileEntriesAreDeleted() throws IOException {
+    final File overlayDirectory = new File(directory, "6f7665726c6179");
+    overlayDirectory.mkdirs();
+    final File file = new File(overlayDirectory, "3_1_2.tile");
+    try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+      out.writeInt(256);
+      out.writeInt(256);
+      out.write(new byte[] {1, 2, 3});
+    }
+
+    assertNull(new TileCache(1024, directory, 1024).getEntry("overlay", 1, 2, 3));
+    assertFalse(file.exists());
+  }
+
+  @Test
+  public void filesWithAnInvalidDataLengthAreDeleted() throws IOException {
+    final File overlayDirectory = new File(directory, "6f7665726c6179");
+    overlayDirectory.mkdirs();
+    final File file = new File(overlayDirectory, "3_1_2.tile");
+    try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+      out.writeInt(0x54494c45);
+      out.writeInt(256);
+      out.writeInt(256);
+      out.writeLong(Long.MAX_VALUE);
+      out.writeUTF("");
+      out.writeUTF("");
+      out.writeInt(-1);
+    }
+
+    assertNull(new TileCache(1024, directory, 1024).getEntry("overlay", 1, 2, 3));
+    assertFalse(file.exists());
+  }
+
+  @Test
+  public void putOnDiskEvictsLeastRecentlyUsedTiles() {
+    final TileCache tileCache = new TileCache(0, directory, 60);
+    tileCache.putOnDisk("overlay", 0, 0, 1, new Tile(1, 1, new byte[10]));
+    new File(new File(directory, "6f7665726c6179"), "1_0_0.tile").setLastModified(0);
+
+    tileCache.putOnDisk("overlay", 1, 0, 1, new Tile(1, 1, new byte[10]));
+
+    assertNull(tileCache.get("overlay", 0, 0, 1));
+    assertNotNull(tileCache.get("overlay", 1, 0, 1));
+  }
+
+  @Test
+  public void putOnDiskEvictsTilesThatWereNotReadRecently() {
+    final TileCache tileCache = new TileCache(0, directory, 100);
+    tileCache.putOnDisk("overlay", 0, 0, 1, new Tile(1, 1, new byte[10]));
+    tileCache.putOnDisk("overlay", 1, 0, 1, new Tile(1, 1, new byte[10]));
+    assertNotNull(tileCache.get("overlay", 0, 0, 1));
+
+    tileCache.putOnDisk("overlay", 0, 1, 1, new Tile(1, 1, new byte[10]));
+
+    assertNotNull(tileCache.get("overlay", 0, 0, 1));
+    assertNull(tileCache.get("overlay", 1, 0, 1));
+    assertNotNull(tileCache.get("overlay", 0, 1, 1));
+  }
+
+  @Test
+  public void clearLeavesTheDiskToTheDiskExecutor() {
+    final List<Runnable> diskTasks = new ArrayList<>();
+    final TileCache tileCache = new TileCache(1024, directory, 1024, diskTasks::add);
+    final Tile tile = new Tile(256, 256, new byte[] {1, 2, 3});
+    tileCache.putOnDisk("overlay", 1, 2, 3, tile);
+    final File overlayDirectory = new File(directory, "6f7665726c6179");
+
+    tileCache.clear("overlay");
+
+    assertTrue(overlayDirectory.isDirectory());
+    assertNull(tileCache.get("overlay", 1, 2, 3));
+    while (!diskTasks.isEmpty()) {
+      diskTasks.remove(0).run();
+    }
+    assertFalse(overlayDirectory.exists());
+    assertArrayEquals(new String[0], directory.list());
+  }
+
+  @Test
+  public void clearRemovesTilesOfOverlay() {
+    final TileCache tileCache = new TileCache(1024, directory, 1024);
+    final Tile tile = new Tile(256, 256, new byte[] {1, 2, 3});
+    tileCache.putInMemory("overlay", 1, 2, 3, tile);
+    tileCache.putOnDisk("overlay", 1, 2, 3, tile);
+    tileCache.putInMemory("other", 1, 2, 3, tile);
+
+    tileCache.clear("overlay");
+
+    assertNull(tileCache.get("overlay", 1, 2, 3));
+    assertNotNull(tileCache.get("other", 1, 2, 3));
+  }
+
+  @Test
+  public void clearMemoryOnlyRemovesTilesOfOverlay() {
+    final TileCache tileCache = new TileCache(1024, null, 0);
+    final Tile tile = new Tile(256, 256, new byte[] {1, 2, 3});
+    tileCache.putInMemory("a", 1, 2, 3, tile);
+    tileCache.putInMemory("a/b", 1, 2, 3, tile);
+
+    tileCache.clearMemory("a");
+
+    assertNull(tileCache.get("a", 1, 2, 3));
+    assertNotNull(tileCache.get("a/b", 1, 2, 3));
+  }
+}
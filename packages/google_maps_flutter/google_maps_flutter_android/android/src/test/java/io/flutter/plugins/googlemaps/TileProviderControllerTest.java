@@ -0,0 +1,108 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.Build;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.Tile;
+import io.flutter.plugin.common.MethodChannel;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class TileProviderControllerTest {
+
+  private static final byte[] TILE_DATA = new byte[] {1, 2, 3};
+
+  private MethodChannel mockMethodChannel;
+  private TileCache tileCache;
+
+  @Before
+  public void before() {
+    mockMethodChannel = mock(MethodChannel.class);
+    tileCache = new TileCache(1024, null, 0);
+  }
+
+  private void answerTileRequests() {
+    doAnswer(
+            invocation -> {
+              final Map<String, Object> tile = new HashMap<>();
+              tile.put("width", 256);
+              tile.put("height", 256);
+              tile.put("data", TILE_DATA);
+              ((MethodChannel.Result) invocation.getArgument(2)).success(tile);
+              return null;
+            })
+        .when(mockMethodChannel)
+        .invokeMethod(eq("tileOverlay#getTile"), any(), any(MethodChannel.Result.class));
+  }
+
+  @Test
+  public void getTileRequestsTileFromDartOnlyOnce() {
+    answerTileRequests();
+    final TileProviderController controller =
+        new TileProviderController(mockMethodChannel, "overlay", tileCache, 1000);
+
+    final Tile first = controller.getTile(1, 2, 3);
+    final Tile second = controller.getTile(1, 2, 3);
+
+    assertArrayEquals(TILE_DATA, first.data);
+    assertEquals(first, second);
+    verify(mockMethodChannel, times(1))
+        .invokeMethod(eq("tileOverlay#getTile"), any(), any(MethodChannel.Result.class));
+  }
+
+  @Test
+  public void getTileReturnsNullWhenDartDoesNotAnswerInTime() {
+    final TileProviderController controller =
+        new TileProviderController(mockMethodChannel, "overlay", tileCache, 10);
+
+    assertNull(controller.getTile(1, 2, 3));
+  }
+
+  @Test
+  public void getTileDoesNotRequestTileOutsideOfVisibleRegion() {
+    answerTileRequests();
+    final TileProviderController controller =
+        new TileProviderController(mockMethodChannel, "overlay", tileCache, 1000);
+    controller.setVisibleRegion(new LatLngBounds(new LatLng(-1, -1), new LatLng(1, 1)), 10);
+
+    assertNull(controller.getTile(0, 0, 10));
+    verify(mockMethodChannel, never())
+        .invokeMethod(eq("tileOverlay#getTile"), any(), any(MethodChannel.Result.class));
+  }
+
+  @Test
+  public void clearingCacheRequestsTileAgain() {
+    answerTileRequests();
+    final TileProviderController controller =
+        new TileProviderController(mockMethodChannel, "overlay", tileCache, 1000);
+    controller.getTile(1, 2, 3);
+
+    tileCache.clear("overlay");
+    controller.getTile(1, 2, 3);
+
+    verify(mockMethodChannel, times(2))
+        .invokeMethod(eq("tileOverlay#getTile"), any(), any(MethodChannel.Result.class));
+  }
+}
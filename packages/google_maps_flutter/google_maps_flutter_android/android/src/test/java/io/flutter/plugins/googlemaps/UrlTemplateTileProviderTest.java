@@ -0,0 +1,151 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Build;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class UrlTemplateTileProviderTest {
+
+  private static final byte[] TILE_DATA = new byte[] {1, 2, 3};
+
+  private HttpURLConnection mockConnection;
+  private UrlTileLoader.Connector mockConnector;
+  private UrlTemplateTileProvider tileProvider;
+
+  @Before
+  public void before() throws IOException {
+    mockConnection = mock(HttpURLConnection.class);
+    mockConnector = mock(UrlTileLoader.Connector.class);
+    when(mockConnector.open(anyString())).thenReturn(mockConnection);
+    tileProvider =
+        new UrlTemplateTileProvider(
+            "https://tile.example.com/{z}/{x}/{y}.png",
+            512,
+            Collections.singletonMap("User-Agent", "test"),
+            new UrlTileLoader(new TileCache(1024, null, 0), mockConnector));
+  }
+
+  @Test
+  public void getTileDownloadsTileOnce() throws IOException {
+    when(mockConnection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_OK);
+    when(mockConnection.getInputStream()).thenReturn(new ByteArrayInputStream(TILE_DATA));
+
+    final Tile tile = tileProvider.getTile(1, 2, 3);
+    tileProvider.getTile(1, 2, 3);
+
+    assertEquals(512, tile.width);
+    assertArrayEquals(TILE_DATA, tile.data);
+    verify(mockConnector, times(1)).open("https://tile.example.com/3/1/2.png");
+    verify(mockConnection).setRequestProperty("User-Agent", "test");
+  }
+
+  @Test
+  public void getTileRevalidatesExpiredTileWithItsValidators() throws IOException {
+    when(mockConnection.getResponseCode())
+        .thenReturn(HttpURLConnection.HTTP_OK, HttpURLConnection.HTTP_NOT_MODIFIED);
+    when(mockConnection.getInputStream()).thenReturn(new ByteArrayInputStream(TILE_DATA));
+    when(mockConnection.getHeaderField("Cache-Control")).thenReturn("public, max-age=0");
+    when(mockConnection.getHeaderField("ETag")).thenReturn("\"v1\"");
+    when(mockConnection.getHeaderField("Last-Modified"))
+        .thenReturn("Mon, 01 Jan 2024 00:00:00 GMT");
+
+    tileProvider.getTile(1, 2, 3);
+    final Tile tile = tileProvider.getTile(1, 2, 3);
+
+    assertArrayEquals(TILE_DATA, tile.data);
+    verify(mockConnector, times(2)).open("https://tile.example.com/3/1/2.png");
+    verify(mockConnection).setRequestProperty("If-None-Match", "\"v1\"");
+    verify(mockConnection)
+        .setRequestProperty("If-Modified-Since", "Mon, 01 Jan 2024 00:00:00 GMT");
+  }
+
+  @Test
+  public void getTileDoesNotDownloadFreshTileAgain() throws IOException {
+    when(mockConnection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_OK);
+    when(mockConnection.getInputStream()).thenReturn(new ByteArrayInputStream(TILE_DATA));
+    when(mockConnection.getHeaderField("Cache-Control")).thenReturn("max-age=3600");
+
+    tileProvider.getTile(1, 2, 3);
+    tileProvider.getTile(1, 2, 3);
+
+    verify(mockConnector, times(1)).open("https://tile.example.com/3/1/2.png");
+  }
+
+  @Test
+  public void getTileReturnsExpiredTileWhenServerCantBeReached() throws IOException {
+    when(mockConnection.getResponseCode())
+        .thenReturn(HttpURLConnection.HTTP_OK)
+        .thenThrow(new IOException("offline"));
+    when(mockConnection.getInputStream()).thenReturn(new ByteArrayInputStream(TILE_DATA));
+    when(mockConnection.getHeaderField("Cache-Control")).thenReturn("max-age=0");
+
+    tileProvider.getTile(1, 2, 3);
+    final Tile tile = tileProvider.getTile(1, 2, 3);
+
+    assertArrayEquals(TILE_DATA, tile.data);
+    verify(mockConnector, times(2)).open("https://tile.example.com/3/1/2.png");
+  }
+
+  @Test
+  public void getTileReturnsNoTileWhenServerHasNone() throws IOException {
+    when(mockConnection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_NOT_FOUND);
+
+    assertEquals(TileProvider.NO_TILE, tileProvider.getTile(1, 2, 3));
+  }
+
+  @Test
+  public void getTileCachesMissingTileForAWhile() throws IOException {
+    when(mockConnection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_NOT_FOUND);
+
+    tileProvider.getTile(1, 2, 3);
+
+    assertEquals(TileProvider.NO_TILE, tileProvider.getTile(1, 2, 3));
+    verify(mockConnector, times(1)).open("https://tile.example.com/3/1/2.png");
+  }
+
+  @Test
+  public void getTileChecksExpiredMissingTileAgain() throws IOException {
+    when(mockConnection.getResponseCode())
+        .thenReturn(HttpURLConnection.HTTP_NOT_FOUND)
+        .thenReturn(HttpURLConnection.HTTP_OK);
+    when(mockConnection.getHeaderField("Cache-Control")).thenReturn("max-age=0");
+    when(mockConnection.getInputStream()).thenReturn(new ByteArrayInputStream(TILE_DATA));
+
+    assertEquals(TileProvider.NO_TILE, tileProvider.getTile(1, 2, 3));
+    final Tile tile = tileProvider.getTile(1, 2, 3);
+
+    assertArrayEquals(TILE_DATA, tile.data);
+    verify(mockConnector, times(2)).open("https://tile.example.com/3/1/2.png");
+  }
+
+  @Test
+  public void getTileReturnsNullOnServerError() throws IOException {
+    when(mockConnection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_UNAVAILABLE);
+
+    assertNull(tileProvider.getTile(1, 2, 3));
+  }
+}
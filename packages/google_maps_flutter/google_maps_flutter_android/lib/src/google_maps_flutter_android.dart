@@ -54,6 +54,329 @@ enum AndroidMapRenderer {
   platformDefault,
 }
 
+/// Configuration of the native cache of the tiles that [TileProvider]s return.
+///
+/// Tiles are cached per map, in memory and on disk, once the size of these
+/// caches is set. By default nothing is cached and tile requests don't time
+/// out. Tiles on disk are kept across app launches and are only keyed by [TileOverlayId], so
+/// overlays that show different content must use different IDs. Call
+/// `clearTileCache` when the content of an overlay changes.
+@immutable
+class AndroidTileCacheConfiguration {
+  /// Creates a tile cache configuration.
+  const AndroidTileCacheConfiguration({
+    this.memoryCacheSize = 0,
+    this.diskCacheSize = 0,
+    this.requestTimeout = Duration.zero,
+  });
+
+  /// The maximum number of bytes of tiles kept in memory, or 0 to disable the
+  /// memory cache.
+  final int memoryCacheSize;
+
+  /// The maximum number of bytes of tiles kept on disk, or 0 to disable the
+  /// disk cache.
+  final int diskCacheSize;
+
+  /// How long the map waits for a [TileProvider] to return a tile, or
+  /// [Duration.zero] to wait until it does.
+  ///
+  /// Tiles that take longer are requested again later.
+  final Duration requestTimeout;
+
+  Map<String, Object> _toJson() => <String, Object>{
+        'memoryCacheSize': memoryCacheSize,
+        'diskCacheSize': diskCacheSize,
+        'requestTimeoutMs': requestTimeout.inMilliseconds,
+      };
+}
+
+/// Configuration of the sampling of the camera positions that are reported
+/// while the camera of a map moves.
+///
+/// A position is reported when [minInterval] has passed since the last
+/// reported position, and the target, zoom, bearing or tilt of the camera has
+/// changed since then by at least the minimum delta for it. A minimum delta of
+/// 0 lets any change through. The final position of a move is always reported
+/// before the camera stops moving.
+///
+/// Only applies to maps that track their camera position.
+@immutable
+class AndroidCameraMoveSampling {
+  /// Creates a camera move sampling configuration.
+  const AndroidCameraMoveSampling({
+    this.minInterval = Duration.zero,
+    this.minTargetDelta = 0,
+    this.minZoomDelta = 0,
+    this.minBearingDelta = 0,
+    this.minTiltDelta = 0,
+  });
+
+  /// The minimum time between two reported positions.
+  final Duration minInterval;
+
+  /// The minimum distance that the target moves on screen, in logical pixels.
+  final double minTargetDelta;
+
+  /// The minimum change of the zoom level.
+  final double minZoomDelta;
+
+  /// The minimum change of the bearing, in degrees.
+  final double minBearingDelta;
+
+  /// The minimum change of the tilt, in degrees.
+  final double minTiltDelta;
+
+  Map<String, Object> _toJson() => <String, Object>{
+        'minIntervalMs': minInterval.inMilliseconds,
+        'minTargetDelta': minTargetDelta,
+        'minZoomDelta': minZoomDelta,
+        'minBearingDelta': minBearingDelta,
+        'minTiltDelta': minTiltDelta,
+      };
+}
+
+/// Configuration of the simplification of the large polylines and polygons of
+/// a map.
+///
+/// Polylines and polygons with at least [minPoints] points are shown with the
+/// points that are needed at the zoom level of the map, as chosen by the
+/// Douglas-Peucker algorithm, so that they are added and drawn faster. Their
+/// points are ranked once on a background thread, and are swapped for the
+/// level of detail of the zoom level every time the camera stops moving.
+@immutable
+class AndroidShapeSimplification {
+  /// Creates a shape simplification configuration.
+  const AndroidShapeSimplification({
+    this.tolerance = 1,
+    this.minPoints = 1000,
+  }) : assert(tolerance >= 0);
+
+  /// The largest distance between a simplified shape and the shape, in
+  /// logical pixels.
+  final double tolerance;
+
+  /// The minimum number of points of a shape for it to be simplified.
+  final int minPoints;
+
+  Map<String, Object> _toJson() => <String, Object>{
+        'tolerance': tolerance,
+        'minPoints': minPoints,
+      };
+}
+
+/// Configuration of the native clustering of the markers of a map.
+///
+/// Markers that are close to each other on screen are grouped into a single
+/// cluster marker, which shows how many markers it contains, rounded down to
+/// 10+, 20+, 50+, 100+ and so on from 10 markers up. Only the visible
+/// clusters and markers are added to the map, and they are recomputed on a
+/// background thread every time the camera stops moving.
+@immutable
+class AndroidMarkerClustering {
+  /// Creates a marker clustering configuration.
+  const AndroidMarkerClustering({
+    this.gridSize = 100,
+    this.minClusterSize = 2,
+  });
+
+  /// The size of the grid cells in which markers are grouped, in logical
+  /// pixels.
+  final int gridSize;
+
+  /// The minimum number of markers in a cell for them to be clustered.
+  final int minClusterSize;
+
+  Map<String, Object> _toJson() => <String, Object>{
+        'gridSize': gridSize,
+        'minClusterSize': minClusterSize,
+      };
+}
+
+/// Configuration of the virtualization of the markers of a map.
+///
+/// All the markers are kept in a spatial index on the platform side, but only
+/// the ones in the visible region, grown by [margin], are added to the map.
+/// They are updated every time the camera stops moving, and the markers that
+/// leave the region are reused for the ones that enter it.
+///
+/// Markers that aren't on the map can't show their info window. Clustering
+/// takes precedence over virtualization when both are configured.
+@immutable
+class AndroidMarkerVirtualization {
+  /// Creates a marker virtualization configuration.
+  const AndroidMarkerVirtualization({this.margin = 0.5})
+      : assert(margin >= 0);
+
+  /// How much the visible region is grown on every side, as a fraction of its
+  /// size.
+  final double margin;
+
+  Map<String, Object> _toJson() => <String, Object>{'margin': margin};
+}
+
+/// Configuration of the reuse of lite mode maps, for lists of small maps.
+///
+/// Only applies to maps created with `liteModeEnabled`. The views of disposed
+/// lite mode maps are kept in a pool, up to [maxPooledViews], and reused for
+/// the next lite mode maps instead of creating and initializing new ones.
+///
+/// If [cacheSnapshots] is true, a snapshot of each lite mode map is also cached
+/// once it is loaded, and can be shown instead of the map with
+/// [GoogleMapsFlutterAndroid.getCachedLiteModeSnapshot].
+@immutable
+class AndroidLiteModeCaching {
+  /// Creates a lite mode caching configuration.
+  const AndroidLiteModeCaching({
+    this.maxPooledViews = 4,
+    this.cacheSnapshots = false,
+    this.snapshotContentKey,
+  }) : assert(maxPooledViews >= 0);
+
+  /// The maximum number of views kept for reuse.
+  final int maxPooledViews;
+
+  /// Whether the snapshots of the maps are cached.
+  final bool cacheSnapshots;
+
+  /// Identifies the content of the maps, such as their markers, in the keys of
+  /// their snapshots.
+  ///
+  /// Snapshots are otherwise only keyed by camera position, map type and size,
+  /// so maps that show different content must be given different keys to get
+  /// their own snapshots.
+  final String? snapshotContentKey;
+
+  Map<String, Object> _toJson() => <String, Object>{
+        'maxPooledViews': maxPooledViews,
+        'cacheSnapshots': cacheSnapshots,
+        if (snapshotContentKey != null)
+          'snapshotContentKey': snapshotContentKey!,
+      };
+}
+
+/// The image format of a map snapshot.
+enum AndroidSnapshotFormat {
+  /// Lossless PNG, which ignores [AndroidSnapshotOptions.quality].
+  png,
+
+  /// Lossy JPEG.
+  jpeg,
+
+  /// Lossy WebP.
+  webp,
+}
+
+/// How a map snapshot is encoded.
+///
+/// Snapshots are encoded on a background thread, so the cost of encoding them
+/// doesn't depend on the format, but smaller formats and sizes take less time
+/// and memory to encode and to send to Dart.
+@immutable
+class AndroidSnapshotOptions {
+  /// Creates snapshot options.
+  const AndroidSnapshotOptions({
+    this.format = AndroidSnapshotFormat.png,
+    this.quality = 100,
+    this.maxWidth,
+    this.maxHeight,
+  }) : assert(quality >= 0 && quality <= 100);
+
+  /// The image format of the snapshot.
+  final AndroidSnapshotFormat format;
+
+  /// The quality of lossy formats, from 0 to 100.
+  final int quality;
+
+  /// The maximum width of the snapshot, in physical pixels, or null for no
+  /// maximum.
+  ///
+  /// Larger snapshots are scaled down to fit, keeping their aspect ratio.
+  final int? maxWidth;
+
+  /// The maximum height of the snapshot, in physical pixels, or null for no
+  /// maximum.
+  ///
+  /// Larger snapshots are scaled down to fit, keeping their aspect ratio.
+  final int? maxHeight;
+
+  Map<String, Object> _toJson() => <String, Object>{
+        'format': describeEnum(format),
+        'quality': quality,
+        'maxWidth': maxWidth ?? 0,
+        'maxHeight': maxHeight ?? 0,
+      };
+}
+
+/// A group of markers that are shown as a single marker.
+@immutable
+class AndroidCluster {
+  /// Creates a cluster.
+  const AndroidCluster({
+    required this.position,
+    required this.bounds,
+    required this.markerIds,
+  });
+
+  /// The position of the cluster marker, the centroid of its markers.
+  final LatLng position;
+
+  /// The bounds of the markers in the cluster.
+  final LatLngBounds bounds;
+
+  /// The markers in the cluster.
+  final List<MarkerId> markerIds;
+}
+
+/// An event fired when a cluster marker is tapped.
+class AndroidClusterTapEvent extends MapEvent<AndroidCluster> {
+  /// Build a cluster tap event triggered from the map represented by `mapId`.
+  ///
+  /// The `value` of this event is the tapped [AndroidCluster].
+  AndroidClusterTapEvent(int mapId, AndroidCluster cluster)
+      : super(mapId, cluster);
+}
+
+/// A [TileProvider] whose tiles are downloaded natively from a URL template,
+/// without going through Dart.
+///
+/// The tiles are cached on disk and shared by all the maps that use the same
+/// [urlTemplate].
+@immutable
+class AndroidUrlTemplateTileProvider implements TileProvider {
+  /// Creates a tile provider for [urlTemplate].
+  const AndroidUrlTemplateTileProvider(
+    this.urlTemplate, {
+    this.headers = const <String, String>{},
+  });
+
+  /// The URL of the tiles, where `{x}`, `{y}` and `{z}` are replaced by the
+  /// coordinates and the zoom level of each tile.
+  ///
+  /// For example, `https://tile.example.com/{z}/{x}/{y}.png`.
+  final String urlTemplate;
+
+  /// The HTTP headers sent with the tile requests.
+  final Map<String, String> headers;
+
+  /// Returns [TileProvider.noTile], as tiles are downloaded natively.
+  @override
+  Future<Tile> getTile(int x, int y, int? zoom) async => TileProvider.noTile;
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) {
+      return true;
+    }
+    return other is AndroidUrlTemplateTileProvider &&
+        urlTemplate == other.urlTemplate &&
+        mapEquals(headers, other.headers);
+  }
+
+  @override
+  int get hashCode => urlTemplate.hashCode;
+}
+
 /// An implementation of [GoogleMapsFlutterPlatform] for Android.
 class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   /// Registers the Android implementation of GoogleMapsFlutterPlatform.
@@ -65,6 +388,18 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   final MethodChannel _initializerChannel = const MethodChannel(
       'plugins.flutter.dev/google_maps_android_initializer');
 
+  /// The method channel used to get the cached snapshots of lite mode maps.
+  final MethodChannel _snapshotsChannel =
+      const MethodChannel('plugins.flutter.dev/google_maps_android_snapshots');
+
+  /// The method channel used to register marker icons.
+  final MethodChannel _markerIconsChannel = const MethodChannel(
+      'plugins.flutter.dev/google_maps_android_marker_icons');
+
+  // The IDs of the registered marker icons, by icon.
+  final Map<BitmapDescriptor, String> _markerIconIds =
+      Map<BitmapDescriptor, String>.identity();
+
   // Keep a collection of id -> channel
   // Every method call passes the int mapId
   final Map<int, MethodChannel> _channels = <int, MethodChannel>{};
@@ -174,6 +509,13 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     return _events(mapId).whereType<CircleTapEvent>();
   }
 
+  /// The cluster markers that are tapped on the map [mapId].
+  ///
+  /// Only maps created with [markerClustering] have cluster markers.
+  Stream<AndroidClusterTapEvent> onClusterTap({required int mapId}) {
+    return _events(mapId).whereType<AndroidClusterTapEvent>();
+  }
+
   @override
   Stream<MapTapEvent> onTap({required int mapId}) {
     return _events(mapId).whereType<MapTapEvent>();
@@ -258,6 +600,24 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
           CircleId(arguments['circleId']! as String),
         ));
         break;
+      case 'cluster#onTap':
+        final Map<String, Object?> arguments = _getArgumentDictionary(call);
+        final Map<dynamic, dynamic> bounds =
+            arguments['bounds']! as Map<dynamic, dynamic>;
+        _mapEventStreamController.add(AndroidClusterTapEvent(
+          mapId,
+          AndroidCluster(
+            position: LatLng.fromJson(arguments['position'])!,
+            bounds: LatLngBounds(
+              southwest: LatLng.fromJson(bounds['southwest'])!,
+              northeast: LatLng.fromJson(bounds['northeast'])!,
+            ),
+            markerIds: (arguments['markerIds']! as List<Object?>)
+                .map((Object? markerId) => MarkerId(markerId! as String))
+                .toList(),
+          ),
+        ));
+        break;
       case 'map#onTap':
         final Map<String, Object?> arguments = _getArgumentDictionary(call);
         _mapEventStreamController.add(MapTapEvent(
@@ -324,7 +684,13 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     assert(markerUpdates != null);
     return _channel(mapId).invokeMethod<void>(
       'markers#update',
-      markerUpdates.toJson(),
+      <String, Object>{
+        'markersToAdd': _serializeMarkerSet(markerUpdates.markersToAdd),
+        'markersToChange': _serializeMarkerSet(markerUpdates.markersToChange),
+        'markerIdsToRemove': markerUpdates.markerIdsToRemove
+            .map<String>((MarkerId id) => id.value)
+            .toList(),
+      },
     );
   }
 
@@ -336,7 +702,14 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     assert(polygonUpdates != null);
     return _channel(mapId).invokeMethod<void>(
       'polygons#update',
-      polygonUpdates.toJson(),
+      <String, Object>{
+        'polygonsToAdd': _serializePolygonSet(polygonUpdates.polygonsToAdd),
+        'polygonsToChange':
+            _serializePolygonSet(polygonUpdates.polygonsToChange),
+        'polygonIdsToRemove': polygonUpdates.polygonIdsToRemove
+            .map<String>((PolygonId id) => id.value)
+            .toList(),
+      },
     );
   }
 
@@ -348,7 +721,15 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     assert(polylineUpdates != null);
     return _channel(mapId).invokeMethod<void>(
       'polylines#update',
-      polylineUpdates.toJson(),
+      <String, Object>{
+        'polylinesToAdd':
+            _serializePolylineSet(polylineUpdates.polylinesToAdd),
+        'polylinesToChange':
+            _serializePolylineSet(polylineUpdates.polylinesToChange),
+        'polylineIdsToRemove': polylineUpdates.polylineIdsToRemove
+            .map<String>((PolylineId id) => id.value)
+            .toList(),
+      },
     );
   }
 
@@ -505,7 +886,30 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   Future<Uint8List?> takeSnapshot({
     required int mapId,
   }) {
-    return _channel(mapId).invokeMethod<Uint8List>('map#takeSnapshot');
+    return takeSnapshotWithOptions(mapId: mapId);
+  }
+
+  /// Takes a snapshot of the map, encoded as described by [options].
+  Future<Uint8List?> takeSnapshotWithOptions({
+    required int mapId,
+    AndroidSnapshotOptions options = const AndroidSnapshotOptions(),
+  }) {
+    return _channel(mapId)
+        .invokeMethod<Uint8List>('map#takeSnapshot', options._toJson());
+  }
+
+  /// Takes a snapshot of the map, encoded as described by [options], and
+  /// writes it to the file at [path].
+  ///
+  /// The snapshot is written on the platform side, so its bytes are never
+  /// sent to Dart.
+  Future<void> takeSnapshotToFile(
+    String path, {
+    required int mapId,
+    AndroidSnapshotOptions options = const AndroidSnapshotOptions(),
+  }) {
+    return _channel(mapId).invokeMethod<void>('map#takeSnapshot',
+        <String, Object>{...options._toJson(), 'filePath': path});
   }
 
   /// Set [GoogleMapsFlutterPlatform] to use [AndroidViewSurface] to build the
@@ -517,6 +921,101 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   /// Currently defaults to true, but the default is subject to change.
   bool useAndroidViewSurface = true;
 
+  /// The marker clustering of the maps that are created from now on, or null
+  /// to not cluster their markers.
+  AndroidMarkerClustering? markerClustering;
+
+  /// The sampling of the camera positions that the maps created from now on
+  /// report while their camera moves, or null to report every position.
+  AndroidCameraMoveSampling? cameraMoveSampling;
+
+  /// The marker virtualization of the maps that are created from now on, or
+  /// null to add all their markers to the map.
+  AndroidMarkerVirtualization? markerVirtualization;
+
+  /// The simplification of the large polylines and polygons of the maps that
+  /// are created from now on, or null to show all their points.
+  AndroidShapeSimplification? shapeSimplification;
+
+  /// The configuration of the tile cache of the maps that are created from now
+  /// on.
+  AndroidTileCacheConfiguration tileCacheConfiguration =
+      const AndroidTileCacheConfiguration();
+
+  /// The reuse of the lite mode maps that are created from now on, or null to
+  /// create a new view for each of them.
+  AndroidLiteModeCaching? liteModeCaching;
+
+  /// Returns the cached snapshot of a lite mode map with the given
+  /// [cameraPosition], [mapType] and [contentKey], whose size is [size] in
+  /// logical pixels, or null if there isn't any.
+  ///
+  /// Snapshots are only cached for maps created while [liteModeCaching] has
+  /// [AndroidLiteModeCaching.cacheSnapshots] set, and [contentKey] is the
+  /// [AndroidLiteModeCaching.snapshotContentKey] the map was created with.
+  Future<Uint8List?> getCachedLiteModeSnapshot({
+    required CameraPosition cameraPosition,
+    required Size size,
+    MapType mapType = MapType.normal,
+    String? contentKey,
+  }) {
+    return _snapshotsChannel
+        .invokeMethod<Uint8List>('snapshots#get', <String, Object>{
+      'cameraPosition': cameraPosition.toMap(),
+      'mapType': mapType.index,
+      'width': size.width,
+      'height': size.height,
+      if (contentKey != null) 'contentKey': contentKey,
+    });
+  }
+
+  /// Clears the cached snapshots of lite mode maps.
+  Future<void> clearLiteModeSnapshotCache() {
+    return _snapshotsChannel.invokeMethod<void>('snapshots#clear');
+  }
+
+  /// Registers the image in [bytes] as the marker icon [iconId] of all maps,
+  /// and returns a [BitmapDescriptor] for it.
+  ///
+  /// Markers that use the returned icon refer to it by [iconId] instead of
+  /// sending its bytes, and the image is only decoded once no matter how many
+  /// markers use it. Registering another image under the same [iconId]
+  /// replaces the icon for the markers added from then on.
+  Future<BitmapDescriptor> registerMarkerIcon(
+      String iconId, Uint8List bytes) async {
+    await _markerIconsChannel.invokeMethod<void>(
+        'markerIcons#register', <String, Object>{
+      'iconId': iconId,
+      'bytes': bytes,
+    });
+    _markerIconIds.removeWhere((_, String id) => id == iconId);
+    final BitmapDescriptor icon = BitmapDescriptor.fromBytes(bytes);
+    _markerIconIds[icon] = iconId;
+    return icon;
+  }
+
+  /// Unregisters the marker icon [iconId].
+  ///
+  /// Markers that already use the icon keep it, but the icon must not be used
+  /// by new markers afterwards.
+  Future<void> unregisterMarkerIcon(String iconId) async {
+    _markerIconIds.removeWhere((_, String id) => id == iconId);
+    await _markerIconsChannel.invokeMethod<void>(
+        'markerIcons#unregister', <String, Object>{'iconId': iconId});
+  }
+
+  /// Serializes [markers], referring to registered icons by their IDs.
+  List<Object> _serializeMarkerSet(Set<Marker> markers) {
+    return markers.map<Object>((Marker marker) {
+      final Map<String, Object> json = marker.toJson() as Map<String, Object>;
+      final String? iconId = _markerIconIds[marker.icon];
+      if (iconId != null) {
+        json['icon'] = <Object>['registeredIcon', iconId];
+      }
+      return json;
+    }).toList();
+  }
+
   /// Requests Google Map Renderer with [AndroidMapRenderer] type.
   ///
   /// See https://pub.dev/packages/google_maps_flutter_android#map-renderer
@@ -574,11 +1073,22 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
       'initialCameraPosition':
           widgetConfiguration.initialCameraPosition.toMap(),
       'options': mapOptions,
-      'markersToAdd': serializeMarkerSet(mapObjects.markers),
-      'polygonsToAdd': serializePolygonSet(mapObjects.polygons),
-      'polylinesToAdd': serializePolylineSet(mapObjects.polylines),
+      'markersToAdd': _serializeMarkerSet(mapObjects.markers),
+      'polygonsToAdd': _serializePolygonSet(mapObjects.polygons),
+      'polylinesToAdd': _serializePolylineSet(mapObjects.polylines),
       'circlesToAdd': serializeCircleSet(mapObjects.circles),
-      'tileOverlaysToAdd': serializeTileOverlaySet(mapObjects.tileOverlays),
+      'tileOverlaysToAdd': _serializeTileOverlaySet(mapObjects.tileOverlays),
+      if (markerClustering != null)
+        'markerClustering': markerClustering!._toJson(),
+      if (markerVirtualization != null)
+        'markerVirtualization': markerVirtualization!._toJson(),
+      if (cameraMoveSampling != null)
+        'cameraMoveSampling': cameraMoveSampling!._toJson(),
+      if (shapeSimplification != null)
+        'shapeSimplification': shapeSimplification!._toJson(),
+      'tileCache': tileCacheConfiguration._toJson(),
+      if (liteModeCaching != null)
+        'liteModeCaching': liteModeCaching!._toJson(),
     };
 
     const String viewType = 'plugins.flutter.dev/google_maps_android';
@@ -754,6 +1264,51 @@ Map<String, Object> _jsonForMapConfiguration(MapConfiguration config) {
   };
 }
 
+/// Packs [points] as alternating latitudes and longitudes, which the platform
+/// side receives as a single array instead of a list per point.
+Float64List _packPoints(List<LatLng> points) {
+  final Float64List packed = Float64List(points.length * 2);
+  for (int i = 0; i < points.length; i++) {
+    packed[i * 2] = points[i].latitude;
+    packed[i * 2 + 1] = points[i].longitude;
+  }
+  return packed;
+}
+
+/// Serializes [polygons], with their points and holes packed.
+List<Object> _serializePolygonSet(Set<Polygon> polygons) {
+  return polygons.map<Object>((Polygon polygon) {
+    final Map<String, Object> json = polygon.toJson() as Map<String, Object>;
+    json['points'] = _packPoints(polygon.points);
+    json['holes'] = polygon.holes.map<Object>(_packPoints).toList();
+    return json;
+  }).toList();
+}
+
+/// Serializes [polylines], with their points packed.
+List<Object> _serializePolylineSet(Set<Polyline> polylines) {
+  return polylines.map<Object>((Polyline polyline) {
+    final Map<String, Object> json = polyline.toJson() as Map<String, Object>;
+    json['points'] = _packPoints(polyline.points);
+    return json;
+  }).toList();
+}
+
+/// Serializes [tileOverlays], including the URL templates of the overlays that
+/// use an [AndroidUrlTemplateTileProvider].
+List<Object> _serializeTileOverlaySet(Set<TileOverlay> tileOverlays) {
+  return tileOverlays.map<Object>((TileOverlay tileOverlay) {
+    final Map<String, Object> json =
+        tileOverlay.toJson() as Map<String, Object>;
+    final TileProvider? tileProvider = tileOverlay.tileProvider;
+    if (tileProvider is AndroidUrlTemplateTileProvider) {
+      json['urlTemplate'] = tileProvider.urlTemplate;
+      json['urlTemplateHeaders'] = tileProvider.headers;
+    }
+    return json;
+  }).toList();
+}
+
 /// Update specification for a set of [TileOverlay]s.
 // TODO(stuartmorgan): Fix the missing export of this class in the platform
 // interface, and remove this copy.
@@ -771,6 +1326,15 @@ class _TileOverlayUpdates extends MapsObjectUpdates<TileOverlay> {
 
   /// Set of TileOverlays to be changed in this update.
   Set<TileOverlay> get tileOverlaysToChange => objectsToChange;
+
+  @override
+  Object toJson() {
+    final Map<String, Object> json = super.toJson() as Map<String, Object>;
+    json['tileOverlaysToAdd'] = _serializeTileOverlaySet(tileOverlaysToAdd);
+    json['tileOverlaysToChange'] =
+        _serializeTileOverlaySet(tileOverlaysToChange);
+    return json;
+  }
 }
 
 /// Thrown to indicate that a platform interaction failed to initialize renderer.
@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:async/async.dart';
 import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
@@ -83,6 +85,158 @@ void main() {
     ]);
   });
 
+  test('snapshots send encoding options', () async {
+    const int mapId = 0;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final List<dynamic> arguments = <dynamic>[];
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments.add(methodCall.arguments);
+      return null;
+    });
+
+    await maps.takeSnapshot(mapId: mapId);
+    await maps.takeSnapshotToFile('/tmp/snapshot.jpg',
+        mapId: mapId,
+        options: const AndroidSnapshotOptions(
+            format: AndroidSnapshotFormat.jpeg, quality: 80, maxWidth: 512));
+
+    expect(arguments, <dynamic>[
+      <String, Object>{
+        'format': 'png',
+        'quality': 100,
+        'maxWidth': 0,
+        'maxHeight': 0,
+      },
+      <String, Object>{
+        'format': 'jpeg',
+        'quality': 80,
+        'maxWidth': 512,
+        'maxHeight': 0,
+        'filePath': '/tmp/snapshot.jpg',
+      },
+    ]);
+  });
+
+  test('cached lite mode snapshots are looked up by camera and size',
+      () async {
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    const MethodChannel('plugins.flutter.dev/google_maps_android_snapshots')
+        .setMockMethodCallHandler((MethodCall methodCall) async {
+      log.add(methodCall.method);
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+      return Uint8List.fromList(<int>[1, 2, 3]);
+    });
+
+    final Uint8List? snapshot = await maps.getCachedLiteModeSnapshot(
+        cameraPosition: const CameraPosition(target: LatLng(1, 2), zoom: 10),
+        size: const Size(300, 150),
+        mapType: MapType.satellite);
+
+    expect(snapshot, <int>[1, 2, 3]);
+    expect(log, <String>['snapshots#get']);
+    expect(arguments['cameraPosition'],
+        const CameraPosition(target: LatLng(1, 2), zoom: 10).toMap());
+    expect(arguments['mapType'], MapType.satellite.index);
+    expect(arguments['width'], 300);
+    expect(arguments['height'], 150);
+    expect(arguments.containsKey('contentKey'), isFalse);
+
+    await maps.getCachedLiteModeSnapshot(
+        cameraPosition: const CameraPosition(target: LatLng(1, 2), zoom: 10),
+        size: const Size(300, 150),
+        contentKey: 'store-42');
+
+    expect(arguments['contentKey'], 'store-42');
+  });
+
+  test('tile overlays send URL templates', () async {
+    const int mapId = 0;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+    });
+
+    await maps.updateTileOverlays(newTileOverlays: <TileOverlay>{
+      const TileOverlay(
+        tileOverlayId: TileOverlayId('url'),
+        tileProvider: AndroidUrlTemplateTileProvider(
+            'https://tile.example.com/{z}/{x}/{y}.png',
+            headers: <String, String>{'User-Agent': 'test'}),
+      ),
+    }, mapId: mapId);
+
+    final Map<dynamic, dynamic> tileOverlay =
+        (arguments['tileOverlaysToAdd'] as List<dynamic>).single
+            as Map<dynamic, dynamic>;
+    expect(tileOverlay['tileOverlayId'], 'url');
+    expect(tileOverlay['urlTemplate'],
+        'https://tile.example.com/{z}/{x}/{y}.png');
+    expect(tileOverlay['urlTemplateHeaders'],
+        <String, String>{'User-Agent': 'test'});
+  });
+
+  test('polylines send packed points', () async {
+    const int mapId = 0;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+    });
+
+    await maps.updatePolylines(
+        PolylineUpdates.from(<Polyline>{}, <Polyline>{
+          const Polyline(
+            polylineId: PolylineId('route'),
+            points: <LatLng>[LatLng(1.0, 2.0), LatLng(3.0, 4.0)],
+          ),
+        }),
+        mapId: mapId);
+
+    final Map<dynamic, dynamic> polyline =
+        (arguments['polylinesToAdd'] as List<dynamic>).single
+            as Map<dynamic, dynamic>;
+    expect(polyline['polylineId'], 'route');
+    expect(polyline['points'], Float64List.fromList(<double>[1, 2, 3, 4]));
+    expect(arguments['polylineIdsToRemove'], isEmpty);
+  });
+
+  test('markers refer to registered icons by ID', () async {
+    const int mapId = 0;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    const MethodChannel('plugins.flutter.dev/google_maps_android_marker_icons')
+        .setMockMethodCallHandler((MethodCall methodCall) async {
+      log.add(methodCall.method);
+      return null;
+    });
+    late Map<dynamic, dynamic> arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<dynamic, dynamic>;
+    });
+
+    final BitmapDescriptor icon = await maps.registerMarkerIcon(
+        'pin', Uint8List.fromList(<int>[1, 2, 3]));
+    await maps.updateMarkers(
+        MarkerUpdates.from(<Marker>{}, <Marker>{
+          Marker(markerId: const MarkerId('registered'), icon: icon),
+          const Marker(markerId: MarkerId('default')),
+        }),
+        mapId: mapId);
+
+    expect(log, <String>['markerIcons#register', 'markers#update']);
+    final Map<String, dynamic> markers = <String, dynamic>{
+      for (final dynamic marker in arguments['markersToAdd'] as List<dynamic>)
+        (marker as Map<dynamic, dynamic>)['markerId'] as String: marker['icon']
+    };
+    expect(markers['registered'], <Object>['registeredIcon', 'pin']);
+    expect(markers['default'], <Object>['defaultMarker']);
+  });
+
   test('markers send drag event to correct streams', () async {
     const int mapId = 1;
     final Map<dynamic, dynamic> jsonMarkerDragStartEvent = <dynamic, dynamic>{
@@ -124,6 +278,32 @@ void main() {
         equals('drag-end-marker'));
   });
 
+  test('clusters send tap event to correct stream', () async {
+    const int mapId = 1;
+    final Map<dynamic, dynamic> jsonClusterTapEvent = <dynamic, dynamic>{
+      'position': <double>[1.0, 1.5],
+      'bounds': <dynamic, dynamic>{
+        'southwest': <double>[0.0, 1.0],
+        'northeast': <double>[2.0, 2.0],
+      },
+      'markerIds': <String>['first', 'second'],
+    };
+
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    maps.ensureChannelInitialized(mapId);
+
+    final StreamQueue<AndroidClusterTapEvent> clusterTapStream =
+        StreamQueue<AndroidClusterTapEvent>(maps.onClusterTap(mapId: mapId));
+
+    await sendPlatformMessage(mapId, 'cluster#onTap', jsonClusterTapEvent);
+
+    final AndroidCluster cluster = (await clusterTapStream.next).value;
+    expect(cluster.position, const LatLng(1.0, 1.5));
+    expect(cluster.bounds.northeast, const LatLng(2.0, 2.0));
+    expect(cluster.markerIds,
+        const <MarkerId>[MarkerId('first'), MarkerId('second')]);
+  });
+
   test(
     'Does not use PlatformViewLink when using TLHC',
     () async {
@@ -23,6 +23,7 @@ class ImagePickerCache {
   static final String MAP_KEY_MAX_WIDTH = "maxWidth";
   static final String MAP_KEY_MAX_HEIGHT = "maxHeight";
   static final String MAP_KEY_IMAGE_QUALITY = "imageQuality";
+  static final String MAP_KEY_OUTPUT_FORMAT = "outputFormat";
   private static final String MAP_KEY_TYPE = "type";
   private static final String MAP_KEY_ERROR_CODE = "errorCode";
   private static final String MAP_KEY_ERROR_MESSAGE = "errorMessage";
@@ -40,6 +41,9 @@ class ImagePickerCache {
   private static final String SHARED_PREFERENCE_IMAGE_QUALITY_KEY =
       "flutter_image_picker_image_quality";
 
+  private static final String SHARED_PREFERENCE_OUTPUT_FORMAT_KEY =
+      "flutter_image_picker_output_format";
+
   private static final String SHARED_PREFERENCE_TYPE_KEY = "flutter_image_picker_type";
   private static final String SHARED_PREFERENCE_PENDING_IMAGE_URI_PATH_KEY =
       "flutter_image_picker_pending_image_uri";
@@ -74,12 +78,17 @@ class ImagePickerCache {
         methodCall.argument(MAP_KEY_IMAGE_QUALITY) == null
             ? 100
             : (int) methodCall.argument(MAP_KEY_IMAGE_QUALITY);
+    String outputFormat = methodCall.argument(MAP_KEY_OUTPUT_FORMAT);
 
-    setMaxDimension(maxWidth, maxHeight, imageQuality);
+    setMaxDimension(maxWidth, maxHeight, imageQuality, outputFormat);
   }
 
-  private void setMaxDimension(Double maxWidth, Double maxHeight, int imageQuality) {
+  private void setMaxDimension(
+      Double maxWidth, Double maxHeight, int imageQuality, @Nullable String outputFormat) {
     SharedPreferences.Editor editor = prefs.edit();
+    if (outputFormat != null) {
+      editor.putString(SHARED_PREFERENCE_OUTPUT_FORMAT_KEY, outputFormat);
+    }
     if (maxWidth != null) {
       editor.putLong(SHARED_PREFERENCE_MAX_WIDTH_KEY, Double.doubleToRawLongBits(maxWidth));
     }
@@ -170,6 +179,10 @@ class ImagePickerCache {
       } else {
         resultMap.put(MAP_KEY_IMAGE_QUALITY, 100);
       }
+      if (prefs.contains(SHARED_PREFERENCE_OUTPUT_FORMAT_KEY)) {
+        final String outputFormat = prefs.getString(SHARED_PREFERENCE_OUTPUT_FORMAT_KEY, "");
+        resultMap.put(MAP_KEY_OUTPUT_FORMAT, outputFormat);
+      }
     }
     return resultMap;
   }
@@ -25,9 +25,11 @@ import io.flutter.plugin.common.PluginRegistry;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 
 enum CameraDevice {
   REAR,
@@ -71,6 +73,9 @@ enum CameraDevice {
  * Finish with full path for the scaled image as the result.
  *
  * <p>C) User cancels picking an image. Finish with null result.
+ *
+ * <p>Picked images are copied and scaled on background threads by an {@link ImageProcessor}, and
+ * the result is finished on the platform thread once all of them are processed.
  */
 public class ImagePickerDelegate
     implements PluginRegistry.ActivityResultListener,
@@ -92,6 +97,7 @@ public class ImagePickerDelegate
   private final PermissionManager permissionManager;
   private final FileUriResolver fileUriResolver;
   private final FileUtils fileUtils;
+  private final ImageProcessor imageProcessor;
   private CameraDevice cameraDevice;
 
   interface PermissionManager {
@@ -115,6 +121,7 @@ public class ImagePickerDelegate
   private Uri pendingCameraMediaUri;
   private MethodChannel.Result pendingResult;
   private MethodCall methodCall;
+  @Nullable private ImageProcessor.Job processingJob;
 
   public ImagePickerDelegate(
       final Activity activity,
@@ -165,7 +172,8 @@ public class ImagePickerDelegate
                 });
           }
         },
-        new FileUtils());
+        new FileUtils(),
+        new ImageProcessor());
   }
 
   /**
@@ -182,7 +190,8 @@ public class ImagePickerDelegate
       final ImagePickerCache cache,
       final PermissionManager permissionManager,
       final FileUriResolver fileUriResolver,
-      final FileUtils fileUtils) {
+      final FileUtils fileUtils,
+      final ImageProcessor imageProcessor) {
     this.activity = activity;
     this.externalFilesDirectory = externalFilesDirectory;
     this.imageResizer = imageResizer;
@@ -192,6 +201,7 @@ public class ImagePickerDelegate
     this.permissionManager = permissionManager;
     this.fileUriResolver = fileUriResolver;
     this.fileUtils = fileUtils;
+    this.imageProcessor = imageProcessor;
     this.cache = cache;
   }
 
@@ -216,31 +226,73 @@ public class ImagePickerDelegate
     }
   }
 
-  void retrieveLostImage(MethodChannel.Result result) {
-    Map<String, Object> resultMap = cache.getCacheMap();
+  void retrieveLostImage(final MethodChannel.Result result) {
+    final Map<String, Object> resultMap = cache.getCacheMap();
     @SuppressWarnings("unchecked")
     ArrayList<String> pathList = (ArrayList<String>) resultMap.get(cache.MAP_KEY_PATH_LIST);
-    ArrayList<String> newPathList = new ArrayList<>();
-    if (pathList != null) {
-      for (String path : pathList) {
-        Double maxWidth = (Double) resultMap.get(cache.MAP_KEY_MAX_WIDTH);
-        Double maxHeight = (Double) resultMap.get(cache.MAP_KEY_MAX_HEIGHT);
-        int imageQuality =
-            resultMap.get(cache.MAP_KEY_IMAGE_QUALITY) == null
-                ? 100
-                : (int) resultMap.get(cache.MAP_KEY_IMAGE_QUALITY);
-
-        newPathList.add(imageResizer.resizeImageIfNeeded(path, maxWidth, maxHeight, imageQuality));
+    if (pathList == null) {
+      cache.clear();
+      if (resultMap.isEmpty()) {
+        result.success(null);
+      } else {
+        result.success(resultMap);
       }
-      resultMap.put(cache.MAP_KEY_PATH_LIST, newPathList);
-      resultMap.put(cache.MAP_KEY_PATH, newPathList.get(newPathList.size() - 1));
+      return;
     }
-    if (resultMap.isEmpty()) {
-      result.success(null);
-    } else {
-      result.success(resultMap);
+    final Double maxWidth = (Double) resultMap.get(cache.MAP_KEY_MAX_WIDTH);
+    final Double maxHeight = (Double) resultMap.get(cache.MAP_KEY_MAX_HEIGHT);
+    final int imageQuality =
+        resultMap.get(cache.MAP_KEY_IMAGE_QUALITY) == null
+            ? 100
+            : (int) resultMap.get(cache.MAP_KEY_IMAGE_QUALITY);
+    final String outputFormat = (String) resultMap.get(cache.MAP_KEY_OUTPUT_FORMAT);
+    List<Callable<String>> tasks = new ArrayList<>();
+    for (final String path : pathList) {
+      tasks.add(
+          new Callable<String>() {
+            @Override
+            public String call() {
+              return imageResizer.resizeImageIfNeeded(
+                  path, maxWidth, maxHeight, imageQuality, outputFormat);
+            }
+          });
     }
-    cache.clear();
+    // The cache is only cleared once the images are processed, so that they can still be
+    // retrieved if the processing is interrupted.
+    imageProcessor.process(
+        tasks,
+        new ImageProcessor.Callback() {
+          @Override
+          public void onProcessed(ArrayList<String> newPathList) {
+            cache.clear();
+            resultMap.put(cache.MAP_KEY_PATH_LIST, newPathList);
+            resultMap.put(cache.MAP_KEY_PATH, newPathList.get(newPathList.size() - 1));
+            result.success(resultMap);
+          }
+
+          @Override
+          public void onFailed(Exception e) {
+            cache.clear();
+            result.error("processing_failed", e.getMessage(), null);
+          }
+
+          @Override
+          public void onDiscarded(String path) {}
+        });
+  }
+
+  /**
+   * Cancels the processing of picked images, and finishes with an error, unless the activity is
+   * only being recreated, in which case the result is still delivered once they are processed.
+   */
+  void cancelImageProcessing() {
+    if (processingJob == null || activity.isChangingConfigurations()) {
+      return;
+    }
+    if (processingJob.cancel()) {
+      finishWithError("processing_cancelled", "The image picker was closed.");
+    }
+    processingJob = null;
   }
 
   public void chooseVideoFromGallery(MethodCall methodCall, MethodChannel.Result result) {
@@ -485,8 +537,7 @@ public class ImagePickerDelegate
 
   private void handleChooseImageResult(int resultCode, Intent data) {
     if (resultCode == Activity.RESULT_OK && data != null) {
-      String path = fileUtils.getPathFromUri(activity, data.getData());
-      handleImageResult(path, false);
+      processImages(Collections.singletonList(pickedImageTask(data.getData())), false);
       return;
     }
 
@@ -496,15 +547,15 @@ public class ImagePickerDelegate
 
   private void handleChooseMultiImageResult(int resultCode, Intent intent) {
     if (resultCode == Activity.RESULT_OK && intent != null) {
-      ArrayList<String> paths = new ArrayList<>();
+      List<Callable<String>> tasks = new ArrayList<>();
       if (intent.getClipData() != null) {
         for (int i = 0; i < intent.getClipData().getItemCount(); i++) {
-          paths.add(fileUtils.getPathFromUri(activity, intent.getClipData().getItemAt(i).getUri()));
+          tasks.add(pickedImageTask(intent.getClipData().getItemAt(i).getUri()));
         }
       } else {
-        paths.add(fileUtils.getPathFromUri(activity, intent.getData()));
+        tasks.add(pickedImageTask(intent.getData()));
       }
-      handleMultiImageResult(paths, false);
+      processImages(tasks, true);
       return;
     }
 
@@ -532,7 +583,7 @@ public class ImagePickerDelegate
           new OnPathReadyListener() {
             @Override
             public void onPathReady(String path) {
-              handleImageResult(path, true);
+              processImages(Collections.singletonList(capturedImageTask(path)), false);
             }
           });
       return;
@@ -561,46 +612,76 @@ public class ImagePickerDelegate
     finishWithSuccess(null);
   }
 
-  private void handleMultiImageResult(
-      ArrayList<String> paths, boolean shouldDeleteOriginalIfScaled) {
-    if (methodCall != null) {
-      ArrayList<String> finalPath = new ArrayList<>();
-      for (int i = 0; i < paths.size(); i++) {
-        String finalImagePath = getResizedImagePath(paths.get(i));
-
-        //delete original file if scaled
-        if (finalImagePath != null
-            && !finalImagePath.equals(paths.get(i))
-            && shouldDeleteOriginalIfScaled) {
-          new File(paths.get(i)).delete();
-        }
-        finalPath.add(i, finalImagePath);
+  // Returns a task that copies the image picked from the gallery, and scales the copy if needed.
+  private Callable<String> pickedImageTask(final Uri uri) {
+    final MethodCall call = methodCall;
+    return new Callable<String>() {
+      @Override
+      public String call() {
+        String path = fileUtils.getPathFromUri(activity, uri);
+        return call != null ? getResizedImagePath(path, call) : path;
       }
-      finishWithListSuccess(finalPath);
-    } else {
-      finishWithListSuccess(paths);
-    }
+    };
   }
 
-  private void handleImageResult(String path, boolean shouldDeleteOriginalIfScaled) {
-    if (methodCall != null) {
-      String finalImagePath = getResizedImagePath(path);
-      //delete original file if scaled
-      if (finalImagePath != null && !finalImagePath.equals(path) && shouldDeleteOriginalIfScaled) {
-        new File(path).delete();
+  // Returns a task that scales the image taken with the camera if needed.
+  private Callable<String> capturedImageTask(final String path) {
+    final MethodCall call = methodCall;
+    return new Callable<String>() {
+      @Override
+      public String call() {
+        if (call == null) {
+          return path;
+        }
+        String finalImagePath = getResizedImagePath(path, call);
+        //delete original file if scaled
+        if (finalImagePath != null && !finalImagePath.equals(path)) {
+          new File(path).delete();
+        }
+        return finalImagePath;
       }
-      finishWithSuccess(finalImagePath);
-    } else {
-      finishWithSuccess(path);
-    }
-  }
-
-  private String getResizedImagePath(String path) {
-    Double maxWidth = methodCall.argument("maxWidth");
-    Double maxHeight = methodCall.argument("maxHeight");
-    Integer imageQuality = methodCall.argument("imageQuality");
-
-    return imageResizer.resizeImageIfNeeded(path, maxWidth, maxHeight, imageQuality);
+    };
+  }
+
+  private void processImages(List<Callable<String>> tasks, final boolean multiple) {
+    processingJob =
+        imageProcessor.process(
+            tasks,
+            new ImageProcessor.Callback() {
+              @Override
+              public void onProcessed(ArrayList<String> paths) {
+                processingJob = null;
+                if (multiple) {
+                  finishWithListSuccess(paths);
+                } else {
+                  finishWithSuccess(paths.get(0));
+                }
+              }
+
+              @Override
+              public void onFailed(Exception e) {
+                processingJob = null;
+                finishWithError("processing_failed", e.getMessage());
+              }
+
+              @Override
+              public void onDiscarded(String path) {
+                // The results are copies made by the plugin, which nothing refers to anymore.
+                if (path != null) {
+                  new File(path).delete();
+                }
+              }
+            });
+  }
+
+  private String getResizedImagePath(String path, MethodCall call) {
+    Double maxWidth = call.argument("maxWidth");
+    Double maxHeight = call.argument("maxHeight");
+    Integer imageQuality = call.argument("imageQuality");
+    String outputFormat = call.argument("outputFormat");
+
+    return imageResizer.resizeImageIfNeeded(
+        path, maxWidth, maxHeight, imageQuality, outputFormat);
   }
 
   private void handleVideoResult(String path) {
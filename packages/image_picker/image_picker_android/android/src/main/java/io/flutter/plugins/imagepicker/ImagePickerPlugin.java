@@ -142,6 +142,10 @@ public class ImagePickerPlugin
     }
 
     void release() {
+      if (delegate != null) {
+        delegate.cancelImageProcessing();
+      }
+
       if (activityBinding != null) {
         activityBinding.removeActivityResultListener(delegate);
         activityBinding.removeRequestPermissionsResultListener(delegate);
@@ -0,0 +1,230 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processes picked images on background threads.
+ *
+ * <p>The images of a pick are copied, scaled and compressed concurrently, on a small pool of
+ * threads, since each of them may hold a decoded image in memory. Their results are delivered
+ * together, in the order of the images, on the platform thread.
+ */
+class ImageProcessor {
+  private static final int MAX_THREADS = 4;
+  private static final long KEEP_ALIVE_SECONDS = 30;
+
+  private static ThreadPoolExecutor backgroundExecutor;
+
+  interface Callback {
+    /** Called on the platform thread with the results of the tasks, in the order of the tasks. */
+    void onProcessed(@NonNull ArrayList<String> paths);
+
+    /** Called on the platform thread if a task failed. */
+    void onFailed(@NonNull Exception e);
+
+    /**
+     * Called with the result of a task that completed after the job was cancelled or failed, or
+     * before it was cancelled or failed, so that the files it created can be deleted. May be called
+     * on any thread.
+     */
+    void onDiscarded(@Nullable String path);
+  }
+
+  /** The processing of the images of a pick. */
+  static final class Job {
+    private final Object lock = new Object();
+    private final Callback callback;
+    private final Executor callbackExecutor;
+    private final String[] results;
+    private final boolean[] completed;
+    private int remaining;
+    private boolean finished;
+
+    private Job(int size, Callback callback, Executor callbackExecutor) {
+      this.callback = callback;
+      this.callbackExecutor = callbackExecutor;
+      results = new String[size];
+      completed = new boolean[size];
+      remaining = size;
+    }
+
+    /**
+     * Cancels the job. The tasks that haven't started are skipped, and the results of the others
+     * are discarded instead of being delivered.
+     *
+     * @return false if the job already finished.
+     */
+    boolean cancel() {
+      final List<String> discarded;
+      synchronized (lock) {
+        if (finished) {
+          return false;
+        }
+        finished = true;
+        discarded = completedResults();
+      }
+      for (String path : discarded) {
+        callback.onDiscarded(path);
+      }
+      return true;
+    }
+
+    private boolean isFinished() {
+      synchronized (lock) {
+        return finished;
+      }
+    }
+
+    private void run(int index, Callable<String> task) {
+      if (isFinished()) {
+        return;
+      }
+      final String result;
+      try {
+        result = task.call();
+      } catch (final Exception e) {
+        fail(e);
+        return;
+      }
+      final boolean discard;
+      final boolean deliver;
+      synchronized (lock) {
+        discard = finished;
+        if (!finished) {
+          results[index] = result;
+          completed[index] = true;
+          remaining--;
+          finished = remaining == 0;
+        }
+        deliver = !discard && finished;
+      }
+      if (discard) {
+        callback.onDiscarded(result);
+      } else if (deliver) {
+        deliver();
+      }
+    }
+
+    private void deliver() {
+      final ArrayList<String> paths = new ArrayList<>(Arrays.asList(results));
+      callbackExecutor.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              callback.onProcessed(paths);
+            }
+          });
+    }
+
+    private void fail(final Exception e) {
+      final List<String> discarded;
+      synchronized (lock) {
+        if (finished) {
+          return;
+        }
+        finished = true;
+        discarded = completedResults();
+      }
+      for (String path : discarded) {
+        callback.onDiscarded(path);
+      }
+      callbackExecutor.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              callback.onFailed(e);
+            }
+          });
+    }
+
+    // Must be called while holding the lock.
+    private List<String> completedResults() {
+      final List<String> paths = new ArrayList<>();
+      for (int i = 0; i < results.length; i++) {
+        if (completed[i]) {
+          paths.add(results[i]);
+        }
+      }
+      return paths;
+    }
+  }
+
+  private final Executor executor;
+  private final Executor callbackExecutor;
+
+  ImageProcessor() {
+    this(
+        getBackgroundExecutor(),
+        new Executor() {
+          @Override
+          public void execute(Runnable command) {
+            new Handler(Looper.getMainLooper()).post(command);
+          }
+        });
+  }
+
+  @VisibleForTesting
+  ImageProcessor(Executor executor, Executor callbackExecutor) {
+    this.executor = executor;
+    this.callbackExecutor = callbackExecutor;
+  }
+
+  private static synchronized Executor getBackgroundExecutor() {
+    if (backgroundExecutor == null) {
+      final int threads =
+          Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+      backgroundExecutor =
+          new ThreadPoolExecutor(
+              threads,
+              threads,
+              KEEP_ALIVE_SECONDS,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<Runnable>());
+      // The threads are only kept while images are being picked.
+      backgroundExecutor.allowCoreThreadTimeOut(true);
+    }
+    return backgroundExecutor;
+  }
+
+  /**
+   * Runs {@code tasks}, each of which processes an image and returns the path of the result, and
+   * reports their results to {@code callback}.
+   */
+  @NonNull
+  Job process(@NonNull List<Callable<String>> tasks, @NonNull Callback callback) {
+    final Job job = new Job(tasks.size(), callback, callbackExecutor);
+    if (tasks.isEmpty()) {
+      job.finished = true;
+      job.deliver();
+      return job;
+    }
+    for (int i = 0; i < tasks.size(); i++) {
+      final int index = i;
+      final Callable<String> task = tasks.get(i);
+      executor.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              job.run(index, task);
+            }
+          });
+    }
+    return job;
+  }
+}
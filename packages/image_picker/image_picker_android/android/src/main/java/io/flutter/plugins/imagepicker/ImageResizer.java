@@ -4,16 +4,30 @@
 
 package io.flutter.plugins.imagepicker;
 
+import android.annotation.TargetApi;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
+import android.os.Build;
 import android.util.Log;
 import androidx.annotation.Nullable;
-import java.io.ByteArrayOutputStream;
+import androidx.annotation.VisibleForTesting;
+import androidx.heifwriter.HeifWriter;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 class ImageResizer {
+  // The formats that images can be compressed to. Without one, images are compressed to PNG if they
+  // have an alpha channel, and to JPEG otherwise.
+  static final String FORMAT_JPEG = "jpeg";
+  static final String FORMAT_PNG = "png";
+  static final String FORMAT_WEBP = "webp";
+  static final String FORMAT_HEIF = "heif";
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
   private final File externalFilesDirectory;
   private final ExifDataCopier exifDataCopier;
 
@@ -26,26 +40,53 @@ class ImageResizer {
    * If necessary, resizes the image located in imagePath and then returns the path for the scaled
    * image.
    *
-   * <p>If no resizing is needed, returns the path for the original image.
+   * <p>If no resizing is needed, returns the path for the original image. Images are always
+   * compressed again if an {@code outputFormat} is given.
+   *
+   * <p>Returns null if the image cannot be decoded.
+   *
+   * <p>Only the size of the image is read to check whether it can be decoded, and the image is
+   * then decoded with the largest subsampling that keeps it at least as large as the scaled image,
+   * so that a full resolution bitmap of a large photo is never held in memory.
    */
   String resizeImageIfNeeded(
       String imagePath,
       @Nullable Double maxWidth,
       @Nullable Double maxHeight,
-      @Nullable Integer imageQuality) {
-    Bitmap bmp = decodeFile(imagePath);
-    if (bmp == null) {
+      @Nullable Integer imageQuality,
+      @Nullable String outputFormat) {
+    BitmapFactory.Options bounds = decodeBounds(imagePath);
+    if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
       return null;
     }
     boolean shouldScale =
-        maxWidth != null || maxHeight != null || isImageQualityValid(imageQuality);
+        maxWidth != null
+            || maxHeight != null
+            || isImageQualityValid(imageQuality)
+            || outputFormat != null;
     if (!shouldScale) {
       return imagePath;
     }
     try {
       String[] pathParts = imagePath.split("/");
       String imageName = pathParts[pathParts.length - 1];
-      File file = resizedImage(bmp, maxWidth, maxHeight, imageQuality, imageName);
+      outputFormat = supportedFormat(outputFormat);
+      if (outputFormat != null) {
+        imageName = withExtension(imageName, outputFormat);
+      }
+      File file =
+          resizedImage(
+              imagePath,
+              bounds.outWidth,
+              bounds.outHeight,
+              maxWidth,
+              maxHeight,
+              imageQuality,
+              outputFormat,
+              imageName);
+      if (file == null) {
+        return null;
+      }
       copyExif(imagePath, file.getPath());
       return file.getPath();
     } catch (IOException e) {
@@ -53,11 +94,19 @@ class ImageResizer {
     }
   }
 
+  @Nullable
   private File resizedImage(
-      Bitmap bmp, Double maxWidth, Double maxHeight, Integer imageQuality, String outputImageName)
+      String imagePath,
+      int imageWidth,
+      int imageHeight,
+      Double maxWidth,
+      Double maxHeight,
+      Integer imageQuality,
+      @Nullable String outputFormat,
+      String outputImageName)
       throws IOException {
-    double originalWidth = bmp.getWidth() * 1.0;
-    double originalHeight = bmp.getHeight() * 1.0;
+    double originalWidth = imageWidth * 1.0;
+    double originalHeight = imageHeight * 1.0;
 
     if (!isImageQualityValid(imageQuality)) {
       imageQuality = 100;
@@ -98,30 +147,82 @@ class ImageResizer {
       }
     }
 
+    int inSampleSize =
+        calculateInSampleSize(imageWidth, imageHeight, width.intValue(), height.intValue());
+    Bitmap bmp = decodeFile(imagePath, inSampleSize);
+    if (bmp == null) {
+      return null;
+    }
     Bitmap scaledBmp = createScaledBitmap(bmp, width.intValue(), height.intValue(), false);
-    File file =
-        createImageOnExternalDirectory("/scaled_" + outputImageName, scaledBmp, imageQuality);
-    return file;
+    // The decoded and scaled bitmaps may each be large, so their memory is freed right away.
+    if (scaledBmp != bmp) {
+      bmp.recycle();
+    }
+    try {
+      return createImageOnExternalDirectory(
+          "/scaled_" + outputImageName, scaledBmp, imageQuality, outputFormat);
+    } finally {
+      scaledBmp.recycle();
+    }
   }
 
-  private File createFile(File externalFilesDirectory, String child) {
+  // Images may be resized concurrently, so the file is created atomically, and an image with the
+  // same name as an existing one is given a unique name in the same directory.
+  private File createFile(File externalFilesDirectory, String child) throws IOException {
     File image = new File(externalFilesDirectory, child);
-    if (!image.getParentFile().exists()) {
-      image.getParentFile().mkdirs();
+    File directory = image.getParentFile();
+    if (!directory.exists()) {
+      directory.mkdirs();
     }
-    return image;
+    if (image.createNewFile()) {
+      return image;
+    }
+    String name = image.getName();
+    int extensionIndex = name.lastIndexOf('.');
+    String prefix = extensionIndex > 0 ? name.substring(0, extensionIndex) : name;
+    String suffix = extensionIndex > 0 ? name.substring(extensionIndex) : "";
+    // The names start with "scaled_", so the prefix is long enough for createTempFile.
+    return File.createTempFile(prefix + "_", suffix, directory);
   }
 
-  private FileOutputStream createOutputStream(File imageFile) throws IOException {
-    return new FileOutputStream(imageFile);
+  private OutputStream createOutputStream(File imageFile) throws IOException {
+    return new BufferedOutputStream(new FileOutputStream(imageFile), BUFFER_SIZE);
   }
 
   private void copyExif(String filePathOri, String filePathDest) {
     exifDataCopier.copyExif(filePathOri, filePathDest);
   }
 
-  private Bitmap decodeFile(String path) {
-    return BitmapFactory.decodeFile(path);
+  private BitmapFactory.Options decodeBounds(String path) {
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inJustDecodeBounds = true;
+    BitmapFactory.decodeFile(path, options);
+    return options;
+  }
+
+  private Bitmap decodeFile(String path, int inSampleSize) {
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inSampleSize = inSampleSize;
+    // RGB_565 would halve the memory of opaque images, but shows banding once compressed again.
+    options.inPreferredConfig = Bitmap.Config.ARGB_8888;
+    return BitmapFactory.decodeFile(path, options);
+  }
+
+  /**
+   * Returns the largest power of two by which an image of {@code width} by {@code height} can be
+   * subsampled while decoding it, so that it is still at least {@code targetWidth} by {@code
+   * targetHeight}. The decoded image is then scaled to its exact size.
+   */
+  @VisibleForTesting
+  static int calculateInSampleSize(int width, int height, int targetWidth, int targetHeight) {
+    targetWidth = Math.max(1, targetWidth);
+    targetHeight = Math.max(1, targetHeight);
+    int inSampleSize = 1;
+    while (width / (inSampleSize * 2) >= targetWidth
+        && height / (inSampleSize * 2) >= targetHeight) {
+      inSampleSize *= 2;
+    }
+    return inSampleSize;
   }
 
   private Bitmap createScaledBitmap(Bitmap bmp, int width, int height, boolean filter) {
@@ -132,23 +233,109 @@ class ImageResizer {
     return imageQuality != null && imageQuality > 0 && imageQuality < 100;
   }
 
-  private File createImageOnExternalDirectory(String name, Bitmap bitmap, int imageQuality)
-      throws IOException {
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    boolean saveAsPNG = bitmap.hasAlpha();
-    if (saveAsPNG) {
+  // Returns the format that images are compressed to when outputFormat is requested.
+  @Nullable
+  private static String supportedFormat(@Nullable String outputFormat) {
+    if (FORMAT_HEIF.equals(outputFormat) && Build.VERSION.SDK_INT < Build.VERSION_CODES.P) {
       Log.d(
           "ImageResizer",
-          "image_picker: compressing is not supported for type PNG. Returning the image with original quality");
+          "image_picker: HEIF is only supported from Android 9. "
+              + "Compressing the image to JPEG instead");
+      return FORMAT_JPEG;
+    }
+    return outputFormat;
+  }
+
+  private static String withExtension(String imageName, String format) {
+    int extensionStart = imageName.lastIndexOf('.');
+    String baseName = extensionStart > 0 ? imageName.substring(0, extensionStart) : imageName;
+    switch (format) {
+      case FORMAT_JPEG:
+        return baseName + ".jpg";
+      case FORMAT_HEIF:
+        return baseName + ".heic";
+      default:
+        return baseName + "." + format;
+    }
+  }
+
+  private static Bitmap.CompressFormat toCompressFormat(String format) {
+    switch (format) {
+      case FORMAT_PNG:
+        return Bitmap.CompressFormat.PNG;
+      case FORMAT_WEBP:
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+          return Bitmap.CompressFormat.WEBP_LOSSY;
+        }
+        @SuppressWarnings("deprecation")
+        Bitmap.CompressFormat webp = Bitmap.CompressFormat.WEBP;
+        return webp;
+      default:
+        return Bitmap.CompressFormat.JPEG;
+    }
+  }
+
+  private File createImageOnExternalDirectory(
+      String name, Bitmap bitmap, int imageQuality, @Nullable String outputFormat)
+      throws IOException {
+    if (outputFormat == null) {
+      boolean saveAsPNG = bitmap.hasAlpha();
+      if (saveAsPNG) {
+        Log.d(
+            "ImageResizer",
+            "image_picker: compressing is not supported for type PNG. Returning the image with original quality");
+      }
+      outputFormat = saveAsPNG ? FORMAT_PNG : FORMAT_JPEG;
     }
-    bitmap.compress(
-        saveAsPNG ? Bitmap.CompressFormat.PNG : Bitmap.CompressFormat.JPEG,
-        imageQuality,
-        outputStream);
     File imageFile = createFile(externalFilesDirectory, name);
-    FileOutputStream fileOutput = createOutputStream(imageFile);
-    fileOutput.write(outputStream.toByteArray());
-    fileOutput.close();
+    if (FORMAT_HEIF.equals(outputFormat)) {
+      try {
+        writeHeif(imageFile, bitmap, imageQuality);
+        return imageFile;
+      } catch (IOException e) {
+        // Devices can lack a HEVC encoder, or one that supports the size of the image.
+        Log.d(
+            "ImageResizer",
+            "image_picker: Failed to compress the image to HEIF. "
+                + "Compressing the image to JPEG instead",
+            e);
+        imageFile.delete();
+        outputFormat = FORMAT_JPEG;
+        imageFile = createFile(externalFilesDirectory, withExtension(name, FORMAT_JPEG));
+      }
+    }
+    // The image is compressed straight to the file, rather than to a copy in memory first.
+    try (OutputStream outputStream = createOutputStream(imageFile)) {
+      if (!bitmap.compress(toCompressFormat(outputFormat), imageQuality, outputStream)) {
+        throw new IOException("Failed to compress the image to " + outputFormat);
+      }
+    }
     return imageFile;
   }
+
+  @TargetApi(Build.VERSION_CODES.P)
+  private void writeHeif(File imageFile, Bitmap bitmap, int imageQuality) throws IOException {
+    HeifWriter writer = null;
+    try {
+      // Building the writer fails if the device has no encoder for the image.
+      writer =
+          new HeifWriter.Builder(
+                  imageFile.getPath(),
+                  bitmap.getWidth(),
+                  bitmap.getHeight(),
+                  HeifWriter.INPUT_MODE_BITMAP)
+              .setQuality(imageQuality)
+              .build();
+      writer.start();
+      writer.addBitmap(bitmap);
+      // Waits for the encoder to finish writing the file.
+      writer.stop(0);
+    } catch (Exception e) {
+      throw new IOException("Failed to compress the image to HEIF", e);
+    } finally {
+      if (writer != null) {
+        writer.close();
+      }
+    }
+  }
 }
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.when;
 import android.Manifest;
 import android.app.Activity;
 import android.content.ActivityNotFoundException;
+import android.content.ClipData;
 import android.content.Context;
 import android.content.Intent;
 import android.content.pm.PackageManager;
@@ -30,7 +31,9 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.After;
 import org.junit.Before;
@@ -57,6 +60,8 @@ public class ImagePickerDelegateTest {
   @Mock ImagePickerCache cache;
 
   ImagePickerDelegate.FileUriResolver mockFileUriResolver;
+  // Processes images synchronously, so that the results can be verified right away.
+  ImageProcessor imageProcessor = new ImageProcessor(Runnable::run, Runnable::run);
   MockedStatic<File> mockStaticFile;
 
   private static class MockFileUriResolver implements ImagePickerDelegate.FileUriResolver {
@@ -86,15 +91,15 @@ public class ImagePickerDelegateTest {
     when(mockFileUtils.getPathFromUri(any(Context.class), any(Uri.class)))
         .thenReturn("pathFromUri");
 
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, null, null))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, null, null, null))
         .thenReturn("originalPath");
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, null, IMAGE_QUALITY))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, null, IMAGE_QUALITY, null))
         .thenReturn("originalPath");
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", WIDTH, HEIGHT, null))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", WIDTH, HEIGHT, null, null))
         .thenReturn("scaledPath");
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", WIDTH, null, null))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", WIDTH, null, null, null))
         .thenReturn("scaledPath");
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, HEIGHT, null))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, HEIGHT, null, null))
         .thenReturn("scaledPath");
 
     mockFileUriResolver = new MockFileUriResolver();
@@ -323,6 +328,51 @@ public class ImagePickerDelegateTest {
     verifyNoMoreInteractions(mockResult);
   }
 
+  @Test
+  public void
+      onActivityResult_WhenMultipleImagesPickedFromGallery_FinishesWithPathsInPickedOrder() {
+    Uri firstUri = mock(Uri.class);
+    Uri secondUri = mock(Uri.class);
+    when(mockFileUtils.getPathFromUri(any(Context.class), eq(firstUri))).thenReturn("first");
+    when(mockFileUtils.getPathFromUri(any(Context.class), eq(secondUri))).thenReturn("second");
+    when(mockImageResizer.resizeImageIfNeeded("first", null, null, null, null))
+        .thenReturn("first");
+    when(mockImageResizer.resizeImageIfNeeded("second", null, null, null, null))
+        .thenReturn("second");
+    ClipData.Item firstItem = mock(ClipData.Item.class);
+    when(firstItem.getUri()).thenReturn(firstUri);
+    ClipData.Item secondItem = mock(ClipData.Item.class);
+    when(secondItem.getUri()).thenReturn(secondUri);
+    ClipData clipData = mock(ClipData.class);
+    when(clipData.getItemCount()).thenReturn(2);
+    when(clipData.getItemAt(0)).thenReturn(firstItem);
+    when(clipData.getItemAt(1)).thenReturn(secondItem);
+    when(mockIntent.getClipData()).thenReturn(clipData);
+
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall();
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY,
+        Activity.RESULT_OK,
+        mockIntent);
+
+    verify(mockResult).success(new ArrayList<>(Arrays.asList("first", "second")));
+    verifyNoMoreInteractions(mockResult);
+  }
+
+  @Test
+  public void cancelImageProcessing_WhenImagesAreBeingProcessed_FinishesWithError() {
+    // Never runs the tasks, so that the images are still being processed when cancelling.
+    imageProcessor = new ImageProcessor(command -> {}, Runnable::run);
+
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall();
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_IMAGE_FROM_GALLERY, Activity.RESULT_OK, mockIntent);
+    delegate.cancelImageProcessing();
+
+    verify(mockResult).error("processing_cancelled", "The image picker was closed.", null);
+    verifyNoMoreInteractions(mockResult);
+  }
+
   @Test
   public void
       onActivityResult_WhenVideoPickedFromGallery_AndResizeParametersSupplied_FinishesWithFilePath() {
@@ -406,9 +456,9 @@ public class ImagePickerDelegateTest {
     pathList.add("/example/last_item");
     resultMap.put("pathList", pathList);
 
-    when(mockImageResizer.resizeImageIfNeeded(pathList.get(0), null, null, 100))
+    when(mockImageResizer.resizeImageIfNeeded(pathList.get(0), null, null, 100, null))
         .thenReturn(pathList.get(0));
-    when(mockImageResizer.resizeImageIfNeeded(pathList.get(1), null, null, 100))
+    when(mockImageResizer.resizeImageIfNeeded(pathList.get(1), null, null, 100, null))
         .thenReturn(pathList.get(1));
     when(cache.getCacheMap()).thenReturn(resultMap);
 
@@ -425,6 +475,27 @@ public class ImagePickerDelegateTest {
     assertEquals("/example/last_item", valueCapture.getValue().get("path"));
   }
 
+  @Test
+  public void retrieveLostImage_ShouldClearTheCacheOnlyOnceTheImagesAreProcessed() {
+    Map<String, Object> resultMap = new HashMap<>();
+    ArrayList<String> pathList = new ArrayList<>();
+    pathList.add("/example/item");
+    resultMap.put("pathList", pathList);
+    when(mockImageResizer.resizeImageIfNeeded(pathList.get(0), null, null, 100, null))
+        .thenReturn(pathList.get(0));
+    when(cache.getCacheMap()).thenReturn(resultMap);
+    final List<Runnable> callbacks = new ArrayList<>();
+    imageProcessor = new ImageProcessor(Runnable::run, callbacks::add);
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+
+    createDelegate().retrieveLostImage(mockResult);
+
+    verify(cache, never()).clear();
+    callbacks.get(0).run();
+    verify(cache).clear();
+    verify(mockResult).success(any());
+  }
+
   private ImagePickerDelegate createDelegate() {
     return new ImagePickerDelegate(
         mockActivity,
@@ -435,7 +506,8 @@ public class ImagePickerDelegateTest {
         cache,
         mockPermissionManager,
         mockFileUriResolver,
-        mockFileUtils);
+        mockFileUtils,
+        imageProcessor);
   }
 
   private ImagePickerDelegate createDelegateWithPendingResultAndMethodCall() {
@@ -448,7 +520,8 @@ public class ImagePickerDelegateTest {
         cache,
         mockPermissionManager,
         mockFileUriResolver,
-        mockFileUtils);
+        mockFileUtils,
+        imageProcessor);
   }
 
   private void verifyFinishedWithAlreadyActiveError() {
@@ -0,0 +1,178 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ImageProcessorTest {
+  private ExecutorService executor;
+  private final List<Runnable> pendingTasks = new ArrayList<>();
+
+  private static class RecordingCallback implements ImageProcessor.Callback {
+    final CountDownLatch done = new CountDownLatch(1);
+    final List<String> discarded = Collections.synchronizedList(new ArrayList<String>());
+    ArrayList<String> paths;
+    Exception error;
+
+    @Override
+    public void onProcessed(ArrayList<String> paths) {
+      this.paths = paths;
+      done.countDown();
+    }
+
+    @Override
+    public void onFailed(Exception e) {
+      error = e;
+      done.countDown();
+    }
+
+    @Override
+    public void onDiscarded(String path) {
+      discarded.add(path);
+    }
+  }
+
+  @Before
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(3);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void process_DeliversResultsInTheOrderOfTheTasks() throws InterruptedException {
+    ImageProcessor processor = new ImageProcessor(executor, Runnable::run);
+    RecordingCallback callback = new RecordingCallback();
+    final CountDownLatch othersDone = new CountDownLatch(2);
+
+    // The first task only completes after the others.
+    processor.process(
+        Arrays.<Callable<String>>asList(
+            () -> {
+              othersDone.await();
+              return "first";
+            },
+            () -> {
+              othersDone.countDown();
+              return "second";
+            },
+            () -> {
+              othersDone.countDown();
+              return "third";
+            }),
+        callback);
+
+    assertTrue(callback.done.await(5, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("first", "second", "third"), callback.paths);
+  }
+
+  @Test
+  public void process_WithoutTasks_DeliversNoResults() {
+    ImageProcessor processor = new ImageProcessor(executor, Runnable::run);
+    RecordingCallback callback = new RecordingCallback();
+
+    processor.process(Collections.<Callable<String>>emptyList(), callback);
+
+    assertEquals(Collections.emptyList(), callback.paths);
+  }
+
+  @Test
+  public void process_WhenATaskFails_ReportsTheErrorAndDiscardsTheOtherResults() {
+    ImageProcessor processor = new ImageProcessor(Runnable::run, Runnable::run);
+    RecordingCallback callback = new RecordingCallback();
+    final RuntimeException error = new RuntimeException("failed");
+
+    processor.process(
+        Arrays.<Callable<String>>asList(
+            () -> "first",
+            () -> {
+              throw error;
+            },
+            () -> "third"),
+        callback);
+
+    assertEquals(error, callback.error);
+    assertNull(callback.paths);
+    assertEquals(Collections.singletonList("first"), callback.discarded);
+  }
+
+  @Test
+  public void cancel_SkipsPendingTasksAndDiscardsCompletedResults() {
+    ImageProcessor processor = new ImageProcessor(pendingTasks::add, Runnable::run);
+    RecordingCallback callback = new RecordingCallback();
+    final boolean[] secondRan = {false};
+
+    ImageProcessor.Job job =
+        processor.process(
+            Arrays.<Callable<String>>asList(
+                () -> "first",
+                () -> {
+                  secondRan[0] = true;
+                  return "second";
+                }),
+            callback);
+    pendingTasks.get(0).run();
+
+    assertTrue(job.cancel());
+    pendingTasks.get(1).run();
+
+    assertFalse(secondRan[0]);
+    assertNull(callback.paths);
+    assertEquals(Collections.singletonList("first"), callback.discarded);
+    assertFalse(job.cancel());
+  }
+
+  @Test
+  public void cancel_DiscardsTheResultsOfRunningTasks() {
+    ImageProcessor processor = new ImageProcessor(pendingTasks::add, Runnable::run);
+    RecordingCallback callback = new RecordingCallback();
+    final ImageProcessor.Job[] job = new ImageProcessor.Job[1];
+
+    job[0] =
+        processor.process(
+            Collections.<Callable<String>>singletonList(
+                () -> {
+                  job[0].cancel();
+                  return "first";
+                }),
+            callback);
+    pendingTasks.get(0).run();
+
+    assertNull(callback.paths);
+    assertEquals(Collections.singletonList("first"), callback.discarded);
+  }
+
+  @Test
+  public void cancel_AfterTheResultsAreDelivered_ReturnsFalse() {
+    ImageProcessor processor = new ImageProcessor(Runnable::run, Runnable::run);
+    RecordingCallback callback = new RecordingCallback();
+
+    ImageProcessor.Job job =
+        processor.process(Collections.<Callable<String>>singletonList(() -> "first"), callback);
+
+    assertFalse(job.cancel());
+    assertEquals(Collections.singletonList("first"), callback.paths);
+    assertTrue(callback.discarded.isEmpty());
+  }
+}
@@ -5,10 +5,12 @@
 package io.flutter.plugins.imagepicker;
 
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
 import static org.junit.Assert.assertThat;
 
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
+import android.os.Build;
 import java.io.File;
 import java.io.IOException;
 import org.junit.Before;
@@ -17,6 +19,7 @@ import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.MockitoAnnotations;
 import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
 
 // RobolectricTestRunner always creates a default mock bitmap when reading from file. So we cannot actually test the scaling.
 // But we can still test whether the original or scaled file is created.
@@ -41,33 +44,91 @@ public class ImageResizerTest {
 
   @Test
   public void onResizeImageIfNeeded_WhenQualityIsNull_ShoultNotResize_ReturnTheUnscaledFile() {
-    String outoutFile = resizer.resizeImageIfNeeded(imageFile.getPath(), null, null, null);
+    String outoutFile = resizer.resizeImageIfNeeded(imageFile.getPath(), null, null, null, null);
     assertThat(outoutFile, equalTo(imageFile.getPath()));
   }
 
   @Test
   public void onResizeImageIfNeeded_WhenQualityIsNotNull_ShoulResize_ReturnResizedFile() {
-    String outoutFile = resizer.resizeImageIfNeeded(imageFile.getPath(), null, null, 50);
+    String outoutFile = resizer.resizeImageIfNeeded(imageFile.getPath(), null, null, 50, null);
     assertThat(outoutFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.png"));
   }
 
   @Test
   public void onResizeImageIfNeeded_WhenWidthIsNotNull_ShoulResize_ReturnResizedFile() {
-    String outoutFile = resizer.resizeImageIfNeeded(imageFile.getPath(), 50.0, null, null);
+    String outoutFile = resizer.resizeImageIfNeeded(imageFile.getPath(), 50.0, null, null, null);
     assertThat(outoutFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.png"));
   }
 
   @Test
   public void onResizeImageIfNeeded_WhenHeightIsNotNull_ShoulResize_ReturnResizedFile() {
-    String outoutFile = resizer.resizeImageIfNeeded(imageFile.getPath(), null, 50.0, null);
+    String outoutFile = resizer.resizeImageIfNeeded(imageFile.getPath(), null, 50.0, null, null);
     assertThat(outoutFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.png"));
   }
 
+  @Test
+  public void onResizeImageIfNeeded_WhenScaledFileExists_ShouldReturnNewFileInSameDirectory() {
+    String firstFile = resizer.resizeImageIfNeeded(imageFile.getPath(), 50.0, null, null, null);
+    String secondFile = resizer.resizeImageIfNeeded(imageFile.getPath(), 50.0, null, null, null);
+    assertThat(firstFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.png"));
+    assertThat(secondFile, not(equalTo(firstFile)));
+    assertThat(new File(secondFile).getParent(), equalTo(externalDirectory.getPath()));
+    assertThat(secondFile.endsWith(".png"), equalTo(true));
+  }
+
   @Test
   public void onResizeImageIfNeeded_WhenParentDirectoryDoesNotExists_ShouldNotCrash() {
     File nonExistentDirectory = new File(externalDirectory, "/nonExistent");
     ImageResizer invalidResizer = new ImageResizer(nonExistentDirectory, new ExifDataCopier());
-    String outoutFile = invalidResizer.resizeImageIfNeeded(imageFile.getPath(), null, 50.0, null);
+    String outoutFile =
+        invalidResizer.resizeImageIfNeeded(imageFile.getPath(), null, 50.0, null, null);
     assertThat(outoutFile, equalTo(nonExistentDirectory.getPath() + "/scaled_pngImage.png"));
   }
+
+  @Test
+  public void onResizeImageIfNeeded_WhenOutputFormatIsWebp_ShouldResize_ReturnWebpFile() {
+    String outoutFile =
+        resizer.resizeImageIfNeeded(
+            imageFile.getPath(), null, null, null, ImageResizer.FORMAT_WEBP);
+    assertThat(outoutFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.webp"));
+  }
+
+  @Test
+  @Config(sdk = Build.VERSION_CODES.O_MR1)
+  public void onResizeImageIfNeeded_WhenHeifIsNotSupported_ShouldReturnJpegFile() {
+    String outoutFile =
+        resizer.resizeImageIfNeeded(
+            imageFile.getPath(), 50.0, null, null, ImageResizer.FORMAT_HEIF);
+    assertThat(outoutFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.jpg"));
+  }
+
+  @Test
+  @Config(sdk = Build.VERSION_CODES.P)
+  public void onResizeImageIfNeeded_WhenThereIsNoHeifEncoder_ShouldReturnJpegFile() {
+    // Robolectric has no media codecs, so the HEIF writer can't be built.
+    String outoutFile =
+        resizer.resizeImageIfNeeded(
+            imageFile.getPath(), 50.0, null, null, ImageResizer.FORMAT_HEIF);
+    assertThat(outoutFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.jpg"));
+    assertThat(new File(externalDirectory, "scaled_pngImage.heic").exists(), equalTo(false));
+  }
+
+  @Test
+  public void calculateInSampleSize_ShouldKeepTheImageAtLeastAsLargeAsTheTarget() {
+    assertThat(ImageResizer.calculateInSampleSize(8000, 6000, 1024, 768), equalTo(4));
+    assertThat(ImageResizer.calculateInSampleSize(8000, 6000, 1000, 1000), equalTo(4));
+    assertThat(ImageResizer.calculateInSampleSize(8000, 6000, 2000, 1500), equalTo(4));
+    assertThat(ImageResizer.calculateInSampleSize(8000, 6000, 2001, 1500), equalTo(2));
+  }
+
+  @Test
+  public void calculateInSampleSize_WhenTheImageIsNotScaledDown_ShouldNotSubsample() {
+    assertThat(ImageResizer.calculateInSampleSize(100, 100, 100, 100), equalTo(1));
+    assertThat(ImageResizer.calculateInSampleSize(100, 100, 200, 200), equalTo(1));
+  }
+
+  @Test
+  public void calculateInSampleSize_WhenTheTargetIsEmpty_ShouldNotLoopForever() {
+    assertThat(ImageResizer.calculateInSampleSize(100, 100, 0, 0), equalTo(64));
+  }
 }
@@ -0,0 +1,134 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.LinearGradient;
+import android.graphics.Paint;
+import android.graphics.Shader;
+import android.os.Debug;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.test.core.app.ApplicationProvider;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Measures the peak memory that {@link ImageResizer} uses to resize a 12 MP photo, in each output
+ * format. The results are logged with the tag "ImageResizerBenchmark".
+ */
+public class ImageResizerMemoryBenchmark {
+  private static final String TAG = "ImageResizerBenchmark";
+  private static final int WIDTH = 4000;
+  private static final int HEIGHT = 3000;
+  // The memory that decoding the photo at full resolution would take on its own.
+  private static final long FULL_RESOLUTION_BYTES = WIDTH * HEIGHT * 4L;
+
+  private File directory;
+  private File photo;
+
+  @Before
+  public void setUp() throws IOException {
+    directory =
+        new File(ApplicationProvider.getApplicationContext().getCacheDir(), "resizer_benchmark");
+    directory.mkdirs();
+    photo = new File(directory, "photo.jpg");
+    Bitmap bitmap = Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888);
+    Paint paint = new Paint();
+    paint.setShader(
+        new LinearGradient(0, 0, WIDTH, HEIGHT, Color.BLUE, Color.YELLOW, Shader.TileMode.CLAMP));
+    new Canvas(bitmap).drawPaint(paint);
+    try (OutputStream outputStream = new FileOutputStream(photo)) {
+      bitmap.compress(Bitmap.CompressFormat.JPEG, 90, outputStream);
+    }
+    bitmap.recycle();
+  }
+
+  @After
+  public void tearDown() {
+    File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    directory.delete();
+  }
+
+  @Test
+  public void resizeImageIfNeeded_PeakMemoryPerImage() throws InterruptedException {
+    final ImageResizer resizer = new ImageResizer(directory, new ExifDataCopier());
+    String[] formats = {
+      null,
+      ImageResizer.FORMAT_JPEG,
+      ImageResizer.FORMAT_PNG,
+      ImageResizer.FORMAT_WEBP,
+      ImageResizer.FORMAT_HEIF
+    };
+    for (final String format : formats) {
+      final String[] path = new String[1];
+      final long peak =
+          measurePeakMemory(
+              () ->
+                  path[0] = resizer.resizeImageIfNeeded(photo.getPath(), 1024.0, null, 90, format));
+      assertNotNull(path[0]);
+      Log.i(
+          TAG,
+          String.format(
+              "%s: %d KB peak memory, %d KB file",
+              format, peak / 1024, new File(path[0]).length() / 1024));
+      assertTrue(peak < FULL_RESOLUTION_BYTES);
+    }
+  }
+
+  // Returns the largest increase of the memory used, in bytes, while running the work.
+  private static long measurePeakMemory(Runnable work) throws InterruptedException {
+    Runtime.getRuntime().gc();
+    final long baseline = usedMemory();
+    final long[] peak = {baseline};
+    final boolean[] done = {false};
+    Thread sampler =
+        new Thread(
+            () -> {
+              long max = baseline;
+              while (true) {
+                synchronized (done) {
+                  if (done[0]) {
+                    break;
+                  }
+                }
+                max = Math.max(max, usedMemory());
+                SystemClock.sleep(1);
+              }
+              peak[0] = max;
+            });
+    sampler.start();
+    try {
+      work.run();
+    } finally {
+      synchronized (done) {
+        done[0] = true;
+      }
+      sampler.join();
+    }
+    return peak[0] - baseline;
+  }
+
+  // Bitmaps are allocated on the native heap from Android 8, and on the Java heap before.
+  private static long usedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+    return runtime.totalMemory() - runtime.freeMemory() + Debug.getNativeHeapAllocatedSize();
+  }
+}
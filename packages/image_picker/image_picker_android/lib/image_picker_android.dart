@@ -12,6 +12,24 @@ import 'package:image_picker_platform_interface/image_picker_platform_interface.
 const MethodChannel _channel =
     MethodChannel('plugins.flutter.io/image_picker_android');
 
+/// The formats that [ImagePickerAndroid] can compress picked images to.
+enum AndroidImageOutputFormat {
+  /// JPEG, which doesn't keep the transparency of images.
+  jpeg,
+
+  /// PNG, which is lossless, so the image quality is ignored.
+  png,
+
+  /// WebP, which gives smaller files than JPEG at the same quality.
+  webp,
+
+  /// HEIF, which gives smaller files than JPEG at the same quality.
+  ///
+  /// Images are compressed to JPEG instead before Android 9, and when the
+  /// device has no HEVC encoder or it fails to compress the image.
+  heif,
+}
+
 /// An Android implementation of [ImagePickerPlatform].
 class ImagePickerAndroid extends ImagePickerPlatform {
   /// The MethodChannel that is being used by this implementation of the plugin.
@@ -23,6 +41,14 @@ class ImagePickerAndroid extends ImagePickerPlatform {
     ImagePickerPlatform.instance = ImagePickerAndroid();
   }
 
+  /// The format that picked images are compressed to.
+  ///
+  /// When set, picked images are always compressed again to this format, even
+  /// if they aren't resized. Otherwise images are only compressed again when
+  /// they are resized or given an image quality, to PNG if they have
+  /// transparency and to JPEG if they don't.
+  AndroidImageOutputFormat? outputFormat;
+
   @override
   Future<PickedFile?> pickImage({
     required ImageSource source,
@@ -83,6 +109,7 @@ class ImagePickerAndroid extends ImagePickerPlatform {
         'maxWidth': maxWidth,
         'maxHeight': maxHeight,
         'imageQuality': imageQuality,
+        if (outputFormat != null) 'outputFormat': describeEnum(outputFormat!),
       },
     );
   }
@@ -117,6 +144,7 @@ class ImagePickerAndroid extends ImagePickerPlatform {
         'imageQuality': imageQuality,
         'cameraDevice': preferredCameraDevice.index,
         'requestFullMetadata': requestFullMetadata,
+        if (outputFormat != null) 'outputFormat': describeEnum(outputFormat!),
       },
     );
   }
@@ -232,6 +232,28 @@ void main() {
         ],
       );
     });
+
+    test('passes the output format argument correctly', () async {
+      picker.outputFormat = AndroidImageOutputFormat.webp;
+      addTearDown(() => picker.outputFormat = null);
+
+      await picker.pickImage(source: ImageSource.camera);
+
+      expect(
+        log,
+        <Matcher>[
+          isMethodCall('pickImage', arguments: <String, dynamic>{
+            'source': 0,
+            'maxWidth': null,
+            'maxHeight': null,
+            'imageQuality': null,
+            'cameraDevice': 0,
+            'requestFullMetadata': true,
+            'outputFormat': 'webp',
+          }),
+        ],
+      );
+    });
   });
 
   group('#pickMultiImage', () {
@@ -352,6 +374,26 @@ void main() {
       expect(await picker.pickMultiImage(), isNull);
       expect(await picker.pickMultiImage(), isNull);
     });
+
+    test('passes the output format argument correctly', () async {
+      returnValue = <dynamic>['0', '1'];
+      picker.outputFormat = AndroidImageOutputFormat.heif;
+      addTearDown(() => picker.outputFormat = null);
+
+      await picker.pickMultiImage();
+
+      expect(
+        log,
+        <Matcher>[
+          isMethodCall('pickMultiImage', arguments: <String, dynamic>{
+            'maxWidth': null,
+            'maxHeight': null,
+            'imageQuality': null,
+            'outputFormat': 'heif',
+          }),
+        ],
+      );
+    });
   });
 
   group('#pickVideo', () {
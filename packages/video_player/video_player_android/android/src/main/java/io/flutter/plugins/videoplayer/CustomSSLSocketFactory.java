@@ -14,8 +14,26 @@ import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
 
 public class CustomSSLSocketFactory extends SSLSocketFactory {
+  private static final String[] ENABLED_PROTOCOLS = {"TLSv1.1", "TLSv1.2"};
+
+  private static CustomSSLSocketFactory instance;
+
   private SSLSocketFactory sslSocketFactory;
 
+  /**
+   * Returns a factory that is shared by all the engines of the process.
+   *
+   * <p>TLS sessions are cached per {@link SSLContext}, so sharing the factory lets connections
+   * resume sessions instead of doing a full handshake every time.
+   */
+  public static synchronized CustomSSLSocketFactory getInstance()
+      throws KeyManagementException, NoSuchAlgorithmException {
+    if (instance == null) {
+      instance = new CustomSSLSocketFactory();
+    }
+    return instance;
+  }
+
   public CustomSSLSocketFactory() throws KeyManagementException, NoSuchAlgorithmException {
     SSLContext context = SSLContext.getInstance("TLS");
     context.init(null, null, null);
@@ -67,7 +85,7 @@ public class CustomSSLSocketFactory extends SSLSocketFactory {
 
   private Socket enableProtocols(Socket socket) {
     if (socket instanceof SSLSocket) {
-      ((SSLSocket) socket).setEnabledProtocols(new String[] {"TLSv1.1", "TLSv1.2"});
+      ((SSLSocket) socket).setEnabledProtocols(ENABLED_PROTOCOLS);
     }
     return socket;
   }
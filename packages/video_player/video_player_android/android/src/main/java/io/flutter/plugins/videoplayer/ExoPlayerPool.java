@@ -0,0 +1,188 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.DefaultRenderersFactory;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.PlaybackParameters;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.mediacodec.MediaCodecSelector;
+import com.google.android.exoplayer2.upstream.DefaultBandwidthMeter;
+import io.flutter.plugins.videoplayer.Messages.BufferConfigMessage;
+import io.flutter.plugins.videoplayer.Messages.PlayerPoolStatsMessage;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps a bounded number of idle {@link ExoPlayer}s around after their {@link VideoPlayer}s are
+ * disposed, so that new videos can reuse them instead of building a new player, renderers and
+ * playback thread every time.
+ *
+ * <p>A player's {@link com.google.android.exoplayer2.LoadControl} can't be changed once it is
+ * built, so idle players are only handed out again for an equal {@link BufferConfigMessage}. A
+ * config with no values set is equal to no config, as both build the default load control.
+ *
+ * <p>All the players share the process-wide {@link DefaultBandwidthMeter}, so a new video starts
+ * from the bandwidth estimate of the previous ones instead of from a guess, and pick their decoders
+ * with the same {@link MediaCodecSelector}.
+ *
+ * <p>The pool is empty by default; players are only kept once a maximum size is set with {@link
+ * #setMaxSize}. All methods must be called on the platform thread, which owns the players.
+ */
+final class ExoPlayerPool {
+  interface PlayerFactory {
+    @NonNull
+    ExoPlayer create(@NonNull Context context, @Nullable BufferConfigMessage bufferConfig);
+  }
+
+  private static final class IdlePlayer {
+    final ExoPlayer player;
+    @Nullable final BufferConfigMessage bufferConfig;
+
+    IdlePlayer(ExoPlayer player, @Nullable BufferConfigMessage bufferConfig) {
+      this.player = player;
+      this.bufferConfig = bufferConfig;
+    }
+  }
+
+  private static final BufferConfigMessage EMPTY_BUFFER_CONFIG =
+      new BufferConfigMessage.Builder().build();
+
+  private final PlayerFactory playerFactory;
+  private final ArrayDeque<IdlePlayer> idlePlayers = new ArrayDeque<>();
+  private final Map<ExoPlayer, BufferConfigMessage> bufferConfigs = new HashMap<>();
+  private int maxSize = 0;
+  private long createdCount = 0;
+  private long reusedCount = 0;
+
+  ExoPlayerPool(@NonNull MediaCodecSelector codecSelector) {
+    this(
+        (context, bufferConfig) -> {
+          DefaultRenderersFactory renderersFactory =
+              new DefaultRenderersFactory(context).setMediaCodecSelector(codecSelector);
+          ExoPlayer.Builder builder =
+              new ExoPlayer.Builder(context, renderersFactory)
+                  .setBandwidthMeter(DefaultBandwidthMeter.getSingletonInstance(context));
+          if (bufferConfig != null) {
+            builder.setLoadControl(VideoPlayer.buildLoadControl(bufferConfig));
+          }
+          return builder.build();
+        });
+  }
+
+  @VisibleForTesting
+  ExoPlayerPool(@NonNull PlayerFactory playerFactory) {
+    this.playerFactory = playerFactory;
+  }
+
+  /**
+   * Sets how many idle players are kept, releasing the ones over the new limit.
+   *
+   * @throws IllegalArgumentException if {@code maxSize} is negative
+   */
+  void setMaxSize(int maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("Invalid player pool size: " + maxSize);
+    }
+    this.maxSize = maxSize;
+    while (idlePlayers.size() > maxSize) {
+      idlePlayers.removeLast().player.release();
+    }
+  }
+
+  /**
+   * Returns an idle player that was built for a config equal to {@code bufferConfig}, or a new one
+   * if the pool has none.
+   */
+  @NonNull
+  ExoPlayer acquire(@NonNull Context context, @Nullable BufferConfigMessage bufferConfig) {
+    final Iterator<IdlePlayer> iterator = idlePlayers.iterator();
+    while (iterator.hasNext()) {
+      final IdlePlayer idlePlayer = iterator.next();
+      if (sameLoadControl(idlePlayer.bufferConfig, bufferConfig)) {
+        iterator.remove();
+        reusedCount++;
+        bufferConfigs.put(idlePlayer.player, bufferConfig);
+        return idlePlayer.player;
+      }
+    }
+    createdCount++;
+    final ExoPlayer player = playerFactory.create(context, bufferConfig);
+    bufferConfigs.put(player, bufferConfig);
+    return player;
+  }
+
+  /**
+   * Whether players built for {@code a} and {@code b} have the same load control. Pigeon decodes a
+   * new message for every call, so configs are compared by value.
+   */
+  @VisibleForTesting
+  static boolean sameLoadControl(@Nullable BufferConfigMessage a, @Nullable BufferConfigMessage b) {
+    if (a == null) {
+      a = EMPTY_BUFFER_CONFIG;
+    }
+    if (b == null) {
+      b = EMPTY_BUFFER_CONFIG;
+    }
+    return equal(a.getMinBufferMs(), b.getMinBufferMs())
+        && equal(a.getMaxBufferMs(), b.getMaxBufferMs())
+        && equal(a.getPlayBufferMs(), b.getPlayBufferMs())
+        && equal(a.getRebufferMs(), b.getRebufferMs())
+        && equal(a.getTargetBytes(), b.getTargetBytes())
+        && equal(a.getBackBufferMs(), b.getBackBufferMs())
+        && equal(a.getPrioritizeTime(), b.getPrioritizeTime());
+  }
+
+  private static boolean equal(@Nullable Object a, @Nullable Object b) {
+    return a == null ? b == null : a.equals(b);
+  }
+
+  /**
+   * Resets {@code player} and keeps it for a later {@link #acquire}, or releases it if pooling is
+   * off. If the pool is full, the player that has been idle the longest is released instead.
+   *
+   * <p>The caller must have removed its listeners from {@code player}.
+   */
+  void recycle(@NonNull ExoPlayer player) {
+    final BufferConfigMessage bufferConfig = bufferConfigs.remove(player);
+    if (maxSize == 0) {
+      player.release();
+      return;
+    }
+    if (idlePlayers.size() >= maxSize) {
+      idlePlayers.removeLast().player.release();
+    }
+    player.stop();
+    player.clearMediaItems();
+    player.clearVideoSurface();
+    player.setPlayWhenReady(false);
+    player.setRepeatMode(Player.REPEAT_MODE_OFF);
+    player.setVolume(1f);
+    player.setPlaybackParameters(PlaybackParameters.DEFAULT);
+    idlePlayers.addFirst(new IdlePlayer(player, bufferConfig));
+  }
+
+  /** Releases all the idle players. */
+  void clear() {
+    while (!idlePlayers.isEmpty()) {
+      idlePlayers.removeFirst().player.release();
+    }
+  }
+
+  @NonNull
+  PlayerPoolStatsMessage getStats() {
+    return new PlayerPoolStatsMessage.Builder()
+        .setCreated(createdCount)
+        .setReused(reusedCount)
+        .setIdle((long) idlePlayers.size())
+        .build();
+  }
+}
@@ -0,0 +1,56 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.mediacodec.MediaCodecInfo;
+import com.google.android.exoplayer2.mediacodec.MediaCodecSelector;
+import com.google.android.exoplayer2.mediacodec.MediaCodecUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link MediaCodecSelector} that can move hardware accelerated decoders ahead of software ones.
+ *
+ * <p>The selector is shared by all the players of a {@link VideoPlayerPlugin} and is consulted
+ * whenever a renderer picks a decoder, so changing the preference applies to the next decoder that
+ * is initialized, including in players that were built earlier.
+ */
+final class HardwarePreferringCodecSelector implements MediaCodecSelector {
+  private final MediaCodecSelector delegate;
+  private volatile boolean preferHardware = false;
+
+  HardwarePreferringCodecSelector() {
+    this(MediaCodecSelector.DEFAULT);
+  }
+
+  @VisibleForTesting
+  HardwarePreferringCodecSelector(@NonNull MediaCodecSelector delegate) {
+    this.delegate = delegate;
+  }
+
+  void setPreferHardware(boolean preferHardware) {
+    this.preferHardware = preferHardware;
+  }
+
+  @NonNull
+  @Override
+  public List<MediaCodecInfo> getDecoderInfos(
+      @NonNull String mimeType, boolean requiresSecureDecoder, boolean requiresTunnelingDecoder)
+      throws MediaCodecUtil.DecoderQueryException {
+    final List<MediaCodecInfo> decoderInfos =
+        delegate.getDecoderInfos(mimeType, requiresSecureDecoder, requiresTunnelingDecoder);
+    if (!preferHardware || decoderInfos.size() < 2) {
+      return decoderInfos;
+    }
+    // The sort is stable, so decoders keep the platform's order within each group.
+    final List<MediaCodecInfo> sortedInfos = new ArrayList<>(decoderInfos);
+    Collections.sort(
+        sortedInfos, (a, b) -> Boolean.compare(b.hardwareAccelerated, a.hardwareAccelerated));
+    return sortedInfos;
+  }
+}
@@ -557,115 +557,2066 @@ public class Messages {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class CacheConfigMessage {
+    private @NonNull Long maxCacheSize;
+
+    public @NonNull Long getMaxCacheSize() {
+      return maxCacheSize;
+    }
+
+    public void setMaxCacheSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxCacheSize\" is null.");
+      }
+      this.maxCacheSize = setterArg;
+    }
+
+    private @Nullable String cacheDirectory;
+
+    public @Nullable String getCacheDirectory() {
+      return cacheDirectory;
+    }
+
+    public void setCacheDirectory(@Nullable String setterArg) {
+      this.cacheDirectory = setterArg;
+    }
+
+    private @Nullable Long maxPreloads;
+
+    public @Nullable Long getMaxPreloads() {
+      return maxPreloads;
+    }
+
+    public void setMaxPreloads(@Nullable Long setterArg) {
+      this.maxPreloads = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private CacheConfigMessage() {}
+
+    public static class Builder {
+      private @Nullable Long maxCacheSize;
+
+      public @NonNull Builder setMaxCacheSize(@NonNull Long setterArg) {
+        this.maxCacheSize = setterArg;
+        return this;
+      }
+
+      private @Nullable String cacheDirectory;
+
+      public @NonNull Builder setCacheDirectory(@Nullable String setterArg) {
+        this.cacheDirectory = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxPreloads;
+
+      public @NonNull Builder setMaxPreloads(@Nullable Long setterArg) {
+        this.maxPreloads = setterArg;
+        return this;
+      }
+
+      public @NonNull CacheConfigMessage build() {
+        CacheConfigMessage pigeonReturn = new CacheConfigMessage();
+        pigeonReturn.setMaxCacheSize(maxCacheSize);
+        pigeonReturn.setCacheDirectory(cacheDirectory);
+        pigeonReturn.setMaxPreloads(maxPreloads);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("maxCacheSize", maxCacheSize);
+      toMapResult.put("cacheDirectory", cacheDirectory);
+      toMapResult.put("maxPreloads", maxPreloads);
+      return toMapResult;
+    }
+
+    static @NonNull CacheConfigMessage fromMap(@NonNull Map<String, Object> map) {
+      CacheConfigMessage pigeonResult = new CacheConfigMessage();
+      Object maxCacheSize = map.get("maxCacheSize");
+      pigeonResult.setMaxCacheSize(
+          (maxCacheSize == null)
+              ? null
+              : ((maxCacheSize instanceof Integer) ? (Integer) maxCacheSize : (Long) maxCacheSize));
+      Object cacheDirectory = map.get("cacheDirectory");
+      pigeonResult.setCacheDirectory((String) cacheDirectory);
+      Object maxPreloads = map.get("maxPreloads");
+      pigeonResult.setMaxPreloads(
+          (maxPreloads == null)
+              ? null
+              : ((maxPreloads instanceof Integer) ? (Integer) maxPreloads : (Long) maxPreloads));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class CacheStatsMessage {
+    private @NonNull Long cacheBytes;
+
+    public @NonNull Long getCacheBytes() {
+      return cacheBytes;
+    }
+
+    public void setCacheBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cacheBytes\" is null.");
+      }
+      this.cacheBytes = setterArg;
+    }
+
+    private @NonNull Long networkBytes;
+
+    public @NonNull Long getNetworkBytes() {
+      return networkBytes;
+    }
+
+    public void setNetworkBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"networkBytes\" is null.");
+      }
+      this.networkBytes = setterArg;
+    }
+
+    private @NonNull Long cacheSize;
+
+    public @NonNull Long getCacheSize() {
+      return cacheSize;
+    }
+
+    public void setCacheSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cacheSize\" is null.");
+      }
+      this.cacheSize = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private CacheStatsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long cacheBytes;
+
+      public @NonNull Builder setCacheBytes(@NonNull Long setterArg) {
+        this.cacheBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long networkBytes;
+
+      public @NonNull Builder setNetworkBytes(@NonNull Long setterArg) {
+        this.networkBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cacheSize;
+
+      public @NonNull Builder setCacheSize(@NonNull Long setterArg) {
+        this.cacheSize = setterArg;
+        return this;
+      }
+
+      public @NonNull CacheStatsMessage build() {
+        CacheStatsMessage pigeonReturn = new CacheStatsMessage();
+        pigeonReturn.setCacheBytes(cacheBytes);
+        pigeonReturn.setNetworkBytes(networkBytes);
+        pigeonReturn.setCacheSize(cacheSize);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("cacheBytes", cacheBytes);
+      toMapResult.put("networkBytes", networkBytes);
+      toMapResult.put("cacheSize", cacheSize);
+      return toMapResult;
+    }
+
+    static @NonNull CacheStatsMessage fromMap(@NonNull Map<String, Object> map) {
+      CacheStatsMessage pigeonResult = new CacheStatsMessage();
+      Object cacheBytes = map.get("cacheBytes");
+      pigeonResult.setCacheBytes(
+          (cacheBytes == null)
+              ? null
+              : ((cacheBytes instanceof Integer) ? (Integer) cacheBytes : (Long) cacheBytes));
+      Object networkBytes = map.get("networkBytes");
+      pigeonResult.setNetworkBytes(
+          (networkBytes == null)
+              ? null
+              : ((networkBytes instanceof Integer) ? (Integer) networkBytes : (Long) networkBytes));
+      Object cacheSize = map.get("cacheSize");
+      pigeonResult.setCacheSize(
+          (cacheSize == null)
+              ? null
+              : ((cacheSize instanceof Integer) ? (Integer) cacheSize : (Long) cacheSize));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PreloadMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @NonNull Long preloadBytes;
+
+    public @NonNull Long getPreloadBytes() {
+      return preloadBytes;
+    }
+
+    public void setPreloadBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"preloadBytes\" is null.");
+      }
+      this.preloadBytes = setterArg;
+    }
+
+    private @NonNull Map<String, String> httpHeaders;
+
+    public @NonNull Map<String, String> getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(@NonNull Map<String, String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"httpHeaders\" is null.");
+      }
+      this.httpHeaders = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private PreloadMessage() {}
+
+    public static class Builder {
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable Long preloadBytes;
+
+      public @NonNull Builder setPreloadBytes(@NonNull Long setterArg) {
+        this.preloadBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> httpHeaders;
+
+      public @NonNull Builder setHttpHeaders(@NonNull Map<String, String> setterArg) {
+        this.httpHeaders = setterArg;
+        return this;
+      }
+
+      public @NonNull PreloadMessage build() {
+        PreloadMessage pigeonReturn = new PreloadMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setPreloadBytes(preloadBytes);
+        pigeonReturn.setHttpHeaders(httpHeaders);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("uri", uri);
+      toMapResult.put("preloadBytes", preloadBytes);
+      toMapResult.put("httpHeaders", httpHeaders);
+      return toMapResult;
+    }
+
+    static @NonNull PreloadMessage fromMap(@NonNull Map<String, Object> map) {
+      PreloadMessage pigeonResult = new PreloadMessage();
+      Object uri = map.get("uri");
+      pigeonResult.setUri((String) uri);
+      Object preloadBytes = map.get("preloadBytes");
+      pigeonResult.setPreloadBytes(
+          (preloadBytes == null)
+              ? null
+              : ((preloadBytes instanceof Integer) ? (Integer) preloadBytes : (Long) preloadBytes));
+      Object httpHeaders = map.get("httpHeaders");
+      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class CancelPreloadMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private CancelPreloadMessage() {}
+
+    public static class Builder {
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      public @NonNull CancelPreloadMessage build() {
+        CancelPreloadMessage pigeonReturn = new CancelPreloadMessage();
+        pigeonReturn.setUri(uri);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("uri", uri);
+      return toMapResult;
+    }
+
+    static @NonNull CancelPreloadMessage fromMap(@NonNull Map<String, Object> map) {
+      CancelPreloadMessage pigeonResult = new CancelPreloadMessage();
+      Object uri = map.get("uri");
+      pigeonResult.setUri((String) uri);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PositionUpdatesMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long intervalMs;
+
+    public @NonNull Long getIntervalMs() {
+      return intervalMs;
+    }
+
+    public void setIntervalMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"intervalMs\" is null.");
+      }
+      this.intervalMs = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private PositionUpdatesMessage() {}
+
+    public static class Builder {
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long intervalMs;
+
+      public @NonNull Builder setIntervalMs(@NonNull Long setterArg) {
+        this.intervalMs = setterArg;
+        return this;
+      }
+
+      public @NonNull PositionUpdatesMessage build() {
+        PositionUpdatesMessage pigeonReturn = new PositionUpdatesMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setIntervalMs(intervalMs);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("intervalMs", intervalMs);
+      return toMapResult;
+    }
+
+    static @NonNull PositionUpdatesMessage fromMap(@NonNull Map<String, Object> map) {
+      PositionUpdatesMessage pigeonResult = new PositionUpdatesMessage();
+      Object textureId = map.get("textureId");
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object intervalMs = map.get("intervalMs");
+      pigeonResult.setIntervalMs(
+          (intervalMs == null)
+              ? null
+              : ((intervalMs instanceof Integer) ? (Integer) intervalMs : (Long) intervalMs));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class BufferConfigMessage {
+    private @Nullable Long minBufferMs;
+
+    public @Nullable Long getMinBufferMs() {
+      return minBufferMs;
+    }
+
+    public void setMinBufferMs(@Nullable Long setterArg) {
+      this.minBufferMs = setterArg;
+    }
+
+    private @Nullable Long maxBufferMs;
+
+    public @Nullable Long getMaxBufferMs() {
+      return maxBufferMs;
+    }
+
+    public void setMaxBufferMs(@Nullable Long setterArg) {
+      this.maxBufferMs = setterArg;
+    }
+
+    private @Nullable Long playBufferMs;
+
+    public @Nullable Long getPlayBufferMs() {
+      return playBufferMs;
+    }
+
+    public void setPlayBufferMs(@Nullable Long setterArg) {
+      this.playBufferMs = setterArg;
+    }
+
+    private @Nullable Long rebufferMs;
+
+    public @Nullable Long getRebufferMs() {
+      return rebufferMs;
+    }
+
+    public void setRebufferMs(@Nullable Long setterArg) {
+      this.rebufferMs = setterArg;
+    }
+
+    private @Nullable Long targetBytes;
+
+    public @Nullable Long getTargetBytes() {
+      return targetBytes;
+    }
+
+    public void setTargetBytes(@Nullable Long setterArg) {
+      this.targetBytes = setterArg;
+    }
+
+    private @Nullable Long backBufferMs;
+
+    public @Nullable Long getBackBufferMs() {
+      return backBufferMs;
+    }
+
+    public void setBackBufferMs(@Nullable Long setterArg) {
+      this.backBufferMs = setterArg;
+    }
+
+    private @Nullable Boolean prioritizeTime;
+
+    public @Nullable Boolean getPrioritizeTime() {
+      return prioritizeTime;
+    }
+
+    public void setPrioritizeTime(@Nullable Boolean setterArg) {
+      this.prioritizeTime = setterArg;
+    }
+
+    public static class Builder {
+      private @Nullable Long minBufferMs;
+
+      public @NonNull Builder setMinBufferMs(@Nullable Long setterArg) {
+        this.minBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxBufferMs;
+
+      public @NonNull Builder setMaxBufferMs(@Nullable Long setterArg) {
+        this.maxBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long playBufferMs;
+
+      public @NonNull Builder setPlayBufferMs(@Nullable Long setterArg) {
+        this.playBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long rebufferMs;
+
+      public @NonNull Builder setRebufferMs(@Nullable Long setterArg) {
+        this.rebufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long targetBytes;
+
+      public @NonNull Builder setTargetBytes(@Nullable Long setterArg) {
+        this.targetBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long backBufferMs;
+
+      public @NonNull Builder setBackBufferMs(@Nullable Long setterArg) {
+        this.backBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean prioritizeTime;
+
+      public @NonNull Builder setPrioritizeTime(@Nullable Boolean setterArg) {
+        this.prioritizeTime = setterArg;
+        return this;
+      }
+
+      public @NonNull BufferConfigMessage build() {
+        BufferConfigMessage pigeonReturn = new BufferConfigMessage();
+        pigeonReturn.setMinBufferMs(minBufferMs);
+        pigeonReturn.setMaxBufferMs(maxBufferMs);
+        pigeonReturn.setPlayBufferMs(playBufferMs);
+        pigeonReturn.setRebufferMs(rebufferMs);
+        pigeonReturn.setTargetBytes(targetBytes);
+        pigeonReturn.setBackBufferMs(backBufferMs);
+        pigeonReturn.setPrioritizeTime(prioritizeTime);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("minBufferMs", minBufferMs);
+      toMapResult.put("maxBufferMs", maxBufferMs);
+      toMapResult.put("playBufferMs", playBufferMs);
+      toMapResult.put("rebufferMs", rebufferMs);
+      toMapResult.put("targetBytes", targetBytes);
+      toMapResult.put("backBufferMs", backBufferMs);
+      toMapResult.put("prioritizeTime", prioritizeTime);
+      return toMapResult;
+    }
+
+    static @NonNull BufferConfigMessage fromMap(@NonNull Map<String, Object> map) {
+      BufferConfigMessage pigeonResult = new BufferConfigMessage();
+      Object minBufferMs = map.get("minBufferMs");
+      pigeonResult.setMinBufferMs(
+          (minBufferMs == null)
+              ? null
+              : ((minBufferMs instanceof Integer) ? (Integer) minBufferMs : (Long) minBufferMs));
+      Object maxBufferMs = map.get("maxBufferMs");
+      pigeonResult.setMaxBufferMs(
+          (maxBufferMs == null)
+              ? null
+              : ((maxBufferMs instanceof Integer) ? (Integer) maxBufferMs : (Long) maxBufferMs));
+      Object playBufferMs = map.get("playBufferMs");
+      pigeonResult.setPlayBufferMs(
+          (playBufferMs == null)
+              ? null
+              : ((playBufferMs instanceof Integer) ? (Integer) playBufferMs : (Long) playBufferMs));
+      Object rebufferMs = map.get("rebufferMs");
+      pigeonResult.setRebufferMs(
+          (rebufferMs == null)
+              ? null
+              : ((rebufferMs instanceof Integer) ? (Integer) rebufferMs : (Long) rebufferMs));
+      Object targetBytes = map.get("targetBytes");
+      pigeonResult.setTargetBytes(
+          (targetBytes == null)
+              ? null
+              : ((targetBytes instanceof Integer) ? (Integer) targetBytes : (Long) targetBytes));
+      Object backBufferMs = map.get("backBufferMs");
+      pigeonResult.setBackBufferMs(
+          (backBufferMs == null)
+              ? null
+              : ((backBufferMs instanceof Integer) ? (Integer) backBufferMs : (Long) backBufferMs));
+      Object prioritizeTime = map.get("prioritizeTime");
+      pigeonResult.setPrioritizeTime((Boolean) prioritizeTime);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class TrackSelectionMessage {
+    private @Nullable Long maxWidth;
+
+    public @Nullable Long getMaxWidth() {
+      return maxWidth;
+    }
+
+    public void setMaxWidth(@Nullable Long setterArg) {
+      this.maxWidth = setterArg;
+    }
+
+    private @Nullable Long maxHeight;
+
+    public @Nullable Long getMaxHeight() {
+      return maxHeight;
+    }
+
+    public void setMaxHeight(@Nullable Long setterArg) {
+      this.maxHeight = setterArg;
+    }
+
+    private @Nullable Long maxBitrate;
+
+    public @Nullable Long getMaxBitrate() {
+      return maxBitrate;
+    }
+
+    public void setMaxBitrate(@Nullable Long setterArg) {
+      this.maxBitrate = setterArg;
+    }
+
+    private @Nullable Boolean preferHardware;
+
+    public @Nullable Boolean getPreferHardware() {
+      return preferHardware;
+    }
+
+    public void setPreferHardware(@Nullable Boolean setterArg) {
+      this.preferHardware = setterArg;
+    }
+
+    public static class Builder {
+      private @Nullable Long maxWidth;
+
+      public @NonNull Builder setMaxWidth(@Nullable Long setterArg) {
+        this.maxWidth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxHeight;
+
+      public @NonNull Builder setMaxHeight(@Nullable Long setterArg) {
+        this.maxHeight = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxBitrate;
+
+      public @NonNull Builder setMaxBitrate(@Nullable Long setterArg) {
+        this.maxBitrate = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean preferHardware;
+
+      public @NonNull Builder setPreferHardware(@Nullable Boolean setterArg) {
+        this.preferHardware = setterArg;
+        return this;
+      }
+
+      public @NonNull TrackSelectionMessage build() {
+        TrackSelectionMessage pigeonReturn = new TrackSelectionMessage();
+        pigeonReturn.setMaxWidth(maxWidth);
+        pigeonReturn.setMaxHeight(maxHeight);
+        pigeonReturn.setMaxBitrate(maxBitrate);
+        pigeonReturn.setPreferHardware(preferHardware);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("maxWidth", maxWidth);
+      toMapResult.put("maxHeight", maxHeight);
+      toMapResult.put("maxBitrate", maxBitrate);
+      toMapResult.put("preferHardware", preferHardware);
+      return toMapResult;
+    }
+
+    static @NonNull TrackSelectionMessage fromMap(@NonNull Map<String, Object> map) {
+      TrackSelectionMessage pigeonResult = new TrackSelectionMessage();
+      Object maxWidth = map.get("maxWidth");
+      pigeonResult.setMaxWidth(
+          (maxWidth == null)
+              ? null
+              : ((maxWidth instanceof Integer) ? (Integer) maxWidth : (Long) maxWidth));
+      Object maxHeight = map.get("maxHeight");
+      pigeonResult.setMaxHeight(
+          (maxHeight == null)
+              ? null
+              : ((maxHeight instanceof Integer) ? (Integer) maxHeight : (Long) maxHeight));
+      Object maxBitrate = map.get("maxBitrate");
+      pigeonResult.setMaxBitrate(
+          (maxBitrate == null)
+              ? null
+              : ((maxBitrate instanceof Integer) ? (Integer) maxBitrate : (Long) maxBitrate));
+      Object preferHardware = map.get("preferHardware");
+      pigeonResult.setPreferHardware((Boolean) preferHardware);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class BandwidthMessage {
+    private @NonNull Long bitrate;
+
+    public @NonNull Long getBitrate() {
+      return bitrate;
+    }
+
+    public void setBitrate(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bitrate\" is null.");
+      }
+      this.bitrate = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private BandwidthMessage() {}
+
+    public static class Builder {
+      private @Nullable Long bitrate;
+
+      public @NonNull Builder setBitrate(@NonNull Long setterArg) {
+        this.bitrate = setterArg;
+        return this;
+      }
+
+      public @NonNull BandwidthMessage build() {
+        BandwidthMessage pigeonReturn = new BandwidthMessage();
+        pigeonReturn.setBitrate(bitrate);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("bitrate", bitrate);
+      return toMapResult;
+    }
+
+    static @NonNull BandwidthMessage fromMap(@NonNull Map<String, Object> map) {
+      BandwidthMessage pigeonResult = new BandwidthMessage();
+      Object bitrate = map.get("bitrate");
+      pigeonResult.setBitrate(
+          (bitrate == null)
+              ? null
+              : ((bitrate instanceof Integer) ? (Integer) bitrate : (Long) bitrate));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class MetricsMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long intervalMs;
+
+    public @NonNull Long getIntervalMs() {
+      return intervalMs;
+    }
+
+    public void setIntervalMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"intervalMs\" is null.");
+      }
+      this.intervalMs = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private MetricsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long intervalMs;
+
+      public @NonNull Builder setIntervalMs(@NonNull Long setterArg) {
+        this.intervalMs = setterArg;
+        return this;
+      }
+
+      public @NonNull MetricsMessage build() {
+        MetricsMessage pigeonReturn = new MetricsMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setIntervalMs(intervalMs);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("intervalMs", intervalMs);
+      return toMapResult;
+    }
+
+    static @NonNull MetricsMessage fromMap(@NonNull Map<String, Object> map) {
+      MetricsMessage pigeonResult = new MetricsMessage();
+      Object textureId = map.get("textureId");
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object intervalMs = map.get("intervalMs");
+      pigeonResult.setIntervalMs(
+          (intervalMs == null)
+              ? null
+              : ((intervalMs instanceof Integer) ? (Integer) intervalMs : (Long) intervalMs));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PlaybackMetricsMessage {
+    private @Nullable Long startupMs;
+
+    public @Nullable Long getStartupMs() {
+      return startupMs;
+    }
+
+    public void setStartupMs(@Nullable Long setterArg) {
+      this.startupMs = setterArg;
+    }
+
+    private @NonNull Long rebuffers;
+
+    public @NonNull Long getRebuffers() {
+      return rebuffers;
+    }
+
+    public void setRebuffers(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"rebuffers\" is null.");
+      }
+      this.rebuffers = setterArg;
+    }
+
+    private @NonNull Long rebufferMs;
+
+    public @NonNull Long getRebufferMs() {
+      return rebufferMs;
+    }
+
+    public void setRebufferMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"rebufferMs\" is null.");
+      }
+      this.rebufferMs = setterArg;
+    }
+
+    private @NonNull Long droppedFrames;
+
+    public @NonNull Long getDroppedFrames() {
+      return droppedFrames;
+    }
+
+    public void setDroppedFrames(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"droppedFrames\" is null.");
+      }
+      this.droppedFrames = setterArg;
+    }
+
+    private @Nullable Long decoderInitMs;
+
+    public @Nullable Long getDecoderInitMs() {
+      return decoderInitMs;
+    }
+
+    public void setDecoderInitMs(@Nullable Long setterArg) {
+      this.decoderInitMs = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private PlaybackMetricsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long startupMs;
+
+      public @NonNull Builder setStartupMs(@Nullable Long setterArg) {
+        this.startupMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long rebuffers;
+
+      public @NonNull Builder setRebuffers(@NonNull Long setterArg) {
+        this.rebuffers = setterArg;
+        return this;
+      }
+
+      private @Nullable Long rebufferMs;
+
+      public @NonNull Builder setRebufferMs(@NonNull Long setterArg) {
+        this.rebufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long droppedFrames;
+
+      public @NonNull Builder setDroppedFrames(@NonNull Long setterArg) {
+        this.droppedFrames = setterArg;
+        return this;
+      }
+
+      private @Nullable Long decoderInitMs;
+
+      public @NonNull Builder setDecoderInitMs(@Nullable Long setterArg) {
+        this.decoderInitMs = setterArg;
+        return this;
+      }
+
+      public @NonNull PlaybackMetricsMessage build() {
+        PlaybackMetricsMessage pigeonReturn = new PlaybackMetricsMessage();
+        pigeonReturn.setStartupMs(startupMs);
+        pigeonReturn.setRebuffers(rebuffers);
+        pigeonReturn.setRebufferMs(rebufferMs);
+        pigeonReturn.setDroppedFrames(droppedFrames);
+        pigeonReturn.setDecoderInitMs(decoderInitMs);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("startupMs", startupMs);
+      toMapResult.put("rebuffers", rebuffers);
+      toMapResult.put("rebufferMs", rebufferMs);
+      toMapResult.put("droppedFrames", droppedFrames);
+      toMapResult.put("decoderInitMs", decoderInitMs);
+      return toMapResult;
+    }
+
+    static @NonNull PlaybackMetricsMessage fromMap(@NonNull Map<String, Object> map) {
+      PlaybackMetricsMessage pigeonResult = new PlaybackMetricsMessage();
+      Object startupMs = map.get("startupMs");
+      pigeonResult.setStartupMs(
+          (startupMs == null)
+              ? null
+              : ((startupMs instanceof Integer) ? (Integer) startupMs : (Long) startupMs));
+      Object rebuffers = map.get("rebuffers");
+      pigeonResult.setRebuffers(
+          (rebuffers == null)
+              ? null
+              : ((rebuffers instanceof Integer) ? (Integer) rebuffers : (Long) rebuffers));
+      Object rebufferMs = map.get("rebufferMs");
+      pigeonResult.setRebufferMs(
+          (rebufferMs == null)
+              ? null
+              : ((rebufferMs instanceof Integer) ? (Integer) rebufferMs : (Long) rebufferMs));
+      Object droppedFrames = map.get("droppedFrames");
+      pigeonResult.setDroppedFrames(
+          (droppedFrames == null)
+              ? null
+              : ((droppedFrames instanceof Integer)
+                  ? (Integer) droppedFrames
+                  : (Long) droppedFrames));
+      Object decoderInitMs = map.get("decoderInitMs");
+      pigeonResult.setDecoderInitMs(
+          (decoderInitMs == null)
+              ? null
+              : ((decoderInitMs instanceof Integer)
+                  ? (Integer) decoderInitMs
+                  : (Long) decoderInitMs));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class EventStatsMessage {
+    private @NonNull Long dropped;
+
+    public @NonNull Long getDropped() {
+      return dropped;
+    }
+
+    public void setDropped(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"dropped\" is null.");
+      }
+      this.dropped = setterArg;
+    }
+
+    private @NonNull Long coalesced;
+
+    public @NonNull Long getCoalesced() {
+      return coalesced;
+    }
+
+    public void setCoalesced(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"coalesced\" is null.");
+      }
+      this.coalesced = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private EventStatsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long dropped;
+
+      public @NonNull Builder setDropped(@NonNull Long setterArg) {
+        this.dropped = setterArg;
+        return this;
+      }
+
+      private @Nullable Long coalesced;
+
+      public @NonNull Builder setCoalesced(@NonNull Long setterArg) {
+        this.coalesced = setterArg;
+        return this;
+      }
+
+      public @NonNull EventStatsMessage build() {
+        EventStatsMessage pigeonReturn = new EventStatsMessage();
+        pigeonReturn.setDropped(dropped);
+        pigeonReturn.setCoalesced(coalesced);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("dropped", dropped);
+      toMapResult.put("coalesced", coalesced);
+      return toMapResult;
+    }
+
+    static @NonNull EventStatsMessage fromMap(@NonNull Map<String, Object> map) {
+      EventStatsMessage pigeonResult = new EventStatsMessage();
+      Object dropped = map.get("dropped");
+      pigeonResult.setDropped(
+          (dropped == null)
+              ? null
+              : ((dropped instanceof Integer) ? (Integer) dropped : (Long) dropped));
+      Object coalesced = map.get("coalesced");
+      pigeonResult.setCoalesced(
+          (coalesced == null)
+              ? null
+              : ((coalesced instanceof Integer) ? (Integer) coalesced : (Long) coalesced));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class HttpConfigMessage {
+    private @Nullable Long connectMs;
+
+    public @Nullable Long getConnectMs() {
+      return connectMs;
+    }
+
+    public void setConnectMs(@Nullable Long setterArg) {
+      this.connectMs = setterArg;
+    }
+
+    private @Nullable Long readMs;
+
+    public @Nullable Long getReadMs() {
+      return readMs;
+    }
+
+    public void setReadMs(@Nullable Long setterArg) {
+      this.readMs = setterArg;
+    }
+
+    private @Nullable String userAgent;
+
+    public @Nullable String getUserAgent() {
+      return userAgent;
+    }
+
+    public void setUserAgent(@Nullable String setterArg) {
+      this.userAgent = setterArg;
+    }
+
+    public static class Builder {
+      private @Nullable Long connectMs;
+
+      public @NonNull Builder setConnectMs(@Nullable Long setterArg) {
+        this.connectMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long readMs;
+
+      public @NonNull Builder setReadMs(@Nullable Long setterArg) {
+        this.readMs = setterArg;
+        return this;
+      }
+
+      private @Nullable String userAgent;
+
+      public @NonNull Builder setUserAgent(@Nullable String setterArg) {
+        this.userAgent = setterArg;
+        return this;
+      }
+
+      public @NonNull HttpConfigMessage build() {
+        HttpConfigMessage pigeonReturn = new HttpConfigMessage();
+        pigeonReturn.setConnectMs(connectMs);
+        pigeonReturn.setReadMs(readMs);
+        pigeonReturn.setUserAgent(userAgent);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("connectMs", connectMs);
+      toMapResult.put("readMs", readMs);
+      toMapResult.put("userAgent", userAgent);
+      return toMapResult;
+    }
+
+    static @NonNull HttpConfigMessage fromMap(@NonNull Map<String, Object> map) {
+      HttpConfigMessage pigeonResult = new HttpConfigMessage();
+      Object connectMs = map.get("connectMs");
+      pigeonResult.setConnectMs(
+          (connectMs == null)
+              ? null
+              : ((connectMs instanceof Integer) ? (Integer) connectMs : (Long) connectMs));
+      Object readMs = map.get("readMs");
+      pigeonResult.setReadMs(
+          (readMs == null)
+              ? null
+              : ((readMs instanceof Integer) ? (Integer) readMs : (Long) readMs));
+      Object userAgent = map.get("userAgent");
+      pigeonResult.setUserAgent((String) userAgent);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class FrameRequestMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @NonNull Long positionMs;
+
+    public @NonNull Long getPositionMs() {
+      return positionMs;
+    }
+
+    public void setPositionMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"positionMs\" is null.");
+      }
+      this.positionMs = setterArg;
+    }
+
+    private @NonNull Long maxSize;
+
+    public @NonNull Long getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxSize\" is null.");
+      }
+      this.maxSize = setterArg;
+    }
+
+    private @NonNull Map<String, String> httpHeaders;
+
+    public @NonNull Map<String, String> getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(@NonNull Map<String, String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"httpHeaders\" is null.");
+      }
+      this.httpHeaders = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private FrameRequestMessage() {}
+
+    public static class Builder {
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable Long positionMs;
+
+      public @NonNull Builder setPositionMs(@NonNull Long setterArg) {
+        this.positionMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxSize;
+
+      public @NonNull Builder setMaxSize(@NonNull Long setterArg) {
+        this.maxSize = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> httpHeaders;
+
+      public @NonNull Builder setHttpHeaders(@NonNull Map<String, String> setterArg) {
+        this.httpHeaders = setterArg;
+        return this;
+      }
+
+      public @NonNull FrameRequestMessage build() {
+        FrameRequestMessage pigeonReturn = new FrameRequestMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setPositionMs(positionMs);
+        pigeonReturn.setMaxSize(maxSize);
+        pigeonReturn.setHttpHeaders(httpHeaders);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("uri", uri);
+      toMapResult.put("positionMs", positionMs);
+      toMapResult.put("maxSize", maxSize);
+      toMapResult.put("httpHeaders", httpHeaders);
+      return toMapResult;
+    }
+
+    static @NonNull FrameRequestMessage fromMap(@NonNull Map<String, Object> map) {
+      FrameRequestMessage pigeonResult = new FrameRequestMessage();
+      Object uri = map.get("uri");
+      pigeonResult.setUri((String) uri);
+      Object positionMs = map.get("positionMs");
+      pigeonResult.setPositionMs(
+          (positionMs == null)
+              ? null
+              : ((positionMs instanceof Integer) ? (Integer) positionMs : (Long) positionMs));
+      Object maxSize = map.get("maxSize");
+      pigeonResult.setMaxSize(
+          (maxSize == null)
+              ? null
+              : ((maxSize instanceof Integer) ? (Integer) maxSize : (Long) maxSize));
+      Object httpHeaders = map.get("httpHeaders");
+      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class FrameMessage {
+    private @NonNull byte[] bytes;
+
+    public @NonNull byte[] getBytes() {
+      return bytes;
+    }
+
+    public void setBytes(@NonNull byte[] setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bytes\" is null.");
+      }
+      this.bytes = setterArg;
+    }
+
+    private @NonNull Long width;
+
+    public @NonNull Long getWidth() {
+      return width;
+    }
+
+    public void setWidth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"width\" is null.");
+      }
+      this.width = setterArg;
+    }
+
+    private @NonNull Long height;
+
+    public @NonNull Long getHeight() {
+      return height;
+    }
+
+    public void setHeight(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"height\" is null.");
+      }
+      this.height = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private FrameMessage() {}
+
+    public static class Builder {
+      private @Nullable byte[] bytes;
+
+      public @NonNull Builder setBytes(@NonNull byte[] setterArg) {
+        this.bytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long width;
+
+      public @NonNull Builder setWidth(@NonNull Long setterArg) {
+        this.width = setterArg;
+        return this;
+      }
+
+      private @Nullable Long height;
+
+      public @NonNull Builder setHeight(@NonNull Long setterArg) {
+        this.height = setterArg;
+        return this;
+      }
+
+      public @NonNull FrameMessage build() {
+        FrameMessage pigeonReturn = new FrameMessage();
+        pigeonReturn.setBytes(bytes);
+        pigeonReturn.setWidth(width);
+        pigeonReturn.setHeight(height);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("bytes", bytes);
+      toMapResult.put("width", width);
+      toMapResult.put("height", height);
+      return toMapResult;
+    }
+
+    static @NonNull FrameMessage fromMap(@NonNull Map<String, Object> map) {
+      FrameMessage pigeonResult = new FrameMessage();
+      Object bytes = map.get("bytes");
+      pigeonResult.setBytes((byte[]) bytes);
+      Object width = map.get("width");
+      pigeonResult.setWidth(
+          (width == null) ? null : ((width instanceof Integer) ? (Integer) width : (Long) width));
+      Object height = map.get("height");
+      pigeonResult.setHeight(
+          (height == null)
+              ? null
+              : ((height instanceof Integer) ? (Integer) height : (Long) height));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PlayerPoolMessage {
+    private @NonNull Long maxSize;
+
+    public @NonNull Long getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxSize\" is null.");
+      }
+      this.maxSize = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private PlayerPoolMessage() {}
+
+    public static class Builder {
+      private @Nullable Long maxSize;
+
+      public @NonNull Builder setMaxSize(@NonNull Long setterArg) {
+        this.maxSize = setterArg;
+        return this;
+      }
+
+      public @NonNull PlayerPoolMessage build() {
+        PlayerPoolMessage pigeonReturn = new PlayerPoolMessage();
+        pigeonReturn.setMaxSize(maxSize);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("maxSize", maxSize);
+      return toMapResult;
+    }
+
+    static @NonNull PlayerPoolMessage fromMap(@NonNull Map<String, Object> map) {
+      PlayerPoolMessage pigeonResult = new PlayerPoolMessage();
+      Object maxSize = map.get("maxSize");
+      pigeonResult.setMaxSize(
+          (maxSize == null)
+              ? null
+              : ((maxSize instanceof Integer) ? (Integer) maxSize : (Long) maxSize));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PlayerPoolStatsMessage {
+    private @NonNull Long created;
+
+    public @NonNull Long getCreated() {
+      return created;
+    }
+
+    public void setCreated(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"created\" is null.");
+      }
+      this.created = setterArg;
+    }
+
+    private @NonNull Long reused;
+
+    public @NonNull Long getReused() {
+      return reused;
+    }
+
+    public void setReused(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"reused\" is null.");
+      }
+      this.reused = setterArg;
+    }
+
+    private @NonNull Long idle;
+
+    public @NonNull Long getIdle() {
+      return idle;
+    }
+
+    public void setIdle(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"idle\" is null.");
+      }
+      this.idle = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private PlayerPoolStatsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long created;
+
+      public @NonNull Builder setCreated(@NonNull Long setterArg) {
+        this.created = setterArg;
+        return this;
+      }
+
+      private @Nullable Long reused;
+
+      public @NonNull Builder setReused(@NonNull Long setterArg) {
+        this.reused = setterArg;
+        return this;
+      }
+
+      private @Nullable Long idle;
+
+      public @NonNull Builder setIdle(@NonNull Long setterArg) {
+        this.idle = setterArg;
+        return this;
+      }
+
+      public @NonNull PlayerPoolStatsMessage build() {
+        PlayerPoolStatsMessage pigeonReturn = new PlayerPoolStatsMessage();
+        pigeonReturn.setCreated(created);
+        pigeonReturn.setReused(reused);
+        pigeonReturn.setIdle(idle);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("created", created);
+      toMapResult.put("reused", reused);
+      toMapResult.put("idle", idle);
+      return toMapResult;
+    }
+
+    static @NonNull PlayerPoolStatsMessage fromMap(@NonNull Map<String, Object> map) {
+      PlayerPoolStatsMessage pigeonResult = new PlayerPoolStatsMessage();
+      Object created = map.get("created");
+      pigeonResult.setCreated(
+          (created == null)
+              ? null
+              : ((created instanceof Integer) ? (Integer) created : (Long) created));
+      Object reused = map.get("reused");
+      pigeonResult.setReused(
+          (reused == null)
+              ? null
+              : ((reused instanceof Integer) ? (Integer) reused : (Long) reused));
+      Object idle = map.get("idle");
+      pigeonResult.setIdle(
+          (idle == null) ? null : ((idle instanceof Integer) ? (Integer) idle : (Long) idle));
+      return pigeonResult;
+    }
+  }
+
+  public interface Result<T> {
+    void success(T result);
+
+    void error(Throwable error);
+  }
+
   private static class AndroidVideoPlayerApiCodec extends StandardMessageCodec {
     public static final AndroidVideoPlayerApiCodec INSTANCE = new AndroidVideoPlayerApiCodec();
 
-    private AndroidVideoPlayerApiCodec() {}
+    private AndroidVideoPlayerApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return BandwidthMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 129:
+          return BufferConfigMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 130:
+          return CacheConfigMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 131:
+          return CacheStatsMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 132:
+          return CancelPreloadMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 133:
+          return CreateMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 134:
+          return EventStatsMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 135:
+          return FrameMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 136:
+          return FrameRequestMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 137:
+          return HttpConfigMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 138:
+          return LoopingMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 139:
+          return MetricsMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 140:
+          return MixWithOthersMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 141:
+          return PlaybackMetricsMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 142:
+          return PlaybackSpeedMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 143:
+          return PlayerPoolMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 144:
+          return PlayerPoolStatsMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 145:
+          return PositionMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 146:
+          return PositionUpdatesMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 147:
+          return PreloadMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 148:
+          return TextureMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 149:
+          return TrackSelectionMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 150:
+          return VolumeMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof BandwidthMessage) {
+        stream.write(128);
+        writeValue(stream, ((BandwidthMessage) value).toMap());
+      } else if (value instanceof BufferConfigMessage) {
+        stream.write(129);
+        writeValue(stream, ((BufferConfigMessage) value).toMap());
+      } else if (value instanceof CacheConfigMessage) {
+        stream.write(130);
+        writeValue(stream, ((CacheConfigMessage) value).toMap());
+      } else if (value instanceof CacheStatsMessage) {
+        stream.write(131);
+        writeValue(stream, ((CacheStatsMessage) value).toMap());
+      } else if (value instanceof CancelPreloadMessage) {
+        stream.write(132);
+        writeValue(stream, ((CancelPreloadMessage) value).toMap());
+      } else if (value instanceof CreateMessage) {
+        stream.write(133);
+        writeValue(stream, ((CreateMessage) value).toMap());
+      } else if (value instanceof EventStatsMessage) {
+        stream.write(134);
+        writeValue(stream, ((EventStatsMessage) value).toMap());
+      } else if (value instanceof FrameMessage) {
+        stream.write(135);
+        writeValue(stream, ((FrameMessage) value).toMap());
+      } else if (value instanceof FrameRequestMessage) {
+        stream.write(136);
+        writeValue(stream, ((FrameRequestMessage) value).toMap());
+      } else if (value instanceof HttpConfigMessage) {
+        stream.write(137);
+        writeValue(stream, ((HttpConfigMessage) value).toMap());
+      } else if (value instanceof LoopingMessage) {
+        stream.write(138);
+        writeValue(stream, ((LoopingMessage) value).toMap());
+      } else if (value instanceof MetricsMessage) {
+        stream.write(139);
+        writeValue(stream, ((MetricsMessage) value).toMap());
+      } else if (value instanceof MixWithOthersMessage) {
+        stream.write(140);
+        writeValue(stream, ((MixWithOthersMessage) value).toMap());
+      } else if (value instanceof PlaybackMetricsMessage) {
+        stream.write(141);
+        writeValue(stream, ((PlaybackMetricsMessage) value).toMap());
+      } else if (value instanceof PlaybackSpeedMessage) {
+        stream.write(142);
+        writeValue(stream, ((PlaybackSpeedMessage) value).toMap());
+      } else if (value instanceof PlayerPoolMessage) {
+        stream.write(143);
+        writeValue(stream, ((PlayerPoolMessage) value).toMap());
+      } else if (value instanceof PlayerPoolStatsMessage) {
+        stream.write(144);
+        writeValue(stream, ((PlayerPoolStatsMessage) value).toMap());
+      } else if (value instanceof PositionMessage) {
+        stream.write(145);
+        writeValue(stream, ((PositionMessage) value).toMap());
+      } else if (value instanceof PositionUpdatesMessage) {
+        stream.write(146);
+        writeValue(stream, ((PositionUpdatesMessage) value).toMap());
+      } else if (value instanceof PreloadMessage) {
+        stream.write(147);
+        writeValue(stream, ((PreloadMessage) value).toMap());
+      } else if (value instanceof TextureMessage) {
+        stream.write(148);
+        writeValue(stream, ((TextureMessage) value).toMap());
+      } else if (value instanceof TrackSelectionMessage) {
+        stream.write(149);
+        writeValue(stream, ((TrackSelectionMessage) value).toMap());
+      } else if (value instanceof VolumeMessage) {
+        stream.write(150);
+        writeValue(stream, ((VolumeMessage) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface AndroidVideoPlayerApi {
+    void initialize();
+
+    @NonNull
+    TextureMessage create(@NonNull CreateMessage msg);
+
+    void dispose(@NonNull TextureMessage msg);
+
+    void setLooping(@NonNull LoopingMessage msg);
+
+    void setVolume(@NonNull VolumeMessage msg);
+
+    void setPlaybackSpeed(@NonNull PlaybackSpeedMessage msg);
+
+    void play(@NonNull TextureMessage msg);
+
+    @NonNull
+    PositionMessage position(@NonNull TextureMessage msg);
+
+    void seekTo(@NonNull PositionMessage msg);
+
+    void pause(@NonNull TextureMessage msg);
+
+    void setMixWithOthers(@NonNull MixWithOthersMessage msg);
+
+    void enableCache(@NonNull CacheConfigMessage msg);
+
+    @NonNull
+    CacheStatsMessage getCacheStats();
 
-    @Override
-    protected Object readValueOfType(byte type, ByteBuffer buffer) {
-      switch (type) {
-        case (byte) 128:
-          return CreateMessage.fromMap((Map<String, Object>) readValue(buffer));
+    void preload(@NonNull PreloadMessage msg);
 
-        case (byte) 129:
-          return LoopingMessage.fromMap((Map<String, Object>) readValue(buffer));
+    void cancelPreload(@NonNull CancelPreloadMessage msg);
 
-        case (byte) 130:
-          return MixWithOthersMessage.fromMap((Map<String, Object>) readValue(buffer));
+    void setPlayerPoolSize(@NonNull PlayerPoolMessage msg);
 
-        case (byte) 131:
-          return PlaybackSpeedMessage.fromMap((Map<String, Object>) readValue(buffer));
+    @NonNull
+    PlayerPoolStatsMessage getPlayerPoolStats();
 
-        case (byte) 132:
-          return PositionMessage.fromMap((Map<String, Object>) readValue(buffer));
+    void setPositionUpdateInterval(@NonNull PositionUpdatesMessage msg);
 
-        case (byte) 133:
-          return TextureMessage.fromMap((Map<String, Object>) readValue(buffer));
+    void setBufferConfig(@NonNull BufferConfigMessage msg);
 
-        case (byte) 134:
-          return VolumeMessage.fromMap((Map<String, Object>) readValue(buffer));
+    void setTrackSelection(@NonNull TrackSelectionMessage msg);
 
-        default:
-          return super.readValueOfType(type, buffer);
+    @NonNull
+    BandwidthMessage getBandwidthEstimate();
+
+    void setMetricsInterval(@NonNull MetricsMessage msg);
+
+    @NonNull
+    PlaybackMetricsMessage getPlaybackMetrics(@NonNull TextureMessage msg);
+
+    @NonNull
+    EventStatsMessage getEventStats(@NonNull TextureMessage msg);
+
+    void setHttpConfig(@NonNull HttpConfigMessage msg);
+
+    void getFrameAt(@NonNull FrameRequestMessage msg, Result<FrameMessage> result);
+
+    /** The codec used by AndroidVideoPlayerApi. */
+    static MessageCodec<Object> getCodec() {
+      return AndroidVideoPlayerApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `AndroidVideoPlayerApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, AndroidVideoPlayerApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.initialize", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  api.initialize();
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.create", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  CreateMessage msgArg = (CreateMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  TextureMessage output = api.create(msgArg);
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.dispose", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  TextureMessage msgArg = (TextureMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.dispose(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setLooping", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  LoopingMessage msgArg = (LoopingMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setLooping(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setVolume", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  VolumeMessage msgArg = (VolumeMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setVolume(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackSpeed",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  PlaybackSpeedMessage msgArg = (PlaybackSpeedMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setPlaybackSpeed(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.play", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  TextureMessage msgArg = (TextureMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.play(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.position", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  TextureMessage msgArg = (TextureMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  PositionMessage output = api.position(msgArg);
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.seekTo", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  PositionMessage msgArg = (PositionMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.seekTo(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
       }
-    }
-
-    @Override
-    protected void writeValue(ByteArrayOutputStream stream, Object value) {
-      if (value instanceof CreateMessage) {
-        stream.write(128);
-        writeValue(stream, ((CreateMessage) value).toMap());
-      } else if (value instanceof LoopingMessage) {
-        stream.write(129);
-        writeValue(stream, ((LoopingMessage) value).toMap());
-      } else if (value instanceof MixWithOthersMessage) {
-        stream.write(130);
-        writeValue(stream, ((MixWithOthersMessage) value).toMap());
-      } else if (value instanceof PlaybackSpeedMessage) {
-        stream.write(131);
-        writeValue(stream, ((PlaybackSpeedMessage) value).toMap());
-      } else if (value instanceof PositionMessage) {
-        stream.write(132);
-        writeValue(stream, ((PositionMessage) value).toMap());
-      } else if (value instanceof TextureMessage) {
-        stream.write(133);
-        writeValue(stream, ((TextureMessage) value).toMap());
-      } else if (value instanceof VolumeMessage) {
-        stream.write(134);
-        writeValue(stream, ((VolumeMessage) value).toMap());
-      } else {
-        super.writeValue(stream, value);
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.pause", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  TextureMessage msgArg = (TextureMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.pause(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
       }
-    }
-  }
-
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface AndroidVideoPlayerApi {
-    void initialize();
-
-    @NonNull
-    TextureMessage create(@NonNull CreateMessage msg);
-
-    void dispose(@NonNull TextureMessage msg);
-
-    void setLooping(@NonNull LoopingMessage msg);
-
-    void setVolume(@NonNull VolumeMessage msg);
-
-    void setPlaybackSpeed(@NonNull PlaybackSpeedMessage msg);
-
-    void play(@NonNull TextureMessage msg);
-
-    @NonNull
-    PositionMessage position(@NonNull TextureMessage msg);
-
-    void seekTo(@NonNull PositionMessage msg);
-
-    void pause(@NonNull TextureMessage msg);
-
-    void setMixWithOthers(@NonNull MixWithOthersMessage msg);
-
-    /** The codec used by AndroidVideoPlayerApi. */
-    static MessageCodec<Object> getCodec() {
-      return AndroidVideoPlayerApiCodec.INSTANCE;
-    }
-
-    /**
-     * Sets up an instance of `AndroidVideoPlayerApi` to handle messages through the
-     * `binaryMessenger`.
-     */
-    static void setup(BinaryMessenger binaryMessenger, AndroidVideoPlayerApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.initialize", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
-                  api.initialize();
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  MixWithOthersMessage msgArg = (MixWithOthersMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setMixWithOthers(msgArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -679,18 +2630,42 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.create", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.enableCache",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  CreateMessage msgArg = (CreateMessage) args.get(0);
+                  CacheConfigMessage msgArg = (CacheConfigMessage) args.get(0);
                   if (msgArg == null) {
                     throw new NullPointerException("msgArg unexpectedly null.");
                   }
-                  TextureMessage output = api.create(msgArg);
+                  api.enableCache(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getCacheStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  CacheStatsMessage output = api.getCacheStats();
                   wrapped.put("result", output);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -704,18 +2679,18 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.dispose", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.preload", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  TextureMessage msgArg = (TextureMessage) args.get(0);
+                  PreloadMessage msgArg = (PreloadMessage) args.get(0);
                   if (msgArg == null) {
                     throw new NullPointerException("msgArg unexpectedly null.");
                   }
-                  api.dispose(msgArg);
+                  api.preload(msgArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -729,18 +2704,20 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setLooping", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.cancelPreload",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  LoopingMessage msgArg = (LoopingMessage) args.get(0);
+                  CancelPreloadMessage msgArg = (CancelPreloadMessage) args.get(0);
                   if (msgArg == null) {
                     throw new NullPointerException("msgArg unexpectedly null.");
                   }
-                  api.setLooping(msgArg);
+                  api.cancelPreload(msgArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -754,18 +2731,20 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setVolume", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPlayerPoolSize",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  VolumeMessage msgArg = (VolumeMessage) args.get(0);
+                  PlayerPoolMessage msgArg = (PlayerPoolMessage) args.get(0);
                   if (msgArg == null) {
                     throw new NullPointerException("msgArg unexpectedly null.");
                   }
-                  api.setVolume(msgArg);
+                  api.setPlayerPoolSize(msgArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -780,7 +2759,29 @@ public class Messages {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackSpeed",
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getPlayerPoolStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  PlayerPoolStatsMessage output = api.getPlayerPoolStats();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPositionUpdateInterval",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -788,11 +2789,11 @@ public class Messages {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  PlaybackSpeedMessage msgArg = (PlaybackSpeedMessage) args.get(0);
+                  PositionUpdatesMessage msgArg = (PositionUpdatesMessage) args.get(0);
                   if (msgArg == null) {
                     throw new NullPointerException("msgArg unexpectedly null.");
                   }
-                  api.setPlaybackSpeed(msgArg);
+                  api.setPositionUpdateInterval(msgArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -806,18 +2807,20 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.play", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setBufferConfig",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  TextureMessage msgArg = (TextureMessage) args.get(0);
+                  BufferConfigMessage msgArg = (BufferConfigMessage) args.get(0);
                   if (msgArg == null) {
                     throw new NullPointerException("msgArg unexpectedly null.");
                   }
-                  api.play(msgArg);
+                  api.setBufferConfig(msgArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -831,18 +2834,42 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.position", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setTrackSelection",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  TextureMessage msgArg = (TextureMessage) args.get(0);
+                  TrackSelectionMessage msgArg = (TrackSelectionMessage) args.get(0);
                   if (msgArg == null) {
                     throw new NullPointerException("msgArg unexpectedly null.");
                   }
-                  PositionMessage output = api.position(msgArg);
+                  api.setTrackSelection(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getBandwidthEstimate",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  BandwidthMessage output = api.getBandwidthEstimate();
                   wrapped.put("result", output);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -856,18 +2883,20 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.seekTo", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setMetricsInterval",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  PositionMessage msgArg = (PositionMessage) args.get(0);
+                  MetricsMessage msgArg = (MetricsMessage) args.get(0);
                   if (msgArg == null) {
                     throw new NullPointerException("msgArg unexpectedly null.");
                   }
-                  api.seekTo(msgArg);
+                  api.setMetricsInterval(msgArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -881,7 +2910,9 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.pause", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getPlaybackMetrics",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -892,8 +2923,8 @@ public class Messages {
                   if (msgArg == null) {
                     throw new NullPointerException("msgArg unexpectedly null.");
                   }
-                  api.pause(msgArg);
-                  wrapped.put("result", null);
+                  PlaybackMetricsMessage output = api.getPlaybackMetrics(msgArg);
+                  wrapped.put("result", output);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -907,7 +2938,7 @@ public class Messages {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers",
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getEventStats",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -915,11 +2946,38 @@ public class Messages {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  MixWithOthersMessage msgArg = (MixWithOthersMessage) args.get(0);
+                  TextureMessage msgArg = (TextureMessage) args.get(0);
                   if (msgArg == null) {
                     throw new NullPointerException("msgArg unexpectedly null.");
                   }
-                  api.setMixWithOthers(msgArg);
+                  EventStatsMessage output = api.getEventStats(msgArg);
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setHttpConfig",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  HttpConfigMessage msgArg = (HttpConfigMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setHttpConfig(msgArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -930,6 +2988,43 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.getFrameAt", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  FrameRequestMessage msgArg = (FrameRequestMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  Result<FrameMessage> resultCallback =
+                      new Result<FrameMessage>() {
+                        public void success(FrameMessage result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.getFrameAt(msgArg, resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -0,0 +1,146 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.analytics.AnalyticsListener;
+import io.flutter.plugins.videoplayer.Messages.PlaybackMetricsMessage;
+
+/**
+ * Collects quality of experience metrics for one {@link VideoPlayer}: how long the first frame
+ * took, how often and for how long playback stalled, how many frames were dropped and how long
+ * decoders took to initialize.
+ *
+ * <p>Only the running totals are kept, so a summary can be taken at any time without buffering
+ * the individual events. All times are {@link android.os.SystemClock#elapsedRealtime} based.
+ */
+final class PlaybackMetrics implements AnalyticsListener {
+  private final long createdRealtimeMs;
+
+  private long startupMs = C.TIME_UNSET;
+  private long rebufferCount = 0;
+  private long rebufferMs = 0;
+  private long rebufferStartRealtimeMs = C.TIME_UNSET;
+  private long droppedFrames = 0;
+  private long decoderInitMs = C.TIME_UNSET;
+
+  private boolean hasBeenReady = false;
+  private boolean isSeeking = false;
+  private boolean playWhenReady = false;
+
+  // Incremented on every change, so that periodic summaries can be skipped when nothing happened.
+  private int version = 0;
+
+  PlaybackMetrics(long createdRealtimeMs) {
+    this.createdRealtimeMs = createdRealtimeMs;
+  }
+
+  /** Returns a counter that changes whenever any of the metrics changes. */
+  int getVersion() {
+    return version;
+  }
+
+  /**
+   * Returns the metrics so far. A stall that is still going on counts up to {@code nowRealtimeMs}.
+   */
+  @NonNull
+  PlaybackMetricsMessage getSummary(long nowRealtimeMs) {
+    long totalRebufferMs = rebufferMs;
+    if (rebufferStartRealtimeMs != C.TIME_UNSET) {
+      totalRebufferMs += nowRealtimeMs - rebufferStartRealtimeMs;
+    }
+    return new PlaybackMetricsMessage.Builder()
+        .setStartupMs(startupMs != C.TIME_UNSET ? startupMs : null)
+        .setRebuffers(rebufferCount)
+        .setRebufferMs(totalRebufferMs)
+        .setDroppedFrames(droppedFrames)
+        .setDecoderInitMs(decoderInitMs != C.TIME_UNSET ? decoderInitMs : null)
+        .build();
+  }
+
+  @Override
+  public void onPlaybackStateChanged(@NonNull EventTime eventTime, int state) {
+    if (state == Player.STATE_BUFFERING) {
+      // Buffering before the first frame, after a seek or while paused isn't a stall.
+      if (hasBeenReady && !isSeeking && playWhenReady) {
+        startRebuffer(eventTime.realtimeMs);
+      }
+    } else {
+      endRebuffer(eventTime.realtimeMs);
+      if (state == Player.STATE_READY) {
+        hasBeenReady = true;
+        isSeeking = false;
+      }
+    }
+  }
+
+  @Override
+  public void onPlayWhenReadyChanged(
+      @NonNull EventTime eventTime, boolean playWhenReady, int reason) {
+    this.playWhenReady = playWhenReady;
+    if (!playWhenReady) {
+      endRebuffer(eventTime.realtimeMs);
+    }
+  }
+
+  @Override
+  public void onPositionDiscontinuity(
+      @NonNull EventTime eventTime,
+      @NonNull Player.PositionInfo oldPosition,
+      @NonNull Player.PositionInfo newPosition,
+      int reason) {
+    if (reason == Player.DISCONTINUITY_REASON_SEEK) {
+      isSeeking = true;
+      endRebuffer(eventTime.realtimeMs);
+    }
+  }
+
+  @Override
+  public void onRenderedFirstFrame(
+      @NonNull EventTime eventTime, @NonNull Object output, long renderTimeMs) {
+    if (startupMs == C.TIME_UNSET) {
+      startupMs = eventTime.realtimeMs - createdRealtimeMs;
+      version++;
+    }
+  }
+
+  @Override
+  public void onDroppedVideoFrames(
+      @NonNull EventTime eventTime, int droppedFrames, long elapsedMs) {
+    this.droppedFrames += droppedFrames;
+    version++;
+  }
+
+  @Override
+  public void onVideoDecoderInitialized(
+      @NonNull EventTime eventTime,
+      @NonNull String decoderName,
+      long initializedTimestampMs,
+      long initializationDurationMs) {
+    decoderInitMs =
+        decoderInitMs == C.TIME_UNSET
+            ? initializationDurationMs
+            : decoderInitMs + initializationDurationMs;
+    version++;
+  }
+
+  private void startRebuffer(long realtimeMs) {
+    if (rebufferStartRealtimeMs == C.TIME_UNSET) {
+      rebufferStartRealtimeMs = realtimeMs;
+      rebufferCount++;
+      version++;
+    }
+  }
+
+  private void endRebuffer(long realtimeMs) {
+    if (rebufferStartRealtimeMs != C.TIME_UNSET) {
+      rebufferMs += realtimeMs - rebufferStartRealtimeMs;
+      rebufferStartRealtimeMs = C.TIME_UNSET;
+      version++;
+    }
+  }
+}
@@ -4,8 +4,10 @@
 
 package io.flutter.plugins.videoplayer;
 
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import io.flutter.plugin.common.EventChannel;
-import java.util.ArrayList;
+import java.util.Map;
 
 /**
  * And implementation of {@link EventChannel.EventSink} which can wrap an underlying sink.
@@ -13,13 +15,38 @@ import java.util.ArrayList;
  * <p>It delivers messages immediately when downstream is available, but it queues messages before
  * the delegate event sink is set with setDelegate.
  *
+ * <p>The queue is a bounded ring buffer. Events that only report the latest state, such as
+ * buffering and position updates, remove the queued event of the same type before being queued,
+ * so that only the latest one is delivered, in the order it was sent. Once the queue is full the
+ * oldest of these events is dropped. Other events, such as {@code initialized}, {@code completed}
+ * and errors, are never dropped: the queue grows for them if it only holds such events.
+ *
  * <p>This class is not thread-safe. All calls must be done on the same thread or synchronized
  * externally.
  */
 final class QueuingEventSink implements EventChannel.EventSink {
+  @VisibleForTesting static final int DEFAULT_CAPACITY = 64;
+
   private EventChannel.EventSink delegate;
-  private ArrayList<Object> eventQueue = new ArrayList<>();
+  private Object[] eventQueue;
+  // The coalescing key of each queued event, or null if it can't be coalesced and mustn't be
+  // dropped.
+  private String[] eventKeys;
+  private int head = 0;
+  private int size = 0;
   private boolean done = false;
+  private long droppedCount = 0;
+  private long coalescedCount = 0;
+
+  QueuingEventSink() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  @VisibleForTesting
+  QueuingEventSink(int capacity) {
+    eventQueue = new Object[capacity];
+    eventKeys = new String[capacity];
+  }
 
   public void setDelegate(EventChannel.EventSink delegate) {
     this.delegate = delegate;
@@ -28,35 +55,129 @@ final class QueuingEventSink implements EventChannel.EventSink {
 
   @Override
   public void endOfStream() {
-    enqueue(new EndOfStreamEvent());
+    enqueue(new EndOfStreamEvent(), null);
     maybeFlush();
     done = true;
   }
 
   @Override
   public void error(String code, String message, Object details) {
-    enqueue(new ErrorEvent(code, message, details));
+    enqueue(new ErrorEvent(code, message, details), null);
     maybeFlush();
   }
 
   @Override
   public void success(Object event) {
-    enqueue(event);
+    enqueue(event, coalescingKey(event));
     maybeFlush();
   }
 
-  private void enqueue(Object event) {
+  /** Returns how many events were dropped because the queue was full. */
+  long getDroppedCount() {
+    return droppedCount;
+  }
+
+  /** Returns how many queued events were removed for a newer event of the same type. */
+  long getCoalescedCount() {
+    return coalescedCount;
+  }
+
+  @Nullable
+  private static String coalescingKey(Object event) {
+    if (!(event instanceof Map)) {
+      return null;
+    }
+    final Object type = ((Map<?, ?>) event).get("event");
+    if ("bufferingStart".equals(type) || "bufferingEnd".equals(type)) {
+      // Only the latest buffering state matters to a listener that attaches later.
+      return "buffering";
+    }
+    if ("bufferingUpdate".equals(type)
+        || "positionUpdate".equals(type)
+        || "playbackMetrics".equals(type)
+        || "videoTracksChanged".equals(type)
+        || "videoFormatChanged".equals(type)) {
+      return (String) type;
+    }
+    return null;
+  }
+
+  private void enqueue(Object event, @Nullable String key) {
     if (done) {
       return;
     }
-    eventQueue.add(event);
+    if (key != null) {
+      for (int i = 0; i < size; i++) {
+        final int index = (head + i) % eventQueue.length;
+        if (key.equals(eventKeys[index])) {
+          removeAt(i);
+          coalescedCount++;
+          break;
+        }
+      }
+    }
+    if (size == eventQueue.length && !dropOldestKeyedEvent()) {
+      if (key != null) {
+        // The queue only holds events that can't be dropped, so the new one is dropped instead.
+        droppedCount++;
+        return;
+      }
+      grow();
+    }
+    final int tail = (head + size) % eventQueue.length;
+    eventQueue[tail] = event;
+    eventKeys[tail] = key;
+    size++;
+  }
+
+  // Drops the oldest queued event that can be dropped. Returns false if there isn't any.
+  private boolean dropOldestKeyedEvent() {
+    for (int i = 0; i < size; i++) {
+      if (eventKeys[(head + i) % eventQueue.length] != null) {
+        removeAt(i);
+        droppedCount++;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void grow() {
+    final Object[] grownQueue = new Object[eventQueue.length * 2];
+    final String[] grownKeys = new String[eventKeys.length * 2];
+    for (int i = 0; i < size; i++) {
+      final int index = (head + i) % eventQueue.length;
+      grownQueue[i] = eventQueue[index];
+      grownKeys[i] = eventKeys[index];
+    }
+    eventQueue = grownQueue;
+    eventKeys = grownKeys;
+    head = 0;
+  }
+
+  // Removes the event at the given position from the head, moving the later events forward.
+  private void removeAt(int position) {
+    for (int i = position; i < size - 1; i++) {
+      final int index = (head + i) % eventQueue.length;
+      final int next = (index + 1) % eventQueue.length;
+      eventQueue[index] = eventQueue[next];
+      eventKeys[index] = eventKeys[next];
+    }
+    final int last = (head + size - 1) % eventQueue.length;
+    eventQueue[last] = null;
+    eventKeys[last] = null;
+    size--;
   }
 
   private void maybeFlush() {
     if (delegate == null) {
       return;
     }
-    for (Object event : eventQueue) {
+    for (int i = 0; i < size; i++) {
+      final int index = (head + i) % eventQueue.length;
+      final Object event = eventQueue[index];
+      eventQueue[index] = null;
+      eventKeys[index] = null;
       if (event instanceof EndOfStreamEvent) {
         delegate.endOfStream();
       } else if (event instanceof ErrorEvent) {
@@ -66,7 +187,8 @@ final class QueuingEventSink implements EventChannel.EventSink {
         delegate.success(event);
       }
     }
-    eventQueue.clear();
+    head = 0;
+    size = 0;
   }
 
   private static class EndOfStreamEvent {}
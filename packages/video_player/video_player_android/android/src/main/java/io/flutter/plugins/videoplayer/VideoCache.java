@@ -0,0 +1,118 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.LeastRecentlyUsedCacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.SimpleCache;
+import io.flutter.plugins.videoplayer.Messages.CacheStatsMessage;
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Disk cache for network media that is shared by all the {@link VideoPlayer}s of a {@link
+ * VideoPlayerPlugin}.
+ *
+ * <p>Least recently used content is evicted once the cache grows past its maximum size. The cache
+ * also counts how many bytes were served from disk and how many had to be fetched from the network.
+ */
+final class VideoCache implements CacheDataSource.EventListener, TransferListener {
+  private final Cache cache;
+  private final File directory;
+  private final long maxCacheSize;
+
+  private final AtomicLong cacheBytes = new AtomicLong();
+  private final AtomicLong networkBytes = new AtomicLong();
+
+  VideoCache(@NonNull Context context, @NonNull File directory, long maxCacheSize) {
+    this(
+        new SimpleCache(
+            directory,
+            new LeastRecentlyUsedCacheEvictor(maxCacheSize),
+            new StandaloneDatabaseProvider(context)),
+        directory,
+        maxCacheSize);
+  }
+
+  @VisibleForTesting
+  VideoCache(@NonNull Cache cache, @NonNull File directory, long maxCacheSize) {
+    this.cache = cache;
+    this.directory = directory;
+    this.maxCacheSize = maxCacheSize;
+  }
+
+  /** Whether this cache was created for {@code directory} with the given maximum size. */
+  boolean hasConfiguration(@NonNull File directory, long maxCacheSize) {
+    return this.directory.equals(directory) && this.maxCacheSize == maxCacheSize;
+  }
+
+  /**
+   * Wraps {@code upstreamFactory} so that reads are served from this cache when possible, and
+   * written to it otherwise.
+   */
+  @NonNull
+  CacheDataSource.Factory createDataSourceFactory(@NonNull DataSource.Factory upstreamFactory) {
+    return new CacheDataSource.Factory()
+        .setCache(cache)
+        .setUpstreamDataSourceFactory(
+            () -> {
+              // Counts the bytes that are fetched from the network.
+              final DataSource dataSource = upstreamFactory.createDataSource();
+              dataSource.addTransferListener(this);
+              return dataSource;
+            })
+        .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+        .setEventListener(this);
+  }
+
+  @NonNull
+  CacheStatsMessage getStats() {
+    return new CacheStatsMessage.Builder()
+        .setCacheBytes(cacheBytes.get())
+        .setNetworkBytes(networkBytes.get())
+        .setCacheSize(cache.getCacheSpace())
+        .build();
+  }
+
+  void release() {
+    cache.release();
+  }
+
+  @Override
+  public void onCachedBytesRead(long cacheSizeBytes, long cachedBytesRead) {
+    cacheBytes.addAndGet(cachedBytesRead);
+  }
+
+  @Override
+  public void onCacheIgnored(int reason) {}
+
+  @Override
+  public void onTransferInitializing(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+  @Override
+  public void onTransferStart(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+  @Override
+  public void onBytesTransferred(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork, int bytes) {
+    if (isNetwork) {
+      networkBytes.addAndGet(bytes);
+    }
+  }
+
+  @Override
+  public void onTransferEnd(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+}
@@ -0,0 +1,248 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.media.MediaMetadataRetriever;
+import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.Log;
+import io.flutter.plugins.videoplayer.Messages.FrameMessage;
+import io.flutter.plugins.videoplayer.Messages.FrameRequestMessage;
+import io.flutter.plugins.videoplayer.Messages.Result;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Decodes single frames of videos into JPEG thumbnails without creating a {@link VideoPlayer}.
+ *
+ * <p>Frames are decoded on a small fixed pool of background threads, and the encoded thumbnails
+ * are kept in a memory cache that evicts the least recently used ones once it grows past its
+ * maximum size.
+ *
+ * <p>All methods must be called on the thread of the result executor.
+ */
+final class VideoFrameExtractor {
+  private static final String TAG = "VideoFrameExtractor";
+  private static final int MAX_CONCURRENT_DECODES = 2;
+  private static final int CACHE_SIZE_BYTES = 4 * 1024 * 1024;
+  private static final int JPEG_QUALITY = 80;
+
+  /** Decodes the frame of a video that a request asks for. */
+  interface FrameDecoder {
+    @NonNull
+    Bitmap decodeFrame(@NonNull FrameRequestMessage request) throws IOException;
+  }
+
+  private final FrameDecoder decoder;
+  private final ExecutorService decodeExecutor;
+  private final Executor resultExecutor;
+  private final LruCache<String, FrameMessage> cache;
+  // The results of the requests that are queued or being decoded.
+  private final Set<Result<FrameMessage>> pendingResults = new HashSet<>();
+  private boolean released = false;
+
+  VideoFrameExtractor(@NonNull Context context) {
+    this(
+        new RetrieverFrameDecoder(context),
+        Executors.newFixedThreadPool(MAX_CONCURRENT_DECODES),
+        new Handler(Looper.getMainLooper())::post,
+        CACHE_SIZE_BYTES);
+  }
+
+  @VisibleForTesting
+  VideoFrameExtractor(
+      @NonNull FrameDecoder decoder,
+      @NonNull ExecutorService decodeExecutor,
+      @NonNull Executor resultExecutor,
+      int cacheSizeBytes) {
+    this.decoder = decoder;
+    this.decodeExecutor = decodeExecutor;
+    this.resultExecutor = resultExecutor;
+    this.cache =
+        new LruCache<String, FrameMessage>(cacheSizeBytes) {
+          @Override
+          protected int sizeOf(String key, FrameMessage frame) {
+            return frame.getBytes().length;
+          }
+        };
+  }
+
+  /**
+   * Returns the frame that {@code request} asks for, from the cache if it has been decoded before.
+   *
+   * <p>{@code result} is called on the thread of the result executor, which is the platform thread
+   * unless this was created for tests.
+   */
+  void getFrameAt(@NonNull FrameRequestMessage request, @NonNull Result<FrameMessage> result) {
+    if (released) {
+      result.error(releasedError());
+      return;
+    }
+    final String key = cacheKey(request);
+    final FrameMessage cachedFrame = cache.get(key);
+    if (cachedFrame != null) {
+      result.success(cachedFrame);
+      return;
+    }
+    pendingResults.add(result);
+    decodeExecutor.execute(
+        () -> {
+          final FrameMessage frame;
+          try {
+            frame = encodeFrame(decoder.decodeFrame(request));
+          } catch (IOException | RuntimeException e) {
+            resultExecutor.execute(
+                () -> {
+                  if (pendingResults.remove(result)) {
+                    result.error(e);
+                  }
+                });
+            return;
+          }
+          cache.put(key, frame);
+          resultExecutor.execute(
+              () -> {
+                if (pendingResults.remove(result)) {
+                  result.success(frame);
+                }
+              });
+        });
+  }
+
+  /**
+   * Stops decoding and empties the cache. Requests that are still queued or being decoded are
+   * answered with an error.
+   */
+  void release() {
+    released = true;
+    decodeExecutor.shutdownNow();
+    cache.evictAll();
+    for (Result<FrameMessage> result : pendingResults) {
+      result.error(releasedError());
+    }
+    pendingResults.clear();
+  }
+
+  private static IllegalStateException releasedError() {
+    return new IllegalStateException("The frame extractor was released");
+  }
+
+  private static String cacheKey(FrameRequestMessage request) {
+    return request.getPositionMs() + ":" + request.getMaxSize() + ":" + request.getUri();
+  }
+
+  private static FrameMessage encodeFrame(Bitmap bitmap) {
+    try {
+      final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      bitmap.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, stream);
+      return new FrameMessage.Builder()
+          .setBytes(stream.toByteArray())
+          .setWidth((long) bitmap.getWidth())
+          .setHeight((long) bitmap.getHeight())
+          .build();
+    } finally {
+      bitmap.recycle();
+    }
+  }
+
+  /**
+   * Decodes frames with {@link MediaMetadataRetriever}, which seeks to the closest sync frame and
+   * only decodes that one.
+   */
+  private static final class RetrieverFrameDecoder implements FrameDecoder {
+    private final Context context;
+
+    RetrieverFrameDecoder(Context context) {
+      this.context = context;
+    }
+
+    @NonNull
+    @Override
+    public Bitmap decodeFrame(@NonNull FrameRequestMessage request) throws IOException {
+      final MediaMetadataRetriever retriever = new MediaMetadataRetriever();
+      try {
+        final Uri uri = Uri.parse(request.getUri());
+        if ("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) {
+          retriever.setDataSource(request.getUri(), request.getHttpHeaders());
+        } else {
+          retriever.setDataSource(context, uri);
+        }
+        final long timeUs = request.getPositionMs() * 1000;
+        final int maxSize = request.getMaxSize().intValue();
+        @Nullable Bitmap frame;
+        if (maxSize > 0 && Build.VERSION.SDK_INT >= Build.VERSION_CODES.O_MR1) {
+          // Scales while decoding, so the full size frame is never allocated. Unlike scaleDown,
+          // this also scales small frames up, so the size is clamped to the size of the video.
+          final int size = Math.min(maxSize, longestSide(retriever, maxSize));
+          frame =
+              retriever.getScaledFrameAtTime(
+                  timeUs, MediaMetadataRetriever.OPTION_CLOSEST_SYNC, size, size);
+        } else {
+          frame = retriever.getFrameAtTime(timeUs, MediaMetadataRetriever.OPTION_CLOSEST_SYNC);
+          if (frame != null) {
+            frame = scaleDown(frame, maxSize);
+          }
+        }
+        if (frame == null) {
+          throw new IOException("No frame at " + request.getPositionMs() + "ms in " + uri);
+        }
+        return frame;
+      } finally {
+        release(retriever);
+      }
+    }
+
+    // Returns the longest side of the video, or defaultSize if the metadata doesn't have it.
+    private static int longestSide(MediaMetadataRetriever retriever, int defaultSize) {
+      final String width =
+          retriever.extractMetadata(MediaMetadataRetriever.METADATA_KEY_VIDEO_WIDTH);
+      final String height =
+          retriever.extractMetadata(MediaMetadataRetriever.METADATA_KEY_VIDEO_HEIGHT);
+      try {
+        final int longestSide = Math.max(Integer.parseInt(width), Integer.parseInt(height));
+        return longestSide > 0 ? longestSide : defaultSize;
+      } catch (NumberFormatException e) {
+        return defaultSize;
+      }
+    }
+
+    private static Bitmap scaleDown(Bitmap frame, int maxSize) {
+      final int longestSide = Math.max(frame.getWidth(), frame.getHeight());
+      if (maxSize <= 0 || longestSide <= maxSize) {
+        return frame;
+      }
+      final float scale = (float) maxSize / longestSide;
+      final Bitmap scaledFrame =
+          Bitmap.createScaledBitmap(
+              frame,
+              Math.max(1, Math.round(frame.getWidth() * scale)),
+              Math.max(1, Math.round(frame.getHeight() * scale)),
+              true);
+      frame.recycle();
+      return scaledFrame;
+    }
+
+    private static void release(MediaMetadataRetriever retriever) {
+      try {
+        retriever.release();
+      } catch (IOException e) {
+        Log.w(TAG, "Failed to release MediaMetadataRetriever", e);
+      }
+    }
+  }
+}
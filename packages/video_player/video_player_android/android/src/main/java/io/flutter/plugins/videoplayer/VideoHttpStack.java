@@ -0,0 +1,135 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Build;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.ext.okhttp.OkHttpDataSource;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.HttpDataSource;
+import io.flutter.plugins.videoplayer.Messages.HttpConfigMessage;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Creates the HTTP data sources of all the {@link VideoPlayer}s and preloads of a {@link
+ * VideoPlayerPlugin}, with one shared configuration.
+ *
+ * <p>From API 21, all the data sources are backed by one {@link OkHttpClient}, so they share its
+ * connection pool, resume its TLS sessions and multiplex their requests to the same host over
+ * HTTP/2. OkHttp doesn't run on older versions, where the data sources use HttpURLConnection and
+ * with it the TLS socket factory that {@link VideoPlayerPlugin} installs.
+ *
+ * <p>Configuration changes apply to data sources created afterwards. This class is thread-safe,
+ * since preloads create their data sources on background threads.
+ */
+final class VideoHttpStack {
+  private static final String DEFAULT_USER_AGENT = "ExoPlayer";
+  private static final int MAX_IDLE_CONNECTIONS = 5;
+  private static final long KEEP_ALIVE_DURATION_MINUTES = 5;
+
+  // Null below API 21.
+  @Nullable private final OkHttpClient baseClient;
+  @Nullable private OkHttpClient client;
+
+  private int connectTimeoutMs = DefaultHttpDataSource.DEFAULT_CONNECT_TIMEOUT_MILLIS;
+  private int readTimeoutMs = DefaultHttpDataSource.DEFAULT_READ_TIMEOUT_MILLIS;
+  private String userAgent = DEFAULT_USER_AGENT;
+
+  VideoHttpStack() {
+    this(Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP);
+  }
+
+  @VisibleForTesting
+  VideoHttpStack(boolean useOkHttp) {
+    baseClient =
+        useOkHttp
+            ? new OkHttpClient.Builder()
+                .connectionPool(
+                    new ConnectionPool(
+                        MAX_IDLE_CONNECTIONS, KEEP_ALIVE_DURATION_MINUTES, TimeUnit.MINUTES))
+                .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .followSslRedirects(true)
+                .build()
+            : null;
+    client = buildClient();
+  }
+
+  /**
+   * Replaces the configuration with {@code config}, using the defaults for every value that isn't
+   * set.
+   *
+   * @throws IllegalArgumentException if a timeout is negative
+   */
+  synchronized void configure(@NonNull HttpConfigMessage config) {
+    final int connectTimeoutMs =
+        timeoutOrDefault(
+            config.getConnectMs(), DefaultHttpDataSource.DEFAULT_CONNECT_TIMEOUT_MILLIS);
+    final int readTimeoutMs =
+        timeoutOrDefault(config.getReadMs(), DefaultHttpDataSource.DEFAULT_READ_TIMEOUT_MILLIS);
+    this.connectTimeoutMs = connectTimeoutMs;
+    this.readTimeoutMs = readTimeoutMs;
+    this.userAgent = config.getUserAgent() != null ? config.getUserAgent() : DEFAULT_USER_AGENT;
+    this.client = buildClient();
+  }
+
+  /** Creates a data source factory that sends {@code httpHeaders} with every request. */
+  @NonNull
+  synchronized HttpDataSource.Factory createDataSourceFactory(
+      @Nullable Map<String, String> httpHeaders) {
+    HttpDataSource.Factory httpDataSourceFactory;
+    if (client != null) {
+      httpDataSourceFactory = new OkHttpDataSource.Factory(client).setUserAgent(userAgent);
+    } else {
+      httpDataSourceFactory =
+          new DefaultHttpDataSource.Factory()
+              .setUserAgent(userAgent)
+              .setConnectTimeoutMs(connectTimeoutMs)
+              .setReadTimeoutMs(readTimeoutMs)
+              .setAllowCrossProtocolRedirects(true);
+    }
+
+    if (httpHeaders != null && !httpHeaders.isEmpty()) {
+      httpDataSourceFactory.setDefaultRequestProperties(httpHeaders);
+    }
+    return httpDataSourceFactory;
+  }
+
+  @VisibleForTesting
+  @Nullable
+  synchronized OkHttpClient getClient() {
+    return client;
+  }
+
+  // Clients derived from the base client share its connection pool and dispatcher, so changing the
+  // timeouts keeps the connections that are already open.
+  @Nullable
+  private OkHttpClient buildClient() {
+    if (baseClient == null) {
+      return null;
+    }
+    return baseClient
+        .newBuilder()
+        .connectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+        .readTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+        .build();
+  }
+
+  private static int timeoutOrDefault(@Nullable Long timeoutMs, int defaultTimeoutMs) {
+    if (timeoutMs == null) {
+      return defaultTimeoutMs;
+    }
+    if (timeoutMs < 0 || timeoutMs > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid timeout: " + timeoutMs + "ms");
+    }
+    return timeoutMs.intValue();
+  }
+}
@@ -9,18 +9,27 @@ import static com.google.android.exoplayer2.Player.REPEAT_MODE_OFF;
 
 import android.content.Context;
 import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.DefaultLoadControl;
 import com.google.android.exoplayer2.ExoPlayer;
 import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.LoadControl;
 import com.google.android.exoplayer2.MediaItem;
 import com.google.android.exoplayer2.PlaybackException;
 import com.google.android.exoplayer2.PlaybackParameters;
 import com.google.android.exoplayer2.Player;
 import com.google.android.exoplayer2.Player.Listener;
+import com.google.android.exoplayer2.Tracks;
+import com.google.android.exoplayer2.analytics.AnalyticsListener;
 import com.google.android.exoplayer2.audio.AudioAttributes;
+import com.google.android.exoplayer2.decoder.DecoderReuseEvaluation;
 import com.google.android.exoplayer2.source.MediaSource;
 import com.google.android.exoplayer2.source.ProgressiveMediaSource;
 import com.google.android.exoplayer2.source.dash.DashMediaSource;
@@ -28,12 +37,18 @@ import com.google.android.exoplayer2.source.dash.DefaultDashChunkSource;
 import com.google.android.exoplayer2.source.hls.HlsMediaSource;
 import com.google.android.exoplayer2.source.smoothstreaming.DefaultSsChunkSource;
 import com.google.android.exoplayer2.source.smoothstreaming.SsMediaSource;
+import com.google.android.exoplayer2.trackselection.TrackSelectionParameters;
 import com.google.android.exoplayer2.upstream.DataSource;
 import com.google.android.exoplayer2.upstream.DefaultDataSource;
-import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.HttpDataSource;
 import com.google.android.exoplayer2.util.Util;
 import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugins.videoplayer.Messages.BufferConfigMessage;
+import io.flutter.plugins.videoplayer.Messages.EventStatsMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaybackMetricsMessage;
+import io.flutter.plugins.videoplayer.Messages.TrackSelectionMessage;
 import io.flutter.view.TextureRegistry;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -60,6 +75,53 @@ final class VideoPlayer {
 
   private final VideoPlayerOptions options;
 
+  @Nullable private final ExoPlayerPool playerPool;
+
+  private Listener playerListener;
+
+  private AnalyticsListener analyticsListener;
+
+  private final Handler handler = new Handler(Looper.getMainLooper());
+
+  private long positionUpdateIntervalMs = 0;
+
+  private long lastBufferedPosition = C.TIME_UNSET;
+
+  // The payloads of the most frequent events are allocated once and updated in place. This is
+  // safe because the codec encodes them as soon as they are sent, and QueuingEventSink replaces a
+  // queued event of the same type instead of queueing it again.
+  private final List<Object> bufferedRange = new ArrayList<>(Arrays.asList(0, 0L));
+
+  private final Map<String, Object> bufferingUpdateEvent = new HashMap<>();
+
+  private final Map<String, Object> positionUpdateEvent = new HashMap<>();
+
+  private final PlaybackMetrics metrics = new PlaybackMetrics(SystemClock.elapsedRealtime());
+
+  private long metricsIntervalMs = 0;
+
+  private int lastMetricsVersion = -1;
+
+  private final Runnable metricsReporter =
+      new Runnable() {
+        @Override
+        public void run() {
+          if (metrics.getVersion() != lastMetricsVersion) {
+            sendPlaybackMetrics();
+          }
+          handler.postDelayed(this, metricsIntervalMs);
+        }
+      };
+
+  private final Runnable positionUpdater =
+      new Runnable() {
+        @Override
+        public void run() {
+          sendPositionUpdate();
+          handler.postDelayed(this, positionUpdateIntervalMs);
+        }
+      };
+
   VideoPlayer(
       Context context,
       EventChannel eventChannel,
@@ -67,26 +129,30 @@ final class VideoPlayer {
       String dataSource,
       String formatHint,
       @NonNull Map<String, String> httpHeaders,
-      VideoPlayerOptions options) {
+      VideoPlayerOptions options,
+      @Nullable VideoCache cache,
+      @NonNull VideoHttpStack httpStack,
+      @NonNull ExoPlayerPool playerPool) {
     this.eventChannel = eventChannel;
     this.textureEntry = textureEntry;
     this.options = options;
+    this.playerPool = playerPool;
 
-    ExoPlayer exoPlayer = new ExoPlayer.Builder(context).build();
+    ExoPlayer exoPlayer = playerPool.acquire(context, options.bufferConfig);
+    // Always set, since a pooled player still has the parameters of the video it last played.
+    exoPlayer.setTrackSelectionParameters(
+        buildTrackSelectionParameters(context, options.trackSelection));
 
     Uri uri = Uri.parse(dataSource);
     DataSource.Factory dataSourceFactory;
 
     if (isHTTP(uri)) {
-      DefaultHttpDataSource.Factory httpDataSourceFactory =
-          new DefaultHttpDataSource.Factory()
-              .setUserAgent("ExoPlayer")
-              .setAllowCrossProtocolRedirects(true);
-
-      if (httpHeaders != null && !httpHeaders.isEmpty()) {
-        httpDataSourceFactory.setDefaultRequestProperties(httpHeaders);
-      }
-      dataSourceFactory = httpDataSourceFactory;
+      HttpDataSource.Factory httpDataSourceFactory =
+          httpStack.createDataSourceFactory(httpHeaders);
+      dataSourceFactory =
+          cache != null
+              ? cache.createDataSourceFactory(httpDataSourceFactory)
+              : httpDataSourceFactory;
     } else {
       dataSourceFactory = new DefaultDataSource.Factory(context);
     }
@@ -110,10 +176,71 @@ final class VideoPlayer {
     this.eventChannel = eventChannel;
     this.textureEntry = textureEntry;
     this.options = options;
+    this.playerPool = null;
 
     setUpVideoPlayer(exoPlayer, eventSink);
   }
 
+  /**
+   * Builds a {@link LoadControl} from {@code bufferConfig}, using ExoPlayer's default for every
+   * value that isn't set.
+   *
+   * @throws IllegalArgumentException if the buffer durations are inconsistent, for example if the
+   *     minimum buffer is larger than the maximum buffer
+   */
+  static LoadControl buildLoadControl(@NonNull BufferConfigMessage bufferConfig) {
+    int minBufferMs =
+        valueOrDefault(bufferConfig.getMinBufferMs(), DefaultLoadControl.DEFAULT_MIN_BUFFER_MS);
+    int maxBufferMs =
+        valueOrDefault(bufferConfig.getMaxBufferMs(), DefaultLoadControl.DEFAULT_MAX_BUFFER_MS);
+    int playBufferMs =
+        valueOrDefault(
+            bufferConfig.getPlayBufferMs(), DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_MS);
+    int rebufferMs =
+        valueOrDefault(
+            bufferConfig.getRebufferMs(),
+            DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_AFTER_REBUFFER_MS);
+    DefaultLoadControl.Builder builder =
+        new DefaultLoadControl.Builder()
+            .setBufferDurationsMs(minBufferMs, maxBufferMs, playBufferMs, rebufferMs);
+    if (bufferConfig.getTargetBytes() != null) {
+      builder.setTargetBufferBytes(bufferConfig.getTargetBytes().intValue());
+    }
+    if (bufferConfig.getBackBufferMs() != null) {
+      builder.setBackBuffer(bufferConfig.getBackBufferMs().intValue(), false);
+    }
+    if (bufferConfig.getPrioritizeTime() != null) {
+      builder.setPrioritizeTimeOverSizeThresholds(bufferConfig.getPrioritizeTime());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Builds the {@link TrackSelectionParameters} for {@code trackSelection}, starting from
+   * ExoPlayer's defaults for the device.
+   */
+  static TrackSelectionParameters buildTrackSelectionParameters(
+      @NonNull Context context, @Nullable TrackSelectionMessage trackSelection) {
+    TrackSelectionParameters defaults = TrackSelectionParameters.getDefaults(context);
+    if (trackSelection == null) {
+      return defaults;
+    }
+    TrackSelectionParameters.Builder builder = defaults.buildUpon();
+    if (trackSelection.getMaxWidth() != null || trackSelection.getMaxHeight() != null) {
+      builder.setMaxVideoSize(
+          valueOrDefault(trackSelection.getMaxWidth(), Integer.MAX_VALUE),
+          valueOrDefault(trackSelection.getMaxHeight(), Integer.MAX_VALUE));
+    }
+    if (trackSelection.getMaxBitrate() != null) {
+      builder.setMaxVideoBitrate(trackSelection.getMaxBitrate().intValue());
+    }
+    return builder.build();
+  }
+
+  private static int valueOrDefault(@Nullable Long value, int defaultValue) {
+    return value != null ? value.intValue() : defaultValue;
+  }
+
   private static boolean isHTTP(Uri uri) {
     if (uri == null || uri.getScheme() == null) {
       return false;
@@ -174,6 +301,11 @@ final class VideoPlayer {
     this.exoPlayer = exoPlayer;
     this.eventSink = eventSink;
 
+    bufferingUpdateEvent.put("event", "bufferingUpdate");
+    // iOS supports a list of buffered ranges, so here is a list with a single range.
+    bufferingUpdateEvent.put("values", Collections.singletonList(bufferedRange));
+    positionUpdateEvent.put("event", "positionUpdate");
+
     eventChannel.setStreamHandler(
         new EventChannel.StreamHandler() {
           @Override
@@ -191,7 +323,7 @@ final class VideoPlayer {
     exoPlayer.setVideoSurface(surface);
     setAudioAttributes(exoPlayer, options.mixWithOthers);
 
-    exoPlayer.addListener(
+    playerListener =
         new Listener() {
           private boolean isBuffering = false;
 
@@ -225,6 +357,33 @@ final class VideoPlayer {
             }
           }
 
+          @Override
+          public void onIsPlayingChanged(boolean isPlaying) {
+            if (positionUpdateIntervalMs <= 0) {
+              return;
+            }
+            handler.removeCallbacks(positionUpdater);
+            if (isPlaying) {
+              handler.postDelayed(positionUpdater, positionUpdateIntervalMs);
+            } else {
+              // Leaves Dart with the position the player stopped at.
+              sendPositionUpdate();
+            }
+          }
+
+          @Override
+          public void onPositionDiscontinuity(
+              Player.PositionInfo oldPosition, Player.PositionInfo newPosition, int reason) {
+            if (positionUpdateIntervalMs > 0) {
+              sendPositionUpdate();
+            }
+          }
+
+          @Override
+          public void onTracksChanged(@NonNull Tracks tracks) {
+            sendVideoTracks(tracks);
+          }
+
           @Override
           public void onPlayerError(final PlaybackException error) {
             setBuffering(false);
@@ -232,15 +391,137 @@ final class VideoPlayer {
               eventSink.error("VideoError", "Video player had error " + error, null);
             }
           }
-        });
+        };
+    exoPlayer.addListener(playerListener);
+
+    analyticsListener =
+        new AnalyticsListener() {
+          @Override
+          public void onVideoInputFormatChanged(
+              @NonNull EventTime eventTime,
+              @NonNull Format format,
+              @Nullable DecoderReuseEvaluation decoderReuseEvaluation) {
+            sendVideoFormatChanged(format);
+          }
+        };
+    exoPlayer.addAnalyticsListener(analyticsListener);
+    exoPlayer.addAnalyticsListener(metrics);
   }
 
-  void sendBufferingUpdate() {
+  /**
+   * Sends the video tracks that the player can choose from, and which of them are selected, each
+   * time the available tracks or the selection change.
+   */
+  @VisibleForTesting
+  void sendVideoTracks(@NonNull Tracks tracks) {
+    List<Map<String, Object>> videoTracks = new ArrayList<>();
+    for (Tracks.Group group : tracks.getGroups()) {
+      if (group.getType() != C.TRACK_TYPE_VIDEO) {
+        continue;
+      }
+      for (int i = 0; i < group.length; i++) {
+        if (group.isTrackSupported(i)) {
+          videoTracks.add(formatToMap(group.getTrackFormat(i), group.isTrackSelected(i)));
+        }
+      }
+    }
     Map<String, Object> event = new HashMap<>();
-    event.put("event", "bufferingUpdate");
-    List<? extends Number> range = Arrays.asList(0, exoPlayer.getBufferedPosition());
-    // iOS supports a list of buffered ranges, so here is a list with a single range.
-    event.put("values", Collections.singletonList(range));
+    event.put("event", "videoTracksChanged");
+    event.put("tracks", videoTracks);
+    eventSink.success(event);
+  }
+
+  /**
+   * Sends the format of the video that is being rendered whenever it changes, which for adaptive
+   * streams is every time the player switches bitrate.
+   */
+  @VisibleForTesting
+  void sendVideoFormatChanged(@NonNull Format format) {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", "videoFormatChanged");
+    event.put("format", formatToMap(format, true));
+    eventSink.success(event);
+  }
+
+  private static Map<String, Object> formatToMap(Format format, boolean selected) {
+    Map<String, Object> map = new HashMap<>();
+    // Format.NO_VALUE is sent as null.
+    map.put("bitrate", format.bitrate != Format.NO_VALUE ? format.bitrate : null);
+    map.put("width", format.width != Format.NO_VALUE ? format.width : null);
+    map.put("height", format.height != Format.NO_VALUE ? format.height : null);
+    map.put("selected", selected);
+    return map;
+  }
+
+  void sendBufferingUpdate() {
+    bufferedRange.set(1, exoPlayer.getBufferedPosition());
+    eventSink.success(bufferingUpdateEvent);
+  }
+
+  /**
+   * Pushes the position to Dart every {@code intervalMs} while the video is playing, and once
+   * whenever it stops or seeks, so that Dart doesn't need to poll {@link #getPosition}.
+   *
+   * <p>An interval of 0 turns the updates off.
+   */
+  void setPositionUpdateInterval(long intervalMs) {
+    positionUpdateIntervalMs = intervalMs;
+    handler.removeCallbacks(positionUpdater);
+    if (intervalMs <= 0) {
+      return;
+    }
+    sendPositionUpdate();
+    if (exoPlayer.isPlaying()) {
+      handler.postDelayed(positionUpdater, intervalMs);
+    }
+  }
+
+  @VisibleForTesting
+  void sendPositionUpdate() {
+    positionUpdateEvent.put("position", exoPlayer.getCurrentPosition());
+    eventSink.success(positionUpdateEvent);
+
+    // The buffered range changes much less often than the position, so it is only sent when it
+    // has moved.
+    long bufferedPosition = exoPlayer.getBufferedPosition();
+    if (bufferedPosition != lastBufferedPosition) {
+      lastBufferedPosition = bufferedPosition;
+      sendBufferingUpdate();
+    }
+  }
+
+  /**
+   * Sends a summary of the {@link PlaybackMetrics} every {@code intervalMs}, skipping intervals in
+   * which none of the metrics changed.
+   *
+   * <p>An interval of 0 turns the summaries off.
+   */
+  void setMetricsInterval(long intervalMs) {
+    metricsIntervalMs = intervalMs;
+    handler.removeCallbacks(metricsReporter);
+    if (intervalMs > 0) {
+      handler.postDelayed(metricsReporter, intervalMs);
+    }
+  }
+
+  @NonNull
+  EventStatsMessage getEventStats() {
+    return new EventStatsMessage.Builder()
+        .setDropped(eventSink.getDroppedCount())
+        .setCoalesced(eventSink.getCoalescedCount())
+        .build();
+  }
+
+  @NonNull
+  PlaybackMetricsMessage getPlaybackMetrics() {
+    return metrics.getSummary(SystemClock.elapsedRealtime());
+  }
+
+  @VisibleForTesting
+  void sendPlaybackMetrics() {
+    lastMetricsVersion = metrics.getVersion();
+    Map<String, Object> event = getPlaybackMetrics().toMap();
+    event.put("event", "playbackMetrics");
     eventSink.success(event);
   }
 
@@ -275,6 +556,10 @@ final class VideoPlayer {
     exoPlayer.setPlaybackParameters(playbackParameters);
   }
 
+  void setTrackSelectionParameters(@NonNull TrackSelectionParameters parameters) {
+    exoPlayer.setTrackSelectionParameters(parameters);
+  }
+
   void seekTo(int location) {
     exoPlayer.seekTo(location);
   }
@@ -318,16 +603,30 @@ final class VideoPlayer {
   }
 
   void dispose() {
+    handler.removeCallbacks(positionUpdater);
+    handler.removeCallbacks(metricsReporter);
+    if (metricsIntervalMs > 0) {
+      // The final summary, in case Dart is still listening.
+      sendPlaybackMetrics();
+    }
     if (isInitialized) {
       exoPlayer.stop();
     }
-    textureEntry.release();
     eventChannel.setStreamHandler(null);
+    if (exoPlayer != null) {
+      exoPlayer.removeListener(playerListener);
+      exoPlayer.removeAnalyticsListener(analyticsListener);
+      exoPlayer.removeAnalyticsListener(metrics);
+      if (playerPool != null) {
+        // Detaches the player from the surface before the surface and texture are released below.
+        playerPool.recycle(exoPlayer);
+      } else {
+        exoPlayer.release();
+      }
+    }
     if (surface != null) {
       surface.release();
     }
-    if (exoPlayer != null) {
-      exoPlayer.release();
-    }
+    textureEntry.release();
   }
 }
@@ -4,6 +4,16 @@
 
 package io.flutter.plugins.videoplayer;
 
+import androidx.annotation.Nullable;
+import io.flutter.plugins.videoplayer.Messages.BufferConfigMessage;
+import io.flutter.plugins.videoplayer.Messages.TrackSelectionMessage;
+
 class VideoPlayerOptions {
   public boolean mixWithOthers;
+
+  /** Buffering used by players created from now on, or null for ExoPlayer's defaults. */
+  @Nullable public BufferConfigMessage bufferConfig;
+
+  /** Limits on the video tracks that players pick, or null for no limits. */
+  @Nullable public TrackSelectionMessage trackSelection;
 }
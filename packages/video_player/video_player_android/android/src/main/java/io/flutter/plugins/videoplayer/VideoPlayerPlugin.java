@@ -7,20 +7,40 @@ package io.flutter.plugins.videoplayer;
 import android.content.Context;
 import android.os.Build;
 import android.util.LongSparseArray;
+import com.google.android.exoplayer2.trackselection.TrackSelectionParameters;
+import com.google.android.exoplayer2.upstream.DefaultBandwidthMeter;
 import io.flutter.FlutterInjector;
 import io.flutter.Log;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.videoplayer.Messages.AndroidVideoPlayerApi;
+import io.flutter.plugins.videoplayer.Messages.BandwidthMessage;
+import io.flutter.plugins.videoplayer.Messages.BufferConfigMessage;
+import io.flutter.plugins.videoplayer.Messages.CacheConfigMessage;
+import io.flutter.plugins.videoplayer.Messages.CacheStatsMessage;
+import io.flutter.plugins.videoplayer.Messages.CancelPreloadMessage;
 import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import io.flutter.plugins.videoplayer.Messages.EventStatsMessage;
+import io.flutter.plugins.videoplayer.Messages.FrameMessage;
+import io.flutter.plugins.videoplayer.Messages.FrameRequestMessage;
+import io.flutter.plugins.videoplayer.Messages.HttpConfigMessage;
 import io.flutter.plugins.videoplayer.Messages.LoopingMessage;
+import io.flutter.plugins.videoplayer.Messages.MetricsMessage;
 import io.flutter.plugins.videoplayer.Messages.MixWithOthersMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaybackMetricsMessage;
 import io.flutter.plugins.videoplayer.Messages.PlaybackSpeedMessage;
+import io.flutter.plugins.videoplayer.Messages.PlayerPoolMessage;
+import io.flutter.plugins.videoplayer.Messages.PlayerPoolStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.PositionUpdatesMessage;
+import io.flutter.plugins.videoplayer.Messages.PreloadMessage;
+import io.flutter.plugins.videoplayer.Messages.Result;
 import io.flutter.plugins.videoplayer.Messages.TextureMessage;
+import io.flutter.plugins.videoplayer.Messages.TrackSelectionMessage;
 import io.flutter.plugins.videoplayer.Messages.VolumeMessage;
 import io.flutter.view.TextureRegistry;
+import java.io.File;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Map;
@@ -29,9 +49,18 @@ import javax.net.ssl.HttpsURLConnection;
 /** Android platform implementation of the VideoPlayerPlugin. */
 public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
   private static final String TAG = "VideoPlayerPlugin";
+  private static final String DEFAULT_CACHE_DIRECTORY = "video_player_cache";
+  private static final int DEFAULT_MAX_PRELOADS = 2;
   private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
+  private final HardwarePreferringCodecSelector codecSelector =
+      new HardwarePreferringCodecSelector();
+  private final ExoPlayerPool playerPool = new ExoPlayerPool(codecSelector);
+  private final VideoHttpStack httpStack = new VideoHttpStack();
   private FlutterState flutterState;
   private VideoPlayerOptions options = new VideoPlayerOptions();
+  private VideoCache cache;
+  private VideoPreloader preloader;
+  private VideoFrameExtractor frameExtractor;
 
   /** Register this with the v2 embedding for the plugin to respond to lifecycle callbacks. */
   public VideoPlayerPlugin() {}
@@ -63,7 +92,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
   public void onAttachedToEngine(FlutterPluginBinding binding) {
     if (android.os.Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
       try {
-        HttpsURLConnection.setDefaultSSLSocketFactory(new CustomSSLSocketFactory());
+        HttpsURLConnection.setDefaultSSLSocketFactory(CustomSSLSocketFactory.getInstance());
       } catch (KeyManagementException | NoSuchAlgorithmException e) {
         Log.w(
             TAG,
@@ -93,6 +122,9 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     flutterState.stopListening(binding.getBinaryMessenger());
     flutterState = null;
     initialize();
+    playerPool.clear();
+    releaseCache();
+    releaseFrameExtractor();
   }
 
   private void disposeAllPlayers() {
@@ -109,6 +141,27 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     // be replaced with just asserting that videoPlayers.isEmpty().
     // https://github.com/flutter/flutter/issues/20989 tracks this.
     disposeAllPlayers();
+    playerPool.clear();
+    releaseCache();
+    releaseFrameExtractor();
+  }
+
+  private void releaseCache() {
+    if (preloader != null) {
+      preloader.release();
+      preloader = null;
+    }
+    if (cache != null) {
+      cache.release();
+      cache = null;
+    }
+  }
+
+  private void releaseFrameExtractor() {
+    if (frameExtractor != null) {
+      frameExtractor.release();
+      frameExtractor = null;
+    }
   }
 
   public void initialize() {
@@ -139,7 +192,10 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
               "asset:///" + assetLookupKey,
               null,
               null,
-              options);
+              options,
+              null,
+              httpStack,
+              playerPool);
     } else {
       @SuppressWarnings("unchecked")
       Map<String, String> httpHeaders = arg.getHttpHeaders();
@@ -151,7 +207,10 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
               arg.getUri(),
               arg.getFormatHint(),
               httpHeaders,
-              options);
+              options,
+              cache,
+              httpStack,
+              playerPool);
     }
     videoPlayers.put(handle.id(), player);
 
@@ -211,6 +270,135 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     options.mixWithOthers = arg.getMixWithOthers();
   }
 
+  @Override
+  public void enableCache(CacheConfigMessage arg) {
+    File directory =
+        arg.getCacheDirectory() != null
+            ? new File(arg.getCacheDirectory())
+            : new File(flutterState.applicationContext.getCacheDir(), DEFAULT_CACHE_DIRECTORY);
+    long maxCacheSize = arg.getMaxCacheSize();
+    if (cache != null) {
+      if (cache.hasConfiguration(directory, maxCacheSize)) {
+        return;
+      }
+      // A SimpleCache holds a lock on its directory for as long as it is alive, and players that
+      // are already playing keep reading from it, so it can't be swapped out underneath them.
+      throw new IllegalStateException(
+          "The video cache has already been enabled with a different configuration.");
+    }
+    int maxPreloads =
+        arg.getMaxPreloads() != null ? arg.getMaxPreloads().intValue() : DEFAULT_MAX_PRELOADS;
+    // Checked before the cache is created, so that an invalid call leaves the cache disabled.
+    if (maxPreloads <= 0) {
+      throw new IllegalArgumentException("Invalid maximum preloads: " + maxPreloads);
+    }
+    cache = new VideoCache(flutterState.applicationContext, directory, maxCacheSize);
+    preloader = new VideoPreloader(cache, httpStack, maxPreloads);
+  }
+
+  @Override
+  public CacheStatsMessage getCacheStats() {
+    if (cache == null) {
+      return new CacheStatsMessage.Builder()
+          .setCacheBytes(0L)
+          .setNetworkBytes(0L)
+          .setCacheSize(0L)
+          .build();
+    }
+    return cache.getStats();
+  }
+
+  @Override
+  public void preload(PreloadMessage arg) {
+    if (preloader == null) {
+      throw new IllegalStateException("enableCache must be called before preloading videos.");
+    }
+    @SuppressWarnings("unchecked")
+    Map<String, String> httpHeaders = arg.getHttpHeaders();
+    preloader.preload(arg.getUri(), arg.getPreloadBytes(), httpHeaders);
+  }
+
+  @Override
+  public void cancelPreload(CancelPreloadMessage arg) {
+    if (preloader != null) {
+      preloader.cancel(arg.getUri());
+    }
+  }
+
+  @Override
+  public void setPlayerPoolSize(PlayerPoolMessage arg) {
+    playerPool.setMaxSize(arg.getMaxSize().intValue());
+  }
+
+  @Override
+  public PlayerPoolStatsMessage getPlayerPoolStats() {
+    return playerPool.getStats();
+  }
+
+  @Override
+  public void setBufferConfig(BufferConfigMessage arg) {
+    // Builds a LoadControl right away so that inconsistent values are reported to this call rather
+    // than to the next create().
+    VideoPlayer.buildLoadControl(arg);
+    options.bufferConfig = arg;
+  }
+
+  @Override
+  public void setTrackSelection(TrackSelectionMessage arg) {
+    options.trackSelection = arg;
+    codecSelector.setPreferHardware(Boolean.TRUE.equals(arg.getPreferHardware()));
+    TrackSelectionParameters parameters =
+        VideoPlayer.buildTrackSelectionParameters(flutterState.applicationContext, arg);
+    for (int i = 0; i < videoPlayers.size(); i++) {
+      videoPlayers.valueAt(i).setTrackSelectionParameters(parameters);
+    }
+  }
+
+  @Override
+  public BandwidthMessage getBandwidthEstimate() {
+    long bitrate =
+        DefaultBandwidthMeter.getSingletonInstance(flutterState.applicationContext)
+            .getBitrateEstimate();
+    return new BandwidthMessage.Builder().setBitrate(bitrate).build();
+  }
+
+  @Override
+  public void setMetricsInterval(MetricsMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setMetricsInterval(arg.getIntervalMs());
+  }
+
+  @Override
+  public PlaybackMetricsMessage getPlaybackMetrics(TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    return player.getPlaybackMetrics();
+  }
+
+  @Override
+  public EventStatsMessage getEventStats(TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    return player.getEventStats();
+  }
+
+  @Override
+  public void setHttpConfig(HttpConfigMessage arg) {
+    httpStack.configure(arg);
+  }
+
+  @Override
+  public void getFrameAt(FrameRequestMessage arg, Result<FrameMessage> result) {
+    if (frameExtractor == null) {
+      frameExtractor = new VideoFrameExtractor(flutterState.applicationContext);
+    }
+    frameExtractor.getFrameAt(arg, result);
+  }
+
+  @Override
+  public void setPositionUpdateInterval(PositionUpdatesMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setPositionUpdateInterval(arg.getIntervalMs());
+  }
+
   private interface KeyForAssetFn {
     String get(String asset);
   }
@@ -0,0 +1,155 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheWriter;
+import io.flutter.Log;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Downloads the beginning of network videos into a {@link VideoCache} ahead of playback, so that
+ * players created for them later can start from the cache.
+ *
+ * <p>At most a fixed number of preloads run at the same time and the others wait in a queue. A
+ * preload can be cancelled while it is waiting or while it is running.
+ */
+final class VideoPreloader {
+  private static final String TAG = "VideoPreloader";
+
+  private final VideoCache cache;
+  private final VideoHttpStack httpStack;
+  private final ExecutorService executor;
+  private final Map<String, Preload> preloads = new HashMap<>();
+
+  /** @throws IllegalArgumentException if {@code maxConcurrentPreloads} is not positive */
+  VideoPreloader(
+      @NonNull VideoCache cache, @NonNull VideoHttpStack httpStack, int maxConcurrentPreloads) {
+    this(cache, httpStack, newExecutor(maxConcurrentPreloads));
+  }
+
+  @VisibleForTesting
+  VideoPreloader(
+      @NonNull VideoCache cache,
+      @NonNull VideoHttpStack httpStack,
+      @NonNull ExecutorService executor) {
+    this.cache = cache;
+    this.httpStack = httpStack;
+    this.executor = executor;
+  }
+
+  private static ExecutorService newExecutor(int maxConcurrentPreloads) {
+    if (maxConcurrentPreloads <= 0) {
+      throw new IllegalArgumentException("Invalid maximum preloads: " + maxConcurrentPreloads);
+    }
+    return Executors.newFixedThreadPool(maxConcurrentPreloads);
+  }
+
+  /**
+   * Queues the download of the first {@code preloadBytes} bytes of {@code uri}.
+   *
+   * <p>Does nothing if {@code uri} is already being preloaded.
+   */
+  synchronized void preload(
+      @NonNull String uri, long preloadBytes, @Nullable Map<String, String> httpHeaders) {
+    if (preloads.containsKey(uri)) {
+      return;
+    }
+    final Preload preload = new Preload(uri, preloadBytes, httpHeaders);
+    preloads.put(uri, preload);
+    preload.future = executor.submit(preload);
+  }
+
+  /** Stops preloading {@code uri}. Content that was already downloaded stays in the cache. */
+  synchronized void cancel(@NonNull String uri) {
+    final Preload preload = preloads.remove(uri);
+    if (preload != null) {
+      preload.cancel();
+    }
+  }
+
+  @VisibleForTesting
+  synchronized boolean isPreloading(@NonNull String uri) {
+    return preloads.containsKey(uri);
+  }
+
+  /** Cancels all preloads and stops the preloading threads. */
+  synchronized void release() {
+    for (Preload preload : preloads.values()) {
+      preload.cancel();
+    }
+    preloads.clear();
+    executor.shutdown();
+  }
+
+  private synchronized void onPreloadFinished(Preload preload) {
+    if (preloads.get(preload.uri) == preload) {
+      preloads.remove(preload.uri);
+    }
+  }
+
+  private final class Preload implements Runnable {
+    final String uri;
+    private final long preloadBytes;
+    @Nullable private final Map<String, String> httpHeaders;
+
+    @Nullable Future<?> future;
+    @Nullable private volatile CacheWriter cacheWriter;
+    private volatile boolean isCancelled;
+
+    Preload(String uri, long preloadBytes, @Nullable Map<String, String> httpHeaders) {
+      this.uri = uri;
+      this.preloadBytes = preloadBytes;
+      this.httpHeaders = httpHeaders;
+    }
+
+    @Override
+    public void run() {
+      try {
+        final CacheDataSource dataSource =
+            cache
+                .createDataSourceFactory(httpStack.createDataSourceFactory(httpHeaders))
+                .createDataSource();
+        final DataSpec dataSpec =
+            new DataSpec.Builder().setUri(Uri.parse(uri)).setLength(preloadBytes).build();
+        final CacheWriter writer = new CacheWriter(dataSource, dataSpec, null, null);
+        cacheWriter = writer;
+        // Checked after publishing the writer so that a concurrent cancel() either sees the writer
+        // or is seen here.
+        if (!isCancelled) {
+          writer.cache();
+        }
+      } catch (InterruptedIOException e) {
+        // The preload was cancelled.
+      } catch (IOException e) {
+        Log.w(TAG, "Failed to preload " + uri, e);
+      } finally {
+        onPreloadFinished(this);
+      }
+    }
+
+    void cancel() {
+      isCancelled = true;
+      final CacheWriter writer = cacheWriter;
+      if (writer != null) {
+        writer.cancel();
+      }
+      if (future != null) {
+        future.cancel(false);
+      }
+    }
+  }
+}
@@ -0,0 +1,149 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import android.content.Context;
+import com.google.android.exoplayer2.ExoPlayer;
+import io.flutter.plugins.videoplayer.Messages.BufferConfigMessage;
+import io.flutter.plugins.videoplayer.Messages.PlayerPoolStatsMessage;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExoPlayerPoolTest {
+  private Context mockContext;
+  private ExoPlayerPool pool;
+
+  @Before
+  public void before() {
+    mockContext = mock(Context.class);
+    pool = new ExoPlayerPool((context, bufferConfig) -> mock(ExoPlayer.class));
+  }
+
+  @Test
+  public void acquireReusesRecycledPlayer() {
+    pool.setMaxSize(1);
+    final ExoPlayer player = pool.acquire(mockContext, null);
+
+    pool.recycle(player);
+
+    assertSame(player, pool.acquire(mockContext, null));
+    final PlayerPoolStatsMessage stats = pool.getStats();
+    assertEquals(1L, (long) stats.getCreated());
+    assertEquals(1L, (long) stats.getReused());
+    assertEquals(0L, (long) stats.getIdle());
+  }
+
+  @Test
+  public void acquireOnlyReusesPlayerWithSameBufferConfig() {
+    pool.setMaxSize(1);
+    final BufferConfigMessage bufferConfig =
+        new BufferConfigMessage.Builder().setMaxBufferMs(10000L).build();
+    final ExoPlayer player = pool.acquire(mockContext, bufferConfig);
+    pool.recycle(player);
+
+    assertNotSame(player, pool.acquire(mockContext, null));
+    assertSame(player, pool.acquire(mockContext, bufferConfig));
+  }
+
+  @Test
+  public void acquireReusesPlayerWithEqualBufferConfig() {
+    pool.setMaxSize(1);
+    final BufferConfigMessage bufferConfig =
+        new BufferConfigMessage.Builder().setMaxBufferMs(10000L).build();
+    final BufferConfigMessage equalBufferConfig =
+        new BufferConfigMessage.Builder().setMaxBufferMs(10000L).build();
+    final ExoPlayer player = pool.acquire(mockContext, bufferConfig);
+    pool.recycle(player);
+
+    assertSame(player, pool.acquire(mockContext, equalBufferConfig));
+    assertEquals(1L, (long) pool.getStats().getReused());
+  }
+
+  @Test
+  public void acquireTreatsEmptyBufferConfigAsNoConfig() {
+    pool.setMaxSize(1);
+    final ExoPlayer player = pool.acquire(mockContext, null);
+    pool.recycle(player);
+
+    assertSame(player, pool.acquire(mockContext, new BufferConfigMessage.Builder().build()));
+  }
+
+  @Test
+  public void recycleEvictsLongestIdlePlayerWhenPoolIsFull() {
+    pool.setMaxSize(1);
+    final ExoPlayer first = pool.acquire(mockContext, null);
+    final ExoPlayer second = pool.acquire(mockContext, null);
+    pool.recycle(first);
+
+    pool.recycle(second);
+
+    verify(first).release();
+    verify(second, never()).release();
+    assertSame(second, pool.acquire(mockContext, null));
+  }
+
+  @Test
+  public void recycleResetsPlayer() {
+    pool.setMaxSize(1);
+    final ExoPlayer player = pool.acquire(mockContext, null);
+
+    pool.recycle(player);
+
+    verify(player).stop();
+    verify(player).clearMediaItems();
+    verify(player).clearVideoSurface();
+    verify(player, never()).release();
+  }
+
+  @Test
+  public void recycleReleasesPlayerWhenPoolingIsOff() {
+    final ExoPlayer player = pool.acquire(mockContext, null);
+
+    pool.recycle(player);
+
+    verify(player).release();
+    assertNotSame(player, pool.acquire(mockContext, null));
+    assertEquals(2L, (long) pool.getStats().getCreated());
+  }
+
+  @Test
+  public void setMaxSizeReleasesPlayersOverLimit() {
+    pool.setMaxSize(2);
+    final ExoPlayer first = pool.acquire(mockContext, null);
+    final ExoPlayer second = pool.acquire(mockContext, null);
+    pool.recycle(first);
+    pool.recycle(second);
+
+    pool.setMaxSize(1);
+
+    verify(first).release();
+    verify(second, never()).release();
+    assertEquals(1L, (long) pool.getStats().getIdle());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setMaxSizeRejectsNegativeSize() {
+    pool.setMaxSize(-1);
+  }
+
+  @Test
+  public void clearReleasesIdlePlayers() {
+    pool.setMaxSize(1);
+    final ExoPlayer player = pool.acquire(mockContext, null);
+    pool.recycle(player);
+
+    pool.clear();
+
+    verify(player).release();
+    assertEquals(0L, (long) pool.getStats().getIdle());
+  }
+}
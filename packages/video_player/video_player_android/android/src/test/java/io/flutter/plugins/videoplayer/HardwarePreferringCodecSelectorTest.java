@@ -0,0 +1,66 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.android.exoplayer2.mediacodec.MediaCodecInfo;
+import com.google.android.exoplayer2.mediacodec.MediaCodecUtil;
+import com.google.android.exoplayer2.util.MimeTypes;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class HardwarePreferringCodecSelectorTest {
+  private MediaCodecInfo software;
+  private MediaCodecInfo hardware;
+  private HardwarePreferringCodecSelector selector;
+
+  @Before
+  public void before() {
+    software = decoder("c2.android.avc.decoder", false);
+    hardware = decoder("c2.vendor.avc.decoder", true);
+    selector =
+        new HardwarePreferringCodecSelector(
+            (mimeType, requiresSecureDecoder, requiresTunnelingDecoder) ->
+                Arrays.asList(software, hardware));
+  }
+
+  @Test
+  public void keepsPlatformOrderByDefault() throws MediaCodecUtil.DecoderQueryException {
+    List<MediaCodecInfo> decoderInfos =
+        selector.getDecoderInfos(MimeTypes.VIDEO_H264, false, false);
+
+    assertEquals(Arrays.asList(software, hardware), decoderInfos);
+  }
+
+  @Test
+  public void movesHardwareDecodersFirstWhenPreferred()
+      throws MediaCodecUtil.DecoderQueryException {
+    selector.setPreferHardware(true);
+
+    List<MediaCodecInfo> decoderInfos =
+        selector.getDecoderInfos(MimeTypes.VIDEO_H264, false, false);
+
+    assertEquals(Arrays.asList(hardware, software), decoderInfos);
+  }
+
+  private static MediaCodecInfo decoder(String name, boolean hardwareAccelerated) {
+    return MediaCodecInfo.newInstance(
+        name,
+        MimeTypes.VIDEO_H264,
+        MimeTypes.VIDEO_H264,
+        null,
+        hardwareAccelerated,
+        !hardwareAccelerated,
+        hardwareAccelerated,
+        false,
+        false);
+  }
+}
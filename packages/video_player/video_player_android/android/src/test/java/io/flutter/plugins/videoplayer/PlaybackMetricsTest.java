@@ -0,0 +1,104 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.Timeline;
+import com.google.android.exoplayer2.analytics.AnalyticsListener.EventTime;
+import io.flutter.plugins.videoplayer.Messages.PlaybackMetricsMessage;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PlaybackMetricsTest {
+  private PlaybackMetrics metrics;
+
+  @Before
+  public void before() {
+    metrics = new PlaybackMetrics(1000L);
+  }
+
+  @Test
+  public void summaryIsEmptyBeforePlayback() {
+    final PlaybackMetricsMessage summary = metrics.getSummary(2000L);
+
+    assertNull(summary.getStartupMs());
+    assertEquals(0L, (long) summary.getRebuffers());
+    assertEquals(0L, (long) summary.getRebufferMs());
+    assertEquals(0L, (long) summary.getDroppedFrames());
+    assertNull(summary.getDecoderInitMs());
+  }
+
+  @Test
+  public void startupIsTimeToFirstFrame() {
+    metrics.onRenderedFirstFrame(eventTime(1750L), new Object(), 0L);
+    metrics.onRenderedFirstFrame(eventTime(5000L), new Object(), 0L);
+
+    assertEquals(750L, (long) metrics.getSummary(6000L).getStartupMs());
+  }
+
+  @Test
+  public void countsStallsWhilePlaying() {
+    metrics.onPlaybackStateChanged(eventTime(1100L), Player.STATE_BUFFERING);
+    metrics.onPlaybackStateChanged(eventTime(1500L), Player.STATE_READY);
+    metrics.onPlayWhenReadyChanged(
+        eventTime(1600L), true, Player.PLAY_WHEN_READY_CHANGE_REASON_USER_REQUEST);
+    metrics.onPlaybackStateChanged(eventTime(2000L), Player.STATE_BUFFERING);
+    metrics.onPlaybackStateChanged(eventTime(2300L), Player.STATE_READY);
+    metrics.onPlaybackStateChanged(eventTime(3000L), Player.STATE_BUFFERING);
+
+    final PlaybackMetricsMessage summary = metrics.getSummary(3200L);
+
+    // The initial buffering isn't a stall, and the ongoing one counts up to now.
+    assertEquals(2L, (long) summary.getRebuffers());
+    assertEquals(500L, (long) summary.getRebufferMs());
+  }
+
+  @Test
+  public void ignoresBufferingAfterSeek() {
+    metrics.onPlaybackStateChanged(eventTime(1100L), Player.STATE_READY);
+    metrics.onPlayWhenReadyChanged(
+        eventTime(1200L), true, Player.PLAY_WHEN_READY_CHANGE_REASON_USER_REQUEST);
+    metrics.onPositionDiscontinuity(
+        eventTime(1300L),
+        mock(Player.PositionInfo.class),
+        mock(Player.PositionInfo.class),
+        Player.DISCONTINUITY_REASON_SEEK);
+    metrics.onPlaybackStateChanged(eventTime(1300L), Player.STATE_BUFFERING);
+    metrics.onPlaybackStateChanged(eventTime(1800L), Player.STATE_READY);
+
+    assertEquals(0L, (long) metrics.getSummary(2000L).getRebuffers());
+  }
+
+  @Test
+  public void accumulatesDroppedFramesAndDecoderInitialization() {
+    metrics.onVideoDecoderInitialized(eventTime(1100L), "decoder", 1100L, 40L);
+    metrics.onVideoDecoderInitialized(eventTime(5000L), "decoder", 5000L, 25L);
+    metrics.onDroppedVideoFrames(eventTime(2000L), 3, 1000L);
+    metrics.onDroppedVideoFrames(eventTime(3000L), 4, 1000L);
+
+    final PlaybackMetricsMessage summary = metrics.getSummary(6000L);
+
+    assertEquals(65L, (long) summary.getDecoderInitMs());
+    assertEquals(7L, (long) summary.getDroppedFrames());
+  }
+
+  @Test
+  public void versionChangesWithMetrics() {
+    final int version = metrics.getVersion();
+
+    metrics.onDroppedVideoFrames(eventTime(2000L), 1, 1000L);
+
+    assertEquals(version + 1, metrics.getVersion());
+  }
+
+  private static EventTime eventTime(long realtimeMs) {
+    return new EventTime(
+        realtimeMs, Timeline.EMPTY, 0, null, 0L, Timeline.EMPTY, 0, null, 0L, 0L);
+  }
+}
@@ -0,0 +1,194 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.flutter.plugin.common.EventChannel;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class QueuingEventSinkTest {
+  private EventChannel.EventSink mockDelegate;
+
+  @Before
+  public void before() {
+    mockDelegate = mock(EventChannel.EventSink.class);
+  }
+
+  @Test
+  public void deliversQueuedEventsInOrderOnceDelegateIsSet() {
+    final QueuingEventSink sink = new QueuingEventSink();
+    final Map<String, Object> initialized = event("initialized");
+    final Map<String, Object> completed = event("completed");
+    sink.success(initialized);
+    sink.error("VideoError", "message", null);
+    sink.success(completed);
+
+    sink.setDelegate(mockDelegate);
+
+    final InOrder inOrder = inOrder(mockDelegate);
+    inOrder.verify(mockDelegate).success(initialized);
+    inOrder.verify(mockDelegate).error("VideoError", "message", null);
+    inOrder.verify(mockDelegate).success(completed);
+  }
+
+  @Test
+  public void coalescesQueuedEventsOfTheSameType() {
+    final QueuingEventSink sink = new QueuingEventSink();
+    final Map<String, Object> firstUpdate = event("bufferingUpdate", 1);
+    final Map<String, Object> secondUpdate = event("bufferingUpdate", 2);
+    final Map<String, Object> bufferingStart = event("bufferingStart");
+    final Map<String, Object> bufferingEnd = event("bufferingEnd");
+    sink.success(firstUpdate);
+    sink.success(bufferingStart);
+    sink.success(secondUpdate);
+    sink.success(bufferingEnd);
+
+    sink.setDelegate(mockDelegate);
+
+    final InOrder inOrder = inOrder(mockDelegate);
+    inOrder.verify(mockDelegate).success(secondUpdate);
+    inOrder.verify(mockDelegate).success(bufferingEnd);
+    verify(mockDelegate, never()).success(firstUpdate);
+    verify(mockDelegate, never()).success(bufferingStart);
+    assertEquals(2L, sink.getCoalescedCount());
+    assertEquals(0L, sink.getDroppedCount());
+  }
+
+  @Test
+  public void deliversCoalescedEventsInTheOrderTheyWereSent() {
+    final QueuingEventSink sink = new QueuingEventSink();
+    final Map<String, Object> firstUpdate = event("positionUpdate", 1);
+    final Map<String, Object> completed = event("completed");
+    final Map<String, Object> secondUpdate = event("positionUpdate", 2);
+    sink.success(firstUpdate);
+    sink.success(completed);
+    sink.success(secondUpdate);
+
+    sink.setDelegate(mockDelegate);
+
+    final InOrder inOrder = inOrder(mockDelegate);
+    inOrder.verify(mockDelegate).success(completed);
+    inOrder.verify(mockDelegate).success(secondUpdate);
+    verify(mockDelegate, never()).success(firstUpdate);
+  }
+
+  @Test
+  public void coalescingDoesNotCountAsDropping() {
+    final QueuingEventSink sink = new QueuingEventSink(2);
+    final Map<String, Object> completed = event("completed");
+    final Map<String, Object> firstUpdate = event("positionUpdate", 1);
+    final Map<String, Object> secondUpdate = event("positionUpdate", 2);
+    sink.success(completed);
+    sink.success(firstUpdate);
+    sink.success(secondUpdate);
+
+    sink.setDelegate(mockDelegate);
+
+    final InOrder inOrder = inOrder(mockDelegate);
+    inOrder.verify(mockDelegate).success(completed);
+    inOrder.verify(mockDelegate).success(secondUpdate);
+    assertEquals(0L, sink.getDroppedCount());
+  }
+
+  @Test
+  public void dropsOldestCoalescableEventWhenFull() {
+    final QueuingEventSink sink = new QueuingEventSink(3);
+    final Map<String, Object> initialized = event("initialized");
+    final Map<String, Object> bufferingUpdate = event("bufferingUpdate", 1);
+    final Map<String, Object> positionUpdate = event("positionUpdate", 1);
+    final Map<String, Object> playbackMetrics = event("playbackMetrics", 1);
+    sink.success(initialized);
+    sink.success(bufferingUpdate);
+    sink.success(positionUpdate);
+    sink.success(playbackMetrics);
+
+    sink.setDelegate(mockDelegate);
+
+    final InOrder inOrder = inOrder(mockDelegate);
+    inOrder.verify(mockDelegate).success(initialized);
+    inOrder.verify(mockDelegate).success(positionUpdate);
+    inOrder.verify(mockDelegate).success(playbackMetrics);
+    verify(mockDelegate, never()).success(bufferingUpdate);
+    assertEquals(1L, sink.getDroppedCount());
+  }
+
+  @Test
+  public void keepsInitializedCompletedAndErrorsWhenFull() {
+    final QueuingEventSink sink = new QueuingEventSink(2);
+    final Map<String, Object> initialized = event("initialized");
+    final Map<String, Object> completed = event("completed");
+    final Map<String, Object> positionUpdate = event("positionUpdate", 1);
+    sink.success(initialized);
+    sink.error("VideoError", "message", null);
+    sink.success(positionUpdate);
+    sink.success(completed);
+
+    sink.setDelegate(mockDelegate);
+
+    final InOrder inOrder = inOrder(mockDelegate);
+    inOrder.verify(mockDelegate).success(initialized);
+    inOrder.verify(mockDelegate).error("VideoError", "message", null);
+    inOrder.verify(mockDelegate).success(completed);
+    verify(mockDelegate, never()).success(positionUpdate);
+    assertEquals(1L, sink.getDroppedCount());
+  }
+
+  @Test
+  public void deliversAllEventsAfterGrowing() {
+    final QueuingEventSink sink = new QueuingEventSink(2);
+    final Map<String, Object> initialized = event("initialized");
+    final Map<String, Object> completed = event("completed");
+    sink.success(initialized);
+    sink.error("VideoError", "message", null);
+    sink.success(completed);
+    sink.endOfStream();
+
+    sink.setDelegate(mockDelegate);
+
+    final InOrder inOrder = inOrder(mockDelegate);
+    inOrder.verify(mockDelegate).success(initialized);
+    inOrder.verify(mockDelegate).error("VideoError", "message", null);
+    inOrder.verify(mockDelegate).success(completed);
+    inOrder.verify(mockDelegate).endOfStream();
+    assertEquals(0L, sink.getDroppedCount());
+  }
+
+  @Test
+  public void doesNotCoalesceEventsSentToDelegate() {
+    final QueuingEventSink sink = new QueuingEventSink();
+    sink.setDelegate(mockDelegate);
+    final Map<String, Object> firstUpdate = event("positionUpdate", 1);
+    final Map<String, Object> secondUpdate = event("positionUpdate", 2);
+
+    sink.success(firstUpdate);
+    sink.success(secondUpdate);
+
+    verify(mockDelegate).success(firstUpdate);
+    verify(mockDelegate).success(secondUpdate);
+    assertEquals(0L, sink.getCoalescedCount());
+  }
+
+  private static Map<String, Object> event(String type) {
+    final Map<String, Object> event = new HashMap<>();
+    event.put("event", type);
+    return event;
+  }
+
+  // Mockito matches maps by equality, so events of the same type need different contents.
+  private static Map<String, Object> event(String type, int value) {
+    final Map<String, Object> event = event(type);
+    event.put("value", value);
+    return event;
+  }
+}
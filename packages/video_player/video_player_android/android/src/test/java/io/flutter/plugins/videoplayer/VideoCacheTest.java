@@ -0,0 +1,67 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import io.flutter.plugins.videoplayer.Messages.CacheStatsMessage;
+import java.io.File;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VideoCacheTest {
+  private Cache mockCache;
+  private File directory;
+
+  @Before
+  public void before() {
+    mockCache = mock(Cache.class);
+    directory = new File("video_player_cache");
+  }
+
+  @Test
+  public void getStatsCountsCacheAndNetworkBytes() {
+    final VideoCache videoCache = new VideoCache(mockCache, directory, 1024L);
+    final DataSource mockDataSource = mock(DataSource.class);
+    final DataSpec mockDataSpec = mock(DataSpec.class);
+    when(mockCache.getCacheSpace()).thenReturn(300L);
+
+    videoCache.onCachedBytesRead(300L, 100L);
+    videoCache.onCachedBytesRead(300L, 20L);
+    videoCache.onBytesTransferred(mockDataSource, mockDataSpec, true, 50);
+    videoCache.onBytesTransferred(mockDataSource, mockDataSpec, false, 70);
+
+    final CacheStatsMessage stats = videoCache.getStats();
+    assertEquals(120L, (long) stats.getCacheBytes());
+    assertEquals(50L, (long) stats.getNetworkBytes());
+    assertEquals(300L, (long) stats.getCacheSize());
+  }
+
+  @Test
+  public void hasConfigurationComparesDirectoryAndSize() {
+    final VideoCache videoCache = new VideoCache(mockCache, directory, 1024L);
+
+    assertTrue(videoCache.hasConfiguration(new File("video_player_cache"), 1024L));
+    assertFalse(videoCache.hasConfiguration(directory, 2048L));
+    assertFalse(videoCache.hasConfiguration(new File("other_cache"), 1024L));
+  }
+
+  @Test
+  public void releaseReleasesCache() {
+    final VideoCache videoCache = new VideoCache(mockCache, directory, 1024L);
+
+    videoCache.release();
+
+    verify(mockCache).release();
+  }
+}
@@ -0,0 +1,158 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import android.graphics.Bitmap;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.flutter.plugins.videoplayer.Messages.FrameMessage;
+import io.flutter.plugins.videoplayer.Messages.FrameRequestMessage;
+import io.flutter.plugins.videoplayer.Messages.Result;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class VideoFrameExtractorTest {
+  private int decodeCount = 0;
+
+  @Test
+  public void getFrameAtReturnsEncodedFrame() {
+    final VideoFrameExtractor extractor = createExtractor(1024 * 1024);
+    final RecordingResult result = new RecordingResult();
+
+    extractor.getFrameAt(request(1000L), result);
+
+    assertNotNull(result.frame);
+    assertTrue(result.frame.getBytes().length > 0);
+    assertEquals(160L, (long) result.frame.getWidth());
+    assertEquals(90L, (long) result.frame.getHeight());
+  }
+
+  @Test
+  public void getFrameAtServesRepeatedRequestFromCache() {
+    final VideoFrameExtractor extractor = createExtractor(1024 * 1024);
+    final RecordingResult first = new RecordingResult();
+    final RecordingResult second = new RecordingResult();
+
+    extractor.getFrameAt(request(1000L), first);
+    extractor.getFrameAt(request(1000L), second);
+
+    assertEquals(1, decodeCount);
+    assertSame(first.frame, second.frame);
+  }
+
+  @Test
+  public void getFrameAtDecodesOtherPositions() {
+    final VideoFrameExtractor extractor = createExtractor(1024 * 1024);
+
+    extractor.getFrameAt(request(1000L), new RecordingResult());
+    extractor.getFrameAt(request(2000L), new RecordingResult());
+
+    assertEquals(2, decodeCount);
+  }
+
+  @Test
+  public void getFrameAtReportsDecodeErrors() {
+    final VideoFrameExtractor extractor =
+        new VideoFrameExtractor(
+            request -> {
+              throw new IOException("No frame");
+            },
+            MoreExecutors.newDirectExecutorService(),
+            Runnable::run,
+            1024 * 1024);
+    final RecordingResult result = new RecordingResult();
+
+    extractor.getFrameAt(request(1000L), result);
+
+    assertTrue(result.error instanceof IOException);
+  }
+
+  @Test
+  public void releaseAnswersPendingRequestsWithAnError() {
+    final List<Runnable> decodeTasks = new ArrayList<>();
+    final ExecutorService decodeExecutor = mock(ExecutorService.class);
+    doAnswer(invocation -> decodeTasks.add(invocation.getArgument(0)))
+        .when(decodeExecutor)
+        .execute(any(Runnable.class));
+    final VideoFrameExtractor extractor =
+        new VideoFrameExtractor(
+            request -> Bitmap.createBitmap(160, 90, Bitmap.Config.ARGB_8888),
+            decodeExecutor,
+            Runnable::run,
+            1024 * 1024);
+    final RecordingResult result = new RecordingResult();
+    extractor.getFrameAt(request(1000L), result);
+
+    extractor.release();
+
+    assertTrue(result.error instanceof IllegalStateException);
+    for (Runnable task : decodeTasks) {
+      task.run();
+    }
+    assertNull(result.frame);
+  }
+
+  @Test
+  public void getFrameAtReportsErrorAfterRelease() {
+    final VideoFrameExtractor extractor = createExtractor(1024 * 1024);
+    extractor.release();
+    final RecordingResult result = new RecordingResult();
+
+    extractor.getFrameAt(request(1000L), result);
+
+    assertTrue(result.error instanceof IllegalStateException);
+    assertEquals(0, decodeCount);
+  }
+
+  private VideoFrameExtractor createExtractor(int cacheSizeBytes) {
+    return new VideoFrameExtractor(
+        request -> {
+          decodeCount++;
+          return Bitmap.createBitmap(160, 90, Bitmap.Config.ARGB_8888);
+        },
+        MoreExecutors.newDirectExecutorService(),
+        Runnable::run,
+        cacheSizeBytes);
+  }
+
+  private static FrameRequestMessage request(long positionMs) {
+    return new FrameRequestMessage.Builder()
+        .setUri("https://example.com/video.mp4")
+        .setPositionMs(positionMs)
+        .setMaxSize(256L)
+        .setHttpHeaders(new HashMap<>())
+        .build();
+  }
+
+  private static final class RecordingResult implements Result<FrameMessage> {
+    FrameMessage frame;
+    Throwable error;
+
+    @Override
+    public void success(FrameMessage result) {
+      frame = result;
+    }
+
+    @Override
+    public void error(Throwable error) {
+      this.error = error;
+    }
+  }
+}
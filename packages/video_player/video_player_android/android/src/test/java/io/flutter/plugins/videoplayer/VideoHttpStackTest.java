@@ -0,0 +1,152 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import com.google.android.exoplayer2.ext.okhttp.OkHttpDataSource;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import io.flutter.plugins.videoplayer.Messages.HttpConfigMessage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.Test;
+import org.mockito.MockedConstruction;
+
+public class VideoHttpStackTest {
+  @Test
+  public void createDataSourceFactoryUsesConfiguredValues() {
+    final VideoHttpStack httpStack = new VideoHttpStack(true);
+    httpStack.configure(
+        new HttpConfigMessage.Builder()
+            .setConnectMs(1000L)
+            .setReadMs(2000L)
+            .setUserAgent("app/1.0")
+            .build());
+    final Map<String, String> httpHeaders = Collections.singletonMap("Authorization", "token");
+
+    final OkHttpClient client = httpStack.getClient();
+    assertEquals(1000, client.connectTimeoutMillis());
+    assertEquals(2000, client.readTimeoutMillis());
+    final List<Object> callFactories = new ArrayList<>();
+    try (MockedConstruction<OkHttpDataSource.Factory> factories = mockFactories(callFactories)) {
+      httpStack.createDataSourceFactory(httpHeaders);
+
+      assertEquals(1, factories.constructed().size());
+      final OkHttpDataSource.Factory factory = factories.constructed().get(0);
+      assertSame(client, callFactories.get(0));
+      verify(factory).setUserAgent("app/1.0");
+      verify(factory).setDefaultRequestProperties(httpHeaders);
+    }
+  }
+
+  @Test
+  public void createDataSourceFactoryUsesDefaultsForUnsetValues() {
+    final VideoHttpStack httpStack = new VideoHttpStack(true);
+    httpStack.configure(new HttpConfigMessage.Builder().setUserAgent("app/1.0").build());
+
+    httpStack.configure(new HttpConfigMessage.Builder().build());
+
+    final OkHttpClient client = httpStack.getClient();
+    assertEquals(
+        DefaultHttpDataSource.DEFAULT_CONNECT_TIMEOUT_MILLIS, client.connectTimeoutMillis());
+    assertEquals(DefaultHttpDataSource.DEFAULT_READ_TIMEOUT_MILLIS, client.readTimeoutMillis());
+    try (MockedConstruction<OkHttpDataSource.Factory> factories =
+        mockFactories(new ArrayList<>())) {
+      httpStack.createDataSourceFactory(null);
+
+      final OkHttpDataSource.Factory factory = factories.constructed().get(0);
+      verify(factory).setUserAgent("ExoPlayer");
+      verify(factory, never()).setDefaultRequestProperties(any());
+    }
+  }
+
+  @Test
+  public void createDataSourceFactoryBacksAllFactoriesWithOneClient() {
+    final VideoHttpStack httpStack = new VideoHttpStack(true);
+    final List<Object> callFactories = new ArrayList<>();
+
+    try (MockedConstruction<OkHttpDataSource.Factory> factories = mockFactories(callFactories)) {
+      httpStack.createDataSourceFactory(null);
+      httpStack.createDataSourceFactory(Collections.singletonMap("Authorization", "token"));
+    }
+
+    assertEquals(2, callFactories.size());
+    assertSame(callFactories.get(0), callFactories.get(1));
+    assertTrue(httpStack.getClient().protocols().contains(Protocol.HTTP_2));
+  }
+
+  @Test
+  public void configureKeepsTheConnectionPool() {
+    final VideoHttpStack httpStack = new VideoHttpStack(true);
+    final OkHttpClient client = httpStack.getClient();
+
+    httpStack.configure(new HttpConfigMessage.Builder().setConnectMs(1000L).build());
+
+    assertSame(client.connectionPool(), httpStack.getClient().connectionPool());
+  }
+
+  @Test
+  public void configureRejectsNegativeTimeouts() {
+    final VideoHttpStack httpStack = new VideoHttpStack(true);
+    httpStack.configure(new HttpConfigMessage.Builder().setConnectMs(1000L).build());
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> httpStack.configure(new HttpConfigMessage.Builder().setConnectMs(-1L).build()));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> httpStack.configure(new HttpConfigMessage.Builder().setReadMs(-1L).build()));
+
+    assertEquals(1000, httpStack.getClient().connectTimeoutMillis());
+  }
+
+  @Test
+  public void createDataSourceFactoryUsesHttpUrlConnectionWithoutOkHttp() {
+    final VideoHttpStack httpStack = new VideoHttpStack(false);
+    httpStack.configure(
+        new HttpConfigMessage.Builder()
+            .setConnectMs(1000L)
+            .setReadMs(2000L)
+            .setUserAgent("app/1.0")
+            .build());
+    final Map<String, String> httpHeaders = Collections.singletonMap("Authorization", "token");
+
+    try (MockedConstruction<DefaultHttpDataSource.Factory> factories =
+        mockConstruction(
+            DefaultHttpDataSource.Factory.class, withSettings().defaultAnswer(RETURNS_SELF))) {
+      httpStack.createDataSourceFactory(httpHeaders);
+
+      assertEquals(1, factories.constructed().size());
+      final DefaultHttpDataSource.Factory factory = factories.constructed().get(0);
+      verify(factory).setConnectTimeoutMs(1000);
+      verify(factory).setReadTimeoutMs(2000);
+      verify(factory).setUserAgent("app/1.0");
+      verify(factory).setDefaultRequestProperties(httpHeaders);
+    }
+    assertNull(httpStack.getClient());
+  }
+
+  private static MockedConstruction<OkHttpDataSource.Factory> mockFactories(
+      List<Object> callFactories) {
+    return mockConstruction(
+        OkHttpDataSource.Factory.class,
+        withSettings().defaultAnswer(RETURNS_SELF),
+        (factory, context) -> callFactories.add(context.arguments().get(0)));
+  }
+}
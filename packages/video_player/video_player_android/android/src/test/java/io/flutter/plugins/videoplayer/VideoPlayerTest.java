@@ -5,20 +5,36 @@
 package io.flutter.plugins.videoplayer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import androidx.test.core.app.ApplicationProvider;
+import com.google.android.exoplayer2.C;
 import com.google.android.exoplayer2.ExoPlayer;
 import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.LoadControl;
+import com.google.android.exoplayer2.Tracks;
+import com.google.android.exoplayer2.source.TrackGroup;
+import com.google.android.exoplayer2.trackselection.TrackSelectionParameters;
+import com.google.android.exoplayer2.util.MimeTypes;
+import com.google.common.collect.ImmutableList;
 import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugins.videoplayer.Messages.BufferConfigMessage;
+import io.flutter.plugins.videoplayer.Messages.TrackSelectionMessage;
 import io.flutter.view.TextureRegistry;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.MockitoAnnotations;
 import org.robolectric.RobolectricTestRunner;
 
@@ -154,4 +170,171 @@ public class VideoPlayerTest {
     assertEquals(event.get("height"), 200);
     assertEquals(event.get("rotationCorrection"), 180);
   }
+
+  @Test
+  public void sendPositionUpdateOnlyResendsBufferedRangeWhenItChanges() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink);
+    when(fakeExoPlayer.getCurrentPosition()).thenReturn(1000L);
+    when(fakeExoPlayer.getBufferedPosition()).thenReturn(5000L);
+
+    videoPlayer.sendPositionUpdate();
+    videoPlayer.sendPositionUpdate();
+
+    verify(fakeEventSink, times(3)).success(eventCaptor.capture());
+    List<HashMap<String, Object>> events = eventCaptor.getAllValues();
+
+    assertEquals(events.get(0).get("event"), "positionUpdate");
+    assertEquals(events.get(0).get("position"), 1000L);
+    assertEquals(events.get(1).get("event"), "bufferingUpdate");
+    assertEquals(events.get(2).get("event"), "positionUpdate");
+    assertEquals(events.get(2).get("position"), 1000L);
+  }
+
+  @Test
+  public void sendPlaybackMetricsSendsSummary() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink);
+
+    videoPlayer.sendPlaybackMetrics();
+
+    verify(fakeEventSink).success(eventCaptor.capture());
+    HashMap<String, Object> event = eventCaptor.getValue();
+    assertEquals(event.get("event"), "playbackMetrics");
+    assertEquals(event.get("rebuffers"), 0L);
+    assertEquals(event.get("droppedFrames"), 0L);
+    assertNull(event.get("startupMs"));
+  }
+
+  @Test
+  public void buildLoadControlUsesConfiguredDurations() {
+    BufferConfigMessage bufferConfig =
+        new BufferConfigMessage.Builder()
+            .setMinBufferMs(2000L)
+            .setMaxBufferMs(8000L)
+            .setPlayBufferMs(500L)
+            .setRebufferMs(1000L)
+            .setBackBufferMs(3000L)
+            .build();
+
+    LoadControl loadControl = VideoPlayer.buildLoadControl(bufferConfig);
+
+    assertEquals(loadControl.getBackBufferDurationUs(), 3000000L);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void buildLoadControlRejectsMinBufferLargerThanMaxBuffer() {
+    BufferConfigMessage bufferConfig =
+        new BufferConfigMessage.Builder().setMinBufferMs(8000L).setMaxBufferMs(2000L).build();
+
+    VideoPlayer.buildLoadControl(bufferConfig);
+  }
+
+  @Test
+  public void sendVideoTracksSendsSupportedVideoTracks() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink);
+    Format low = videoFormat("low", 500000, 640, 360);
+    Format high = videoFormat("high", 2000000, 1920, 1080);
+    Format unsupported = videoFormat("unsupported", 8000000, 3840, 2160);
+    Tracks tracks =
+        new Tracks(
+            ImmutableList.of(
+                new Tracks.Group(
+                    new TrackGroup(low, high, unsupported),
+                    true,
+                    new int[] {C.FORMAT_HANDLED, C.FORMAT_HANDLED, C.FORMAT_UNSUPPORTED_SUBTYPE},
+                    new boolean[] {false, true, false})));
+
+    videoPlayer.sendVideoTracks(tracks);
+
+    verify(fakeEventSink).success(eventCaptor.capture());
+    HashMap<String, Object> event = eventCaptor.getValue();
+    assertEquals(event.get("event"), "videoTracksChanged");
+    @SuppressWarnings("unchecked")
+    List<Map<String, Object>> videoTracks = (List<Map<String, Object>>) event.get("tracks");
+    assertEquals(videoTracks.size(), 2);
+    assertEquals(videoTracks.get(0).get("bitrate"), 500000);
+    assertEquals(videoTracks.get(0).get("selected"), false);
+    assertEquals(videoTracks.get(1).get("height"), 1080);
+    assertEquals(videoTracks.get(1).get("selected"), true);
+  }
+
+  @Test
+  public void sendVideoFormatChangedSendsUnknownValuesAsNull() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink);
+
+    videoPlayer.sendVideoFormatChanged(new Format.Builder().setWidth(1280).setHeight(720).build());
+
+    verify(fakeEventSink).success(eventCaptor.capture());
+    HashMap<String, Object> event = eventCaptor.getValue();
+    assertEquals(event.get("event"), "videoFormatChanged");
+    @SuppressWarnings("unchecked")
+    Map<String, Object> format = (Map<String, Object>) event.get("format");
+    assertEquals(format.get("width"), 1280);
+    assertEquals(format.get("height"), 720);
+    assertNull(format.get("bitrate"));
+  }
+
+  @Test
+  public void buildTrackSelectionParametersAppliesLimits() {
+    TrackSelectionMessage trackSelection =
+        new TrackSelectionMessage.Builder().setMaxHeight(720L).setMaxBitrate(1500000L).build();
+
+    TrackSelectionParameters parameters =
+        VideoPlayer.buildTrackSelectionParameters(
+            ApplicationProvider.getApplicationContext(), trackSelection);
+
+    assertEquals(parameters.maxVideoWidth, Integer.MAX_VALUE);
+    assertEquals(parameters.maxVideoHeight, 720);
+    assertEquals(parameters.maxVideoBitrate, 1500000);
+  }
+
+  private static Format videoFormat(String id, int bitrate, int width, int height) {
+    return new Format.Builder()
+        .setId(id)
+        .setSampleMimeType(MimeTypes.VIDEO_H264)
+        .setAverageBitrate(bitrate)
+        .setWidth(width)
+        .setHeight(height)
+        .build();
+  }
+
+  @Test
+  public void disposeReleasesThePlayerBeforeTheTexture() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink);
+
+    videoPlayer.dispose();
+
+    InOrder inOrder = inOrder(fakeExoPlayer, fakeSurfaceTextureEntry);
+    inOrder.verify(fakeExoPlayer).release();
+    inOrder.verify(fakeSurfaceTextureEntry).release();
+  }
 }
@@ -0,0 +1,70 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VideoPreloaderTest {
+  private ExecutorService mockExecutor;
+  private Future<?> mockFuture;
+  private VideoPreloader preloader;
+
+  @Before
+  public void before() {
+    mockExecutor = mock(ExecutorService.class);
+    mockFuture = mock(Future.class);
+    doReturn(mockFuture).when(mockExecutor).submit(any(Runnable.class));
+    preloader = new VideoPreloader(mock(VideoCache.class), new VideoHttpStack(), mockExecutor);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsNonPositiveMaxConcurrentPreloads() {
+    new VideoPreloader(mock(VideoCache.class), new VideoHttpStack(), 0);
+  }
+
+  @Test
+  public void preloadIgnoresUriThatIsAlreadyPreloading() {
+    preloader.preload("https://example.com/video.mp4", 1024L, new HashMap<>());
+    preloader.preload("https://example.com/video.mp4", 1024L, new HashMap<>());
+
+    verify(mockExecutor, times(1)).submit(any(Runnable.class));
+    assertTrue(preloader.isPreloading("https://example.com/video.mp4"));
+  }
+
+  @Test
+  public void cancelCancelsQueuedPreload() {
+    preloader.preload("https://example.com/video.mp4", 1024L, new HashMap<>());
+
+    preloader.cancel("https://example.com/video.mp4");
+
+    verify(mockFuture).cancel(false);
+    assertFalse(preloader.isPreloading("https://example.com/video.mp4"));
+  }
+
+  @Test
+  public void releaseCancelsAllPreloadsAndShutsDownExecutor() {
+    preloader.preload("https://example.com/first.mp4", 1024L, new HashMap<>());
+    preloader.preload("https://example.com/second.mp4", 1024L, new HashMap<>());
+
+    preloader.release();
+
+    verify(mockFuture, times(2)).cancel(false);
+    verify(mockExecutor).shutdown();
+    assertFalse(preloader.isPreloading("https://example.com/first.mp4"));
+    assertFalse(preloader.isPreloading("https://example.com/second.mp4"));
+  }
+}
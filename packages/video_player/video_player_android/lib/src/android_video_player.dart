@@ -15,6 +15,16 @@ import 'messages.g.dart';
 class AndroidVideoPlayer extends VideoPlayerPlatform {
   final AndroidVideoPlayerApi _api = AndroidVideoPlayerApi();
 
+  /// Latest position pushed by each player that has position updates turned
+  /// on with [setPositionUpdateInterval], or null until the first one arrives.
+  final Map<int, Duration?> _pushedPositions = <int, Duration?>{};
+
+  final Map<int, StreamController<VideoTrackEvent>> _trackEventControllers =
+      <int, StreamController<VideoTrackEvent>>{};
+
+  final Map<int, StreamController<PlaybackMetrics>> _metricsControllers =
+      <int, StreamController<PlaybackMetrics>>{};
+
   /// Registers this class as the default instance of [PathProviderPlatform].
   static void registerWith() {
     VideoPlayerPlatform.instance = AndroidVideoPlayer();
@@ -26,8 +36,20 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
   }
 
   @override
-  Future<void> dispose(int textureId) {
-    return _api.dispose(TextureMessage(textureId: textureId));
+  Future<void> dispose(int textureId) async {
+    _pushedPositions.remove(textureId);
+    _trackEventControllers.remove(textureId)?.close();
+    final StreamController<PlaybackMetrics>? metricsController =
+        _metricsControllers.remove(textureId);
+    if (metricsController != null) {
+      // The video events are usually no longer listened to at this point, so
+      // the final summary is fetched rather than waited for.
+      if (metricsController.hasListener) {
+        metricsController.add(await getPlaybackMetrics(textureId));
+      }
+      await metricsController.close();
+    }
+    await _api.dispose(TextureMessage(textureId: textureId));
   }
 
   @override
@@ -104,6 +126,9 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<void> seekTo(int textureId, Duration position) {
+    if (_pushedPositions.containsKey(textureId)) {
+      _pushedPositions[textureId] = position;
+    }
     return _api.seekTo(PositionMessage(
       textureId: textureId,
       position: position.inMilliseconds,
@@ -112,6 +137,10 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<Duration> getPosition(int textureId) async {
+    final Duration? pushedPosition = _pushedPositions[textureId];
+    if (pushedPosition != null) {
+      return pushedPosition;
+    }
     final PositionMessage response =
         await _api.position(TextureMessage(textureId: textureId));
     return Duration(milliseconds: response.position);
@@ -121,6 +150,7 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
   Stream<VideoEvent> videoEventsFor(int textureId) {
     return _eventChannelFor(textureId)
         .receiveBroadcastStream()
+        .where((dynamic event) => !_handleAndroidEvent(textureId, event))
         .map((dynamic event) {
       final Map<dynamic, dynamic> map = event as Map<dynamic, dynamic>;
       switch (map['event']) {
@@ -164,6 +194,329 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
         .setMixWithOthers(MixWithOthersMessage(mixWithOthers: mixWithOthers));
   }
 
+  /// Enables a disk cache for network videos, shared by all players.
+  ///
+  /// Only players created after this call read from and write to the cache.
+  /// Once the cache holds more than [maxCacheSize] bytes, the least recently
+  /// used content is evicted. The cache is kept in [cacheDirectory], or in a
+  /// directory under the application's cache directory if it is null.
+  ///
+  /// At most [maxPreloads] calls to [preload] download at the same time.
+  /// Throws an [ArgumentError] if [maxPreloads] is not positive.
+  ///
+  /// The cache can only be enabled once per engine; calling this again with
+  /// a different configuration throws a [PlatformException].
+  Future<void> enableCache({
+    required int maxCacheSize,
+    String? cacheDirectory,
+    int maxPreloads = 2,
+  }) {
+    if (maxPreloads <= 0) {
+      throw ArgumentError.value(maxPreloads, 'maxPreloads', 'must be positive');
+    }
+    return _api.enableCache(CacheConfigMessage(
+      maxCacheSize: maxCacheSize,
+      cacheDirectory: cacheDirectory,
+      maxPreloads: maxPreloads,
+    ));
+  }
+
+  /// Returns how many bytes players have read from the cache and from the
+  /// network since the cache was enabled.
+  ///
+  /// All the values are zero if [enableCache] hasn't been called.
+  Future<VideoCacheStats> getCacheStats() async {
+    final CacheStatsMessage response = await _api.getCacheStats();
+    return VideoCacheStats(
+      cacheBytes: response.cacheBytes,
+      networkBytes: response.networkBytes,
+      cacheSize: response.cacheSize,
+    );
+  }
+
+  /// Downloads the first [preloadBytes] bytes of the network video at [uri]
+  /// into the cache in the background.
+  ///
+  /// A player created for [uri] afterwards starts from the cached data
+  /// instead of waiting for the network. Only progressive formats such as MP4
+  /// are preloaded. [enableCache] must be called first.
+  Future<void> preload(
+    String uri, {
+    required int preloadBytes,
+    Map<String, String> httpHeaders = const <String, String>{},
+  }) {
+    return _api.preload(PreloadMessage(
+      uri: uri,
+      preloadBytes: preloadBytes,
+      httpHeaders: httpHeaders,
+    ));
+  }
+
+  /// Stops preloading [uri].
+  ///
+  /// Data that was already downloaded stays in the cache.
+  Future<void> cancelPreload(String uri) {
+    return _api.cancelPreload(CancelPreloadMessage(uri: uri));
+  }
+
+  /// Configures the HTTP requests of players and preloads created from now
+  /// on.
+  ///
+  /// The configuration is shared by all players and preloads, and replaces
+  /// the previous one. Values that are left null use ExoPlayer's defaults: 8
+  /// second timeouts and an `ExoPlayer` user agent.
+  Future<void> setHttpConfig({
+    Duration? connectTimeout,
+    Duration? readTimeout,
+    String? userAgent,
+  }) {
+    return _api.setHttpConfig(HttpConfigMessage(
+      connectMs: connectTimeout?.inMilliseconds,
+      readMs: readTimeout?.inMilliseconds,
+      userAgent: userAgent,
+    ));
+  }
+
+  /// Decodes the frame of the video at [uri] closest to [position] into a
+  /// JPEG image, without creating a player.
+  ///
+  /// The frame is scaled down so that its longest side is at most [maxSize]
+  /// pixels, unless [maxSize] is 0. Frames are decoded on background threads
+  /// and recently decoded frames are returned from a memory cache.
+  ///
+  /// [uri] can be a network, file or content URI. Network videos are read
+  /// directly rather than through the cache enabled with [enableCache].
+  Future<VideoFrame> getFrameAt(
+    String uri, {
+    required Duration position,
+    int maxSize = 0,
+    Map<String, String> httpHeaders = const <String, String>{},
+  }) async {
+    final FrameMessage response = await _api.getFrameAt(FrameRequestMessage(
+      uri: uri,
+      positionMs: position.inMilliseconds,
+      maxSize: maxSize,
+      httpHeaders: httpHeaders,
+    ));
+    return VideoFrame(
+      bytes: response.bytes,
+      width: response.width,
+      height: response.height,
+    );
+  }
+
+  /// Sets how many released players are kept warm for reuse by new videos.
+  ///
+  /// Reusing a player avoids building a new player, renderers and playback
+  /// thread for every video, at the cost of keeping up to [maxSize] idle
+  /// players in memory. The pool is empty by default.
+  ///
+  /// Throws an [ArgumentError] if [maxSize] is negative.
+  Future<void> setPlayerPoolSize(int maxSize) {
+    if (maxSize < 0) {
+      throw ArgumentError.value(maxSize, 'maxSize', 'must not be negative');
+    }
+    return _api.setPlayerPoolSize(PlayerPoolMessage(maxSize: maxSize));
+  }
+
+  /// Returns how often players were reused from the pool configured with
+  /// [setPlayerPoolSize].
+  Future<PlayerPoolStats> getPlayerPoolStats() async {
+    final PlayerPoolStatsMessage response = await _api.getPlayerPoolStats();
+    return PlayerPoolStats(
+      created: response.created,
+      reused: response.reused,
+      idle: response.idle,
+    );
+  }
+
+  /// Sets how players created from now on buffer media.
+  ///
+  /// Pass one of the presets, such as [BufferConfig.lowMemory], or a custom
+  /// [BufferConfig]. Values that are left null use ExoPlayer's defaults, and
+  /// a null [config] restores all of them. Players that already exist keep
+  /// their configuration.
+  Future<void> setBufferConfig(BufferConfig? config) {
+    return _api.setBufferConfig(BufferConfigMessage(
+      minBufferMs: config?.minBufferDuration?.inMilliseconds,
+      maxBufferMs: config?.maxBufferDuration?.inMilliseconds,
+      playBufferMs: config?.bufferForPlaybackDuration?.inMilliseconds,
+      rebufferMs:
+          config?.bufferForPlaybackAfterRebufferDuration?.inMilliseconds,
+      targetBytes: config?.targetBufferBytes,
+      backBufferMs: config?.backBufferDuration?.inMilliseconds,
+      prioritizeTime: config?.prioritizeTimeOverSizeThresholds,
+    ));
+  }
+
+  /// Makes the player push its position every [interval] while it is
+  /// playing, and whenever it pauses or seeks.
+  ///
+  /// While updates are on, [getPosition] returns the latest pushed position
+  /// instead of asking the player, which saves a round trip to the platform
+  /// for every poll. Pass [Duration.zero] to turn the updates off again.
+  ///
+  /// [videoEventsFor] must be listened to for the updates to be received.
+  Future<void> setPositionUpdateInterval(
+      int textureId, Duration interval) async {
+    if (interval > Duration.zero) {
+      _pushedPositions.putIfAbsent(textureId, () => null);
+    } else {
+      _pushedPositions.remove(textureId);
+    }
+    await _api.setPositionUpdateInterval(PositionUpdatesMessage(
+      textureId: textureId,
+      intervalMs: interval.inMilliseconds,
+    ));
+  }
+
+  /// Limits the video tracks that players pick from adaptive streams, and
+  /// whether hardware decoders are preferred over software ones.
+  ///
+  /// The limits apply to existing players as well as to players created
+  /// afterwards. A null limit means no limit. Decoder preference only affects
+  /// decoders that are initialized after this call.
+  Future<void> setTrackSelection({
+    int? maxWidth,
+    int? maxHeight,
+    int? maxBitrate,
+    bool preferHardwareDecoders = false,
+  }) {
+    return _api.setTrackSelection(TrackSelectionMessage(
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+      maxBitrate: maxBitrate,
+      preferHardware: preferHardwareDecoders,
+    ));
+  }
+
+  /// Returns the current bandwidth estimate in bits per second.
+  ///
+  /// The estimate is shared by all players, so a new video starts from what
+  /// the previous ones measured.
+  Future<int> getBandwidthEstimate() async {
+    final BandwidthMessage response = await _api.getBandwidthEstimate();
+    return response.bitrate;
+  }
+
+  /// Returns a stream of the video tracks the player can choose from and of
+  /// the bitrate switches it makes while playing adaptive streams.
+  ///
+  /// [videoEventsFor] must be listened to for the events to be received.
+  Stream<VideoTrackEvent> videoTrackEventsFor(int textureId) {
+    return _trackEventControllers
+        .putIfAbsent(
+            textureId, () => StreamController<VideoTrackEvent>.broadcast())
+        .stream;
+  }
+
+  /// Makes the player send a summary of its [PlaybackMetrics] to
+  /// [playbackMetricsFor] every [interval], skipping intervals in which
+  /// nothing changed.
+  ///
+  /// Pass [Duration.zero] to turn the summaries off again.
+  Future<void> setPlaybackMetricsInterval(int textureId, Duration interval) {
+    return _api.setMetricsInterval(MetricsMessage(
+      textureId: textureId,
+      intervalMs: interval.inMilliseconds,
+    ));
+  }
+
+  /// Returns the [PlaybackMetrics] of the player so far.
+  Future<PlaybackMetrics> getPlaybackMetrics(int textureId) async {
+    final PlaybackMetricsMessage response =
+        await _api.getPlaybackMetrics(TextureMessage(textureId: textureId));
+    return _toPlaybackMetrics(response);
+  }
+
+  /// Returns a stream of the summaries enabled with
+  /// [setPlaybackMetricsInterval], followed by a final summary when the
+  /// player is disposed.
+  ///
+  /// [videoEventsFor] must be listened to for the periodic summaries to be
+  /// received.
+  Stream<PlaybackMetrics> playbackMetricsFor(int textureId) {
+    return _metricsControllers
+        .putIfAbsent(
+            textureId, () => StreamController<PlaybackMetrics>.broadcast())
+        .stream;
+  }
+
+  /// Returns how many events the player dropped or merged while
+  /// [videoEventsFor] wasn't listened to.
+  ///
+  /// Up to 64 events are queued while nobody listens. Events that only report
+  /// the latest state, such as buffering and position updates, replace the
+  /// queued event of the same type, and the oldest events are dropped once
+  /// the queue is full.
+  Future<VideoEventQueueStats> getEventQueueStats(int textureId) async {
+    final EventStatsMessage response =
+        await _api.getEventStats(TextureMessage(textureId: textureId));
+    return VideoEventQueueStats(
+      dropped: response.dropped,
+      coalesced: response.coalesced,
+    );
+  }
+
+  /// Handles the Android-specific events that aren't [VideoEvent]s, and
+  /// returns whether [event] was one of them.
+  ///
+  /// Position updates only feed [getPosition], track events are sent to
+  /// [videoTrackEventsFor] and metrics to [playbackMetricsFor].
+  bool _handleAndroidEvent(int textureId, dynamic event) {
+    final Map<dynamic, dynamic> map = event as Map<dynamic, dynamic>;
+    switch (map['event']) {
+      case 'positionUpdate':
+        if (_pushedPositions.containsKey(textureId)) {
+          _pushedPositions[textureId] =
+              Duration(milliseconds: map['position'] as int);
+        }
+        return true;
+      case 'videoTracksChanged':
+        final List<dynamic> tracks = map['tracks'] as List<dynamic>;
+        _trackEventControllers[textureId]?.add(VideoTrackEvent(
+          eventType: VideoTrackEventType.tracksChanged,
+          tracks: tracks.map<VideoTrack>(_toVideoTrack).toList(),
+        ));
+        return true;
+      case 'videoFormatChanged':
+        _trackEventControllers[textureId]?.add(VideoTrackEvent(
+          eventType: VideoTrackEventType.formatChanged,
+          format: _toVideoTrack(map['format']),
+        ));
+        return true;
+      case 'playbackMetrics':
+        _metricsControllers[textureId]
+            ?.add(_toPlaybackMetrics(PlaybackMetricsMessage.decode(map)));
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  PlaybackMetrics _toPlaybackMetrics(PlaybackMetricsMessage message) {
+    final int? startupMs = message.startupMs;
+    final int? decoderInitMs = message.decoderInitMs;
+    return PlaybackMetrics(
+      startupTime: startupMs == null ? null : Duration(milliseconds: startupMs),
+      rebufferCount: message.rebuffers,
+      rebufferDuration: Duration(milliseconds: message.rebufferMs),
+      droppedFrames: message.droppedFrames,
+      decoderInitTime:
+          decoderInitMs == null ? null : Duration(milliseconds: decoderInitMs),
+    );
+  }
+
+  VideoTrack _toVideoTrack(dynamic value) {
+    final Map<dynamic, dynamic> map = value as Map<dynamic, dynamic>;
+    return VideoTrack(
+      bitrate: map['bitrate'] as int?,
+      width: map['width'] as int?,
+      height: map['height'] as int?,
+      selected: map['selected'] as bool,
+    );
+  }
+
   EventChannel _eventChannelFor(int textureId) {
     return EventChannel('flutter.io/videoPlayer/videoEvents$textureId');
   }
@@ -184,3 +537,246 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     );
   }
 }
+
+/// Statistics about the disk cache enabled with
+/// [AndroidVideoPlayer.enableCache].
+@immutable
+class VideoCacheStats {
+  /// Creates a new set of cache statistics.
+  const VideoCacheStats({
+    required this.cacheBytes,
+    required this.networkBytes,
+    required this.cacheSize,
+  });
+
+  /// Number of bytes that players read from the cache.
+  final int cacheBytes;
+
+  /// Number of bytes that players downloaded from the network.
+  final int networkBytes;
+
+  /// Number of bytes the cache currently uses on disk.
+  final int cacheSize;
+}
+
+/// Statistics about the player pool configured with
+/// [AndroidVideoPlayer.setPlayerPoolSize].
+@immutable
+class PlayerPoolStats {
+  /// Creates a new set of player pool statistics.
+  const PlayerPoolStats({
+    required this.created,
+    required this.reused,
+    required this.idle,
+  });
+
+  /// Number of players that had to be built because the pool was empty.
+  final int created;
+
+  /// Number of players that were taken from the pool.
+  final int reused;
+
+  /// Number of idle players currently in the pool.
+  final int idle;
+
+  /// Fraction of videos that reused a pooled player, between 0 and 1.
+  double get reuseRate {
+    final int total = created + reused;
+    return total == 0 ? 0 : reused / total;
+  }
+}
+
+/// How a player buffers media, set with [AndroidVideoPlayer.setBufferConfig].
+///
+/// These map to ExoPlayer's `DefaultLoadControl`; every value that is null
+/// uses ExoPlayer's default.
+@immutable
+class BufferConfig {
+  /// Creates a buffer configuration.
+  const BufferConfig({
+    this.minBufferDuration,
+    this.maxBufferDuration,
+    this.bufferForPlaybackDuration,
+    this.bufferForPlaybackAfterRebufferDuration,
+    this.targetBufferBytes,
+    this.backBufferDuration,
+    this.prioritizeTimeOverSizeThresholds,
+  });
+
+  /// Starts playback as soon as possible and keeps a short buffer ahead.
+  static const BufferConfig lowLatency = BufferConfig(
+    minBufferDuration: Duration(milliseconds: 2500),
+    maxBufferDuration: Duration(seconds: 10),
+    bufferForPlaybackDuration: Duration(milliseconds: 500),
+    bufferForPlaybackAfterRebufferDuration: Duration(seconds: 1),
+  );
+
+  /// Caps the buffer at a few megabytes, for devices that keep several
+  /// players alive at once.
+  static const BufferConfig lowMemory = BufferConfig(
+    minBufferDuration: Duration(seconds: 5),
+    maxBufferDuration: Duration(seconds: 15),
+    bufferForPlaybackDuration: Duration(milliseconds: 1500),
+    bufferForPlaybackAfterRebufferDuration: Duration(seconds: 3),
+    targetBufferBytes: 4 * 1024 * 1024,
+    prioritizeTimeOverSizeThresholds: false,
+  );
+
+  /// Buffers far ahead and keeps some content behind the playback position,
+  /// for long videos on fast connections.
+  static const BufferConfig highThroughput = BufferConfig(
+    minBufferDuration: Duration(seconds: 30),
+    maxBufferDuration: Duration(minutes: 2),
+    backBufferDuration: Duration(seconds: 10),
+  );
+
+  /// The player keeps loading until at least this much media is buffered.
+  final Duration? minBufferDuration;
+
+  /// The player stops loading once this much media is buffered.
+  final Duration? maxBufferDuration;
+
+  /// How much media must be buffered before playback starts or resumes after
+  /// a seek.
+  final Duration? bufferForPlaybackDuration;
+
+  /// How much media must be buffered before playback resumes after running
+  /// out of buffered media.
+  final Duration? bufferForPlaybackAfterRebufferDuration;
+
+  /// The most memory, in bytes, that the buffer may use.
+  final int? targetBufferBytes;
+
+  /// How much media behind the playback position is kept for seeking back.
+  final Duration? backBufferDuration;
+
+  /// Whether [minBufferDuration] takes priority over [targetBufferBytes]
+  /// when the two conflict.
+  final bool? prioritizeTimeOverSizeThresholds;
+}
+
+/// A video track of a player, as reported by
+/// [AndroidVideoPlayer.videoTrackEventsFor].
+@immutable
+class VideoTrack {
+  /// Creates a video track.
+  const VideoTrack({
+    this.bitrate,
+    this.width,
+    this.height,
+    required this.selected,
+  });
+
+  /// The bitrate in bits per second, or null if it is unknown.
+  final int? bitrate;
+
+  /// The width in pixels, or null if it is unknown.
+  final int? width;
+
+  /// The height in pixels, or null if it is unknown.
+  final int? height;
+
+  /// Whether the player has selected this track.
+  final bool selected;
+}
+
+/// The kind of a [VideoTrackEvent].
+enum VideoTrackEventType {
+  /// The available video tracks, or the selection among them, changed.
+  tracksChanged,
+
+  /// The player started rendering a different video format, for example
+  /// after switching bitrate.
+  formatChanged,
+}
+
+/// An event sent by [AndroidVideoPlayer.videoTrackEventsFor].
+@immutable
+class VideoTrackEvent {
+  /// Creates a video track event.
+  const VideoTrackEvent({
+    required this.eventType,
+    this.tracks = const <VideoTrack>[],
+    this.format,
+  });
+
+  /// The kind of event.
+  final VideoTrackEventType eventType;
+
+  /// The video tracks the player can choose from, for
+  /// [VideoTrackEventType.tracksChanged].
+  final List<VideoTrack> tracks;
+
+  /// The format now being rendered, for [VideoTrackEventType.formatChanged].
+  final VideoTrack? format;
+}
+
+/// Quality of experience metrics of a player, as reported by
+/// [AndroidVideoPlayer.playbackMetricsFor].
+@immutable
+class PlaybackMetrics {
+  /// Creates playback metrics.
+  const PlaybackMetrics({
+    this.startupTime,
+    required this.rebufferCount,
+    required this.rebufferDuration,
+    required this.droppedFrames,
+    this.decoderInitTime,
+  });
+
+  /// How long it took from creating the player to rendering the first frame,
+  /// or null if no frame has been rendered yet.
+  final Duration? startupTime;
+
+  /// How many times playback stalled because the buffer ran out.
+  ///
+  /// Buffering before the first frame and after seeks isn't counted.
+  final int rebufferCount;
+
+  /// How long playback was stalled in total.
+  final Duration rebufferDuration;
+
+  /// How many video frames were dropped.
+  final int droppedFrames;
+
+  /// How long initializing the video decoders took in total, or null if no
+  /// decoder has been initialized yet.
+  final Duration? decoderInitTime;
+}
+
+/// Statistics about the events a player queued while nobody listened, as
+/// reported by [AndroidVideoPlayer.getEventQueueStats].
+@immutable
+class VideoEventQueueStats {
+  /// Creates event queue statistics.
+  const VideoEventQueueStats({
+    required this.dropped,
+    required this.coalesced,
+  });
+
+  /// How many events were dropped because the queue was full.
+  final int dropped;
+
+  /// How many queued events were replaced by a newer event of the same type.
+  final int coalesced;
+}
+
+/// A frame decoded by [AndroidVideoPlayer.getFrameAt].
+@immutable
+class VideoFrame {
+  /// Creates a video frame.
+  const VideoFrame({
+    required this.bytes,
+    required this.width,
+    required this.height,
+  });
+
+  /// The frame encoded as a JPEG image.
+  final Uint8List bytes;
+
+  /// The width of the image in pixels.
+  final int width;
+
+  /// The height of the image in pixels.
+  final int height;
+}
@@ -191,83 +191,992 @@ class MixWithOthersMessage {
   }
 }
 
+class CacheConfigMessage {
+  CacheConfigMessage({
+    required this.maxCacheSize,
+    this.cacheDirectory,
+    this.maxPreloads,
+  });
+
+  int maxCacheSize;
+  String? cacheDirectory;
+  int? maxPreloads;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['maxCacheSize'] = maxCacheSize;
+    pigeonMap['cacheDirectory'] = cacheDirectory;
+    pigeonMap['maxPreloads'] = maxPreloads;
+    return pigeonMap;
+  }
+
+  static CacheConfigMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return CacheConfigMessage(
+      maxCacheSize: pigeonMap['maxCacheSize']! as int,
+      cacheDirectory: pigeonMap['cacheDirectory'] as String?,
+      maxPreloads: pigeonMap['maxPreloads'] as int?,
+    );
+  }
+}
+
+class CacheStatsMessage {
+  CacheStatsMessage({
+    required this.cacheBytes,
+    required this.networkBytes,
+    required this.cacheSize,
+  });
+
+  int cacheBytes;
+  int networkBytes;
+  int cacheSize;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['cacheBytes'] = cacheBytes;
+    pigeonMap['networkBytes'] = networkBytes;
+    pigeonMap['cacheSize'] = cacheSize;
+    return pigeonMap;
+  }
+
+  static CacheStatsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return CacheStatsMessage(
+      cacheBytes: pigeonMap['cacheBytes']! as int,
+      networkBytes: pigeonMap['networkBytes']! as int,
+      cacheSize: pigeonMap['cacheSize']! as int,
+    );
+  }
+}
+
+class PreloadMessage {
+  PreloadMessage({
+    required this.uri,
+    required this.preloadBytes,
+    required this.httpHeaders,
+  });
+
+  String uri;
+  int preloadBytes;
+  Map<String?, String?> httpHeaders;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['uri'] = uri;
+    pigeonMap['preloadBytes'] = preloadBytes;
+    pigeonMap['httpHeaders'] = httpHeaders;
+    return pigeonMap;
+  }
+
+  static PreloadMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PreloadMessage(
+      uri: pigeonMap['uri']! as String,
+      preloadBytes: pigeonMap['preloadBytes']! as int,
+      httpHeaders: (pigeonMap['httpHeaders'] as Map<Object?, Object?>?)!
+          .cast<String?, String?>(),
+    );
+  }
+}
+
+class CancelPreloadMessage {
+  CancelPreloadMessage({
+    required this.uri,
+  });
+
+  String uri;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['uri'] = uri;
+    return pigeonMap;
+  }
+
+  static CancelPreloadMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return CancelPreloadMessage(
+      uri: pigeonMap['uri']! as String,
+    );
+  }
+}
+
+class PositionUpdatesMessage {
+  PositionUpdatesMessage({
+    required this.textureId,
+    required this.intervalMs,
+  });
+
+  int textureId;
+  int intervalMs;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['intervalMs'] = intervalMs;
+    return pigeonMap;
+  }
+
+  static PositionUpdatesMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PositionUpdatesMessage(
+      textureId: pigeonMap['textureId']! as int,
+      intervalMs: pigeonMap['intervalMs']! as int,
+    );
+  }
+}
+
+class BufferConfigMessage {
+  BufferConfigMessage({
+    this.minBufferMs,
+    this.maxBufferMs,
+    this.playBufferMs,
+    this.rebufferMs,
+    this.targetBytes,
+    this.backBufferMs,
+    this.prioritizeTime,
+  });
+
+  int? minBufferMs;
+  int? maxBufferMs;
+  int? playBufferMs;
+  int? rebufferMs;
+  int? targetBytes;
+  int? backBufferMs;
+  bool? prioritizeTime;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['minBufferMs'] = minBufferMs;
+    pigeonMap['maxBufferMs'] = maxBufferMs;
+    pigeonMap['playBufferMs'] = playBufferMs;
+    pigeonMap['rebufferMs'] = rebufferMs;
+    pigeonMap['targetBytes'] = targetBytes;
+    pigeonMap['backBufferMs'] = backBufferMs;
+    pigeonMap['prioritizeTime'] = prioritizeTime;
+    return pigeonMap;
+  }
+
+  static BufferConfigMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return BufferConfigMessage(
+      minBufferMs: pigeonMap['minBufferMs'] as int?,
+      maxBufferMs: pigeonMap['maxBufferMs'] as int?,
+      playBufferMs: pigeonMap['playBufferMs'] as int?,
+      rebufferMs: pigeonMap['rebufferMs'] as int?,
+      targetBytes: pigeonMap['targetBytes'] as int?,
+      backBufferMs: pigeonMap['backBufferMs'] as int?,
+      prioritizeTime: pigeonMap['prioritizeTime'] as bool?,
+    );
+  }
+}
+
+class TrackSelectionMessage {
+  TrackSelectionMessage({
+    this.maxWidth,
+    this.maxHeight,
+    this.maxBitrate,
+    this.preferHardware,
+  });
+
+  int? maxWidth;
+  int? maxHeight;
+  int? maxBitrate;
+  bool? preferHardware;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['maxWidth'] = maxWidth;
+    pigeonMap['maxHeight'] = maxHeight;
+    pigeonMap['maxBitrate'] = maxBitrate;
+    pigeonMap['preferHardware'] = preferHardware;
+    return pigeonMap;
+  }
+
+  static TrackSelectionMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return TrackSelectionMessage(
+      maxWidth: pigeonMap['maxWidth'] as int?,
+      maxHeight: pigeonMap['maxHeight'] as int?,
+      maxBitrate: pigeonMap['maxBitrate'] as int?,
+      preferHardware: pigeonMap['preferHardware'] as bool?,
+    );
+  }
+}
+
+class BandwidthMessage {
+  BandwidthMessage({
+    required this.bitrate,
+  });
+
+  int bitrate;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['bitrate'] = bitrate;
+    return pigeonMap;
+  }
+
+  static BandwidthMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return BandwidthMessage(
+      bitrate: pigeonMap['bitrate']! as int,
+    );
+  }
+}
+
+class MetricsMessage {
+  MetricsMessage({
+    required this.textureId,
+    required this.intervalMs,
+  });
+
+  int textureId;
+  int intervalMs;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['intervalMs'] = intervalMs;
+    return pigeonMap;
+  }
+
+  static MetricsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return MetricsMessage(
+      textureId: pigeonMap['textureId']! as int,
+      intervalMs: pigeonMap['intervalMs']! as int,
+    );
+  }
+}
+
+class PlaybackMetricsMessage {
+  PlaybackMetricsMessage({
+    this.startupMs,
+    required this.rebuffers,
+    required this.rebufferMs,
+    required this.droppedFrames,
+    this.decoderInitMs,
+  });
+
+  int? startupMs;
+  int rebuffers;
+  int rebufferMs;
+  int droppedFrames;
+  int? decoderInitMs;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['startupMs'] = startupMs;
+    pigeonMap['rebuffers'] = rebuffers;
+    pigeonMap['rebufferMs'] = rebufferMs;
+    pigeonMap['droppedFrames'] = droppedFrames;
+    pigeonMap['decoderInitMs'] = decoderInitMs;
+    return pigeonMap;
+  }
+
+  static PlaybackMetricsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PlaybackMetricsMessage(
+      startupMs: pigeonMap['startupMs'] as int?,
+      rebuffers: pigeonMap['rebuffers']! as int,
+      rebufferMs: pigeonMap['rebufferMs']! as int,
+      droppedFrames: pigeonMap['droppedFrames']! as int,
+      decoderInitMs: pigeonMap['decoderInitMs'] as int?,
+    );
+  }
+}
+
+class EventStatsMessage {
+  EventStatsMessage({
+    required this.dropped,
+    required this.coalesced,
+  });
+
+  int dropped;
+  int coalesced;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['dropped'] = dropped;
+    pigeonMap['coalesced'] = coalesced;
+    return pigeonMap;
+  }
+
+  static EventStatsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return EventStatsMessage(
+      dropped: pigeonMap['dropped']! as int,
+      coalesced: pigeonMap['coalesced']! as int,
+    );
+  }
+}
+
+class HttpConfigMessage {
+  HttpConfigMessage({
+    this.connectMs,
+    this.readMs,
+    this.userAgent,
+  });
+
+  int? connectMs;
+  int? readMs;
+  String? userAgent;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['connectMs'] = connectMs;
+    pigeonMap['readMs'] = readMs;
+    pigeonMap['userAgent'] = userAgent;
+    return pigeonMap;
+  }
+
+  static HttpConfigMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return HttpConfigMessage(
+      connectMs: pigeonMap['connectMs'] as int?,
+      readMs: pigeonMap['readMs'] as int?,
+      userAgent: pigeonMap['userAgent'] as String?,
+    );
+  }
+}
+
+class FrameRequestMessage {
+  FrameRequestMessage({
+    required this.uri,
+    required this.positionMs,
+    required this.maxSize,
+    required this.httpHeaders,
+  });
+
+  String uri;
+  int positionMs;
+  int maxSize;
+  Map<String?, String?> httpHeaders;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['uri'] = uri;
+    pigeonMap['positionMs'] = positionMs;
+    pigeonMap['maxSize'] = maxSize;
+    pigeonMap['httpHeaders'] = httpHeaders;
+    return pigeonMap;
+  }
+
+  static FrameRequestMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return FrameRequestMessage(
+      uri: pigeonMap['uri']! as String,
+      positionMs: pigeonMap['positionMs']! as int,
+      maxSize: pigeonMap['maxSize']! as int,
+      httpHeaders: (pigeonMap['httpHeaders'] as Map<Object?, Object?>?)!
+          .cast<String?, String?>(),
+    );
+  }
+}
+
+class FrameMessage {
+  FrameMessage({
+    required this.bytes,
+    required this.width,
+    required this.height,
+  });
+
+  Uint8List bytes;
+  int width;
+  int height;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['bytes'] = bytes;
+    pigeonMap['width'] = width;
+    pigeonMap['height'] = height;
+    return pigeonMap;
+  }
+
+  static FrameMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return FrameMessage(
+      bytes: pigeonMap['bytes']! as Uint8List,
+      width: pigeonMap['width']! as int,
+      height: pigeonMap['height']! as int,
+    );
+  }
+}
+
+class PlayerPoolMessage {
+  PlayerPoolMessage({
+    required this.maxSize,
+  });
+
+  int maxSize;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['maxSize'] = maxSize;
+    return pigeonMap;
+  }
+
+  static PlayerPoolMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PlayerPoolMessage(
+      maxSize: pigeonMap['maxSize']! as int,
+    );
+  }
+}
+
+class PlayerPoolStatsMessage {
+  PlayerPoolStatsMessage({
+    required this.created,
+    required this.reused,
+    required this.idle,
+  });
+
+  int created;
+  int reused;
+  int idle;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['created'] = created;
+    pigeonMap['reused'] = reused;
+    pigeonMap['idle'] = idle;
+    return pigeonMap;
+  }
+
+  static PlayerPoolStatsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PlayerPoolStatsMessage(
+      created: pigeonMap['created']! as int,
+      reused: pigeonMap['reused']! as int,
+      idle: pigeonMap['idle']! as int,
+    );
+  }
+}
+
 class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
   const _AndroidVideoPlayerApiCodec();
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is CreateMessage) {
+    if (value is BandwidthMessage) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
-    } else if (value is LoopingMessage) {
+    } else if (value is BufferConfigMessage) {
       buffer.putUint8(129);
       writeValue(buffer, value.encode());
-    } else if (value is MixWithOthersMessage) {
+    } else if (value is CacheConfigMessage) {
       buffer.putUint8(130);
       writeValue(buffer, value.encode());
-    } else if (value is PlaybackSpeedMessage) {
+    } else if (value is CacheStatsMessage) {
       buffer.putUint8(131);
       writeValue(buffer, value.encode());
-    } else if (value is PositionMessage) {
+    } else if (value is CancelPreloadMessage) {
       buffer.putUint8(132);
       writeValue(buffer, value.encode());
-    } else if (value is TextureMessage) {
+    } else if (value is CreateMessage) {
       buffer.putUint8(133);
       writeValue(buffer, value.encode());
-    } else if (value is VolumeMessage) {
+    } else if (value is EventStatsMessage) {
       buffer.putUint8(134);
       writeValue(buffer, value.encode());
+    } else if (value is FrameMessage) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.encode());
+    } else if (value is FrameRequestMessage) {
+      buffer.putUint8(136);
+      writeValue(buffer, value.encode());
+    } else if (value is HttpConfigMessage) {
+      buffer.putUint8(137);
+      writeValue(buffer, value.encode());
+    } else if (value is LoopingMessage) {
+      buffer.putUint8(138);
+      writeValue(buffer, value.encode());
+    } else if (value is MetricsMessage) {
+      buffer.putUint8(139);
+      writeValue(buffer, value.encode());
+    } else if (value is MixWithOthersMessage) {
+      buffer.putUint8(140);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaybackMetricsMessage) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaybackSpeedMessage) {
+      buffer.putUint8(142);
+      writeValue(buffer, value.encode());
+    } else if (value is PlayerPoolMessage) {
+      buffer.putUint8(143);
+      writeValue(buffer, value.encode());
+    } else if (value is PlayerPoolStatsMessage) {
+      buffer.putUint8(144);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionMessage) {
+      buffer.putUint8(145);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionUpdatesMessage) {
+      buffer.putUint8(146);
+      writeValue(buffer, value.encode());
+    } else if (value is PreloadMessage) {
+      buffer.putUint8(147);
+      writeValue(buffer, value.encode());
+    } else if (value is TextureMessage) {
+      buffer.putUint8(148);
+      writeValue(buffer, value.encode());
+    } else if (value is TrackSelectionMessage) {
+      buffer.putUint8(149);
+      writeValue(buffer, value.encode());
+    } else if (value is VolumeMessage) {
+      buffer.putUint8(150);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return BandwidthMessage.decode(readValue(buffer)!);
+
+      case 129:
+        return BufferConfigMessage.decode(readValue(buffer)!);
+
+      case 130:
+        return CacheConfigMessage.decode(readValue(buffer)!);
+
+      case 131:
+        return CacheStatsMessage.decode(readValue(buffer)!);
+
+      case 132:
+        return CancelPreloadMessage.decode(readValue(buffer)!);
+
+      case 133:
+        return CreateMessage.decode(readValue(buffer)!);
+
+      case 134:
+        return EventStatsMessage.decode(readValue(buffer)!);
+
+      case 135:
+        return FrameMessage.decode(readValue(buffer)!);
+
+      case 136:
+        return FrameRequestMessage.decode(readValue(buffer)!);
+
+      case 137:
+        return HttpConfigMessage.decode(readValue(buffer)!);
+
+      case 138:
+        return LoopingMessage.decode(readValue(buffer)!);
+
+      case 139:
+        return MetricsMessage.decode(readValue(buffer)!);
+
+      case 140:
+        return MixWithOthersMessage.decode(readValue(buffer)!);
+
+      case 141:
+        return PlaybackMetricsMessage.decode(readValue(buffer)!);
+
+      case 142:
+        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+
+      case 143:
+        return PlayerPoolMessage.decode(readValue(buffer)!);
+
+      case 144:
+        return PlayerPoolStatsMessage.decode(readValue(buffer)!);
+
+      case 145:
+        return PositionMessage.decode(readValue(buffer)!);
+
+      case 146:
+        return PositionUpdatesMessage.decode(readValue(buffer)!);
+
+      case 147:
+        return PreloadMessage.decode(readValue(buffer)!);
+
+      case 148:
+        return TextureMessage.decode(readValue(buffer)!);
+
+      case 149:
+        return TrackSelectionMessage.decode(readValue(buffer)!);
+
+      case 150:
+        return VolumeMessage.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+class AndroidVideoPlayerApi {
+  /// Constructor for [AndroidVideoPlayerApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  AndroidVideoPlayerApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _AndroidVideoPlayerApiCodec();
+
+  Future<void> initialize() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.initialize', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<TextureMessage> create(CreateMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.create', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as TextureMessage?)!;
+    }
+  }
+
+  Future<void> dispose(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.dispose', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setLooping(LoopingMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setLooping', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setVolume(VolumeMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setVolume', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setPlaybackSpeed(PlaybackSpeedMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackSpeed', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> play(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.play', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<PositionMessage> position(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.position', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      super.writeValue(buffer, value);
+      return (replyMap['result'] as PositionMessage?)!;
     }
   }
 
-  @override
-  Object? readValueOfType(int type, ReadBuffer buffer) {
-    switch (type) {
-      case 128:
-        return CreateMessage.decode(readValue(buffer)!);
-
-      case 129:
-        return LoopingMessage.decode(readValue(buffer)!);
-
-      case 130:
-        return MixWithOthersMessage.decode(readValue(buffer)!);
-
-      case 131:
-        return PlaybackSpeedMessage.decode(readValue(buffer)!);
-
-      case 132:
-        return PositionMessage.decode(readValue(buffer)!);
-
-      case 133:
-        return TextureMessage.decode(readValue(buffer)!);
+  Future<void> seekTo(PositionMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.seekTo', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 
-      case 134:
-        return VolumeMessage.decode(readValue(buffer)!);
+  Future<void> pause(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.pause', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 
-      default:
-        return super.readValueOfType(type, buffer);
+  Future<void> setMixWithOthers(MixWithOthersMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
     }
   }
-}
 
-class AndroidVideoPlayerApi {
-  /// Constructor for [AndroidVideoPlayerApi].  The [binaryMessenger] named argument is
-  /// available for dependency injection.  If it is left null, the default
-  /// BinaryMessenger will be used which routes to the host platform.
-  AndroidVideoPlayerApi({BinaryMessenger? binaryMessenger})
-      : _binaryMessenger = binaryMessenger;
+  Future<void> enableCache(CacheConfigMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.enableCache', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 
-  final BinaryMessenger? _binaryMessenger;
+  Future<CacheStatsMessage> getCacheStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getCacheStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as CacheStatsMessage?)!;
+    }
+  }
 
-  static const MessageCodec<Object?> codec = _AndroidVideoPlayerApiCodec();
+  Future<void> preload(PreloadMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.preload', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 
-  Future<void> initialize() async {
+  Future<void> cancelPreload(CancelPreloadMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.initialize', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.cancelPreload', codec,
         binaryMessenger: _binaryMessenger);
     final Map<Object?, Object?>? replyMap =
-        await channel.send(null) as Map<Object?, Object?>?;
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
     if (replyMap == null) {
       throw PlatformException(
         code: 'channel-error',
@@ -286,9 +1195,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<TextureMessage> create(CreateMessage arg_msg) async {
+  Future<void> setPlayerPoolSize(PlayerPoolMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.create', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPlayerPoolSize', codec,
         binaryMessenger: _binaryMessenger);
     final Map<Object?, Object?>? replyMap =
         await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
@@ -305,19 +1214,44 @@ class AndroidVideoPlayerApi {
         message: error['message'] as String?,
         details: error['details'],
       );
+    } else {
+      return;
+    }
+  }
+
+  Future<PlayerPoolStatsMessage> getPlayerPoolStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getPlayerPoolStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
     } else if (replyMap['result'] == null) {
       throw PlatformException(
         code: 'null-error',
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (replyMap['result'] as TextureMessage?)!;
+      return (replyMap['result'] as PlayerPoolStatsMessage?)!;
     }
   }
 
-  Future<void> dispose(TextureMessage arg_msg) async {
+  Future<void> setPositionUpdateInterval(PositionUpdatesMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.dispose', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPositionUpdateInterval',
+        codec,
         binaryMessenger: _binaryMessenger);
     final Map<Object?, Object?>? replyMap =
         await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
@@ -339,9 +1273,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> setLooping(LoopingMessage arg_msg) async {
+  Future<void> setBufferConfig(BufferConfigMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setLooping', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setBufferConfig', codec,
         binaryMessenger: _binaryMessenger);
     final Map<Object?, Object?>? replyMap =
         await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
@@ -363,9 +1297,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> setVolume(VolumeMessage arg_msg) async {
+  Future<void> setTrackSelection(TrackSelectionMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setVolume', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setTrackSelection', codec,
         binaryMessenger: _binaryMessenger);
     final Map<Object?, Object?>? replyMap =
         await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
@@ -387,12 +1321,12 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> setPlaybackSpeed(PlaybackSpeedMessage arg_msg) async {
+  Future<BandwidthMessage> getBandwidthEstimate() async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackSpeed', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getBandwidthEstimate', codec,
         binaryMessenger: _binaryMessenger);
     final Map<Object?, Object?>? replyMap =
-        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+        await channel.send(null) as Map<Object?, Object?>?;
     if (replyMap == null) {
       throw PlatformException(
         code: 'channel-error',
@@ -406,14 +1340,19 @@ class AndroidVideoPlayerApi {
         message: error['message'] as String?,
         details: error['details'],
       );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return;
+      return (replyMap['result'] as BandwidthMessage?)!;
     }
   }
 
-  Future<void> play(TextureMessage arg_msg) async {
+  Future<void> setMetricsInterval(MetricsMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.play', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setMetricsInterval', codec,
         binaryMessenger: _binaryMessenger);
     final Map<Object?, Object?>? replyMap =
         await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
@@ -435,9 +1374,10 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<PositionMessage> position(TextureMessage arg_msg) async {
+  Future<PlaybackMetricsMessage> getPlaybackMetrics(
+      TextureMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.position', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getPlaybackMetrics', codec,
         binaryMessenger: _binaryMessenger);
     final Map<Object?, Object?>? replyMap =
         await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
@@ -460,13 +1400,13 @@ class AndroidVideoPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (replyMap['result'] as PositionMessage?)!;
+      return (replyMap['result'] as PlaybackMetricsMessage?)!;
     }
   }
 
-  Future<void> seekTo(PositionMessage arg_msg) async {
+  Future<EventStatsMessage> getEventStats(TextureMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.seekTo', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getEventStats', codec,
         binaryMessenger: _binaryMessenger);
     final Map<Object?, Object?>? replyMap =
         await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
@@ -483,14 +1423,19 @@ class AndroidVideoPlayerApi {
         message: error['message'] as String?,
         details: error['details'],
       );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return;
+      return (replyMap['result'] as EventStatsMessage?)!;
     }
   }
 
-  Future<void> pause(TextureMessage arg_msg) async {
+  Future<void> setHttpConfig(HttpConfigMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.pause', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setHttpConfig', codec,
         binaryMessenger: _binaryMessenger);
     final Map<Object?, Object?>? replyMap =
         await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
@@ -512,9 +1457,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> setMixWithOthers(MixWithOthersMessage arg_msg) async {
+  Future<FrameMessage> getFrameAt(FrameRequestMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getFrameAt', codec,
         binaryMessenger: _binaryMessenger);
     final Map<Object?, Object?>? replyMap =
         await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
@@ -531,8 +1476,13 @@ class AndroidVideoPlayerApi {
         message: error['message'] as String?,
         details: error['details'],
       );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return;
+      return (replyMap['result'] as FrameMessage?)!;
     }
   }
 }
@@ -56,6 +56,141 @@ class MixWithOthersMessage {
   bool mixWithOthers;
 }
 
+class CacheConfigMessage {
+  CacheConfigMessage(this.maxCacheSize, this.cacheDirectory, this.maxPreloads);
+  int maxCacheSize;
+  String? cacheDirectory;
+  int? maxPreloads;
+}
+
+class CacheStatsMessage {
+  CacheStatsMessage(this.cacheBytes, this.networkBytes, this.cacheSize);
+  int cacheBytes;
+  int networkBytes;
+  int cacheSize;
+}
+
+class PreloadMessage {
+  PreloadMessage(this.uri, this.preloadBytes, {required this.httpHeaders});
+  String uri;
+  int preloadBytes;
+  Map<String?, String?> httpHeaders;
+}
+
+class CancelPreloadMessage {
+  CancelPreloadMessage(this.uri);
+  String uri;
+}
+
+class PositionUpdatesMessage {
+  PositionUpdatesMessage(this.textureId, this.intervalMs);
+  int textureId;
+  int intervalMs;
+}
+
+class BufferConfigMessage {
+  BufferConfigMessage(
+    this.minBufferMs,
+    this.maxBufferMs,
+    this.playBufferMs,
+    this.rebufferMs,
+    this.targetBytes,
+    this.backBufferMs,
+    this.prioritizeTime,
+  );
+  int? minBufferMs;
+  int? maxBufferMs;
+  int? playBufferMs;
+  int? rebufferMs;
+  int? targetBytes;
+  int? backBufferMs;
+  bool? prioritizeTime;
+}
+
+class TrackSelectionMessage {
+  TrackSelectionMessage(
+    this.maxWidth,
+    this.maxHeight,
+    this.maxBitrate,
+    this.preferHardware,
+  );
+  int? maxWidth;
+  int? maxHeight;
+  int? maxBitrate;
+  bool? preferHardware;
+}
+
+class BandwidthMessage {
+  BandwidthMessage(this.bitrate);
+  int bitrate;
+}
+
+class MetricsMessage {
+  MetricsMessage(this.textureId, this.intervalMs);
+  int textureId;
+  int intervalMs;
+}
+
+class PlaybackMetricsMessage {
+  PlaybackMetricsMessage(
+    this.startupMs,
+    this.rebuffers,
+    this.rebufferMs,
+    this.droppedFrames,
+    this.decoderInitMs,
+  );
+  int? startupMs;
+  int rebuffers;
+  int rebufferMs;
+  int droppedFrames;
+  int? decoderInitMs;
+}
+
+class EventStatsMessage {
+  EventStatsMessage(this.dropped, this.coalesced);
+  int dropped;
+  int coalesced;
+}
+
+class HttpConfigMessage {
+  HttpConfigMessage(this.connectMs, this.readMs, this.userAgent);
+  int? connectMs;
+  int? readMs;
+  String? userAgent;
+}
+
+class FrameRequestMessage {
+  FrameRequestMessage(
+    this.uri,
+    this.positionMs,
+    this.maxSize,
+    this.httpHeaders,
+  );
+  String uri;
+  int positionMs;
+  int maxSize;
+  Map<String?, String?> httpHeaders;
+}
+
+class FrameMessage {
+  FrameMessage(this.bytes, this.width, this.height);
+  Uint8List bytes;
+  int width;
+  int height;
+}
+
+class PlayerPoolMessage {
+  PlayerPoolMessage(this.maxSize);
+  int maxSize;
+}
+
+class PlayerPoolStatsMessage {
+  PlayerPoolStatsMessage(this.created, this.reused, this.idle);
+  int created;
+  int reused;
+  int idle;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVideoPlayerApi')
 abstract class AndroidVideoPlayerApi {
   void initialize();
@@ -69,4 +204,20 @@ abstract class AndroidVideoPlayerApi {
   void seekTo(PositionMessage msg);
   void pause(TextureMessage msg);
   void setMixWithOthers(MixWithOthersMessage msg);
+  void enableCache(CacheConfigMessage msg);
+  CacheStatsMessage getCacheStats();
+  void preload(PreloadMessage msg);
+  void cancelPreload(CancelPreloadMessage msg);
+  void setPlayerPoolSize(PlayerPoolMessage msg);
+  PlayerPoolStatsMessage getPlayerPoolStats();
+  void setPositionUpdateInterval(PositionUpdatesMessage msg);
+  void setBufferConfig(BufferConfigMessage msg);
+  void setTrackSelection(TrackSelectionMessage msg);
+  BandwidthMessage getBandwidthEstimate();
+  void setMetricsInterval(MetricsMessage msg);
+  PlaybackMetricsMessage getPlaybackMetrics(TextureMessage msg);
+  EventStatsMessage getEventStats(TextureMessage msg);
+  void setHttpConfig(HttpConfigMessage msg);
+  @async
+  FrameMessage getFrameAt(FrameRequestMessage msg);
 }
@@ -23,6 +23,16 @@ class _ApiLogger implements TestHostVideoPlayerApi {
   VolumeMessage? volumeMessage;
   PlaybackSpeedMessage? playbackSpeedMessage;
   MixWithOthersMessage? mixWithOthersMessage;
+  CacheConfigMessage? cacheConfigMessage;
+  PreloadMessage? preloadMessage;
+  CancelPreloadMessage? cancelPreloadMessage;
+  PlayerPoolMessage? playerPoolMessage;
+  PositionUpdatesMessage? positionUpdatesMessage;
+  BufferConfigMessage? bufferConfigMessage;
+  TrackSelectionMessage? trackSelectionMessage;
+  MetricsMessage? metricsMessage;
+  HttpConfigMessage? httpConfigMessage;
+  FrameRequestMessage? frameRequestMessage;
 
   @override
   TextureMessage create(CreateMessage arg) {
@@ -79,6 +89,108 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     loopingMessage = arg;
   }
 
+  @override
+  void enableCache(CacheConfigMessage arg) {
+    log.add('enableCache');
+    cacheConfigMessage = arg;
+  }
+
+  @override
+  CacheStatsMessage getCacheStats() {
+    log.add('getCacheStats');
+    return CacheStatsMessage(cacheBytes: 10, networkBytes: 20, cacheSize: 30);
+  }
+
+  @override
+  void preload(PreloadMessage arg) {
+    log.add('preload');
+    preloadMessage = arg;
+  }
+
+  @override
+  void cancelPreload(CancelPreloadMessage arg) {
+    log.add('cancelPreload');
+    cancelPreloadMessage = arg;
+  }
+
+  @override
+  void setPlayerPoolSize(PlayerPoolMessage arg) {
+    log.add('setPlayerPoolSize');
+    playerPoolMessage = arg;
+  }
+
+  @override
+  PlayerPoolStatsMessage getPlayerPoolStats() {
+    log.add('getPlayerPoolStats');
+    return PlayerPoolStatsMessage(created: 1, reused: 3, idle: 2);
+  }
+
+  @override
+  void setPositionUpdateInterval(PositionUpdatesMessage arg) {
+    log.add('setPositionUpdateInterval');
+    positionUpdatesMessage = arg;
+  }
+
+  @override
+  void setBufferConfig(BufferConfigMessage arg) {
+    log.add('setBufferConfig');
+    bufferConfigMessage = arg;
+  }
+
+  @override
+  void setTrackSelection(TrackSelectionMessage arg) {
+    log.add('setTrackSelection');
+    trackSelectionMessage = arg;
+  }
+
+  @override
+  BandwidthMessage getBandwidthEstimate() {
+    log.add('getBandwidthEstimate');
+    return BandwidthMessage(bitrate: 1500000);
+  }
+
+  @override
+  void setMetricsInterval(MetricsMessage arg) {
+    log.add('setMetricsInterval');
+    metricsMessage = arg;
+  }
+
+  @override
+  PlaybackMetricsMessage getPlaybackMetrics(TextureMessage arg) {
+    log.add('getPlaybackMetrics');
+    textureMessage = arg;
+    return PlaybackMetricsMessage(
+      startupMs: 800,
+      rebuffers: 2,
+      rebufferMs: 1500,
+      droppedFrames: 12,
+    );
+  }
+
+  @override
+  EventStatsMessage getEventStats(TextureMessage arg) {
+    log.add('getEventStats');
+    textureMessage = arg;
+    return EventStatsMessage(dropped: 1, coalesced: 5);
+  }
+
+  @override
+  void setHttpConfig(HttpConfigMessage arg) {
+    log.add('setHttpConfig');
+    httpConfigMessage = arg;
+  }
+
+  @override
+  Future<FrameMessage> getFrameAt(FrameRequestMessage arg) async {
+    log.add('getFrameAt');
+    frameRequestMessage = arg;
+    return FrameMessage(
+      bytes: Uint8List.fromList(<int>[1, 2, 3]),
+      width: 160,
+      height: 90,
+    );
+  }
+
   @override
   void setVolume(VolumeMessage arg) {
     log.add('setVolume');
@@ -205,6 +317,99 @@ void main() {
       expect(log.mixWithOthersMessage?.mixWithOthers, false);
     });
 
+    test('enableCache', () async {
+      await player.enableCache(
+        maxCacheSize: 1024,
+        cacheDirectory: 'someDirectory',
+      );
+      expect(log.log.last, 'enableCache');
+      expect(log.cacheConfigMessage?.maxCacheSize, 1024);
+      expect(log.cacheConfigMessage?.cacheDirectory, 'someDirectory');
+      expect(log.cacheConfigMessage?.maxPreloads, 2);
+    });
+
+    test('enableCache rejects a non-positive maxPreloads', () {
+      expect(
+        () => player.enableCache(maxCacheSize: 1024, maxPreloads: 0),
+        throwsArgumentError,
+      );
+      expect(log.log, isNot(contains('enableCache')));
+    });
+
+    test('getCacheStats', () async {
+      final VideoCacheStats stats = await player.getCacheStats();
+      expect(log.log.last, 'getCacheStats');
+      expect(stats.cacheBytes, 10);
+      expect(stats.networkBytes, 20);
+      expect(stats.cacheSize, 30);
+    });
+
+    test('preload', () async {
+      await player.preload(
+        'someUri',
+        preloadBytes: 1024,
+        httpHeaders: <String, String>{'Authorization': 'Bearer token'},
+      );
+      expect(log.log.last, 'preload');
+      expect(log.preloadMessage?.uri, 'someUri');
+      expect(log.preloadMessage?.preloadBytes, 1024);
+      expect(log.preloadMessage?.httpHeaders,
+          <String, String>{'Authorization': 'Bearer token'});
+    });
+
+    test('cancelPreload', () async {
+      await player.cancelPreload('someUri');
+      expect(log.log.last, 'cancelPreload');
+      expect(log.cancelPreloadMessage?.uri, 'someUri');
+    });
+
+    test('setHttpConfig', () async {
+      await player.setHttpConfig(
+        connectTimeout: const Duration(seconds: 3),
+        userAgent: 'agent',
+      );
+      expect(log.log.last, 'setHttpConfig');
+      expect(log.httpConfigMessage?.connectMs, 3000);
+      expect(log.httpConfigMessage?.readMs, null);
+      expect(log.httpConfigMessage?.userAgent, 'agent');
+    });
+
+    test('getFrameAt', () async {
+      final VideoFrame frame = await player.getFrameAt(
+        'https://example.com/video.mp4',
+        position: const Duration(seconds: 2),
+        maxSize: 256,
+      );
+      expect(log.log.last, 'getFrameAt');
+      expect(log.frameRequestMessage?.uri, 'https://example.com/video.mp4');
+      expect(log.frameRequestMessage?.positionMs, 2000);
+      expect(log.frameRequestMessage?.maxSize, 256);
+      expect(log.frameRequestMessage?.httpHeaders, <String, String>{});
+      expect(frame.bytes, <int>[1, 2, 3]);
+      expect(frame.width, 160);
+      expect(frame.height, 90);
+    });
+
+    test('setPlayerPoolSize', () async {
+      await player.setPlayerPoolSize(2);
+      expect(log.log.last, 'setPlayerPoolSize');
+      expect(log.playerPoolMessage?.maxSize, 2);
+    });
+
+    test('setPlayerPoolSize rejects a negative size', () {
+      expect(() => player.setPlayerPoolSize(-1), throwsArgumentError);
+      expect(log.log, isNot(contains('setPlayerPoolSize')));
+    });
+
+    test('getPlayerPoolStats', () async {
+      final PlayerPoolStats stats = await player.getPlayerPoolStats();
+      expect(log.log.last, 'getPlayerPoolStats');
+      expect(stats.created, 1);
+      expect(stats.reused, 3);
+      expect(stats.idle, 2);
+      expect(stats.reuseRate, 0.75);
+    });
+
     test('setVolume', () async {
       await player.setVolume(1, 0.7);
       expect(log.log.last, 'setVolume');
@@ -233,6 +438,277 @@ void main() {
       expect(position, const Duration(milliseconds: 234));
     });
 
+    test('setBufferConfig', () async {
+      await player.setBufferConfig(BufferConfig.lowMemory);
+      expect(log.log.last, 'setBufferConfig');
+      expect(log.bufferConfigMessage?.minBufferMs, 5000);
+      expect(log.bufferConfigMessage?.maxBufferMs, 15000);
+      expect(log.bufferConfigMessage?.playBufferMs, 1500);
+      expect(log.bufferConfigMessage?.rebufferMs, 3000);
+      expect(log.bufferConfigMessage?.targetBytes, 4 * 1024 * 1024);
+      expect(log.bufferConfigMessage?.backBufferMs, null);
+      expect(log.bufferConfigMessage?.prioritizeTime, false);
+
+      await player.setBufferConfig(null);
+      expect(log.bufferConfigMessage?.minBufferMs, null);
+      expect(log.bufferConfigMessage?.targetBytes, null);
+    });
+
+    test('setTrackSelection', () async {
+      await player.setTrackSelection(maxHeight: 720, maxBitrate: 2000000);
+      expect(log.log.last, 'setTrackSelection');
+      expect(log.trackSelectionMessage?.maxWidth, null);
+      expect(log.trackSelectionMessage?.maxHeight, 720);
+      expect(log.trackSelectionMessage?.maxBitrate, 2000000);
+      expect(log.trackSelectionMessage?.preferHardware, false);
+    });
+
+    test('getBandwidthEstimate', () async {
+      final int bitrate = await player.getBandwidthEstimate();
+      expect(log.log.last, 'getBandwidthEstimate');
+      expect(bitrate, 1500000);
+    });
+
+    test('videoTrackEventsFor', () async {
+      _ambiguate(ServicesBinding.instance)
+          ?.defaultBinaryMessenger
+          .setMockMessageHandler(
+        'flutter.io/videoPlayer/videoEvents8',
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            await _ambiguate(ServicesBinding.instance)
+                ?.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    'flutter.io/videoPlayer/videoEvents8',
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'videoTracksChanged',
+                      'tracks': <Map<String, dynamic>>[
+                        <String, dynamic>{
+                          'bitrate': 500000,
+                          'width': 640,
+                          'height': 360,
+                          'selected': false,
+                        },
+                        <String, dynamic>{
+                          'bitrate': 2000000,
+                          'width': 1920,
+                          'height': 1080,
+                          'selected': true,
+                        },
+                      ],
+                    }),
+                    (ByteData? data) {});
+
+            await _ambiguate(ServicesBinding.instance)
+                ?.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    'flutter.io/videoPlayer/videoEvents8',
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'videoFormatChanged',
+                      'format': <String, dynamic>{
+                        'bitrate': null,
+                        'width': 1920,
+                        'height': 1080,
+                        'selected': true,
+                      },
+                    }),
+                    (ByteData? data) {});
+
+            await _ambiguate(ServicesBinding.instance)
+                ?.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    'flutter.io/videoPlayer/videoEvents8',
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'completed',
+                    }),
+                    (ByteData? data) {});
+
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else if (methodCall.method == 'cancel') {
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else {
+            fail('Expected listen or cancel');
+          }
+        },
+      );
+      final Future<List<VideoTrackEvent>> trackEvents =
+          player.videoTrackEventsFor(8).take(2).toList();
+
+      // Track events are sent to videoTrackEventsFor rather than emitted as
+      // VideoEvents.
+      expect(await player.videoEventsFor(8).first,
+          VideoEvent(eventType: VideoEventType.completed));
+
+      final List<VideoTrackEvent> events = await trackEvents;
+      expect(events[0].eventType, VideoTrackEventType.tracksChanged);
+      expect(events[0].tracks.length, 2);
+      expect(events[0].tracks[0].bitrate, 500000);
+      expect(events[0].tracks[0].selected, false);
+      expect(events[0].tracks[1].height, 1080);
+      expect(events[0].tracks[1].selected, true);
+      expect(events[1].eventType, VideoTrackEventType.formatChanged);
+      expect(events[1].format?.bitrate, null);
+      expect(events[1].format?.width, 1920);
+    });
+
+    test('setPlaybackMetricsInterval', () async {
+      await player.setPlaybackMetricsInterval(1, const Duration(seconds: 10));
+      expect(log.log.last, 'setMetricsInterval');
+      expect(log.metricsMessage?.textureId, 1);
+      expect(log.metricsMessage?.intervalMs, 10000);
+    });
+
+    test('getPlaybackMetrics', () async {
+      final PlaybackMetrics metrics = await player.getPlaybackMetrics(1);
+      expect(log.log.last, 'getPlaybackMetrics');
+      expect(log.textureMessage?.textureId, 1);
+      expect(metrics.startupTime, const Duration(milliseconds: 800));
+      expect(metrics.rebufferCount, 2);
+      expect(metrics.rebufferDuration, const Duration(milliseconds: 1500));
+      expect(metrics.droppedFrames, 12);
+      expect(metrics.decoderInitTime, null);
+    });
+
+    test('playbackMetricsFor', () async {
+      _ambiguate(ServicesBinding.instance)
+          ?.defaultBinaryMessenger
+          .setMockMessageHandler(
+        'flutter.io/videoPlayer/videoEvents9',
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            await _ambiguate(ServicesBinding.instance)
+                ?.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    'flutter.io/videoPlayer/videoEvents9',
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'playbackMetrics',
+                      'startupMs': null,
+                      'rebuffers': 0,
+                      'rebufferMs': 0,
+                      'droppedFrames': 3,
+                      'decoderInitMs': 40,
+                    }),
+                    (ByteData? data) {});
+
+            await _ambiguate(ServicesBinding.instance)
+                ?.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    'flutter.io/videoPlayer/videoEvents9',
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'completed',
+                    }),
+                    (ByteData? data) {});
+
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else if (methodCall.method == 'cancel') {
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else {
+            fail('Expected listen or cancel');
+          }
+        },
+      );
+      final Future<List<PlaybackMetrics>> summaries =
+          player.playbackMetricsFor(9).toList();
+
+      // Summaries are sent to playbackMetricsFor rather than emitted as
+      // VideoEvents.
+      expect(await player.videoEventsFor(9).first,
+          VideoEvent(eventType: VideoEventType.completed));
+
+      await player.dispose(9);
+      expect(log.log, <String>['getPlaybackMetrics', 'dispose']);
+
+      final List<PlaybackMetrics> metrics = await summaries;
+      expect(metrics.length, 2);
+      expect(metrics[0].startupTime, null);
+      expect(metrics[0].droppedFrames, 3);
+      expect(metrics[0].decoderInitTime, const Duration(milliseconds: 40));
+      // The final summary is fetched when the player is disposed.
+      expect(metrics[1].rebufferCount, 2);
+    });
+
+    test('getEventQueueStats', () async {
+      final VideoEventQueueStats stats = await player.getEventQueueStats(1);
+      expect(log.log.last, 'getEventStats');
+      expect(log.textureMessage?.textureId, 1);
+      expect(stats.dropped, 1);
+      expect(stats.coalesced, 5);
+    });
+
+    test('setPositionUpdateInterval', () async {
+      await player.setPositionUpdateInterval(
+          1, const Duration(milliseconds: 250));
+      expect(log.log.last, 'setPositionUpdateInterval');
+      expect(log.positionUpdatesMessage?.textureId, 1);
+      expect(log.positionUpdatesMessage?.intervalMs, 250);
+    });
+
+    test('getPosition returns pushed position', () async {
+      _ambiguate(ServicesBinding.instance)
+          ?.defaultBinaryMessenger
+          .setMockMessageHandler(
+        'flutter.io/videoPlayer/videoEvents7',
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            await _ambiguate(ServicesBinding.instance)
+                ?.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    'flutter.io/videoPlayer/videoEvents7',
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'positionUpdate',
+                      'position': 4321,
+                    }),
+                    (ByteData? data) {});
+
+            await _ambiguate(ServicesBinding.instance)
+                ?.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    'flutter.io/videoPlayer/videoEvents7',
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'completed',
+                    }),
+                    (ByteData? data) {});
+
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else if (methodCall.method == 'cancel') {
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else {
+            fail('Expected listen or cancel');
+          }
+        },
+      );
+      await player.setPositionUpdateInterval(
+          7, const Duration(milliseconds: 250));
+
+      // The position update is consumed rather than emitted as a VideoEvent.
+      expect(await player.videoEventsFor(7).first,
+          VideoEvent(eventType: VideoEventType.completed));
+
+      final Duration position = await player.getPosition(7);
+      expect(log.log.last, 'setPositionUpdateInterval');
+      expect(position, const Duration(milliseconds: 4321));
+
+      await player.seekTo(7, const Duration(milliseconds: 100));
+      expect(await player.getPosition(7), const Duration(milliseconds: 100));
+
+      await player.setPositionUpdateInterval(7, Duration.zero);
+      expect(await player.getPosition(7), const Duration(milliseconds: 234));
+      expect(log.log.last, 'position');
+    });
+
     test('videoEventsFor', () async {
       _ambiguate(ServicesBinding.instance)
           ?.defaultBinaryMessenger
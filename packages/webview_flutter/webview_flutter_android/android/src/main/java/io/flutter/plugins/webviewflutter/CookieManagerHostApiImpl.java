@@ -6,6 +6,10 @@ package io.flutter.plugins.webviewflutter;
 
 import android.os.Build;
 import android.webkit.CookieManager;
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 class CookieManagerHostApiImpl implements GeneratedAndroidWebView.CookieManagerHostApi {
   @Override
@@ -26,4 +30,28 @@ class CookieManagerHostApiImpl implements GeneratedAndroidWebView.CookieManagerH
   public void setCookie(String url, String value) {
     CookieManager.getInstance().setCookie(url, value);
   }
+
+  // Runs on a background task queue, so the single flush at the end doesn't block the platform
+  // thread.
+  @Override
+  public void setCookies(@NonNull List<GeneratedAndroidWebView.WebViewCookieData> cookies) {
+    final CookieManager cookieManager = CookieManager.getInstance();
+    for (GeneratedAndroidWebView.WebViewCookieData cookie : cookies) {
+      cookieManager.setCookie(cookie.getUrl(), cookie.getValue());
+    }
+    // Before Lollipop, the legacy CookieSyncManager persists cookies on its own schedule.
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      cookieManager.flush();
+    }
+  }
+
+  @NonNull
+  @Override
+  public List<String> getCookies(@NonNull String url) {
+    final String cookies = CookieManager.getInstance().getCookie(url);
+    if (cookies == null || cookies.isEmpty()) {
+      return new ArrayList<>();
+    }
+    return Arrays.asList(cookies.split(";\\s*"));
+  }
 }
@@ -421,6 +421,184 @@ public class GeneratedAndroidWebView {
     }
   }
 
+  /**
+   * A cookie to set for a URL, using the format of the Set-Cookie HTTP response header.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static class WebViewCookieData {
+    private @NonNull String url;
+
+    public @NonNull String getUrl() {
+      return url;
+    }
+
+    public void setUrl(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"url\" is null.");
+      }
+      this.url = setterArg;
+    }
+
+    private @NonNull String value;
+
+    public @NonNull String getValue() {
+      return value;
+    }
+
+    public void setValue(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"value\" is null.");
+      }
+      this.value = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private WebViewCookieData() {}
+
+    public static final class Builder {
+      private @Nullable String url;
+
+      public @NonNull Builder setUrl(@NonNull String setterArg) {
+        this.url = setterArg;
+        return this;
+      }
+
+      private @Nullable String value;
+
+      public @NonNull Builder setValue(@NonNull String setterArg) {
+        this.value = setterArg;
+        return this;
+      }
+
+      public @NonNull WebViewCookieData build() {
+        WebViewCookieData pigeonReturn = new WebViewCookieData();
+        pigeonReturn.setUrl(url);
+        pigeonReturn.setValue(value);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(url);
+      toListResult.add(value);
+      return toListResult;
+    }
+
+    static @NonNull WebViewCookieData fromList(@NonNull ArrayList<Object> list) {
+      WebViewCookieData pigeonResult = new WebViewCookieData();
+      Object url = list.get(0);
+      pigeonResult.setUrl((String) url);
+      Object value = list.get(1);
+      pigeonResult.setValue((String) value);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * UTF-8 encoded result of `WebViewHostApi.evaluateJavascriptWithLargeResult`.
+   *
+   * <p>Results no larger than the requested threshold are returned inline in [bytes]. Larger
+   * results are held by the host under [resultId] and read back with
+   * `WebViewHostApi.readJavaScriptResultChunk`.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static class JavaScriptResultData {
+    private @Nullable Long resultId;
+
+    public @Nullable Long getResultId() {
+      return resultId;
+    }
+
+    public void setResultId(@Nullable Long setterArg) {
+      this.resultId = setterArg;
+    }
+
+    private @NonNull Long length;
+
+    public @NonNull Long getLength() {
+      return length;
+    }
+
+    public void setLength(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"length\" is null.");
+      }
+      this.length = setterArg;
+    }
+
+    private @Nullable byte[] bytes;
+
+    public @Nullable byte[] getBytes() {
+      return bytes;
+    }
+
+    public void setBytes(@Nullable byte[] setterArg) {
+      this.bytes = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private JavaScriptResultData() {}
+
+    public static final class Builder {
+      private @Nullable Long resultId;
+
+      public @NonNull Builder setResultId(@Nullable Long setterArg) {
+        this.resultId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long length;
+
+      public @NonNull Builder setLength(@NonNull Long setterArg) {
+        this.length = setterArg;
+        return this;
+      }
+
+      private @Nullable byte[] bytes;
+
+      public @NonNull Builder setBytes(@Nullable byte[] setterArg) {
+        this.bytes = setterArg;
+        return this;
+      }
+
+      public @NonNull JavaScriptResultData build() {
+        JavaScriptResultData pigeonReturn = new JavaScriptResultData();
+        pigeonReturn.setResultId(resultId);
+        pigeonReturn.setLength(length);
+        pigeonReturn.setBytes(bytes);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(3);
+      toListResult.add(resultId);
+      toListResult.add(length);
+      toListResult.add(bytes);
+      return toListResult;
+    }
+
+    static @NonNull JavaScriptResultData fromList(@NonNull ArrayList<Object> list) {
+      JavaScriptResultData pigeonResult = new JavaScriptResultData();
+      Object resultId = list.get(0);
+      pigeonResult.setResultId(
+          (resultId == null)
+              ? null
+              : ((resultId instanceof Integer) ? (Integer) resultId : (Long) resultId));
+      Object length = list.get(1);
+      pigeonResult.setLength(
+          (length == null) ? null : ((length instanceof Integer) ? (Integer) length : (Long) length));
+      Object bytes = list.get(2);
+      pigeonResult.setBytes((byte[]) bytes);
+      return pigeonResult;
+    }
+  }
+
   public interface Result<T> {
     void success(T result);
 
@@ -508,15 +686,47 @@ public class GeneratedAndroidWebView {
           });
     }
   }
+  private static class CookieManagerHostApiCodec extends StandardMessageCodec {
+    public static final CookieManagerHostApiCodec INSTANCE = new CookieManagerHostApiCodec();
+
+    private CookieManagerHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return WebViewCookieData.fromList((ArrayList<Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof WebViewCookieData) {
+        stream.write(128);
+        writeValue(stream, ((WebViewCookieData) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface CookieManagerHostApi {
     void clearCookies(Result<Boolean> result);
 
     void setCookie(@NonNull String url, @NonNull String value);
 
+    void setCookies(@NonNull List<WebViewCookieData> cookies);
+
+    @NonNull
+    List<String> getCookies(@NonNull String url);
+
     /** The codec used by CookieManagerHostApi. */
     static MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return CookieManagerHostApiCodec.INSTANCE;
     }
     /**
      * Sets up an instance of `CookieManagerHostApi` to handle messages through the
@@ -588,6 +798,68 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.CookieManagerHostApi.setCookies",
+                getCodec(),
+                taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  List<WebViewCookieData> cookiesArg = (List<WebViewCookieData>) args.get(0);
+                  if (cookiesArg == null) {
+                    throw new NullPointerException("cookiesArg unexpectedly null.");
+                  }
+                  api.setCookies(cookiesArg);
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.CookieManagerHostApi.getCookies",
+                getCodec(),
+                taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  String urlArg = (String) args.get(0);
+                  if (urlArg == null) {
+                    throw new NullPointerException("urlArg unexpectedly null.");
+                  }
+                  List<String> output = api.getCookies(urlArg);
+                  wrapped.add(0, output);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -600,6 +872,9 @@ public class GeneratedAndroidWebView {
     protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
       switch (type) {
         case (byte) 128:
+          return JavaScriptResultData.fromList((ArrayList<Object>) readValue(buffer));
+
+        case (byte) 129:
           return WebViewPoint.fromList((ArrayList<Object>) readValue(buffer));
 
         default:
@@ -609,8 +884,11 @@ public class GeneratedAndroidWebView {
 
     @Override
     protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
-      if (value instanceof WebViewPoint) {
+      if (value instanceof JavaScriptResultData) {
         stream.write(128);
+        writeValue(stream, ((JavaScriptResultData) value).toList());
+      } else if (value instanceof WebViewPoint) {
+        stream.write(129);
         writeValue(stream, ((WebViewPoint) value).toList());
       } else {
         super.writeValue(stream, value);
@@ -661,6 +939,18 @@ public class GeneratedAndroidWebView {
     void evaluateJavascript(
         @NonNull Long instanceId, @NonNull String javascriptString, Result<String> result);
 
+    void evaluateJavascriptWithLargeResult(
+        @NonNull Long instanceId,
+        @NonNull String javascriptString,
+        @NonNull Long chunkThreshold,
+        Result<JavaScriptResultData> result);
+
+    @NonNull
+    byte[] readJavaScriptResultChunk(
+        @NonNull Long resultId, @NonNull Long offset, @NonNull Long length);
+
+    void releaseJavaScriptResult(@NonNull Long resultId);
+
     @Nullable
     String getTitle(@NonNull Long instanceId);
 
@@ -1130,6 +1420,131 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptWithLargeResult",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String javascriptStringArg = (String) args.get(1);
+                  if (javascriptStringArg == null) {
+                    throw new NullPointerException("javascriptStringArg unexpectedly null.");
+                  }
+                  Number chunkThresholdArg = (Number) args.get(2);
+                  if (chunkThresholdArg == null) {
+                    throw new NullPointerException("chunkThresholdArg unexpectedly null.");
+                  }
+                  Result<JavaScriptResultData> resultCallback =
+                      new Result<JavaScriptResultData>() {
+                        public void success(JavaScriptResultData result) {
+                          wrapped.add(0, result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          ArrayList<Object> wrappedError = wrapError(error);
+                          reply.reply(wrappedError);
+                        }
+                      };
+
+                  api.evaluateJavascriptWithLargeResult(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      javascriptStringArg,
+                      (chunkThresholdArg == null) ? null : chunkThresholdArg.longValue(),
+                      resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  reply.reply(wrappedError);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.readJavaScriptResultChunk",
+                getCodec(),
+                taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number resultIdArg = (Number) args.get(0);
+                  if (resultIdArg == null) {
+                    throw new NullPointerException("resultIdArg unexpectedly null.");
+                  }
+                  Number offsetArg = (Number) args.get(1);
+                  if (offsetArg == null) {
+                    throw new NullPointerException("offsetArg unexpectedly null.");
+                  }
+                  Number lengthArg = (Number) args.get(2);
+                  if (lengthArg == null) {
+                    throw new NullPointerException("lengthArg unexpectedly null.");
+                  }
+                  byte[] output =
+                      api.readJavaScriptResultChunk(
+                          (resultIdArg == null) ? null : resultIdArg.longValue(),
+                          (offsetArg == null) ? null : offsetArg.longValue(),
+                          (lengthArg == null) ? null : lengthArg.longValue());
+                  wrapped.add(0, output);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.releaseJavaScriptResult",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList wrapped = new ArrayList<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  assert args != null;
+                  Number resultIdArg = (Number) args.get(0);
+                  if (resultIdArg == null) {
+                    throw new NullPointerException("resultIdArg unexpectedly null.");
+                  }
+                  api.releaseJavaScriptResult(
+                      (resultIdArg == null) ? null : resultIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Error | RuntimeException exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
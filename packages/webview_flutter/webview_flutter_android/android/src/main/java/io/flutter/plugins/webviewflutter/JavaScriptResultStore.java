@@ -0,0 +1,131 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptResultData;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Encodes the results of {@link android.webkit.WebView#evaluateJavascript} off the platform thread.
+ *
+ * <p>Results no larger than the requested threshold are sent back inline. Larger results are kept
+ * here until Dart has read them back in chunks with {@link #readChunk} and released them with
+ * {@link #release}.
+ */
+public class JavaScriptResultStore {
+  private final Map<Long, byte[]> results = new ConcurrentHashMap<>();
+  private final AtomicLong nextResultId = new AtomicLong();
+
+  @Nullable private Executor encodingExecutor;
+  @Nullable private ExecutorService ownedExecutor;
+
+  /** Creates a store that encodes results on its own background thread, started on first use. */
+  public JavaScriptResultStore() {}
+
+  /**
+   * Creates a store that encodes results on the given {@link Executor}.
+   *
+   * @param encodingExecutor runs the UTF-8 encoding of results
+   */
+  @VisibleForTesting
+  public JavaScriptResultStore(@NonNull Executor encodingExecutor) {
+    this.encodingExecutor = encodingExecutor;
+  }
+
+  /**
+   * Encodes {@code value} on a background thread and completes {@code result} from that thread.
+   *
+   * @param value the result received from {@link android.webkit.WebView#evaluateJavascript}
+   * @param chunkThreshold largest encoded size, in bytes, that is returned inline
+   * @param result completed with the inline bytes or with a handle to the stored bytes
+   */
+  public void encode(
+      @Nullable String value,
+      long chunkThreshold,
+      @NonNull GeneratedAndroidWebView.Result<JavaScriptResultData> result) {
+    getEncodingExecutor()
+        .execute(
+            () -> {
+              if (value == null) {
+                result.success(new JavaScriptResultData.Builder().setLength(0L).build());
+                return;
+              }
+
+              final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+              final JavaScriptResultData.Builder builder =
+                  new JavaScriptResultData.Builder().setLength((long) bytes.length);
+              if (bytes.length <= chunkThreshold) {
+                builder.setBytes(bytes);
+              } else {
+                final long resultId = nextResultId.getAndIncrement();
+                results.put(resultId, bytes);
+                builder.setResultId(resultId);
+              }
+              result.success(builder.build());
+            });
+  }
+
+  /**
+   * Returns up to {@code length} bytes of a stored result starting at {@code offset}.
+   *
+   * @param resultId the handle returned by {@link #encode}
+   * @param offset index of the first byte to return
+   * @param length maximum number of bytes to return
+   * @return the requested bytes, shorter than {@code length} at the end of the result
+   */
+  @NonNull
+  public byte[] readChunk(long resultId, long offset, long length) {
+    final byte[] bytes = results.get(resultId);
+    if (bytes == null) {
+      throw new IllegalStateException(
+          "No JavaScript result with id " + resultId + ". It may have already been released.");
+    }
+    if (offset < 0 || offset > bytes.length || length < 0) {
+      throw new IndexOutOfBoundsException(
+          "Invalid chunk of " + length + " bytes at " + offset + " of " + bytes.length);
+    }
+    // Clamped before adding, so that a length asking for the rest of the result can't overflow.
+    final long clampedLength = Math.min(length, bytes.length - offset);
+    return Arrays.copyOfRange(bytes, (int) offset, (int) (offset + clampedLength));
+  }
+
+  /**
+   * Discards a stored result.
+   *
+   * @param resultId the handle returned by {@link #encode}
+   */
+  public void release(long resultId) {
+    results.remove(resultId);
+  }
+
+  /** Discards all stored results and stops the background thread owned by this store. */
+  public synchronized void close() {
+    results.clear();
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdown();
+      ownedExecutor = null;
+      encodingExecutor = null;
+    }
+  }
+
+  @NonNull
+  private synchronized Executor getEncodingExecutor() {
+    if (encodingExecutor == null) {
+      ownedExecutor = Executors.newSingleThreadExecutor();
+      encodingExecutor = ownedExecutor;
+    }
+    return encodingExecutor;
+  }
+}
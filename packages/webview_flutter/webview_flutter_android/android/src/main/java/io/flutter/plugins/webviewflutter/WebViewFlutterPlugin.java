@@ -242,6 +242,9 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
       instanceManager.close();
       instanceManager = null;
     }
+    if (webViewHostApi != null) {
+      webViewHostApi.getJavaScriptResultStore().close();
+    }
   }
 
   @Override
@@ -31,6 +31,7 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   // Only used with WebView using virtual displays.
   @Nullable private final View containerView;
   private final BinaryMessenger binaryMessenger;
+  private final JavaScriptResultStore javaScriptResultStore;
 
   private Context context;
 
@@ -223,11 +224,38 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       WebViewProxy webViewProxy,
       Context context,
       @Nullable View containerView) {
+    this(
+        instanceManager,
+        binaryMessenger,
+        webViewProxy,
+        context,
+        containerView,
+        new JavaScriptResultStore());
+  }
+
+  /**
+   * Creates a host API that handles creating {@link WebView}s and invoking its methods.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param binaryMessenger used to communicate with Dart over asynchronous messages
+   * @param webViewProxy handles creating {@link WebView}s and calling its static methods
+   * @param context an Activity Context to access application assets. This value cannot be null.
+   * @param containerView parent of the webView
+   * @param javaScriptResultStore encodes and holds large JavaScript results off the main thread
+   */
+  public WebViewHostApiImpl(
+      InstanceManager instanceManager,
+      BinaryMessenger binaryMessenger,
+      WebViewProxy webViewProxy,
+      Context context,
+      @Nullable View containerView,
+      JavaScriptResultStore javaScriptResultStore) {
     this.instanceManager = instanceManager;
     this.binaryMessenger = binaryMessenger;
     this.webViewProxy = webViewProxy;
     this.context = context;
     this.containerView = containerView;
+    this.javaScriptResultStore = javaScriptResultStore;
   }
 
   /**
@@ -335,6 +363,29 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     webView.evaluateJavascript(javascriptString, result::success);
   }
 
+  @Override
+  public void evaluateJavascriptWithLargeResult(
+      @NonNull Long instanceId,
+      @NonNull String javascriptString,
+      @NonNull Long chunkThreshold,
+      GeneratedAndroidWebView.Result<GeneratedAndroidWebView.JavaScriptResultData> result) {
+    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    webView.evaluateJavascript(
+        javascriptString, value -> javaScriptResultStore.encode(value, chunkThreshold, result));
+  }
+
+  @NonNull
+  @Override
+  public byte[] readJavaScriptResultChunk(
+      @NonNull Long resultId, @NonNull Long offset, @NonNull Long length) {
+    return javaScriptResultStore.readChunk(resultId, offset, length);
+  }
+
+  @Override
+  public void releaseJavaScriptResult(@NonNull Long resultId) {
+    javaScriptResultStore.release(resultId);
+  }
+
   @Override
   public String getTitle(Long instanceId) {
     final WebView webView = (WebView) instanceManager.getInstance(instanceId);
@@ -424,4 +475,9 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   public InstanceManager getInstanceManager() {
     return instanceManager;
   }
+
+  /** Holds JavaScript results that are read back by Dart in chunks. */
+  public JavaScriptResultStore getJavaScriptResultStore() {
+    return javaScriptResultStore;
+  }
 }
@@ -4,8 +4,11 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
@@ -15,9 +18,12 @@ import android.os.Build;
 import android.webkit.CookieManager;
 import android.webkit.ValueCallback;
 import io.flutter.plugins.webviewflutter.utils.TestUtils;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 
 public class CookieManagerHostApiImplTest {
@@ -55,6 +61,51 @@ public class CookieManagerHostApiImplTest {
     verify(cookieManager).setCookie("flutter.dev", "foo=bar; path=/");
   }
 
+  @Test
+  public void setCookiesShouldSetEveryCookieAndFlushOnce() {
+    // Setup
+    TestUtils.setFinalStatic(Build.VERSION.class, "SDK_INT", Build.VERSION_CODES.LOLLIPOP);
+    CookieManagerHostApiImpl impl = new CookieManagerHostApiImpl();
+    // Run
+    impl.setCookies(
+        Arrays.asList(
+            new GeneratedAndroidWebView.WebViewCookieData.Builder()
+                .setUrl("flutter.dev")
+                .setValue("foo=bar; path=/")
+                .build(),
+            new GeneratedAndroidWebView.WebViewCookieData.Builder()
+                .setUrl("dart.dev")
+                .setValue("baz=qux")
+                .build()));
+    // Verify
+    InOrder inOrder = inOrder(cookieManager);
+    inOrder.verify(cookieManager).setCookie("flutter.dev", "foo=bar; path=/");
+    inOrder.verify(cookieManager).setCookie("dart.dev", "baz=qux");
+    inOrder.verify(cookieManager).flush();
+  }
+
+  @Test
+  public void getCookiesShouldSplitCookieHeader() {
+    // Setup
+    when(cookieManager.getCookie("flutter.dev")).thenReturn("foo=bar; baz=qux");
+    CookieManagerHostApiImpl impl = new CookieManagerHostApiImpl();
+    // Run
+    List<String> cookies = impl.getCookies("flutter.dev");
+    // Verify
+    assertEquals(Arrays.asList("foo=bar", "baz=qux"), cookies);
+  }
+
+  @Test
+  public void getCookiesShouldReturnEmptyListWithoutCookies() {
+    // Setup
+    when(cookieManager.getCookie("flutter.dev")).thenReturn(null);
+    CookieManagerHostApiImpl impl = new CookieManagerHostApiImpl();
+    // Run
+    List<String> cookies = impl.getCookies("flutter.dev");
+    // Verify
+    assertTrue(cookies.isEmpty());
+  }
+
   @Test
   public void clearCookiesShouldCallRemoveAllCookiesOnAndroidLAbove() {
     // Setup
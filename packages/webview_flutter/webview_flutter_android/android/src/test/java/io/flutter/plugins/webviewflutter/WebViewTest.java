@@ -4,8 +4,12 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -180,6 +184,94 @@ public class WebViewTest {
     assertEquals(successValue[0], "da result");
   }
 
+  @Test
+  public void evaluateJavaScriptWithLargeResultReturnsSmallResultInline() {
+    testHostApiImpl =
+        new WebViewHostApiImpl(
+            testInstanceManager,
+            mockBinaryMessenger,
+            mockWebViewProxy,
+            mockContext,
+            null,
+            new JavaScriptResultStore(Runnable::run));
+    final GeneratedAndroidWebView.JavaScriptResultData[] successValue =
+        new GeneratedAndroidWebView.JavaScriptResultData[1];
+    testHostApiImpl.evaluateJavascriptWithLargeResult(
+        0L,
+        "2 + 2",
+        16L,
+        new GeneratedAndroidWebView.Result<GeneratedAndroidWebView.JavaScriptResultData>() {
+          @Override
+          public void success(GeneratedAndroidWebView.JavaScriptResultData result) {
+            successValue[0] = result;
+          }
+
+          @Override
+          public void error(Throwable error) {}
+        });
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(eq("2 + 2"), callbackCaptor.capture());
+
+    callbackCaptor.getValue().onReceiveValue("4");
+    assertNull(successValue[0].getResultId());
+    assertEquals(successValue[0].getLength(), (Long) 1L);
+    assertArrayEquals(successValue[0].getBytes(), new byte[] {'4'});
+  }
+
+  @Test
+  public void evaluateJavaScriptWithLargeResultStoresLargeResult() {
+    testHostApiImpl =
+        new WebViewHostApiImpl(
+            testInstanceManager,
+            mockBinaryMessenger,
+            mockWebViewProxy,
+            mockContext,
+            null,
+            new JavaScriptResultStore(Runnable::run));
+    final GeneratedAndroidWebView.JavaScriptResultData[] successValue =
+        new GeneratedAndroidWebView.JavaScriptResultData[1];
+    testHostApiImpl.evaluateJavascriptWithLargeResult(
+        0L,
+        "getData()",
+        4L,
+        new GeneratedAndroidWebView.Result<GeneratedAndroidWebView.JavaScriptResultData>() {
+          @Override
+          public void success(GeneratedAndroidWebView.JavaScriptResultData result) {
+            successValue[0] = result;
+          }
+
+          @Override
+          public void error(Throwable error) {}
+        });
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(eq("getData()"), callbackCaptor.capture());
+
+    callbackCaptor.getValue().onReceiveValue("\"abcdef\"");
+    final Long resultId = successValue[0].getResultId();
+    assertNotNull(resultId);
+    assertNull(successValue[0].getBytes());
+    assertEquals(successValue[0].getLength(), (Long) 8L);
+
+    assertArrayEquals(
+        testHostApiImpl.readJavaScriptResultChunk(resultId, 0L, 5L), "\"abcd".getBytes());
+    assertArrayEquals(
+        testHostApiImpl.readJavaScriptResultChunk(resultId, 5L, 5L), "ef\"".getBytes());
+    assertArrayEquals(
+        testHostApiImpl.readJavaScriptResultChunk(resultId, 2L, Long.MAX_VALUE),
+        "bcdef\"".getBytes());
+
+    testHostApiImpl.releaseJavaScriptResult(resultId);
+    assertThrows(
+        IllegalStateException.class,
+        () -> testHostApiImpl.readJavaScriptResultChunk(resultId, 0L, 5L));
+  }
+
   @Test
   public void getTitle() {
     when(mockWebView.getTitle()).thenReturn("My title");
@@ -289,6 +289,28 @@ class WebView extends JavaObject {
     );
   }
 
+  /// Asynchronously evaluates JavaScript that may return a very large result.
+  ///
+  /// Behaves like [evaluateJavascript], except that the result is UTF-8
+  /// encoded on a background thread instead of the platform thread. Results
+  /// whose encoded size is larger than [chunkThreshold] bytes are read back in
+  /// chunks of at most [chunkSize] bytes, so no single message has to carry
+  /// the whole payload.
+  Future<String?> evaluateJavascriptWithLargeResult(
+    String javascriptString, {
+    int chunkThreshold = 256 * 1024,
+    int chunkSize = 256 * 1024,
+  }) {
+    assert(chunkThreshold >= 0);
+    assert(chunkSize > 0);
+    return api.evaluateJavascriptWithLargeResultFromInstance(
+      this,
+      javascriptString,
+      chunkThreshold: chunkThreshold,
+      chunkSize: chunkSize,
+    );
+  }
+
   // TODO(bparrishMines): Update documentation when WebViewClient.onReceivedTitle is added.
   /// Gets the title for the current page.
   ///
@@ -440,6 +462,28 @@ class CookieManager {
   /// value – the cookie as a string, using the format of the 'Set-Cookie' HTTP response header
   Future<void> setCookie(String url, String value) => api.setCookie(url, value);
 
+  /// Sets multiple cookies in a single call.
+  ///
+  /// [cookies] maps each URL to the cookies to set for it, each using the same
+  /// format as the value passed to [setCookie]. The cookies are applied on a
+  /// background thread and persisted to storage once all of them have been
+  /// set. The returned future completes after the cookies are persisted.
+  Future<void> setCookies(Map<String, List<String>> cookies) {
+    return api.setCookies(<WebViewCookieData>[
+      for (final MapEntry<String, List<String>> entry in cookies.entries)
+        for (final String value in entry.value)
+          WebViewCookieData(url: entry.key, value: value),
+    ]);
+  }
+
+  /// Gets the cookies that would be sent in a request to [url].
+  ///
+  /// Each cookie is returned in the form "key=value", without attributes.
+  Future<List<String>> getCookies(String url) async {
+    final List<String?> cookies = await api.getCookies(url);
+    return cookies.whereType<String>().toList();
+  }
+
   /// Removes all cookies.
   ///
   /// The returned future resolves to true if any cookies were removed.
@@ -151,6 +151,70 @@ class WebViewPoint {
   }
 }
 
+/// A cookie to set for a URL, using the format of the Set-Cookie HTTP
+/// response header.
+class WebViewCookieData {
+  WebViewCookieData({
+    required this.url,
+    required this.value,
+  });
+
+  String url;
+
+  String value;
+
+  Object encode() {
+    return <Object?>[
+      url,
+      value,
+    ];
+  }
+
+  static WebViewCookieData decode(Object result) {
+    result as List<Object?>;
+    return WebViewCookieData(
+      url: result[0]! as String,
+      value: result[1]! as String,
+    );
+  }
+}
+
+/// UTF-8 encoded result of `WebViewHostApi.evaluateJavascriptWithLargeResult`.
+///
+/// Results no larger than the requested threshold are returned inline in
+/// [bytes]. Larger results are held by the host under [resultId] and read back
+/// with `WebViewHostApi.readJavaScriptResultChunk`.
+class JavaScriptResultData {
+  JavaScriptResultData({
+    this.resultId,
+    required this.length,
+    this.bytes,
+  });
+
+  int? resultId;
+
+  int length;
+
+  Uint8List? bytes;
+
+  Object encode() {
+    return <Object?>[
+      resultId,
+      length,
+      bytes,
+    ];
+  }
+
+  static JavaScriptResultData decode(Object result) {
+    result as List<Object?>;
+    return JavaScriptResultData(
+      resultId: result[0] as int?,
+      length: result[1]! as int,
+      bytes: result[2] as Uint8List?,
+    );
+  }
+}
+
 /// Handles methods calls to the native Java Object class.
 ///
 /// Also handles calls to remove the reference to an instance with `dispose`.
@@ -221,6 +285,30 @@ abstract class JavaObjectFlutterApi {
   }
 }
 
+class _CookieManagerHostApiCodec extends StandardMessageCodec {
+  const _CookieManagerHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is WebViewCookieData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return WebViewCookieData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 class CookieManagerHostApi {
   /// Constructor for [CookieManagerHostApi].  The [binaryMessenger] named argument is
   /// available for dependency injection.  If it is left null, the default
@@ -229,7 +317,7 @@ class CookieManagerHostApi {
       : _binaryMessenger = binaryMessenger;
   final BinaryMessenger? _binaryMessenger;
 
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _CookieManagerHostApiCodec();
 
   Future<bool> clearCookies() async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
@@ -278,15 +366,67 @@ class CookieManagerHostApi {
       return;
     }
   }
+
+  Future<void> setCookies(List<WebViewCookieData?> arg_cookies) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.CookieManagerHostApi.setCookies', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_cookies]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<List<String?>> getCookies(String arg_url) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.CookieManagerHostApi.getCookies', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_url]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as List<Object?>?)!.cast<String?>();
+    }
+  }
 }
 
 class _WebViewHostApiCodec extends StandardMessageCodec {
   const _WebViewHostApiCodec();
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is WebViewPoint) {
+    if (value is JavaScriptResultData) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
+    } else if (value is WebViewPoint) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -296,6 +436,9 @@ class _WebViewHostApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128:
+        return JavaScriptResultData.decode(readValue(buffer)!);
+
+      case 129:
         return WebViewPoint.decode(readValue(buffer)!);
 
       default:
@@ -631,6 +774,90 @@ class WebViewHostApi {
     }
   }
 
+  Future<JavaScriptResultData> evaluateJavascriptWithLargeResult(
+      int arg_instanceId,
+      String arg_javascriptString,
+      int arg_chunkThreshold) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptWithLargeResult',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_instanceId,
+      arg_javascriptString,
+      arg_chunkThreshold
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as JavaScriptResultData?)!;
+    }
+  }
+
+  Future<Uint8List> readJavaScriptResultChunk(
+      int arg_resultId, int arg_offset, int arg_length) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.readJavaScriptResultChunk', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+        .send(<Object?>[arg_resultId, arg_offset, arg_length]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as Uint8List?)!;
+    }
+  }
+
+  Future<void> releaseJavaScriptResult(int arg_resultId) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.releaseJavaScriptResult', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_resultId]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   Future<String?> getTitle(int arg_instanceId) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.WebViewHostApi.getTitle', codec,
@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:convert';
+import 'dart:math';
 // TODO(a14n): remove this import once Flutter 3.1 or later reaches stable (including flutter/flutter#106316)
 // ignore: unnecessary_import
 import 'dart:typed_data';
@@ -253,6 +255,47 @@ class WebViewHostApiImpl extends WebViewHostApi {
     );
   }
 
+  /// Helper method to convert instances ids to objects.
+  ///
+  /// Results held by the host are read back chunk by chunk and decoded
+  /// incrementally, then released even if reading fails.
+  Future<String?> evaluateJavascriptWithLargeResultFromInstance(
+    WebView instance,
+    String javascriptString, {
+    required int chunkThreshold,
+    required int chunkSize,
+  }) async {
+    final JavaScriptResultData data = await evaluateJavascriptWithLargeResult(
+      instanceManager.getIdentifier(instance)!,
+      javascriptString,
+      chunkThreshold,
+    );
+
+    final int? resultId = data.resultId;
+    if (resultId == null) {
+      final Uint8List? bytes = data.bytes;
+      return bytes == null ? null : utf8.decode(bytes);
+    }
+
+    final StringBuffer buffer = StringBuffer();
+    final ByteConversionSink sink = utf8.decoder.startChunkedConversion(
+      StringConversionSink.fromStringSink(buffer),
+    );
+    try {
+      for (int offset = 0; offset < data.length; offset += chunkSize) {
+        sink.add(await readJavaScriptResultChunk(
+          resultId,
+          offset,
+          min(chunkSize, data.length - offset),
+        ));
+      }
+      sink.close();
+    } finally {
+      await releaseJavaScriptResult(resultId);
+    }
+    return buffer.toString();
+  }
+
   /// Helper method to convert instances ids to objects.
   Future<String?> getTitleFromInstance(WebView instance) {
     return getTitle(instanceManager.getIdentifier(instance)!);
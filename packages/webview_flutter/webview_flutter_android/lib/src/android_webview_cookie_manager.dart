@@ -52,14 +52,60 @@ class AndroidWebViewCookieManager extends PlatformWebViewCookieManager {
 
   @override
   Future<void> setCookie(WebViewCookie cookie) {
+    return _cookieManager.setCookie(cookie.domain, _cookieValue(cookie));
+  }
+
+  /// Sets all [cookies] in a single platform call.
+  ///
+  /// The returned future completes once the cookies have been persisted.
+  Future<void> setCookies(List<WebViewCookie> cookies) {
+    final Map<String, List<String>> cookiesByDomain = <String, List<String>>{};
+    for (final WebViewCookie cookie in cookies) {
+      cookiesByDomain
+          .putIfAbsent(cookie.domain, () => <String>[])
+          .add(_cookieValue(cookie));
+    }
+    return _cookieManager.setCookies(cookiesByDomain);
+  }
+
+  /// Gets the cookies that would be sent in a request to [domain].
+  ///
+  /// Only the name and value of each cookie are available, so the returned
+  /// cookies use [domain] and the default path.
+  ///
+  /// Names and values are percent-decoded, as [setCookie] encodes them. Those
+  /// that aren't valid percent-encoding, such as cookies set by a server or by
+  /// JavaScript, are returned as they are.
+  Future<List<WebViewCookie>> getCookies(String domain) async {
+    final List<String> cookies = await _cookieManager.getCookies(domain);
+    return cookies.map((String cookie) {
+      final int separator = cookie.indexOf('=');
+      return WebViewCookie(
+        name: _decodeComponent(
+          separator < 0 ? cookie : cookie.substring(0, separator),
+        ),
+        value: _decodeComponent(
+          separator < 0 ? '' : cookie.substring(separator + 1),
+        ),
+        domain: domain,
+      );
+    }).toList();
+  }
+
+  String _decodeComponent(String component) {
+    try {
+      return Uri.decodeComponent(component);
+    } on ArgumentError {
+      return component;
+    }
+  }
+
+  String _cookieValue(WebViewCookie cookie) {
     if (!_isValidPath(cookie.path)) {
       throw ArgumentError(
           'The path property for the provided cookie was not given a legal value.');
     }
-    return _cookieManager.setCookie(
-      cookie.domain,
-      '${Uri.encodeComponent(cookie.name)}=${Uri.encodeComponent(cookie.value)}; path=${cookie.path}',
-    );
+    return '${Uri.encodeComponent(cookie.name)}=${Uri.encodeComponent(cookie.value)}; path=${cookie.path}';
   }
 
   bool _isValidPath(String path) {
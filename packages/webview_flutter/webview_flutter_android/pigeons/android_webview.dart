@@ -86,6 +86,28 @@ class WebViewPoint {
   int y;
 }
 
+/// A cookie to set for a URL, using the format of the Set-Cookie HTTP
+/// response header.
+class WebViewCookieData {
+  WebViewCookieData(this.url, this.value);
+
+  String url;
+  String value;
+}
+
+/// UTF-8 encoded result of `WebViewHostApi.evaluateJavascriptWithLargeResult`.
+///
+/// Results no larger than the requested threshold are returned inline in
+/// [bytes]. Larger results are held by the host under [resultId] and read back
+/// with `WebViewHostApi.readJavaScriptResultChunk`.
+class JavaScriptResultData {
+  JavaScriptResultData(this.resultId, this.length, this.bytes);
+
+  int? resultId;
+  int length;
+  Uint8List? bytes;
+}
+
 /// Handles methods calls to the native Java Object class.
 ///
 /// Also handles calls to remove the reference to an instance with `dispose`.
@@ -110,6 +132,12 @@ abstract class CookieManagerHostApi {
   bool clearCookies();
 
   void setCookie(String url, String value);
+
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  void setCookies(List<WebViewCookieData?> cookies);
+
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  List<String?> getCookies(String url);
 }
 
 @HostApi(dartHostTestHandler: 'TestWebViewHostApi')
@@ -164,6 +192,18 @@ abstract class WebViewHostApi {
     String javascriptString,
   );
 
+  @async
+  JavaScriptResultData evaluateJavascriptWithLargeResult(
+    int instanceId,
+    String javascriptString,
+    int chunkThreshold,
+  );
+
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  Uint8List readJavaScriptResultChunk(int resultId, int offset, int length);
+
+  void releaseJavaScriptResult(int resultId);
+
   String? getTitle(int instanceId);
 
   void scrollTo(int instanceId, int x, int y);
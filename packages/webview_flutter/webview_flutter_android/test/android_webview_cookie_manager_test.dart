@@ -76,4 +76,65 @@ void main() {
       'foo%26=bar%40; path=/',
     ));
   });
+  test('setCookies should group formatted cookie values by domain', () {
+    final android_webview.CookieManager mockCookieManager = MockCookieManager();
+    final AndroidWebViewCookieManagerCreationParams params =
+        AndroidWebViewCookieManagerCreationParams
+            .fromPlatformWebViewCookieManagerCreationParams(
+                const PlatformWebViewCookieManagerCreationParams());
+
+    AndroidWebViewCookieManager(params, cookieManager: mockCookieManager)
+        .setCookies(const <WebViewCookie>[
+      WebViewCookie(name: 'foo&', value: 'bar@', domain: 'flutter.dev'),
+      WebViewCookie(name: 'a', value: 'b', domain: 'dart.dev', path: '/x'),
+      WebViewCookie(name: 'c', value: 'd', domain: 'flutter.dev'),
+    ]);
+
+    verify(mockCookieManager.setCookies(<String, List<String>>{
+      'flutter.dev': <String>['foo%26=bar%40; path=/', 'c=d; path=/'],
+      'dart.dev': <String>['a=b; path=/x'],
+    }));
+  });
+
+  test('getCookies should decode cookie names and values', () async {
+    final android_webview.CookieManager mockCookieManager = MockCookieManager();
+    when(mockCookieManager.getCookies('flutter.dev')).thenAnswer(
+      (_) => Future<List<String>>.value(<String>['foo%26=bar%40', 'a=b=c']),
+    );
+    final AndroidWebViewCookieManagerCreationParams params =
+        AndroidWebViewCookieManagerCreationParams
+            .fromPlatformWebViewCookieManagerCreationParams(
+                const PlatformWebViewCookieManagerCreationParams());
+
+    final List<WebViewCookie> cookies =
+        await AndroidWebViewCookieManager(params, cookieManager: mockCookieManager)
+            .getCookies('flutter.dev');
+
+    expect(
+      cookies.map((WebViewCookie cookie) => '${cookie.name}|${cookie.value}'),
+      <String>['foo&|bar@', 'a|b=c'],
+    );
+  });
+
+  test('getCookies should return values that are not percent-encoded as is',
+      () async {
+    final android_webview.CookieManager mockCookieManager = MockCookieManager();
+    when(mockCookieManager.getCookies('flutter.dev')).thenAnswer(
+      (_) => Future<List<String>>.value(
+          <String>['discount=100%', 'a=%zz', 'b%20c=d']),
+    );
+    final AndroidWebViewCookieManagerCreationParams params =
+        AndroidWebViewCookieManagerCreationParams
+            .fromPlatformWebViewCookieManagerCreationParams(
+                const PlatformWebViewCookieManagerCreationParams());
+
+    final List<WebViewCookie> cookies =
+        await AndroidWebViewCookieManager(params, cookieManager: mockCookieManager)
+            .getCookies('flutter.dev');
+
+    expect(
+      cookies.map((WebViewCookie cookie) => '${cookie.name}|${cookie.value}'),
+      <String>['discount|100%', 'a|%zz', 'b c|d'],
+    );
+  });
 }
@@ -44,6 +44,24 @@ class MockCookieManager extends _i1.Mock implements _i2.CookieManager {
         returnValueForMissingStub: _i3.Future<void>.value(),
       ) as _i3.Future<void>);
   @override
+  _i3.Future<void> setCookies(Map<String, List<String>>? cookies) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setCookies,
+          [cookies],
+        ),
+        returnValue: _i3.Future<void>.value(),
+        returnValueForMissingStub: _i3.Future<void>.value(),
+      ) as _i3.Future<void>);
+  @override
+  _i3.Future<List<String>> getCookies(String? url) => (super.noSuchMethod(
+        Invocation.method(
+          #getCookies,
+          [url],
+        ),
+        returnValue: _i3.Future<List<String>>.value(<String>[]),
+      ) as _i3.Future<List<String>>);
+  @override
   _i3.Future<bool> clearCookies() => (super.noSuchMethod(
         Invocation.method(
           #clearCookies,
@@ -2,6 +2,9 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:convert';
+import 'dart:typed_data';
+
 import 'package:flutter_test/flutter_test.dart';
 import 'package:mockito/annotations.dart';
 import 'package:mockito/mockito.dart';
@@ -226,6 +229,56 @@ void main() {
         );
       });
 
+      test('evaluateJavascriptWithLargeResult returns inline result', () {
+        when(
+          mockPlatformHostApi.evaluateJavascriptWithLargeResult(
+              webViewInstanceId, 'runJavaScript', 10),
+        ).thenAnswer(
+          (_) => Future<JavaScriptResultData>.value(JavaScriptResultData(
+            length: 5,
+            bytes: Uint8List.fromList(utf8.encode('"abc"')),
+          )),
+        );
+        expect(
+          webView.evaluateJavascriptWithLargeResult(
+            'runJavaScript',
+            chunkThreshold: 10,
+          ),
+          completion('"abc"'),
+        );
+      });
+
+      test('evaluateJavascriptWithLargeResult reads result in chunks',
+          () async {
+        final Uint8List encoded = Uint8List.fromList(utf8.encode('"héllo"'));
+        when(
+          mockPlatformHostApi.evaluateJavascriptWithLargeResult(
+              webViewInstanceId, 'runJavaScript', 2),
+        ).thenAnswer(
+          (_) => Future<JavaScriptResultData>.value(
+            JavaScriptResultData(resultId: 3, length: encoded.length),
+          ),
+        );
+        when(mockPlatformHostApi.readJavaScriptResultChunk(3, any, any))
+            .thenAnswer((Invocation invocation) {
+          final int offset = invocation.positionalArguments[1] as int;
+          final int length = invocation.positionalArguments[2] as int;
+          return encoded.sublist(offset, offset + length);
+        });
+
+        expect(
+          await webView.evaluateJavascriptWithLargeResult(
+            'runJavaScript',
+            chunkThreshold: 2,
+            chunkSize: 3,
+          ),
+          '"héllo"',
+        );
+        verify(mockPlatformHostApi.readJavaScriptResultChunk(3, 0, 3));
+        verify(mockPlatformHostApi.readJavaScriptResultChunk(3, 6, 2));
+        verify(mockPlatformHostApi.releaseJavaScriptResult(3));
+      });
+
       test('getTitle', () {
         when(mockPlatformHostApi.getTitle(webViewInstanceId))
             .thenReturn('aTitle');
@@ -954,6 +1007,33 @@ void main() {
       verify(CookieManager.api.setCookie('foo', 'bar'));
     });
 
+    test('setCookies calls setCookies on CookieManagerHostApi', () {
+      CookieManager.api = MockCookieManagerHostApi();
+      CookieManager.instance.setCookies(<String, List<String>>{
+        'foo': <String>['a=b', 'c=d'],
+      });
+      final List<Object?> cookies =
+          verify(CookieManager.api.setCookies(captureAny)).captured.single
+              as List<Object?>;
+      expect(
+        cookies
+            .cast<WebViewCookieData>()
+            .map((WebViewCookieData cookie) => '${cookie.url} ${cookie.value}'),
+        <String>['foo a=b', 'foo c=d'],
+      );
+    });
+
+    test('getCookies calls getCookies on CookieManagerHostApi', () {
+      CookieManager.api = MockCookieManagerHostApi();
+      when(CookieManager.api.getCookies('foo')).thenAnswer(
+        (_) => Future<List<String?>>.value(<String?>['a=b', 'c=d']),
+      );
+      expect(
+        CookieManager.instance.getCookies('foo'),
+        completion(<String>['a=b', 'c=d']),
+      );
+    });
+
     test('clearCookies calls clearCookies on CookieManagerHostApi', () {
       CookieManager.api = MockCookieManagerHostApi();
       when(CookieManager.api.clearCookies())
@@ -46,8 +46,9 @@ class _FakeJavaScriptChannel_1 extends _i1.SmartFake
         );
 }
 
-class _FakeWebViewPoint_2 extends _i1.SmartFake implements _i3.WebViewPoint {
-  _FakeWebViewPoint_2(
+class _FakeJavaScriptResultData_2 extends _i1.SmartFake
+    implements _i3.JavaScriptResultData {
+  _FakeJavaScriptResultData_2(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -56,9 +57,19 @@ class _FakeWebViewPoint_2 extends _i1.SmartFake implements _i3.WebViewPoint {
         );
 }
 
-class _FakeWebChromeClient_3 extends _i1.SmartFake
+class _FakeWebViewPoint_3 extends _i1.SmartFake implements _i3.WebViewPoint {
+  _FakeWebViewPoint_3(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
+class _FakeWebChromeClient_4 extends _i1.SmartFake
     implements _i2.WebChromeClient {
-  _FakeWebChromeClient_3(
+  _FakeWebChromeClient_4(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -67,8 +78,8 @@ class _FakeWebChromeClient_3 extends _i1.SmartFake
         );
 }
 
-class _FakeWebSettings_4 extends _i1.SmartFake implements _i2.WebSettings {
-  _FakeWebSettings_4(
+class _FakeWebSettings_5 extends _i1.SmartFake implements _i2.WebSettings {
+  _FakeWebSettings_5(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -77,8 +88,8 @@ class _FakeWebSettings_4 extends _i1.SmartFake implements _i2.WebSettings {
         );
 }
 
-class _FakeOffset_5 extends _i1.SmartFake implements _i4.Offset {
-  _FakeOffset_5(
+class _FakeOffset_6 extends _i1.SmartFake implements _i4.Offset {
+  _FakeOffset_6(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -87,8 +98,8 @@ class _FakeOffset_5 extends _i1.SmartFake implements _i4.Offset {
         );
 }
 
-class _FakeWebView_6 extends _i1.SmartFake implements _i2.WebView {
-  _FakeWebView_6(
+class _FakeWebView_7 extends _i1.SmartFake implements _i2.WebView {
+  _FakeWebView_7(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -97,8 +108,8 @@ class _FakeWebView_6 extends _i1.SmartFake implements _i2.WebView {
         );
 }
 
-class _FakeWebViewClient_7 extends _i1.SmartFake implements _i2.WebViewClient {
-  _FakeWebViewClient_7(
+class _FakeWebViewClient_8 extends _i1.SmartFake implements _i2.WebViewClient {
+  _FakeWebViewClient_8(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -140,6 +151,24 @@ class MockCookieManagerHostApi extends _i1.Mock
         returnValue: _i5.Future<void>.value(),
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
+  @override
+  _i5.Future<void> setCookies(List<_i3.WebViewCookieData?>? arg_cookies) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setCookies,
+          [arg_cookies],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
+  _i5.Future<List<String?>> getCookies(String? arg_url) => (super.noSuchMethod(
+        Invocation.method(
+          #getCookies,
+          [arg_url],
+        ),
+        returnValue: _i5.Future<List<String?>>.value(<String?>[]),
+      ) as _i5.Future<List<String?>>);
 }
 
 /// A class which mocks [DownloadListener].
@@ -764,6 +793,59 @@ class MockTestWebViewHostApi extends _i1.Mock
         returnValue: _i5.Future<String?>.value(),
       ) as _i5.Future<String?>);
   @override
+  _i5.Future<_i3.JavaScriptResultData> evaluateJavascriptWithLargeResult(
+    int? instanceId,
+    String? javascriptString,
+    int? chunkThreshold,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptWithLargeResult,
+          [
+            instanceId,
+            javascriptString,
+            chunkThreshold,
+          ],
+        ),
+        returnValue: _i5.Future<_i3.JavaScriptResultData>.value(
+            _FakeJavaScriptResultData_2(
+          this,
+          Invocation.method(
+            #evaluateJavascriptWithLargeResult,
+            [
+              instanceId,
+              javascriptString,
+              chunkThreshold,
+            ],
+          ),
+        )),
+      ) as _i5.Future<_i3.JavaScriptResultData>);
+  @override
+  _i7.Uint8List readJavaScriptResultChunk(
+    int? resultId,
+    int? offset,
+    int? length,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #readJavaScriptResultChunk,
+          [
+            resultId,
+            offset,
+            length,
+          ],
+        ),
+        returnValue: _i7.Uint8List(0),
+      ) as _i7.Uint8List);
+  @override
+  void releaseJavaScriptResult(int? resultId) => super.noSuchMethod(
+        Invocation.method(
+          #releaseJavaScriptResult,
+          [resultId],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
   String? getTitle(int? instanceId) => (super.noSuchMethod(Invocation.method(
         #getTitle,
         [instanceId],
@@ -824,7 +906,7 @@ class MockTestWebViewHostApi extends _i1.Mock
           #getScrollPosition,
           [instanceId],
         ),
-        returnValue: _FakeWebViewPoint_2(
+        returnValue: _FakeWebViewPoint_3(
           this,
           Invocation.method(
             #getScrollPosition,
@@ -983,7 +1065,7 @@ class MockWebChromeClient extends _i1.Mock implements _i2.WebChromeClient {
           #copy,
           [],
         ),
-        returnValue: _FakeWebChromeClient_3(
+        returnValue: _FakeWebChromeClient_4(
           this,
           Invocation.method(
             #copy,
@@ -1009,7 +1091,7 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
   @override
   _i2.WebSettings get settings => (super.noSuchMethod(
         Invocation.getter(#settings),
-        returnValue: _FakeWebSettings_4(
+        returnValue: _FakeWebSettings_5(
           this,
           Invocation.getter(#settings),
         ),
@@ -1219,7 +1301,7 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
           #getScrollPosition,
           [],
         ),
-        returnValue: _i5.Future<_i4.Offset>.value(_FakeOffset_5(
+        returnValue: _i5.Future<_i4.Offset>.value(_FakeOffset_6(
           this,
           Invocation.method(
             #getScrollPosition,
@@ -1294,7 +1376,7 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
           #copy,
           [],
         ),
-        returnValue: _FakeWebView_6(
+        returnValue: _FakeWebView_7(
           this,
           Invocation.method(
             #copy,
@@ -1329,7 +1411,7 @@ class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
           #copy,
           [],
         ),
-        returnValue: _FakeWebViewClient_7(
+        returnValue: _FakeWebViewClient_8(
           this,
           Invocation.method(
             #copy,
@@ -51,9 +51,12 @@ class _TestWebViewHostApiCodec extends StandardMessageCodec {
   const _TestWebViewHostApiCodec();
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is WebViewPoint) {
+    if (value is JavaScriptResultData) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
+    } else if (value is WebViewPoint) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -63,6 +66,9 @@ class _TestWebViewHostApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128:
+        return JavaScriptResultData.decode(readValue(buffer)!);
+
+      case 129:
         return WebViewPoint.decode(readValue(buffer)!);
 
       default:
@@ -102,6 +108,13 @@ abstract class TestWebViewHostApi {
 
   Future<String?> evaluateJavascript(int instanceId, String javascriptString);
 
+  Future<JavaScriptResultData> evaluateJavascriptWithLargeResult(
+      int instanceId, String javascriptString, int chunkThreshold);
+
+  Uint8List readJavaScriptResultChunk(int resultId, int offset, int length);
+
+  void releaseJavaScriptResult(int resultId);
+
   String? getTitle(int instanceId);
 
   void scrollTo(int instanceId, int x, int y);
@@ -413,6 +426,79 @@ abstract class TestWebViewHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptWithLargeResult',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptWithLargeResult was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptWithLargeResult was null, expected non-null int.');
+          final String? arg_javascriptString = (args[1] as String?);
+          assert(arg_javascriptString != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptWithLargeResult was null, expected non-null String.');
+          final int? arg_chunkThreshold = (args[2] as int?);
+          assert(arg_chunkThreshold != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptWithLargeResult was null, expected non-null int.');
+          final JavaScriptResultData output =
+              await api.evaluateJavascriptWithLargeResult(arg_instanceId!,
+                  arg_javascriptString!, arg_chunkThreshold!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.readJavaScriptResultChunk', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.readJavaScriptResultChunk was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_resultId = (args[0] as int?);
+          assert(arg_resultId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.readJavaScriptResultChunk was null, expected non-null int.');
+          final int? arg_offset = (args[1] as int?);
+          assert(arg_offset != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.readJavaScriptResultChunk was null, expected non-null int.');
+          final int? arg_length = (args[2] as int?);
+          assert(arg_length != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.readJavaScriptResultChunk was null, expected non-null int.');
+          final Uint8List output = api.readJavaScriptResultChunk(
+              arg_resultId!, arg_offset!, arg_length!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.releaseJavaScriptResult', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.releaseJavaScriptResult was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_resultId = (args[0] as int?);
+          assert(arg_resultId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.releaseJavaScriptResult was null, expected non-null int.');
+          api.releaseJavaScriptResult(arg_resultId!);
+          return <Object?>[];
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
           'dev.flutter.pigeon.WebViewHostApi.getTitle', codec,